@@ -0,0 +1,253 @@
+package com.early_express.inventory_service.domain.inventory.application.cache;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 가용성 스냅샷 배치 로더 (DataLoader 방식 + Single-Flight)
+ * - 캐시 미스로 들어온 단건 조회를 짧은 구간 동안 모아 (productId, hubId) IN 조회 1회로 처리
+ * - 구간이 끝나거나 최대 배치 크기에 도달하면 실행, 호출자별 결과는 각자의 Future로 전달
+ * - 구간 동안 처음 도착한 호출 스레드가 조회를 실행 (별도 스레드 없음), 조회 중 도착한 요청은 다음 배치로
+ * - 같은 키를 대기 중이거나 조회 중인 요청이 있으면 새로 조회하지 않고 그 결과를 공유 (inventory.availability.coalesced)
+ *   (조회 시작 후 캐시 무효화된 키는 공유하지 않고 새로 조회 - 커밋 전에 시작한 조회의 이전 값을 받지 않도록)
+ * - 완료된 결과는 보관하지 않음 (공유 결과는 항상 진행 중이던 조회의 결과, 캐시와 별개)
+ */
+@Slf4j
+@Component
+public class AvailabilityBatchLoader {
+
+    private final InventoryRepository inventoryRepository;
+    private final AvailabilityCache availabilityCache;
+    private final DistributionSummary batchSizes;
+    private final Counter coalesced;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private Map<InventoryKey, Flight> pending = new LinkedHashMap<>();
+    private final Map<InventoryKey, Flight> inFlight = new HashMap<>();
+    private Thread dispatcher;
+
+    public AvailabilityBatchLoader(
+            InventoryRepository inventoryRepository,
+            AvailabilityCache availabilityCache,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.cache.batch-loader.enabled:false}") boolean enabled,
+            @Value("${inventory.cache.batch-loader.window-micros:500}") long windowMicros,
+            @Value("${inventory.cache.batch-loader.max-batch-size:100}") int maxBatchSize
+    ) {
+        this.inventoryRepository = inventoryRepository;
+        this.availabilityCache = availabilityCache;
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.batchSizes = DistributionSummary.builder("inventory.availability.batch")
+                .description("가용성 배치 조회 한 번에 묶인 키 수")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("inventory.availability.coalesced")
+                .description("같은 키의 진행 중인 조회 결과를 공유해 DB 조회를 생략한 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스냅샷 조회 (같은 키의 진행 중인 조회가 있으면 공유, 없으면 같은 구간의 다른 조회와 묶어서 실행)
+     *
+     * @return 재고가 없으면 빈 Optional
+     */
+    public Optional<StockSnapshot> load(InventoryKey key) {
+        Flight future;
+        Map<InventoryKey, Flight> direct = null;
+        boolean dispatch = false;
+        Thread wake = null;
+
+        synchronized (lock) {
+            future = shared(key);
+            if (future == null) {
+                future = new Flight();
+                if (!enabled) {
+                    future.startedAt = availabilityCache.generation();
+                    inFlight.put(key, future);
+                    direct = Map.of(key, future);
+                } else {
+                    pending.put(key, future);
+                    if (dispatcher == null) {
+                        dispatcher = Thread.currentThread();
+                        dispatch = true;
+                    } else if (pending.size() >= maxBatchSize) {
+                        wake = dispatcher;
+                    }
+                }
+            }
+        }
+
+        if (direct != null) {
+            execute(direct);
+        }
+        if (wake != null) {
+            LockSupport.unpark(wake);
+        }
+        if (dispatch) {
+            dispatch();
+        }
+        return await(future);
+    }
+
+    /**
+     * 허브 기준 다건 조회 (대량 가용성 확인)
+     * - 진행 중이거나 대기 중인 키는 그 결과를 공유하고, 나머지 상품만 이 호출에서 허브 기준 IN 조회 1회로 실행
+     *
+     * @return 재고가 있는 키의 스냅샷
+     */
+    public Map<InventoryKey, StockSnapshot> loadAll(String hubId, Collection<String> productIds) {
+        Map<InventoryKey, Flight> futures = new LinkedHashMap<>();
+        Map<InventoryKey, Flight> owned = new LinkedHashMap<>();
+
+        synchronized (lock) {
+            for (String productId : productIds) {
+                InventoryKey key = InventoryKey.of(productId, hubId);
+                if (futures.containsKey(key)) {
+                    continue;
+                }
+                Flight future = shared(key);
+                if (future == null) {
+                    future = new Flight();
+                    future.startedAt = availabilityCache.generation();
+                    inFlight.put(key, future);
+                    owned.put(key, future);
+                }
+                futures.put(key, future);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            List<String> ownedProductIds = owned.keySet().stream().map(InventoryKey::getProductId).toList();
+            execute(owned, () -> inventoryRepository.findSnapshotsByHub(hubId, ownedProductIds));
+        }
+
+        Map<InventoryKey, StockSnapshot> loaded = new HashMap<>();
+        futures.forEach((key, future) -> await(future).ifPresent(snapshot -> loaded.put(key, snapshot)));
+        return loaded;
+    }
+
+    /**
+     * 같은 키의 대기 중이거나 조회 중인 Future (lock 안에서 호출)
+     * - 조회 중인 Future는 조회 시작 후 무효화되지 않았을 때만 공유 (대기 중인 Future는 아직 조회 전이므로 항상 공유)
+     * - 공유하지 않은 이전 조회는 진행 목록에서 새 조회로 대체되고, 완료 시 자기 항목만 제거
+     */
+    private Flight shared(InventoryKey key) {
+        Flight future = inFlight.get(key);
+        if (future != null && !availabilityCache.isCurrent(key, future.startedAt)) {
+            future = null;
+        }
+        if (future == null) {
+            future = pending.get(key);
+        }
+        if (future != null) {
+            coalesced.increment();
+        }
+        return future;
+    }
+
+    /**
+     * 구간 종료(또는 최대 배치 크기 도달)까지 기다린 뒤 모인 키를 한 번에 조회
+     */
+    private void dispatch() {
+        long deadline = System.nanoTime() + windowNanos;
+        while (true) {
+            synchronized (lock) {
+                if (pending.size() >= maxBatchSize) {
+                    break;
+                }
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            LockSupport.parkNanos(this, remaining);
+        }
+
+        Map<InventoryKey, Flight> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            dispatcher = null;
+            long startedAt = availabilityCache.generation();
+            batch.values().forEach(flight -> flight.startedAt = startedAt);
+            inFlight.putAll(batch);
+        }
+        execute(batch);
+    }
+
+    private void execute(Map<InventoryKey, Flight> batch) {
+        execute(batch, () -> inventoryRepository.findSnapshots(batch.keySet()));
+    }
+
+    /**
+     * IN 조회 1회 실행 → 진행 중 목록에서 제거 → 키별 Future 완료
+     */
+    private void execute(
+            Map<InventoryKey, Flight> batch,
+            Supplier<List<StockSnapshot>> query) {
+        batchSizes.record(batch.size());
+
+        Map<InventoryKey, StockSnapshot> found = new HashMap<>();
+        RuntimeException failure = null;
+        try {
+            query.get()
+                    .forEach(snapshot -> found.put(InventoryKey.of(snapshot.getProductId(), snapshot.getHubId()), snapshot));
+        } catch (RuntimeException e) {
+            log.warn("가용성 배치 조회 실패: keys={}, error={}", batch.size(), e.getMessage());
+            failure = e;
+        }
+
+        synchronized (lock) {
+            batch.forEach(inFlight::remove);  // 무효화 후 새 조회로 대체된 항목은 유지 (키·Future 모두 일치할 때만 제거)
+        }
+
+        for (Map.Entry<InventoryKey, Flight> entry : batch.entrySet()) {
+            if (failure != null) {
+                entry.getValue().completeExceptionally(failure);
+            } else {
+                entry.getValue().complete(Optional.ofNullable(found.get(entry.getKey())));
+            }
+        }
+    }
+
+    private static Optional<StockSnapshot> await(Flight future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 키 1건의 조회 결과 + 조회 시작 세대 (startedAt은 lock 안에서 진행 목록에 넣을 때 기록)
+     */
+    private static final class Flight extends CompletableFuture<Optional<StockSnapshot>> {
+        private long startedAt;
+    }
+}
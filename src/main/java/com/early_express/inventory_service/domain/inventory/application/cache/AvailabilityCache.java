@@ -0,0 +1,255 @@
+package com.early_express.inventory_service.domain.inventory.application.cache;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 재고 가용성 로컬 캐시 (Read-Through)
+ * - (productId, hubId) → 수량 스냅샷
+ * - 최대 크기 기반 제거 + 만료 시간(안전장치)
+ * - 변경 메서드가 evict 호출: 즉시 1회 + 트랜잭션 종료 후 1회
+ *   (커밋 전 다른 스레드가 이전 값을 다시 적재하는 경우까지 제거)
+ * - 커밋 후 다른 인스턴스로 (키, 버전) 무효화 전파, 수신 측은 버전으로 순서 역전 메시지 무시
+ * - 무효화마다 세대 번호를 올리고 키별 마지막 무효화 세대를 기록
+ *   (조회 시작 후 무효화된 키의 결과는 적재하지 않음 - 커밋 전에 시작한 조회가 이전 값을 다시 적재하는 경우 차단)
+ * - 적중/미스/제거 통계는 Micrometer cache.* 메트릭으로 노출 (cache=inventory.availability)
+ */
+@Slf4j
+@Component
+public class AvailabilityCache {
+
+    static final String CACHE_NAME = "inventory.availability";
+
+    /**
+     * 변경 후 버전을 알 수 없는 경우 (삭제 등) - 수신 측에서 항상 무효화
+     */
+    public static final long UNKNOWN_VERSION = Long.MAX_VALUE;
+
+    private final Cache<InventoryKey, StockSnapshot> cache;
+    private final Optional<AvailabilityInvalidationBroadcaster> broadcaster;
+
+    /**
+     * 무효화 세대 + 키별 마지막 무효화 세대
+     * - 기록은 캐시 만료 시간 동안만 보관 (그보다 오래 걸린 조회의 결과는 어차피 만료 대상)
+     */
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<InventoryKey, Long> invalidatedAt;
+    private volatile long clearedAt;
+
+    /**
+     * 인스턴스 식별자 (자기 자신이 보낸 무효화 메시지 구분용)
+     */
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public AvailabilityCache(
+            MeterRegistry meterRegistry,
+            Optional<AvailabilityInvalidationBroadcaster> broadcaster,
+            @Value("${inventory.cache.availability.maximum-size:100000}") long maximumSize,
+            @Value("${inventory.cache.availability.expire-after-write-ms:30000}") long expireAfterWriteMs
+    ) {
+        this.broadcaster = broadcaster;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .recordStats()
+                .build();
+        this.invalidatedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 적재
+     * - 재고가 없는 키(빈 Optional)는 캐시하지 않음
+     */
+    public Optional<StockSnapshot> get(InventoryKey key, Function<InventoryKey, Optional<StockSnapshot>> loader) {
+        return Optional.ofNullable(cache.get(key, k -> loader.apply(k).orElse(null)));
+    }
+
+    /**
+     * 캐시에 있으면 조회 (적재하지 않음)
+     */
+    public Optional<StockSnapshot> getIfPresent(InventoryKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    /**
+     * 캐시에 있는 항목만 조회
+     */
+    public Map<InventoryKey, StockSnapshot> getAllPresent(Collection<InventoryKey> keys) {
+        return cache.getAllPresent(keys);
+    }
+
+    /**
+     * 스냅샷 적재
+     * - 이미 더 최신 버전이 캐시되어 있으면 유지
+     */
+    public void put(StockSnapshot snapshot) {
+        cache.asMap().merge(
+                InventoryKey.of(snapshot.getProductId(), snapshot.getHubId()),
+                snapshot,
+                (cached, loaded) -> loaded.getVersion() >= cached.getVersion() ? loaded : cached);
+    }
+
+    /**
+     * 조회 결과 적재 - 조회 시작(startedAt 세대) 후 무효화된 키면 버림
+     * - 세대 확인과 적재를 같은 키 잠금 안에서 수행하고, 무효화는 세대 기록 → 제거 순이므로 확인 직후 무효화돼도 제거됨
+     *
+     * @param startedAt 조회 시작 전에 읽은 generation()
+     */
+    public void put(StockSnapshot snapshot, long startedAt) {
+        cache.asMap().compute(
+                InventoryKey.of(snapshot.getProductId(), snapshot.getHubId()),
+                (key, cached) -> {
+                    if (!isCurrent(key, startedAt)) {
+                        return cached;
+                    }
+                    return cached == null || snapshot.getVersion() >= cached.getVersion() ? snapshot : cached;
+                });
+    }
+
+    /**
+     * 현재 무효화 세대 (조회 시작 전에 읽어 put(snapshot, startedAt)에 전달)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * startedAt 세대 이후 해당 키가 무효화되지 않았으면 true
+     */
+    public boolean isCurrent(InventoryKey key, long startedAt) {
+        Long invalidated = invalidatedAt.getIfPresent(key);
+        return Math.max(invalidated != null ? invalidated : 0L, clearedAt) <= startedAt;
+    }
+
+    /**
+     * 단건 무효화 (변경 후 버전을 아는 경우)
+     */
+    public void evict(InventoryKey key, long version) {
+        invalidate(Map.of(key, version));
+    }
+
+    /**
+     * 단건 무효화 (버전 모름)
+     */
+    public void evict(InventoryKey key) {
+        evict(key, UNKNOWN_VERSION);
+    }
+
+    /**
+     * 다건 무효화 (버전 모름)
+     */
+    public void evictAll(Collection<InventoryKey> keys) {
+        Map<InventoryKey, Long> versions = new HashMap<>();
+        keys.forEach(key -> versions.put(key, UNKNOWN_VERSION));
+        invalidate(versions);
+    }
+
+    /**
+     * 변경 후 스냅샷 기준 다건 무효화
+     */
+    public void evictSnapshots(Collection<StockSnapshot> snapshots) {
+        Map<InventoryKey, Long> versions = new HashMap<>();
+        snapshots.forEach(snapshot -> versions.put(
+                InventoryKey.of(snapshot.getProductId(), snapshot.getHubId()), snapshot.getVersion()));
+        invalidate(versions);
+    }
+
+    /**
+     * 다른 인스턴스에서 전파된 무효화 적용
+     * - 캐시된 값의 버전이 메시지 버전 이상이면 이미 최신이므로 유지
+     *
+     * @return 실제로 제거했으면 true
+     */
+    public boolean applyRemoteInvalidation(InventoryKey key, long version) {
+        markInvalidated(List.of(key));
+        boolean[] removed = new boolean[1];
+        cache.asMap().computeIfPresent(key, (k, cached) -> {
+            if (cached.getVersion() >= version) {
+                return cached;
+            }
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void clear() {
+        clearedAt = generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 즉시 제거 후, 트랜잭션 안이면 종료 시점(커밋/롤백)에 한 번 더 제거하고 커밋된 경우에만 전파
+     */
+    private void invalidate(Map<InventoryKey, Long> versions) {
+        if (versions.isEmpty()) {
+            return;
+        }
+
+        markInvalidated(versions.keySet());
+        cache.invalidateAll(versions.keySet());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(versions);
+            return;
+        }
+
+        Map<InventoryKey, Long> pending = Map.copyOf(versions);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcast(pending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                markInvalidated(pending.keySet());
+                cache.invalidateAll(pending.keySet());
+            }
+        });
+    }
+
+    private void markInvalidated(Collection<InventoryKey> keys) {
+        long invalidated = generation.incrementAndGet();
+        keys.forEach(key -> invalidatedAt.put(key, invalidated));
+    }
+
+    private void broadcast(Map<InventoryKey, Long> versions) {
+        broadcaster.ifPresent(b -> versions.forEach((key, version) -> {
+            try {
+                b.broadcast(key, version, nodeId);
+            } catch (Exception e) {
+                // 전파 실패는 다른 인스턴스의 만료 시간으로 보완
+                log.warn("가용성 캐시 무효화 전파 실패 - key: {}, error: {}", key, e.getMessage());
+            }
+        }));
+    }
+}
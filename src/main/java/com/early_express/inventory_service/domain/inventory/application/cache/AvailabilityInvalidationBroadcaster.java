@@ -0,0 +1,19 @@
+package com.early_express.inventory_service.domain.inventory.application.cache;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+
+/**
+ * 가용성 캐시 무효화 전파 포트
+ * - 커밋된 재고 변경을 다른 인스턴스의 로컬 캐시에 알림
+ */
+public interface AvailabilityInvalidationBroadcaster {
+
+    /**
+     * 무효화 전파
+     *
+     * @param key     변경된 재고 키
+     * @param version 변경 후 버전 (알 수 없으면 AvailabilityCache.UNKNOWN_VERSION)
+     * @param origin  발신 인스턴스 ID
+     */
+    void broadcast(InventoryKey key, long version, String origin);
+}
@@ -15,6 +15,19 @@ public class ReservationCommand {
     private final String orderId;
     private final List<ReservationItem> items;
 
+    /**
+     * 전체 성공 또는 전체 실패 모드
+     * - true: 모든 라인을 한 번의 배치로 예약하고 하나라도 부족하면 전부 롤백
+     * - false: 라인별로 독립 예약 (부분 성공 허용)
+     */
+    private final boolean allOrNothing;
+
+    /**
+     * 허브 미지정 라인의 다중 허브 분할 배정 허용 여부
+     * - null이면 서버 설정(inventory.reservation.split-allocation.enabled)을 따름
+     */
+    private final Boolean allowSplit;
+
     @Getter
     @Builder
     public static class ReservationItem {
@@ -0,0 +1,46 @@
+package com.early_express.inventory_service.domain.inventory.application.dto.result;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.FlashSaleState;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 플래시 세일 상태 정보 (Application Layer)
+ */
+@Getter
+@Builder
+public class FlashSaleInfo {
+
+    private final String inventoryId;
+    private final String productId;
+    private final String hubId;
+    private final boolean active;
+    private final String ownerId;
+    private final String ownerUrl;
+    private final int allottedQuantity;        // 카운터에 배정된 수량
+    private final int persistedReservedQuantity;  // DB에 반영된 플래시 예약 수량
+    private final Integer counterAvailable;    // 메모리 카운터 잔여 수량 (소유 노드에서 조회한 경우만)
+
+    public static FlashSaleInfo of(FlashSaleState state, Integer counterAvailable) {
+        return FlashSaleInfo.builder()
+                .inventoryId(state.getInventoryId())
+                .productId(state.getProductId())
+                .hubId(state.getHubId())
+                .active(true)
+                .ownerId(state.getOwnerId())
+                .ownerUrl(state.getOwnerUrl())
+                .allottedQuantity(state.getAllottedQuantity())
+                .persistedReservedQuantity(state.getReservedQuantity())
+                .counterAvailable(counterAvailable)
+                .build();
+    }
+
+    public static FlashSaleInfo stopped(FlashSaleState state) {
+        return FlashSaleInfo.builder()
+                .inventoryId(state.getInventoryId())
+                .productId(state.getProductId())
+                .hubId(state.getHubId())
+                .active(false)
+                .build();
+    }
+}
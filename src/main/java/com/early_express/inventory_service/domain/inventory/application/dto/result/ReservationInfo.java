@@ -1,8 +1,10 @@
 package com.early_express.inventory_service.domain.inventory.application.dto.result;
 
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.HubAllocation;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -12,7 +14,9 @@ import java.util.List;
 @Builder
 public class ReservationInfo {
 
+    private final String reservationId;  // 예약 원장 ID (예약된 라인이 없으면 null)
     private final String orderId;
+    private final LocalDateTime expiresAt;  // 예약 만료 시각
     private final boolean allSuccess;
     private final List<ReservedItemInfo> reservedItems;
 
@@ -24,5 +28,7 @@ public class ReservationInfo {
         private final Integer quantity;
         private final boolean success;
         private final String errorMessage;
+        private final Integer shortfallQuantity;   // 부족 수량 (전체 예약 모드 실패 시)
+        private final List<HubAllocation> allocations;  // 허브별 배정 수량 (성공 시, 분할 배정이면 2개 이상)
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.early_express.inventory_service.domain.inventory.application.dto.result;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 예약 해제/확정 결과 정보 (Application Layer)
+ * - alreadySettled: 처리할 RESERVED 라인이 없어 변경 없이 종료 (중복 요청)
+ *   이 경우 lines는 각 라인의 현재 상태
+ */
+@Getter
+@Builder
+public class ReservationSettlementInfo {
+
+    private final String reservationId;  // 예약 ID 기준 처리 시
+    private final String orderId;
+    private final ReservationStatus status;  // 요청된 처리 결과 상태 (RELEASED / CONFIRMED)
+    private final boolean alreadySettled;
+    private final List<SettledLine> lines;
+
+    @Getter
+    @Builder
+    public static class SettledLine {
+        private final String reservationId;
+        private final String inventoryId;
+        private final String productId;
+        private final String hubId;
+        private final int quantity;
+        private final ReservationStatus status;
+
+        public static SettledLine of(StockReservation reservation, ReservationStatus status) {
+            return SettledLine.builder()
+                    .reservationId(reservation.getReservationId())
+                    .inventoryId(reservation.getInventoryId())
+                    .productId(reservation.getProductId())
+                    .hubId(reservation.getHubId())
+                    .quantity(reservation.getQuantity())
+                    .status(status)
+                    .build();
+        }
+    }
+}
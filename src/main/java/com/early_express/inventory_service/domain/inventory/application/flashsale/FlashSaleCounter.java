@@ -0,0 +1,97 @@
+package com.early_express.inventory_service.domain.inventory.application.flashsale;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 플래시 세일 메모리 카운터 (소유 노드 전용)
+ * - 예약 가능 여부를 CAS 한 번으로 결정 (잠금 없음)
+ * - 닫힌 카운터(CLOSED)는 어떤 수량도 예약할 수 없고 반환/추가 배정도 받지 않음
+ * - 소유권 임대(lease)가 끝난 카운터는 예약을 내주지 않음 (목록 갱신이 소유권을 확인할 때마다 연장)
+ *   → DB에 닿지 못하거나 다른 노드에서 강제 종료되어도 임대 시간 이후에는 카운터 예약이 멈춤
+ */
+public final class FlashSaleCounter {
+
+    private static final int CLOSED = -1;
+
+    @Getter
+    private final String inventoryId;
+
+    @Getter
+    private final InventoryKey key;
+
+    private final AtomicInteger available;
+
+    /**
+     * 생성 시각 (System.nanoTime) - 생성 직후 시작된 목록 갱신이 카운터를 닫지 않도록 비교
+     */
+    final long openedAt = System.nanoTime();
+
+    /**
+     * 소유권 임대 만료 시각 (System.nanoTime)
+     */
+    private volatile long leaseExpiresAt;
+
+    public FlashSaleCounter(String inventoryId, InventoryKey key, int available, long leaseNanos) {
+        this.inventoryId = inventoryId;
+        this.key = key;
+        this.available = new AtomicInteger(Math.max(available, 0));
+        this.leaseExpiresAt = openedAt + leaseNanos;
+    }
+
+    /**
+     * 가용 수량이 충분하고 소유권 임대 중이면 차감
+     */
+    public boolean tryReserve(int quantity) {
+        if (System.nanoTime() - leaseExpiresAt >= 0) {
+            return false;
+        }
+        while (true) {
+            int current = available.get();
+            if (current < quantity) {
+                return false;
+            }
+            if (available.compareAndSet(current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 수량 반환 또는 추가 배정 (닫힌 카운터는 무시)
+     */
+    public void add(int quantity) {
+        while (true) {
+            int current = available.get();
+            if (current == CLOSED || available.compareAndSet(current, current + quantity)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 소유권 임대 연장 (소유권을 확인한 목록 갱신의 시작 시각 기준)
+     */
+    void renewLease(long expiresAt) {
+        if (expiresAt - leaseExpiresAt > 0) {
+            leaseExpiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 카운터 닫기 (이후 예약 불가)
+     */
+    public void close() {
+        available.set(CLOSED);
+    }
+
+    public boolean isClosed() {
+        return available.get() == CLOSED;
+    }
+
+    public int getAvailable() {
+        return Math.max(available.get(), 0);
+    }
+}
@@ -0,0 +1,196 @@
+package com.early_express.inventory_service.domain.inventory.application.flashsale;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 플래시 세일 로컬 저널 (추가 전용 세그먼트 파일)
+ * - 메모리 카운터에서 나간 예약 라인을 응답 전에 현재 세그먼트에 기록
+ * - 쓰기 지연 반영 단위마다 세그먼트를 봉인(rotate)하고, DB 반영이 끝난 세그먼트만 삭제
+ * - 재시작 시 남아 있는 세그먼트를 순서대로 읽어 다시 반영 (원장 라인 ID로 중복 반영 방지)
+ * - 반복해서 반영에 실패한 묶음은 quarantine 하위 디렉터리로 격리 (재시작 복구 대상에서 제외, 수동 재처리)
+ * - 스레드 안전하지 않음 (FlashSaleWriteBehind의 잠금 안에서만 호출)
+ */
+@Slf4j
+class FlashSaleJournal {
+
+    private static final String SUFFIX = ".journal";
+    private static final String SEPARATOR = "\t";
+    private static final String QUARANTINE_DIR = "quarantine";
+
+    private final Path directory;
+    private final Path quarantineDirectory;
+    private final boolean fsync;
+
+    private long nextSegmentNo;
+    private Path currentPath;
+    private FileChannel current;
+
+    FlashSaleJournal(Path directory, boolean fsync) throws IOException {
+        this.directory = directory;
+        this.quarantineDirectory = directory.resolve(QUARANTINE_DIR);
+        this.fsync = fsync;
+        Files.createDirectories(quarantineDirectory);
+        this.nextSegmentNo = Stream.concat(segments(directory).stream(), segments(quarantineDirectory).stream())
+                .mapToLong(FlashSaleJournal::segmentNo)
+                .max()
+                .orElse(0L) + 1;
+    }
+
+    /**
+     * 예약 라인 기록 (한 번의 write로 예약 1건의 전체 라인 기록)
+     */
+    void append(List<StockReservation> lines) throws IOException {
+        if (current == null) {
+            openSegment();
+        }
+
+        StringBuilder record = new StringBuilder();
+        for (StockReservation line : lines) {
+            record.append(encode(line)).append('\n');
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(record.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            current.write(buffer);
+        }
+        if (fsync) {
+            current.force(false);
+        }
+    }
+
+    /**
+     * 현재 세그먼트 봉인 - 이후 기록은 새 세그먼트로
+     *
+     * @return 봉인된 세그먼트 (기록이 없었으면 null)
+     */
+    Path seal() throws IOException {
+        if (current == null) {
+            return null;
+        }
+
+        current.force(false);
+        current.close();
+        Path sealed = currentPath;
+        current = null;
+        currentPath = null;
+        return sealed;
+    }
+
+    /**
+     * DB 반영이 끝난 세그먼트 삭제
+     */
+    void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            log.warn("플래시 세일 저널 세그먼트 삭제 실패: segment={}, error={}", segment, e.getMessage());
+        }
+    }
+
+    /**
+     * 반영할 수 없는 묶음 격리 - 라인을 격리 파일로 기록한 뒤 원래 세그먼트 삭제
+     *
+     * @return 격리 파일
+     */
+    Path quarantine(List<StockReservation> lines, List<Path> segments) throws IOException {
+        Path quarantined = quarantineDirectory.resolve(String.format("%020d%s", nextSegmentNo++, SUFFIX));
+
+        StringBuilder record = new StringBuilder();
+        for (StockReservation line : lines) {
+            record.append(encode(line)).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(quarantined, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(record.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        segments.forEach(this::delete);
+        return quarantined;
+    }
+
+    /**
+     * 남아 있는 세그먼트 읽기 (재시작 복구, 세그먼트 번호 순)
+     * - 기록 도중 종료되어 잘린 마지막 줄은 응답되지 않은 예약이므로 건너뜀
+     */
+    Map<Path, List<StockReservation>> readAll() throws IOException {
+        Map<Path, List<StockReservation>> segments = new LinkedHashMap<>();
+        for (Path segment : segments(directory)) {
+            List<StockReservation> lines = new ArrayList<>();
+            for (String row : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                try {
+                    lines.add(decode(row));
+                } catch (RuntimeException e) {
+                    log.warn("플래시 세일 저널 레코드 건너뜀: segment={}, record={}", segment, row);
+                }
+            }
+            segments.put(segment, lines);
+        }
+        return segments;
+    }
+
+    private void openSegment() throws IOException {
+        currentPath = directory.resolve(String.format("%020d%s", nextSegmentNo++, SUFFIX));
+        current = FileChannel.open(currentPath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long segmentNo(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    static String encode(StockReservation line) {
+        return String.join(SEPARATOR,
+                line.getReservationLineId(),
+                line.getReservationId(),
+                line.getOrderId(),
+                line.getInventoryId(),
+                line.getProductId(),
+                line.getHubId(),
+                String.valueOf(line.getQuantity()),
+                line.getExpiresAt().toString(),
+                line.getCreatedAt().toString());
+    }
+
+    static StockReservation decode(String row) {
+        String[] fields = row.split(SEPARATOR, -1);
+        if (fields.length != 9) {
+            throw new IllegalArgumentException("필드 수가 올바르지 않습니다: " + fields.length);
+        }
+
+        return StockReservation.reconstruct(
+                fields[0], fields[1], fields[2], fields[3], fields[4], fields[5],
+                null,
+                Integer.parseInt(fields[6]),
+                ReservationStatus.RESERVED,
+                LocalDateTime.parse(fields[7]),
+                LocalDateTime.parse(fields[8]));
+    }
+}
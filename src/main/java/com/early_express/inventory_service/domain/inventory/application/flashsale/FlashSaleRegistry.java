@@ -0,0 +1,165 @@
+package com.early_express.inventory_service.domain.inventory.application.flashsale;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.FlashSaleState;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.repository.FlashSaleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플래시 세일 레지스트리
+ * - 이 노드가 소유한 재고의 메모리 카운터 보관
+ * - 전체 플래시 세일 목록(소유 노드, 주소)을 주기적으로 갱신해 다른 노드 소유 재고의 예약을 전달할 수 있게 함
+ * - 다른 노드에서 강제 종료되어 소유권이 없어진 카운터는 갱신 시 닫음
+ * - 소유권을 확인한 갱신마다 카운터 임대를 연장 - 갱신이 계속 실패하면 임대가 끝나 카운터 예약이 멈춤 (소유권 펜스)
+ * - 재입고·예약 해제로 부모 행에 생긴 가용 수량은 주기적으로 카운터에 추가 배정
+ */
+@Slf4j
+@Component
+public class FlashSaleRegistry {
+
+    private final FlashSaleRepository flashSaleRepository;
+
+    @Getter
+    private final String instanceId;
+
+    @Getter
+    private final String advertisedUrl;
+
+    private final long leaseNanos;
+
+    private final Map<InventoryKey, FlashSaleCounter> localCounters = new ConcurrentHashMap<>();
+
+    private volatile Map<InventoryKey, FlashSaleState> active = Map.of();
+
+    public FlashSaleRegistry(
+            FlashSaleRepository flashSaleRepository,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.flash-sale.instance-id}") String instanceId,
+            @Value("${inventory.flash-sale.advertised-url}") String advertisedUrl,
+            @Value("${inventory.flash-sale.lease-ms:3000}") long leaseMs
+    ) {
+        this.flashSaleRepository = flashSaleRepository;
+        this.instanceId = instanceId;
+        this.advertisedUrl = advertisedUrl;
+        this.leaseNanos = TimeUnit.MILLISECONDS.toNanos(leaseMs);
+
+        Gauge.builder("inventory.flash-sale.local", localCounters, Map::size)
+                .description("이 노드가 메모리 카운터로 처리 중인 플래시 세일 재고 수")
+                .register(meterRegistry);
+    }
+
+    public Optional<FlashSaleCounter> localCounter(InventoryKey key) {
+        return Optional.ofNullable(localCounters.get(key));
+    }
+
+    /**
+     * 다른 노드가 소유한 플래시 세일 재고면 소유 노드 주소
+     */
+    public Optional<String> remoteOwnerUrl(InventoryKey key) {
+        FlashSaleState state = active.get(key);
+        if (state == null || isOwner(state) || localCounters.containsKey(key)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(state.getOwnerUrl());
+    }
+
+    public boolean isOwner(FlashSaleState state) {
+        return instanceId.equals(state.getOwnerId());
+    }
+
+    /**
+     * 카운터 열기 (플래시 세일 시작 커밋 후, 재시작 복구)
+     */
+    public FlashSaleCounter open(FlashSaleState state) {
+        FlashSaleCounter counter = new FlashSaleCounter(
+                state.getInventoryId(), state.getKey(), state.getAvailableQuantity(), leaseNanos);
+        localCounters.put(state.getKey(), counter);
+        updateActive(state.getKey(), state);
+
+        log.info("플래시 세일 카운터 열림: inventoryId={}, available={}", state.getInventoryId(), counter.getAvailable());
+        return counter;
+    }
+
+    /**
+     * 카운터 닫기 + 목록에서 제거 (플래시 세일 종료)
+     */
+    public void close(InventoryKey key) {
+        FlashSaleCounter counter = localCounters.remove(key);
+        if (counter != null) {
+            counter.close();
+        }
+        updateActive(key, null);
+    }
+
+    /**
+     * 이 노드가 소유한 플래시 세일 카운터 복구 (저널 재적용이 끝난 뒤 호출)
+     */
+    void restoreOwned() {
+        flashSaleRepository.findByOwner(instanceId).forEach(this::open);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.flash-sale.refresh-interval-ms:1000}")
+    public void refresh() {
+        long startedAt = System.nanoTime();
+        try {
+            Map<InventoryKey, FlashSaleState> loaded = new HashMap<>();
+            flashSaleRepository.findActive().forEach(state -> loaded.put(state.getKey(), state));
+            synchronized (this) {
+                active = Map.copyOf(loaded);
+            }
+
+            localCounters.forEach((key, counter) -> {
+                FlashSaleState state = loaded.get(key);
+                if (state != null && isOwner(state)) {
+                    counter.renewLease(startedAt + leaseNanos);
+                } else if (counter.openedAt < startedAt) {
+                    log.warn("플래시 세일 소유권 없음 - 카운터 닫음: inventoryId={}", counter.getInventoryId());
+                    localCounters.remove(key, counter);
+                    counter.close();
+                }
+            });
+        } catch (Exception e) {
+            log.warn("플래시 세일 목록 갱신 실패: error={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.flash-sale.refill-interval-ms:1000}")
+    public void refill() {
+        localCounters.values().forEach(counter -> {
+            if (counter.isClosed()) {
+                return;
+            }
+            try {
+                int added = flashSaleRepository.refill(counter.getInventoryId(), instanceId);
+                if (added > 0) {
+                    counter.add(added);
+                    log.info("플래시 세일 카운터 추가 배정: inventoryId={}, added={}", counter.getInventoryId(), added);
+                }
+            } catch (Exception e) {
+                log.warn("플래시 세일 추가 배정 실패: inventoryId={}, error={}", counter.getInventoryId(), e.getMessage());
+            }
+        });
+    }
+
+    private synchronized void updateActive(InventoryKey key, FlashSaleState state) {
+        Map<InventoryKey, FlashSaleState> updated = new HashMap<>(active);
+        if (state == null) {
+            updated.remove(key);
+        } else {
+            updated.put(key, state);
+        }
+        active = Map.copyOf(updated);
+    }
+}
@@ -0,0 +1,245 @@
+package com.early_express.inventory_service.domain.inventory.application.flashsale;
+
+import com.early_express.inventory_service.domain.inventory.application.service.FlashSaleReservationService;
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 플래시 세일 쓰기 지연 반영
+ * - 카운터에서 나간 예약 라인을 저널에 기록하고 메모리 버퍼에 모음 (요청 스레드, DB 접근 없음)
+ * - flush 주기마다 버퍼를 통째로 꺼내 한 트랜잭션으로 원장 INSERT + 재고별 예약 수량 반영 + 이벤트 발행
+ * - 반영에 실패한 묶음은 순서를 유지해 다음 주기에 다시 시도하며, 성공한 묶음의 저널 세그먼트만 삭제
+ * - 일시적 DB 오류가 아닌 실패가 maxFlushAttempts 회 반복되면 묶음을 저널 격리 파일로 옮기고
+ *   예약 실패 이벤트를 발행한 뒤 다음 묶음 진행
+ *   (한 묶음이 대기열 전체와 재시작 카운터 복구를 막지 않도록)
+ * - 반영 대기 라인이 maxPendingLines 이상이면 카운터 예약을 받지 않음 (DB 장애 중 대기열 상한)
+ * - 재시작 시 남은 저널을 먼저 반영한 뒤에 카운터를 복구 (반영 전 DB 값으로 카운터를 만들면 초과 판매)
+ */
+@Slf4j
+@Component
+public class FlashSaleWriteBehind {
+
+    private final FlashSaleJournal journal;
+    private final FlashSaleRegistry registry;
+    private final FlashSaleReservationService flashSaleReservationService;
+
+    /**
+     * 저널 기록과 버퍼 추가를 한 단위로 묶는 잠금 (봉인된 세그먼트 = 꺼낸 버퍼가 되도록)
+     */
+    private final ReentrantLock bufferLock = new ReentrantLock();
+    private List<StockReservation> buffer = new ArrayList<>();
+
+    private final Deque<Batch> unflushed = new ArrayDeque<>();
+    private volatile boolean recovered;
+    private boolean countersRestored;
+
+    /**
+     * 반영 대기 라인 수 (버퍼 + 미반영 묶음)
+     */
+    private final AtomicInteger pendingLines = new AtomicInteger();
+
+    private final int maxFlushAttempts;
+    private final int maxPendingLines;
+
+    public FlashSaleWriteBehind(
+            FlashSaleRegistry registry,
+            FlashSaleReservationService flashSaleReservationService,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.flash-sale.journal-dir}") String journalDir,
+            @Value("${inventory.flash-sale.journal-fsync:false}") boolean journalFsync,
+            @Value("${inventory.flash-sale.max-flush-attempts:10}") int maxFlushAttempts,
+            @Value("${inventory.flash-sale.max-pending-lines:100000}") int maxPendingLines
+    ) throws IOException {
+        this.journal = new FlashSaleJournal(Path.of(journalDir), journalFsync);
+        this.registry = registry;
+        this.flashSaleReservationService = flashSaleReservationService;
+        this.maxFlushAttempts = maxFlushAttempts;
+        this.maxPendingLines = maxPendingLines;
+
+        Gauge.builder("inventory.flash-sale.pending", pendingLines, AtomicInteger::get)
+                .description("DB 반영 대기 중인 플래시 세일 예약 라인 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 카운터 예약을 받을 수 있는지 (반영 대기 라인이 상한 미만)
+     */
+    public boolean isAccepting() {
+        return pendingLines.get() < maxPendingLines;
+    }
+
+    /**
+     * 예약 라인 기록 (저널 기록 후 버퍼 추가)
+     *
+     * @throws IOException 저널 기록 실패 - 호출자가 카운터를 되돌려야 함
+     */
+    public void submit(List<StockReservation> lines) throws IOException {
+        bufferLock.lock();
+        try {
+            journal.append(lines);
+            buffer.addAll(lines);
+            pendingLines.addAndGet(lines.size());
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼 반영
+     *
+     * @return 반영 대기 중인 라인이 남지 않았으면 true
+     */
+    @Scheduled(fixedDelayString = "${inventory.flash-sale.flush-interval-ms:5}")
+    public synchronized boolean flush() {
+        if (!recovered) {
+            return false;
+        }
+
+        Batch drained = drain();
+        if (drained != null) {
+            unflushed.addLast(drained);
+        }
+
+        while (!unflushed.isEmpty()) {
+            Batch batch = unflushed.peekFirst();
+            try {
+                flashSaleReservationService.recordFlashSaleReservations(registry.getInstanceId(), batch.lines());
+                batch.segments().forEach(journal::delete);
+            } catch (Exception e) {
+                int attempts = ++batch.attempts;
+                if (isTransient(e) || attempts < maxFlushAttempts) {
+                    log.error("플래시 세일 예약 반영 실패 - 다음 주기에 재시도: lines={}, attempts={}, error={}",
+                            batch.lines().size(), attempts, e.getMessage(), e);
+                    return false;
+                }
+                if (!quarantine(batch, e)) {
+                    return false;
+                }
+            }
+            unflushed.pollFirst();
+            pendingLines.addAndGet(-batch.lines().size());
+        }
+
+        if (!countersRestored) {
+            registry.restoreOwned();
+            countersRestored = true;
+        }
+        return true;
+    }
+
+    /**
+     * 재시작 복구 - 남은 저널 세그먼트를 반영 대기열에 올리고 즉시 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void recover() throws IOException {
+        journal.readAll().forEach((segment, lines) -> unflushed.addLast(new Batch(lines, List.of(segment))));
+        int replayed = unflushed.stream().mapToInt(batch -> batch.lines().size()).sum();
+        pendingLines.addAndGet(replayed);
+        recovered = true;
+
+        boolean flushed = flush();
+        log.info("플래시 세일 저널 복구: replayed={}, flushed={}", replayed, flushed);
+    }
+
+    private Batch drain() {
+        bufferLock.lock();
+        try {
+            if (buffer.isEmpty()) {
+                return null;
+            }
+            Path sealed = journal.seal();
+            List<StockReservation> lines = buffer;
+            buffer = new ArrayList<>();
+            return new Batch(lines, sealed == null ? List.of() : List.of(sealed));
+        } catch (IOException e) {
+            log.error("플래시 세일 저널 세그먼트 봉인 실패: error={}", e.getMessage(), e);
+            return null;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * 반영할 수 없는 묶음을 격리 파일로 이동하고 예약 실패 이벤트 발행
+     * - 라인은 원장·부모 행에 반영되지 않은 상태 (격리 파일로 수동 재처리)
+     *
+     * @return 격리되었으면 true, 격리 파일 기록에 실패하면 false (다음 주기에 다시 시도)
+     */
+    private boolean quarantine(Batch batch, Exception cause) {
+        try {
+            Path quarantined = journal.quarantine(batch.lines(), batch.segments());
+            log.error("플래시 세일 예약 반영 포기 - 격리 파일로 이동: file={}, lines={}, reservationIds={}, attempts={}, error={}",
+                    quarantined, batch.lines().size(),
+                    batch.lines().stream().map(StockReservation::getReservationId).distinct().toList(),
+                    batch.attempts, cause.getMessage(), cause);
+        } catch (IOException e) {
+            log.error("플래시 세일 격리 파일 기록 실패: lines={}, error={}", batch.lines().size(), e.getMessage(), e);
+            return false;
+        }
+
+        try {
+            flashSaleReservationService.publishFlashSaleReservationFailures(batch.lines(), "FLASH_SALE_WRITE_BEHIND_QUARANTINED");
+        } catch (Exception e) {
+            log.error("플래시 세일 예약 실패 이벤트 발행 실패 - 격리 파일 기준으로 수동 보상 필요: lines={}, error={}",
+                    batch.lines().size(), e.getMessage(), e);
+        }
+        return true;
+    }
+
+    /**
+     * DB 연결 장애·잠금 대기처럼 재시도하면 성공할 수 있는 실패인지 확인 (격리하지 않고 계속 재시도)
+     */
+    private static boolean isTransient(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof TransientDataAccessException
+                    || t instanceof RecoverableDataAccessException
+                    || t instanceof CannotCreateTransactionException
+                    || t instanceof SQLTransientException
+                    || t instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Batch {
+
+        private final List<StockReservation> lines;
+        private final List<Path> segments;
+        private int attempts;
+
+        private Batch(List<StockReservation> lines, List<Path> segments) {
+            this.lines = lines;
+            this.segments = segments;
+        }
+
+        List<StockReservation> lines() {
+            return lines;
+        }
+
+        List<Path> segments() {
+            return segments;
+        }
+    }
+}
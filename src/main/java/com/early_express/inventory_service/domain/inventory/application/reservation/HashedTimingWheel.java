@@ -0,0 +1,157 @@
+package com.early_express.inventory_service.domain.inventory.application.reservation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시 타이밍 휠
+ * - 만료 시각을 tick 단위로 올림해 (tick % 휠 크기) 버킷에 넣고, 휠 한 바퀴를 넘는 만료는 남은 회전 수로 표현
+ * - 등록/취소 O(1), 한 tick 진행은 해당 버킷 크기에 비례 (전체 항목 수와 무관)
+ * - 자체 스레드 없이 호출자가 advance(now)로 시간을 진행 (스케줄러 주기 = tick 간격)
+ * - 같은 키를 다시 등록하면 이전 만료를 대체
+ *
+ * @param <K> 만료 대상 키 (예약 ID)
+ */
+final class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final Bucket<K>[] buckets;
+    private final Map<K, Timeout<K>> timeouts = new HashMap<>();
+
+    /**
+     * 다음에 처리할 tick
+     */
+    private long nextTick;
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(long tickMillis, int ticksPerWheel, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        if (ticksPerWheel <= 0 || Integer.bitCount(ticksPerWheel) != 1) {
+            throw new IllegalArgumentException("ticksPerWheel must be a power of two: " + ticksPerWheel);
+        }
+
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = ticksPerWheel - 1;
+        this.buckets = new Bucket[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            this.buckets[i] = new Bucket<>();
+        }
+    }
+
+    /**
+     * 만료 등록 (이미 지난 시각이면 다음 tick에 만료)
+     */
+    synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis - startMillis, tickMillis), nextTick);
+        Timeout<K> timeout = new Timeout<>(key, (deadlineTick - nextTick) / buckets.length);
+
+        buckets[(int) (deadlineTick & mask)].add(timeout);
+        timeouts.put(key, timeout);
+    }
+
+    /**
+     * 만료 취소
+     *
+     * @return 등록되어 있었으면 true
+     */
+    synchronized boolean cancel(K key) {
+        Timeout<K> timeout = timeouts.remove(key);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        return true;
+    }
+
+    /**
+     * nowMillis까지 tick 진행 후 만료된 키 반환 (등록 순서 무관)
+     */
+    synchronized List<K> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        List<K> expired = new ArrayList<>();
+
+        while (nextTick <= targetTick) {
+            Bucket<K> bucket = buckets[(int) (nextTick & mask)];
+            Timeout<K> timeout = bucket.head;
+            while (timeout != null) {
+                Timeout<K> next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    bucket.remove(timeout);
+                    timeouts.remove(timeout.key);
+                    expired.add(timeout.key);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            nextTick++;
+        }
+
+        return expired;
+    }
+
+    synchronized int size() {
+        return timeouts.size();
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private static final class Timeout<K> {
+        private final K key;
+        private long remainingRounds;
+        private Bucket<K> bucket;
+        private Timeout<K> prev;
+        private Timeout<K> next;
+
+        private Timeout(K key, long remainingRounds) {
+            this.key = key;
+            this.remainingRounds = remainingRounds;
+        }
+    }
+
+    /**
+     * 버킷 - 취소 시 O(1) 제거를 위한 이중 연결 리스트
+     */
+    private static final class Bucket<K> {
+        private Timeout<K> head;
+        private Timeout<K> tail;
+
+        private void add(Timeout<K> timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void remove(Timeout<K> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
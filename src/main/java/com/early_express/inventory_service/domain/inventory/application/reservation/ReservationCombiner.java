@@ -0,0 +1,176 @@
+package com.early_express.inventory_service.domain.inventory.application.reservation;
+
+import com.early_express.inventory_service.domain.inventory.application.dto.command.ReservationCommand;
+import com.early_express.inventory_service.domain.inventory.application.dto.result.ReservationInfo;
+import com.early_express.inventory_service.domain.inventory.application.service.InventoryService;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 예약 요청 결합기 (Group Commit)
+ * - 같은 재고(상품-허브)에 동시에 들어온 단일 라인 예약을 짧은 구간 동안 모아 한 트랜잭션·한 번의 UPDATE로 처리
+ * - 재고 키별로 먼저 도착한 요청 스레드가 리더가 되어 묶음을 실행하고, 나머지는 결과를 기다림 (별도 스레드 없음)
+ * - 리더가 묶음을 실행하는 동안 도착한 요청은 다음 리더(대기열의 첫 요청)가 이어서 처리
+ * - 결합 대상이 아닌 요청(여러 라인, 허브 미지정)과 묶음 실행 실패 시에는 요청별 일반 예약 경로로 처리
+ * - 대기 중인 요청은 DB 연결을 잡지 않음 (트랜잭션 밖에서 결합)
+ */
+@Slf4j
+@Component
+public class ReservationCombiner {
+
+    private static final Outcome LEAD = new Outcome(null);
+    private static final Outcome FALLBACK = new Outcome(null);
+
+    private final InventoryService inventoryService;
+    private final DistributionSummary batchSizes;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final Map<InventoryKey, Slot> slots = new ConcurrentHashMap<>();
+
+    public ReservationCombiner(
+            InventoryService inventoryService,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.reservation.combining.enabled:false}") boolean enabled,
+            @Value("${inventory.reservation.combining.window-micros:200}") long windowMicros,
+            @Value("${inventory.reservation.combining.max-batch-size:64}") int maxBatchSize
+    ) {
+        this.inventoryService = inventoryService;
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.batchSizes = DistributionSummary.builder("inventory.reservation.combined")
+                .description("한 번에 처리된 예약 요청 묶음 크기")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재고 예약 (결합 가능하면 같은 재고의 동시 요청과 묶어서 처리)
+     */
+    public ReservationInfo reserve(ReservationCommand command) {
+        if (!combinable(command)) {
+            return inventoryService.reserveStock(command);
+        }
+
+        ReservationCommand.ReservationItem item = command.getItems().get(0);
+        InventoryKey key = InventoryKey.of(item.getProductId(), item.getHubId());
+        Request request = new Request(command);
+
+        boolean[] leader = {false};
+        slots.compute(key, (k, slot) -> {
+            if (slot == null) {
+                slot = new Slot();
+                leader[0] = true;
+            }
+            slot.pending.add(request);
+            return slot;
+        });
+
+        if (leader[0]) {
+            return lead(key, request);
+        }
+
+        Outcome outcome = request.outcome.join();
+        if (outcome == LEAD) {
+            return lead(key, request);
+        }
+        if (outcome == FALLBACK) {
+            return inventoryService.reserveStock(command);
+        }
+        return outcome.info();
+    }
+
+    /**
+     * 리더 - 구간 동안 모인 요청을 한 번에 실행하고 다음 리더 지정
+     * - 리더 자신의 요청은 항상 묶음의 첫 요청
+     */
+    private ReservationInfo lead(InventoryKey key, Request own) {
+        if (windowNanos > 0) {
+            LockSupport.parkNanos(windowNanos);
+        }
+
+        List<Request> batch = drain(key);
+        List<ReservationInfo> results = null;
+        try {
+            if (batch.size() > 1) {
+                results = inventoryService.reserveCombined(batch.stream().map(Request::command).toList());
+            }
+        } catch (RuntimeException e) {
+            log.warn("예약 묶음 실행 실패 - 요청별 처리: key={}, requests={}, error={}", key, batch.size(), e.getMessage());
+        } finally {
+            promoteNext(key);
+            batchSizes.record(batch.size());
+            for (int i = 1; i < batch.size(); i++) {
+                batch.get(i).outcome.complete(results == null ? FALLBACK : new Outcome(results.get(i)));
+            }
+        }
+
+        return results == null ? inventoryService.reserveStock(own.command()) : results.get(0);
+    }
+
+    private List<Request> drain(InventoryKey key) {
+        List<Request> batch = new ArrayList<>();
+        slots.computeIfPresent(key, (k, slot) -> {
+            List<Request> head = slot.pending.subList(0, Math.min(slot.pending.size(), maxBatchSize));
+            batch.addAll(head);
+            head.clear();
+            return slot;
+        });
+        return batch;
+    }
+
+    /**
+     * 대기 중인 요청이 있으면 첫 요청을 다음 리더로 지정, 없으면 재고 키 정리
+     */
+    private void promoteNext(InventoryKey key) {
+        Request[] next = {null};
+        slots.computeIfPresent(key, (k, slot) -> {
+            if (slot.pending.isEmpty()) {
+                return null;
+            }
+            next[0] = slot.pending.get(0);
+            return slot;
+        });
+        if (next[0] != null) {
+            next[0].outcome.complete(LEAD);
+        }
+    }
+
+    private boolean combinable(ReservationCommand command) {
+        if (!enabled || command.getItems() == null || command.getItems().size() != 1) {
+            return false;
+        }
+        ReservationCommand.ReservationItem item = command.getItems().get(0);
+        return item.getHubId() != null && !item.getHubId().isBlank()
+                && item.getQuantity() != null && item.getQuantity() > 0;
+    }
+
+    /**
+     * 재고 키별 대기열 (리더가 있는 동안만 존재)
+     */
+    private static final class Slot {
+        private final List<Request> pending = new ArrayList<>();
+    }
+
+    private record Request(ReservationCommand command, CompletableFuture<Outcome> outcome) {
+        Request(ReservationCommand command) {
+            this(command, new CompletableFuture<>());
+        }
+    }
+
+    private record Outcome(ReservationInfo info) {
+    }
+}
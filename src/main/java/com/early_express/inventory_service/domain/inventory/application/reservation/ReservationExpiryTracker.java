@@ -0,0 +1,91 @@
+package com.early_express.inventory_service.domain.inventory.application.reservation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 예약 만료 추적기 (인메모리 타이밍 휠)
+ * - 예약 생성 커밋 후 만료 등록, 해제/확정 커밋 후 등록 취소
+ * - 시작 시 DB의 RESERVED 예약으로 재구성 (ReservationExpiryWorker)
+ * - 롤백된 예약은 등록하지 않고, 등록 누락분은 만료 인덱스 기반 보정 조회가 처리
+ * - 추적 중인 예약 수는 inventory.reservation.expiry.tracked 게이지로 노출
+ */
+@Component
+public class ReservationExpiryTracker {
+
+    private final HashedTimingWheel<String> wheel;
+
+    public ReservationExpiryTracker(
+            MeterRegistry meterRegistry,
+            @Value("${inventory.reservation.expiry.tick-ms:1000}") long tickMs,
+            @Value("${inventory.reservation.expiry.wheel-size:512}") int wheelSize
+    ) {
+        this.wheel = new HashedTimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+
+        Gauge.builder("inventory.reservation.expiry.tracked", wheel, HashedTimingWheel::size)
+                .description("만료 대기 중인 예약 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 예약 만료 등록 (트랜잭션 중이면 커밋 후)
+     */
+    public void track(String reservationId, LocalDateTime expiresAt) {
+        long deadline = toEpochMillis(expiresAt);
+        afterCommit(() -> wheel.schedule(reservationId, deadline));
+    }
+
+    /**
+     * 예약 만료 등록 취소 (트랜잭션 중이면 커밋 후)
+     */
+    public void untrack(Collection<String> reservationIds) {
+        Set<String> ids = Set.copyOf(reservationIds);
+        afterCommit(() -> ids.forEach(wheel::cancel));
+    }
+
+    /**
+     * DB에서 읽은 예약 복원 (즉시 등록)
+     */
+    public void restore(String reservationId, LocalDateTime expiresAt) {
+        wheel.schedule(reservationId, toEpochMillis(expiresAt));
+    }
+
+    /**
+     * 현재 시각까지 만료된 예약 ID (반환과 동시에 추적 대상에서 제거)
+     */
+    public List<String> pollExpired() {
+        return wheel.advance(System.currentTimeMillis());
+    }
+
+    public int size() {
+        return wheel.size();
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
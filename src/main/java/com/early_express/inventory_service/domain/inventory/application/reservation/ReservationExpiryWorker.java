@@ -0,0 +1,103 @@
+package com.early_express.inventory_service.domain.inventory.application.reservation;
+
+import com.early_express.inventory_service.domain.inventory.application.service.ReservationSettlementService;
+import com.early_express.inventory_service.domain.inventory.domain.repository.StockReservationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 만료 워커
+ * - 시작 시 DB의 RESERVED 예약으로 타이밍 휠 재구성
+ * - tick 주기마다 휠에서 만료된 예약 ID를 꺼내 배치 단위로 해제 (StockRestored 이벤트 발행)
+ * - 보정 조회: 다른 인스턴스에서 생성된 예약, 처리 실패·건너뛴 예약을 (status, expires_at) 인덱스로 주기적으로 회수
+ * - 여러 인스턴스가 같은 예약을 동시에 만료시켜도 SKIP LOCKED + RESERVED 조건으로 한 번만 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.reservation.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationExpiryWorker {
+
+    private final ReservationExpiryTracker tracker;
+    private final StockReservationRepository stockReservationRepository;
+    private final ReservationSettlementService reservationSettlementService;
+    private final Counter expiredCounter;
+
+    @Value("${inventory.reservation.expiry.batch-size:200}")
+    private int batchSize;
+
+    @Value("${inventory.reservation.expiry.max-batches-per-sweep:50}")
+    private int maxBatchesPerSweep;
+
+    public ReservationExpiryWorker(
+            ReservationExpiryTracker tracker,
+            StockReservationRepository stockReservationRepository,
+            ReservationSettlementService reservationSettlementService,
+            MeterRegistry meterRegistry
+    ) {
+        this.tracker = tracker;
+        this.stockReservationRepository = stockReservationRepository;
+        this.reservationSettlementService = reservationSettlementService;
+        this.expiredCounter = Counter.builder("inventory.reservation.expired")
+                .description("만료 처리된 예약 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 타이밍 휠 재구성 (RESERVED 예약별 가장 이른 만료 시각)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        stockReservationRepository.forEachActiveExpiry(tracker::restore);
+        log.info("예약 만료 추적 재구성 완료: tracked={}", tracker.size());
+    }
+
+    /**
+     * 휠 tick 진행 → 만료된 예약 배치 해제
+     * - 실패한 배치는 휠에서 이미 빠졌으므로 보정 조회에서 다시 처리
+     */
+    @Scheduled(fixedDelayString = "${inventory.reservation.expiry.tick-ms:1000}")
+    public void expireDue() {
+        List<String> due = tracker.pollExpired();
+
+        for (int from = 0; from < due.size(); from += batchSize) {
+            expireBatch(due.subList(from, Math.min(from + batchSize, due.size())));
+        }
+    }
+
+    /**
+     * 보정 조회 - 만료 시각이 지난 RESERVED 예약을 인덱스 범위 조회로 회수
+     */
+    @Scheduled(
+            initialDelayString = "${inventory.reservation.expiry.sweep-interval-ms:60000}",
+            fixedDelayString = "${inventory.reservation.expiry.sweep-interval-ms:60000}"
+    )
+    public void sweep() {
+        for (int i = 0; i < maxBatchesPerSweep; i++) {
+            List<String> expired = stockReservationRepository.findExpiredReservationIds(LocalDateTime.now(), batchSize);
+            if (expired.isEmpty() || expireBatch(expired) == 0 || expired.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private int expireBatch(List<String> reservationIds) {
+        try {
+            int expired = reservationSettlementService.expireReservations(reservationIds);
+            expiredCounter.increment(expired);
+            return expired;
+        } catch (Exception e) {
+            log.error("예약 만료 처리 실패: batchSize={}, error={}", reservationIds.size(), e.getMessage(), e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.early_express.inventory_service.domain.inventory.application.retry;
+
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryErrorCode;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 동시 수정 충돌 재시도 인터셉터
+ * - ConcurrencyFailureException(낙관적 락 실패, 잠금 획득 실패, 교착 상태 등) 발생 시
+ *   지수 백오프 + 전체 지터(0 ~ 백오프 사이 무작위 대기) 후 재실행
+ * - 매 시도는 MethodInvocation 복제본으로 실행해 뒤쪽 인터셉터(트랜잭션 등)를 다시 거침
+ *   (원본 invocation은 첫 proceed 이후 인터셉터 인덱스가 끝을 가리켜 대상 메서드를 직접 호출하게 됨)
+ * - 재시도를 모두 소진하면 OPTIMISTIC_LOCK_FAILURE(409)로 변환해 호출자가 500 대신 충돌을 인지하도록 함
+ * - 메트릭 (operation 태그)
+ *   inventory.conflict.detected: 충돌 발생 횟수
+ *   inventory.conflict.retries: 재시도 횟수
+ *   inventory.conflict.recovered: 재시도 후 성공 횟수
+ *   inventory.conflict.exhausted: 재시도 소진 횟수
+ */
+@Slf4j
+public class ConflictRetryInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final double multiplier;
+
+    public ConflictRetryInterceptor(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            int maxAttempts,
+            long initialBackoffMs,
+            long maxBackoffMs,
+            double multiplier
+    ) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.multiplier = multiplier;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        // 바깥 트랜잭션 안에서는 같은 영속성 컨텍스트로 재실행할 수 없으므로 위임
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+
+        String operation = operationName(invocation.getMethod());
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        long backoffMs = initialBackoffMs;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Object result = proceedAttempt(invocation);
+                if (attempt > 1) {
+                    meterRegistry.counter("inventory.conflict.recovered", "operation", operation).increment();
+                }
+                return result;
+
+            } catch (ConcurrencyFailureException e) {
+                meterRegistry.counter("inventory.conflict.detected", "operation", operation).increment();
+
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("inventory.conflict.exhausted", "operation", operation).increment();
+                    log.warn("동시 수정 충돌 재시도 소진 - operation: {}, attempts: {}, error: {}",
+                            operation, attempt, e.getMessage());
+                    throw new InventoryException(
+                            InventoryErrorCode.OPTIMISTIC_LOCK_FAILURE,
+                            String.format("재고 업데이트 충돌이 계속되어 처리하지 못했습니다. operation=%s, attempts=%d",
+                                    operation, attempt),
+                            e
+                    );
+                }
+
+                long sleepMs = ThreadLocalRandom.current().nextLong(backoffMs + 1);
+                log.debug("동시 수정 충돌 재시도 - operation: {}, attempt: {}, backoff: {}ms",
+                        operation, attempt, sleepMs);
+                meterRegistry.counter("inventory.conflict.retries", "operation", operation).increment();
+
+                sleep(sleepMs);
+                backoffMs = Math.min(maxBackoffMs, (long) (backoffMs * multiplier));
+            }
+        }
+    }
+
+    private static Object proceedAttempt(MethodInvocation invocation) throws Throwable {
+        if (invocation instanceof ProxyMethodInvocation proxyInvocation) {
+            return proxyInvocation.invocableClone().proceed();
+        }
+        return invocation.proceed();
+    }
+
+    private static String operationName(Method method) {
+        RetryOnConflict annotation = AnnotatedElementUtils.findMergedAnnotation(method, RetryOnConflict.class);
+        return annotation != null && !annotation.value().isBlank() ? annotation.value() : method.getName();
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InventoryException(InventoryErrorCode.OPTIMISTIC_LOCK_FAILURE, e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.early_express.inventory_service.domain.inventory.application.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 동시 수정 충돌 시 재시도
+ * - 낙관적 락 실패 / 잠금 획득 실패 / 교착 상태로 트랜잭션이 실패하면 새 트랜잭션으로 다시 실행
+ * - 트랜잭션 프록시보다 바깥에서 동작하므로 @Transactional 메서드에 함께 선언해 사용
+ * - 이미 진행 중인 트랜잭션 안에서 호출되면 재시도하지 않고 호출자에게 위임
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnConflict {
+
+    /**
+     * 메트릭 operation 태그 값 (비우면 메서드 이름)
+     */
+    String value() default "";
+}
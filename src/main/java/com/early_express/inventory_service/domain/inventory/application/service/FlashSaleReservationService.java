@@ -0,0 +1,146 @@
+package com.early_express.inventory_service.domain.inventory.application.service;
+
+import com.early_express.inventory_service.domain.inventory.application.cache.AvailabilityCache;
+import com.early_express.inventory_service.domain.inventory.application.reservation.ReservationExpiryTracker;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.InventoryEventPublisher;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.InventoryLowStockEventData;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.InventoryReservationFailedEventData;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.InventoryReservedEventData;
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationStatus;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.FlashSaleRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 플래시 세일 예약 반영 Application Service (FlashSaleWriteBehind 전용)
+ * - 소유 노드의 메모리 카운터가 결정한 예약 라인을 원장과 재고 카운터에 쓰기 지연 반영
+ * - 반영할 수 없는 라인은 FAILED로 기록하고 예약 실패 이벤트로 주문 측 보상 유도
+ * - 반영된 원장 라인은 부모 행 라인(shardNo 없음)이므로 해제·확정은 ReservationSettlementService 일반 경로로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FlashSaleReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final FlashSaleRepository flashSaleRepository;
+    private final ReservationExpiryTracker reservationExpiryTracker;
+    private final AvailabilityCache availabilityCache;
+    private final InventoryEventPublisher eventPublisher;
+
+    /**
+     * 플래시 세일 예약 쓰기 지연 반영
+     * - 원장 라인은 라인 ID 기준으로 없는 것만 INSERT (저널 재적용 시 중복 반영 방지)
+     * - 새로 저장된 라인만 재고별로 합산해 재고 ID 순으로 카운터 예약 수량 반영 (재고당 UPDATE 1회)
+     * - 소유권이 없어진 뒤 부모 행에 가용 재고가 부족하면 반영하지 않고 해당 라인을 FAILED로 기록 (초과 예약 방지)
+     *   → 이미 성공 응답한 예약이므로 라인별 예약 실패 이벤트를 발행해 주문 측에서 보상 처리
+     * - 예약 이벤트와 만료 추적은 실제 반영된 라인 기준
+     *
+     * @return 새로 반영된 라인 수
+     */
+    @Transactional
+    public int recordFlashSaleReservations(String ownerId, List<StockReservation> lines) {
+        List<StockReservation> inserted = stockReservationRepository.saveAllIfAbsent(lines);
+        if (inserted.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Integer> quantityByInventory = inserted.stream()
+                .collect(Collectors.groupingBy(
+                        StockReservation::getInventoryId, TreeMap::new, Collectors.summingInt(StockReservation::getQuantity)));
+
+        Map<String, StockSnapshot> snapshots = new HashMap<>();
+        quantityByInventory.forEach((inventoryId, quantity) ->
+                flashSaleRepository.applyReserved(inventoryId, ownerId, quantity)
+                        .ifPresent(snapshot -> snapshots.put(inventoryId, snapshot)));
+        availabilityCache.evictSnapshots(snapshots.values());
+
+        Map<Boolean, List<StockReservation>> byApplied = inserted.stream()
+                .collect(Collectors.partitioningBy(line -> snapshots.containsKey(line.getInventoryId())));
+        List<StockReservation> applied = byApplied.get(true);
+        List<StockReservation> failed = byApplied.get(false);
+
+        if (!failed.isEmpty()) {
+            stockReservationRepository.updateStatus(
+                    failed.stream().map(StockReservation::getReservationLineId).toList(), ReservationStatus.FAILED);
+            publishReservationFailedEvents(failed, "FLASH_SALE_STOCK_UNAVAILABLE");
+            log.error("플래시 세일 예약 반영 실패 - 가용 재고 부족 또는 삭제된 재고: reservationIds={}, lines={}",
+                    failed.stream().map(StockReservation::getReservationId).collect(Collectors.toSet()), failed.size());
+        }
+
+        for (StockReservation line : applied) {
+            StockSnapshot snapshot = snapshots.get(line.getInventoryId());
+            eventPublisher.publishInventoryReserved(InventoryReservedEventData.of(
+                    line.getInventoryId(),
+                    line.getProductId(),
+                    line.getHubId(),
+                    line.getOrderId(),
+                    line.getQuantity(),
+                    snapshot.getAvailableQuantity()
+            ));
+        }
+        snapshots.values().forEach(this::checkAndPublishLowStockEvent);
+
+        applied.stream()
+                .collect(Collectors.toMap(
+                        StockReservation::getReservationId, StockReservation::getExpiresAt, (a, b) -> a.isBefore(b) ? a : b))
+                .forEach(reservationExpiryTracker::track);
+
+        log.info("플래시 세일 예약 반영: lines={}, failed={}, inventories={}",
+                applied.size(), failed.size(), quantityByInventory.size());
+        return applied.size();
+    }
+
+    /**
+     * 반영을 포기한 플래시 세일 예약의 실패 이벤트 발행 (격리된 묶음)
+     * - 원장에 저장되지 않은 라인이므로 이벤트만 발행
+     */
+    @Transactional
+    public void publishFlashSaleReservationFailures(List<StockReservation> lines, String reason) {
+        publishReservationFailedEvents(lines, reason);
+    }
+
+    private void publishReservationFailedEvents(List<StockReservation> lines, String reason) {
+        for (StockReservation line : lines) {
+            eventPublisher.publishInventoryReservationFailed(InventoryReservationFailedEventData.of(
+                    line.getReservationId(),
+                    line.getInventoryId(),
+                    line.getProductId(),
+                    line.getHubId(),
+                    line.getOrderId(),
+                    line.getQuantity(),
+                    reason
+            ));
+        }
+    }
+
+    /**
+     * 재고 부족 이벤트 체크 및 발행 헬퍼 (조건부 UPDATE 결과용)
+     */
+    private void checkAndPublishLowStockEvent(StockSnapshot snapshot) {
+        if (snapshot.isBelowSafetyStock()) {
+            log.warn("안전 재고 이하 감지: inventoryId={}", snapshot.getInventoryId());
+
+            InventoryLowStockEventData eventData = InventoryLowStockEventData.of(
+                    snapshot.getInventoryId(),
+                    snapshot.getProductId(),
+                    snapshot.getHubId(),
+                    snapshot.getQuantityInHub(),
+                    snapshot.getSafetyStock()
+            );
+            eventPublisher.publishInventoryLowStock(eventData);
+        }
+    }
+}
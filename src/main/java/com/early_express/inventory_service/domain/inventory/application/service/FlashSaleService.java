@@ -0,0 +1,240 @@
+package com.early_express.inventory_service.domain.inventory.application.service;
+
+import com.early_express.inventory_service.domain.inventory.application.cache.AvailabilityCache;
+import com.early_express.inventory_service.domain.inventory.application.dto.command.ReservationCommand;
+import com.early_express.inventory_service.domain.inventory.application.dto.result.FlashSaleInfo;
+import com.early_express.inventory_service.domain.inventory.application.dto.result.ReservationInfo;
+import com.early_express.inventory_service.domain.inventory.application.flashsale.FlashSaleCounter;
+import com.early_express.inventory_service.domain.inventory.application.flashsale.FlashSaleRegistry;
+import com.early_express.inventory_service.domain.inventory.application.flashsale.FlashSaleWriteBehind;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryErrorCode;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryException;
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.FlashSaleState;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.HubAllocation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationTtlPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.FlashSaleRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryRepository;
+import com.early_express.inventory_service.global.common.utils.UuidUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 플래시 세일 Application Service
+ * - 플래시 세일 재고는 시작한 노드(소유 노드)가 메모리 카운터로 예약을 결정 (행 잠금 없음)
+ * - 예약 라인은 로컬 저널 기록 후 응답하고 FlashSaleWriteBehind가 수 ms 단위로 모아 DB에 반영
+ * - 다른 노드로 들어온 예약은 프레젠테이션 계층에서 소유 노드로 전달
+ * - 카운터로 처리할 수 없는 요청(허브 미지정, 일반 재고 혼합, 카운터 소진)은 일반 예약 경로로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FlashSaleService {
+
+    private final FlashSaleRepository flashSaleRepository;
+    private final InventoryRepository inventoryRepository;
+    private final FlashSaleRegistry flashSaleRegistry;
+    private final FlashSaleWriteBehind flashSaleWriteBehind;
+    private final AvailabilityCache availabilityCache;
+    private final ReservationTtlPolicy reservationTtlPolicy;
+
+    /**
+     * 플래시 세일 시작 - 이 노드가 소유 노드가 되어 가용 수량 전체를 메모리 카운터로 가져옴
+     */
+    @Transactional
+    public FlashSaleInfo startFlashSale(String inventoryId) {
+        log.info("플래시 세일 시작: inventoryId={}, owner={}", inventoryId, flashSaleRegistry.getInstanceId());
+
+        FlashSaleState state = flashSaleRepository
+                .activate(inventoryId, flashSaleRegistry.getInstanceId(), flashSaleRegistry.getAdvertisedUrl())
+                .orElseThrow(() -> startFailure(inventoryId));
+
+        availabilityCache.evict(state.getKey());
+        afterCommit(() -> flashSaleRegistry.open(state));
+
+        log.info("플래시 세일 시작 완료: inventoryId={}, allotted={}", inventoryId, state.getAllottedQuantity());
+
+        return FlashSaleInfo.of(state, state.getAvailableQuantity());
+    }
+
+    /**
+     * 플래시 세일 종료
+     * - 소유 노드: 카운터를 닫고 대기 중인 예약을 모두 반영한 뒤 남은 배정 수량을 부모 행으로 반환
+     * - force: 소유 노드가 없어진 경우 다른 노드에서 강제 종료 (소유 노드의 미반영 저널은 재시작 시 부모 행에 반영)
+     *   소유 노드가 살아 있더라도 다음 목록 갱신 또는 임대 만료 시 카운터 예약을 멈추고,
+     *   그 사이 나간 예약은 부모 행 가용 재고 안에서만 반영 (부족하면 FAILED + 예약 실패 이벤트)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FlashSaleInfo stopFlashSale(String inventoryId, boolean force) {
+        FlashSaleState state = flashSaleRepository.findByInventoryId(inventoryId)
+                .orElseThrow(() -> new InventoryException(InventoryErrorCode.FLASH_SALE_NOT_ACTIVE));
+
+        boolean owner = flashSaleRegistry.isOwner(state);
+        if (!owner && !force) {
+            throw new InventoryException(
+                    InventoryErrorCode.FLASH_SALE_NOT_OWNER,
+                    String.format("소유 노드에서 종료하거나 force=true로 강제 종료하세요. owner=%s, ownerUrl=%s",
+                            state.getOwnerId(), state.getOwnerUrl())
+            );
+        }
+
+        log.info("플래시 세일 종료: inventoryId={}, owner={}, force={}", inventoryId, owner, force);
+
+        if (owner) {
+            flashSaleRegistry.close(state.getKey());
+            if (!flashSaleWriteBehind.flush()) {
+                throw new InventoryException(
+                        InventoryErrorCode.INVENTORY_UPDATE_FAILED,
+                        "대기 중인 플래시 세일 예약을 반영하지 못했습니다. 잠시 후 다시 시도하세요."
+                );
+            }
+        }
+
+        StockSnapshot snapshot = flashSaleRepository.deactivate(inventoryId, force ? null : state.getOwnerId())
+                .orElseThrow(() -> new InventoryException(InventoryErrorCode.FLASH_SALE_NOT_ACTIVE));
+        flashSaleRegistry.close(state.getKey());
+        availabilityCache.evictSnapshots(List.of(snapshot));
+
+        log.info("플래시 세일 종료 완료: inventoryId={}, available={}", inventoryId, snapshot.getAvailableQuantity());
+
+        return FlashSaleInfo.stopped(state);
+    }
+
+    /**
+     * 플래시 세일 상태 조회
+     */
+    public FlashSaleInfo getFlashSale(String inventoryId) {
+        FlashSaleState state = flashSaleRepository.findByInventoryId(inventoryId)
+                .orElseThrow(() -> new InventoryException(InventoryErrorCode.FLASH_SALE_NOT_ACTIVE));
+
+        Integer counterAvailable = flashSaleRegistry.localCounter(state.getKey())
+                .map(FlashSaleCounter::getAvailable)
+                .orElse(null);
+        return FlashSaleInfo.of(state, counterAvailable);
+    }
+
+    /**
+     * 메모리 카운터 예약 (소유 노드)
+     * - 모든 라인이 이 노드가 소유한 플래시 세일 재고(허브 지정)일 때만 처리
+     * - 한 라인이라도 카운터가 부족하면 차감한 라인을 되돌리고 빈 Optional (일반 경로에서 부모 행 잔여분으로 재시도)
+     * - 소유권 임대가 끝난 카운터나 반영 대기 라인이 상한에 이른 경우도 일반 경로로 처리
+     * - DB 연결을 사용하지 않음 (트랜잭션 없음)
+     *
+     * @return 예약 결과, 카운터로 처리할 수 없으면 빈 Optional
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<ReservationInfo> tryReserve(ReservationCommand command) {
+        if (!flashSaleWriteBehind.isAccepting()) {
+            return Optional.empty();
+        }
+
+        List<ReservationCommand.ReservationItem> items = command.getItems();
+        List<FlashSaleCounter> counters = new ArrayList<>(items.size());
+
+        for (ReservationCommand.ReservationItem item : items) {
+            if (item.getHubId() == null || item.getQuantity() == null || item.getQuantity() <= 0) {
+                return Optional.empty();
+            }
+            Optional<FlashSaleCounter> counter =
+                    flashSaleRegistry.localCounter(InventoryKey.of(item.getProductId(), item.getHubId()));
+            if (counter.isEmpty()) {
+                return Optional.empty();
+            }
+            counters.add(counter.get());
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            if (!counters.get(i).tryReserve(items.get(i).getQuantity())) {
+                restore(counters, items, i);
+                return Optional.empty();
+            }
+        }
+
+        String reservationId = UuidUtils.generate();
+        LocalDateTime expiresAt = reservationTtlPolicy.expiresAt(LocalDateTime.now());
+
+        List<StockReservation> lines = new ArrayList<>(items.size());
+        List<ReservationInfo.ReservedItemInfo> reservedItems = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            ReservationCommand.ReservationItem item = items.get(i);
+            lines.add(StockReservation.createWithLineId(
+                    UuidUtils.generate(),
+                    reservationId,
+                    command.getOrderId(),
+                    counters.get(i).getInventoryId(),
+                    item.getProductId(),
+                    item.getHubId(),
+                    item.getQuantity(),
+                    expiresAt
+            ));
+            reservedItems.add(ReservationInfo.ReservedItemInfo.builder()
+                    .productId(item.getProductId())
+                    .hubId(item.getHubId())
+                    .quantity(item.getQuantity())
+                    .success(true)
+                    .allocations(List.of(HubAllocation.of(item.getHubId(), item.getQuantity())))
+                    .build());
+        }
+
+        try {
+            flashSaleWriteBehind.submit(lines);
+        } catch (IOException e) {
+            log.error("플래시 세일 저널 기록 실패 - 일반 경로로 처리: orderId={}, error={}",
+                    command.getOrderId(), e.getMessage(), e);
+            restore(counters, items, items.size());
+            return Optional.empty();
+        }
+
+        return Optional.of(ReservationInfo.builder()
+                .reservationId(reservationId)
+                .orderId(command.getOrderId())
+                .expiresAt(expiresAt)
+                .allSuccess(true)
+                .reservedItems(reservedItems)
+                .build());
+    }
+
+    private void restore(List<FlashSaleCounter> counters, List<ReservationCommand.ReservationItem> items, int count) {
+        for (int i = 0; i < count; i++) {
+            counters.get(i).add(items.get(i).getQuantity());
+        }
+    }
+
+    private InventoryException startFailure(String inventoryId) {
+        if (flashSaleRepository.findByInventoryId(inventoryId).isPresent()) {
+            return new InventoryException(InventoryErrorCode.FLASH_SALE_CONFLICT, "이미 플래시 세일 중인 재고입니다.");
+        }
+        if (inventoryRepository.existsById(inventoryId)) {
+            return new InventoryException(
+                    InventoryErrorCode.FLASH_SALE_CONFLICT, "샤드 모드 재고는 플래시 세일을 시작할 수 없습니다.");
+        }
+        return new InventoryException(InventoryErrorCode.INVENTORY_NOT_FOUND);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
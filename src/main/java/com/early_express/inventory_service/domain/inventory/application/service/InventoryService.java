@@ -1,28 +1,58 @@
 package com.early_express.inventory_service.domain.inventory.application.service;
 
+import com.early_express.inventory_service.domain.inventory.application.cache.AvailabilityBatchLoader;
+import com.early_express.inventory_service.domain.inventory.application.cache.AvailabilityCache;
 import com.early_express.inventory_service.domain.inventory.application.dto.command.*;
 import com.early_express.inventory_service.domain.inventory.application.dto.result.*;
+import com.early_express.inventory_service.domain.inventory.application.reservation.ReservationExpiryTracker;
+import com.early_express.inventory_service.domain.inventory.application.shard.ShardedInventoryRegistry;
 import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryErrorCode;
 import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryException;
 import com.early_express.inventory_service.domain.inventory.domain.messaging.InventoryEventPublisher;
 import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.*;
 import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
-import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockQuantity;
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.AllocationPlan;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.HubAllocation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.HubSelectionPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InitialInventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryShardLayout;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventorySummary;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationTtlPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockLine;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.SplitAllocationPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.FlashSaleRepository;
 import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryShardRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.StockReservationRepository;
+import com.early_express.inventory_service.domain.inventory.application.retry.RetryOnConflict;
+import com.early_express.inventory_service.global.common.utils.UuidUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Inventory Application Service
  * - Application Layer DTO 사용
  * - EventData 패턴으로 이벤트 발행
+ * - 가용성 조회는 로컬 캐시 경유 (미스는 배치 로더로 묶어 조회), 재고 변경 시 해당 키 무효화
+ * - 재고 변경 명령은 동시 수정 충돌 시 새 트랜잭션으로 재시도 (@RetryOnConflict)
+ * - 예약은 카운터 변경과 함께 예약 원장에 기록 (해제·확정·만료는 ReservationSettlementService)
+ * - 샤드 모드 재고는 무작위 샤드 행에 예약하고 원장 라인에 샤드 번호 기록
  */
 @Slf4j
 @Service
@@ -32,6 +62,17 @@ public class InventoryService {
 
     private final InventoryRepository inventoryRepository;
     private final InventoryEventPublisher eventPublisher;
+    private final AvailabilityCache availabilityCache;
+    private final AvailabilityBatchLoader availabilityBatchLoader;
+    private final HubSelectionPolicy hubSelectionPolicy;
+    private final SplitAllocationPolicy splitAllocationPolicy;
+    private final StockReservationRepository stockReservationRepository;
+    private final ReservationTtlPolicy reservationTtlPolicy;
+    private final ReservationExpiryTracker reservationExpiryTracker;
+    private final InventoryShardRepository inventoryShardRepository;
+    private final ShardedInventoryRegistry shardedInventoryRegistry;
+    private final FlashSaleRepository flashSaleRepository;
+    private final ReservationSettlementService reservationSettlementService;
 
     private static final List<String> AVAILABLE_HUBS = Arrays.asList(
             "HUB-SEOUL", "HUB-BUSAN", "HUB-INCHEON", "HUB-DAEGU"
@@ -41,26 +82,34 @@ public class InventoryService {
 
     /**
      * 특정 허브에 초기 재고 생성
+     * - insert-if-absent 한 문장으로 생성 또는 기존 재고 반환 (동시 상품 생성 이벤트도 한 건만 생성)
+     * - 생성 이벤트는 실제로 INSERT 된 경우에만 발행
+     * - 삭제된 재고가 상품-허브 조합을 점유하면 일괄 생성과 같이 건너뜀 (삭제된 상품의 늦은 생성 이벤트를 재전달 없이 소비)
+     *
+     * @return 생성 또는 기존 재고, 삭제된 재고가 조합을 점유하면 빈 Optional
      */
     @Transactional
-    public Inventory createInitialInventory(String productId, String hubId) {
+    public Optional<Inventory> createInitialInventory(String productId, String hubId) {
         log.info("초기 재고 생성 시작: productId={}, hubId={}", productId, hubId);
 
-        if (inventoryRepository.existsByProductIdAndHubId(productId, hubId)) {
-            log.info("재고가 이미 존재함: productId={}, hubId={}", productId, hubId);
-            return inventoryRepository.findByProductIdAndHubId(productId, hubId)
-                    .orElseThrow(() -> new InventoryException(InventoryErrorCode.INVENTORY_NOT_FOUND));
+        Optional<InitialInventory> created = inventoryRepository.createIfAbsent(newInitialInventory(productId, hubId));
+        if (created.isEmpty()) {
+            log.warn("삭제된 재고가 상품-허브 조합을 점유하여 건너뜀: productId={}, hubId={}", productId, hubId);
+            return Optional.empty();
         }
 
-        Inventory inventory = Inventory.create(null, productId, hubId, 0, 10, "A-1-1");
-        Inventory savedInventory = inventoryRepository.save(inventory);
+        InitialInventory result = created.get();
+        if (!result.isCreated()) {
+            log.info("재고가 이미 존재함: productId={}, hubId={}", productId, hubId);
+            return Optional.of(result.getInventory());
+        }
 
         // 이벤트 발행 (EventData 사용)
-        publishInventoryCreatedEvent(savedInventory);
+        publishInventoryCreatedEvent(result.getInventory());
 
-        log.info("초기 재고 생성 완료: inventoryId={}", savedInventory.getInventoryId());
+        log.info("초기 재고 생성 완료: inventoryId={}", result.getInventory().getInventoryId());
 
-        return savedInventory;
+        return Optional.of(result.getInventory());
     }
 
     /**
@@ -68,55 +117,115 @@ public class InventoryService {
      */
     @Transactional
     public List<Inventory> createInitialInventories(String productId) {
-        log.info("모든 허브에 초기 재고 생성 시작: productId={}", productId);
+        return createInitialInventories(List.of(productId));
+    }
+
+    /**
+     * 여러 상품의 모든 허브에 초기 재고 일괄 생성
+     * - 상품 × 허브 행을 ID를 미리 생성해 배치 INSERT (이미 있거나 삭제된 재고가 점유한 조합은 건너뜀)
+     * - 이벤트는 새로 생성된 허브 재고를 묶어 상품당 1건 발행
+     */
+    @Transactional
+    public List<Inventory> createInitialInventories(Collection<String> productIds) {
+        log.info("모든 허브에 초기 재고 생성 시작: productCount={}", productIds.size());
 
-        List<Inventory> createdInventories = new ArrayList<>();
+        List<Inventory> createdInventories = insertInitialInventories(productIds.stream()
+                .distinct()
+                .flatMap(productId -> AVAILABLE_HUBS.stream().map(hubId -> InventoryKey.of(productId, hubId)))
+                .toList());
 
-        for (String hubId : AVAILABLE_HUBS) {
-            if (inventoryRepository.existsByProductIdAndHubId(productId, hubId)) {
-                log.info("재고가 이미 존재함: productId={}, hubId={}", productId, hubId);
-                continue;
-            }
+        // 이벤트 발행 (상품당 1건)
+        createdInventories.stream()
+                .collect(Collectors.groupingBy(Inventory::getProductId, LinkedHashMap::new, Collectors.toList()))
+                .forEach(this::publishInventoriesInitializedEvent);
 
-            Inventory inventory = Inventory.create(null, productId, hubId, 0, 10, "A-1-1");
-            Inventory savedInventory = inventoryRepository.save(inventory);
-            createdInventories.add(savedInventory);
+        return createdInventories;
+    }
 
-            // 이벤트 발행 (EventData 사용)
-            publishInventoryCreatedEvent(savedInventory);
+    /**
+     * 상품-허브 조합 목록에 초기 재고 일괄 생성 (상품 생성 이벤트 경로)
+     * - ID를 미리 생성해 배치 INSERT (이미 있거나 삭제된 재고가 점유한 조합은 건너뜀)
+     * - 이벤트는 단건 생성(createInitialInventory)과 같이 새로 생성된 행마다 InventoryCreated 발행
+     *   (컨슈머 처리 방식(단건/배치)과 무관하게 같은 이벤트)
+     */
+    @Transactional
+    public List<Inventory> createInitialInventoriesAt(Collection<InventoryKey> keys) {
+        List<Inventory> createdInventories = insertInitialInventories(keys);
 
-            log.info("초기 재고 생성 완료: inventoryId={}", savedInventory.getInventoryId());
-        }
+        // 이벤트 발행 (생성된 행마다)
+        createdInventories.forEach(this::publishInventoryCreatedEvent);
 
         return createdInventories;
     }
 
+    private List<Inventory> insertInitialInventories(Collection<InventoryKey> keys) {
+        List<Inventory> candidates = keys.stream()
+                .distinct()
+                .map(key -> newInitialInventory(key.getProductId(), key.getHubId()))
+                .toList();
+
+        List<Inventory> createdInventories = inventoryRepository.createAllIfAbsent(candidates);
+
+        log.info("초기 재고 생성 완료: created={}, skipped={}",
+                createdInventories.size(), candidates.size() - createdInventories.size());
+
+        return createdInventories;
+    }
+
+    /**
+     * 초기 재고 (수량 0, 안전 재고 10, 기본 위치) - ID는 INSERT 전에 미리 생성
+     */
+    private Inventory newInitialInventory(String productId, String hubId) {
+        return Inventory.create(UuidUtils.generate(), productId, hubId, 0, 10, "A-1-1");
+    }
+
     /**
      * 상품 삭제 시 재고 삭제
+     *
+     * @return 삭제된 재고 ID
      */
     @Transactional
-    public void deleteInventoriesByProduct(String productId) {
-        log.info("상품 재고 삭제 시작: productId={}", productId);
+    public List<String> deleteInventoriesByProduct(String productId) {
+        return deleteInventoriesByProducts(List.of(productId));
+    }
 
-        List<Inventory> inventories = inventoryRepository.findByProductId(productId);
-        inventories.forEach(inv -> inventoryRepository.delete(inv.getInventoryId()));
+    /**
+     * 여러 상품의 재고 일괄 삭제
+     * - 집합 기반 UPDATE 한 문장으로 소프트 삭제 (상품별 조회, 행별 재조회 없음)
+     * - 삭제된 행의 가용성 캐시 무효화
+     *
+     * @return 삭제된 재고 ID (이벤트 발행 등 후속 처리용)
+     */
+    @Transactional
+    public List<String> deleteInventoriesByProducts(Collection<String> productIds) {
+        log.info("상품 재고 삭제 시작: productCount={}", productIds.size());
+
+        List<StockSnapshot> deleted = inventoryRepository.softDeleteByProductIds(
+                productIds.stream().distinct().toList());
+        availabilityCache.evictAll(deleted.stream()
+                .map(snapshot -> InventoryKey.of(snapshot.getProductId(), snapshot.getHubId()))
+                .toList());
 
-        log.info("상품 재고 삭제 완료: productId={}, 삭제 개수={}", productId, inventories.size());
+        log.info("상품 재고 삭제 완료: productCount={}, 삭제 개수={}", productIds.size(), deleted.size());
+
+        return deleted.stream().map(StockSnapshot::getInventoryId).toList();
     }
 
     /**
      * 재입고
      */
     @Transactional
+    @RetryOnConflict("restock")
     public Inventory restock(RestockCommand command) {
         log.info("재입고 시작: productId={}, hubId={}, quantity={}",
                 command.getProductId(), command.getHubId(), command.getQuantity());
 
         Inventory inventory = getInventoryByProductAndHub(command.getProductId(), command.getHubId());
-        Integer previousQuantity = inventory.getQuantityInHub().getValue();
+        Integer previousQuantity = inventory.getQuantityInHubValue();
 
         inventory.restock(command.getQuantity());
         Inventory savedInventory = inventoryRepository.save(inventory);
+        evictAvailability(savedInventory);
 
         // 이벤트 발행 (EventData 사용)
         InventoryRestockedEventData eventData = InventoryRestockedEventData.of(
@@ -124,61 +233,82 @@ public class InventoryService {
                 savedInventory.getProductId(),
                 savedInventory.getHubId(),
                 command.getQuantity(),
-                savedInventory.getQuantityInHub().getValue()
+                savedInventory.getQuantityInHubValue()
         );
         eventPublisher.publishInventoryRestocked(eventData);
 
         log.info("재입고 완료: inventoryId={}, 이전={}, 현재={}",
-                savedInventory.getInventoryId(), previousQuantity, savedInventory.getQuantityInHub().getValue());
+                savedInventory.getInventoryId(), previousQuantity, savedInventory.getQuantityInHubValue());
 
-        return savedInventory;
+        return withEffectiveReserved(savedInventory);
     }
 
     /**
      * 재고 예약
-     * - hubId가 null이면 재고 있는 허브 자동 탐색
+     * - hubId가 null이면 재고 있는 허브 자동 탐색 (단일 허브로 부족하면 분할 배정)
+     * - allOrNothing이면 배치 1회로 전체 예약 (하나라도 부족하면 전부 롤백)
+     * - 예약된 허브별 배정은 예약 ID로 묶어 원장에 배치 INSERT 1회로 기록
+     * - 라인별로는 재고 부족 같은 InventoryException만 실패 결과로 담고, DB 오류는 전파 (트랜잭션 롤백 후 충돌 재시도)
      */
     @Transactional
+    @RetryOnConflict("reserve")
     public ReservationInfo reserveStock(ReservationCommand command) {
+        String reservationId = UuidUtils.generate();
+        LocalDateTime expiresAt = reservationTtlPolicy.expiresAt(LocalDateTime.now());
+
+        if (command.isAllOrNothing()) {
+            return reserveStockAllOrNothing(command, reservationId, expiresAt);
+        }
+
         log.info("재고 예약 시작: orderId={}, itemCount={}", command.getOrderId(), command.getItems().size());
 
         List<ReservationInfo.ReservedItemInfo> reservedItems = new ArrayList<>();
+        List<StockReservation> ledger = new ArrayList<>();
         boolean allSuccess = true;
 
         for (ReservationCommand.ReservationItem item : command.getItems()) {
             try {
-                String hubId = item.getHubId();
-
-                // hubId가 없으면 재고 있는 허브 자동 탐색
-                if (hubId == null || hubId.isBlank()) {
-                    hubId = findHubWithAvailableStock(item.getProductId(), item.getQuantity());
-                }
-
-                Inventory inventory = getInventoryByProductAndHub(item.getProductId(), hubId);
-                inventory.reserve(item.getQuantity());
-                inventoryRepository.save(inventory);
-
-                // 이벤트 발행
-                InventoryReservedEventData eventData = InventoryReservedEventData.of(
-                        inventory.getInventoryId(),
-                        inventory.getProductId(),
-                        inventory.getHubId(),
-                        command.getOrderId(),
-                        item.getQuantity(),
-                        inventory.getAvailableQuantity().getValue()
-                );
-                eventPublisher.publishInventoryReserved(eventData);
-
-                checkAndPublishLowStockEvent(inventory);
-
+                // 허브별 배정 수량 → 예약 후 스냅샷 (단일 허브면 1건, 분할 배정이면 여러 건)
+                Map<HubAllocation, StockSnapshot> reserved =
+                        reserveLine(item, allowSplit(command));
+                availabilityCache.evictSnapshots(reserved.values());
+
+                // 이벤트 발행 (허브별)
+                reserved.forEach((allocation, snapshot) -> {
+                    InventoryReservedEventData eventData = InventoryReservedEventData.of(
+                            snapshot.getInventoryId(),
+                            snapshot.getProductId(),
+                            snapshot.getHubId(),
+                            command.getOrderId(),
+                            allocation.getQuantity(),
+                            snapshot.getAvailableQuantity()
+                    );
+                    eventPublisher.publishInventoryReserved(eventData);
+
+                    checkAndPublishLowStockEvent(snapshot);
+
+                    ledger.add(StockReservation.create(
+                            reservationId,
+                            command.getOrderId(),
+                            snapshot.getInventoryId(),
+                            snapshot.getProductId(),
+                            snapshot.getHubId(),
+                            snapshot.getShardNo(),
+                            allocation.getQuantity(),
+                            expiresAt
+                    ));
+                });
+
+                List<HubAllocation> allocations = List.copyOf(reserved.keySet());
                 reservedItems.add(ReservationInfo.ReservedItemInfo.builder()
                         .productId(item.getProductId())
-                        .hubId(hubId)  // 실제 예약된 허브 ID 반환
+                        .hubId(allocations.get(0).getHubId())  // 실제 예약된 허브 ID 반환 (분할 시 첫 번째 허브)
                         .quantity(item.getQuantity())
                         .success(true)
+                        .allocations(allocations)
                         .build());
 
-            } catch (Exception e) {
+            } catch (InventoryException e) {
                 log.error("재고 예약 실패: productId={}, error={}", item.getProductId(), e.getMessage());
                 allSuccess = false;
 
@@ -192,48 +322,574 @@ public class InventoryService {
             }
         }
 
-        log.info("재고 예약 완료: orderId={}, allSuccess={}", command.getOrderId(), allSuccess);
+        recordReservation(ledger);
+
+        log.info("재고 예약 완료: orderId={}, reservationId={}, allSuccess={}",
+                command.getOrderId(), ledger.isEmpty() ? null : reservationId, allSuccess);
 
         return ReservationInfo.builder()
+                .reservationId(ledger.isEmpty() ? null : reservationId)
                 .orderId(command.getOrderId())
+                .expiresAt(ledger.isEmpty() ? null : expiresAt)
                 .allSuccess(allSuccess)
                 .reservedItems(reservedItems)
                 .build();
     }
 
     /**
-     * 재고가 있는 허브 자동 탐색
+     * 같은 재고에 동시에 들어온 단일 라인 예약 묶음 처리 (ReservationCombiner 전용)
+     * - 합계 수량으로 조건부 UPDATE 1회 → 성공하면 묶음 전체 예약 (N번의 행 잠금 → 1번)
+     * - 합계가 부족하면 도착 순서대로 한 건씩 조건부 예약 (앞선 요청 우선, 이미 잡은 행 잠금 안에서 실행)
+     * - 원장은 요청별 예약 ID로 배치 INSERT 1회, 이벤트·만료 추적은 요청별
+     * - 실패한 요청은 예약한 수량이 없으므로 롤백 없이 실패 결과만 반환 (전체 예약 모드면 부족 수량 포함)
+     *
+     * @param commands 같은 상품-허브의 단일 라인 예약 (도착 순서)
+     * @return 요청 순서대로 예약 결과
      */
-    private String findHubWithAvailableStock(String productId, Integer requiredQuantity) {
-        log.info("재고 있는 허브 탐색: productId={}, requiredQuantity={}", productId, requiredQuantity);
+    @Transactional
+    @RetryOnConflict("reserve")
+    public List<ReservationInfo> reserveCombined(List<ReservationCommand> commands) {
+        ReservationCommand.ReservationItem head = commands.get(0).getItems().get(0);
+        String productId = head.getProductId();
+        String hubId = head.getHubId();
+        int total = commands.stream().mapToInt(command -> command.getItems().get(0).getQuantity()).sum();
+
+        log.info("재고 예약 묶음 시작: productId={}, hubId={}, requests={}, totalQuantity={}",
+                productId, hubId, commands.size(), total);
+
+        // 요청별 예약 후 스냅샷 (실패한 요청은 null)
+        StockSnapshot[] reserved = new StockSnapshot[commands.size()];
+        Optional<StockSnapshot> combined = reserveOnHub(productId, hubId, total);
+        if (combined.isPresent()) {
+            // 합계 예약 후 값에서 뒤 요청 수량을 되돌려 요청별 예약 직후 값 계산
+            StockSnapshot last = combined.get();
+            int after = 0;
+            for (int i = commands.size() - 1; i >= 0; i--) {
+                reserved[i] = last.toBuilder().reservedQuantity(last.getReservedQuantity() - after).build();
+                after += commands.get(i).getItems().get(0).getQuantity();
+            }
+        } else {
+            for (int i = 0; i < commands.size(); i++) {
+                reserved[i] = reserveOnHub(productId, hubId, commands.get(i).getItems().get(0).getQuantity())
+                        .orElse(null);
+            }
+        }
+
+        LocalDateTime expiresAt = reservationTtlPolicy.expiresAt(LocalDateTime.now());
+        List<StockReservation> ledger = new ArrayList<>(commands.size());
+        List<ReservationInfo> results = new ArrayList<>(commands.size());
+        StockSnapshot latest = null;
+        Optional<StockSnapshot> current = Optional.empty();  // 실패 메시지용 현재 값 (실패가 있을 때만 1회 조회)
+        boolean currentLoaded = false;
+
+        for (int i = 0; i < commands.size(); i++) {
+            ReservationCommand command = commands.get(i);
+            ReservationCommand.ReservationItem item = command.getItems().get(0);
+            StockSnapshot snapshot = reserved[i];
+
+            if (snapshot == null) {
+                if (!currentLoaded) {
+                    current = inventoryRepository.findSnapshots(Set.of(InventoryKey.of(productId, hubId)))
+                            .stream().findFirst();
+                    currentLoaded = true;
+                }
+                results.add(combinedFailure(command, item, current));
+                continue;
+            }
+
+            String reservationId = UuidUtils.generate();
+            ledger.add(StockReservation.create(
+                    reservationId,
+                    command.getOrderId(),
+                    snapshot.getInventoryId(),
+                    productId,
+                    hubId,
+                    snapshot.getShardNo(),
+                    item.getQuantity(),
+                    expiresAt
+            ));
+            eventPublisher.publishInventoryReserved(InventoryReservedEventData.of(
+                    snapshot.getInventoryId(),
+                    productId,
+                    hubId,
+                    command.getOrderId(),
+                    item.getQuantity(),
+                    snapshot.getAvailableQuantity()
+            ));
+            latest = snapshot;
+
+            results.add(ReservationInfo.builder()
+                    .reservationId(reservationId)
+                    .orderId(command.getOrderId())
+                    .expiresAt(expiresAt)
+                    .allSuccess(true)
+                    .reservedItems(List.of(ReservationInfo.ReservedItemInfo.builder()
+                            .productId(productId)
+                            .hubId(hubId)
+                            .quantity(item.getQuantity())
+                            .success(true)
+                            .allocations(List.of(HubAllocation.of(hubId, item.getQuantity())))
+                            .build()))
+                    .build());
+        }
+
+        if (latest != null) {
+            availabilityCache.evictSnapshots(List.of(latest));
+            checkAndPublishLowStockEvent(latest);
+        }
+        if (!ledger.isEmpty()) {
+            stockReservationRepository.saveAll(ledger);
+            ledger.forEach(line -> reservationExpiryTracker.track(line.getReservationId(), line.getExpiresAt()));
+        }
+
+        log.info("재고 예약 묶음 완료: productId={}, hubId={}, requests={}, reserved={}, combined={}",
+                productId, hubId, commands.size(), ledger.size(), combined.isPresent());
+
+        return results;
+    }
+
+    /**
+     * 묶음 예약에서 실패한 요청의 결과 (예약 1건 경로와 같은 오류 메시지)
+     */
+    private ReservationInfo combinedFailure(
+            ReservationCommand command, ReservationCommand.ReservationItem item, Optional<StockSnapshot> current) {
+        String errorMessage = current
+                .map(snapshot -> String.format("요청 수량: %d, 가용 재고: %d",
+                        item.getQuantity(), snapshot.getAvailableQuantity()))
+                .orElseGet(() -> String.format("재고를 찾을 수 없습니다. productId=%s, hubId=%s",
+                        item.getProductId(), item.getHubId()));
+        Integer shortfall = command.isAllOrNothing()
+                ? item.getQuantity() - current.map(snapshot -> Math.max(snapshot.getAvailableQuantity(), 0)).orElse(0)
+                : null;
+
+        return ReservationInfo.builder()
+                .orderId(command.getOrderId())
+                .allSuccess(false)
+                .reservedItems(List.of(ReservationInfo.ReservedItemInfo.builder()
+                        .productId(item.getProductId())
+                        .hubId(item.getHubId())
+                        .quantity(item.getQuantity())
+                        .success(false)
+                        .errorMessage(errorMessage)
+                        .shortfallQuantity(shortfall)
+                        .build()))
+                .build();
+    }
+
+    /**
+     * 전체 예약 모드 (All-or-Nothing)
+     * - 모든 라인을 재고 키 순으로 정렬해 JDBC 배치 1회로 조건부 예약
+     * - 배치에서 실패한 라인은 샤드 모드 재고일 수 있으므로 샤드 행 예약을 한 번 더 시도
+     * - 결과 스냅샷은 IN 조회 1회로 확인
+     * - 하나라도 실패하면 트랜잭션을 롤백 전용으로 표시하고 라인별 부족 수량 반환
+     */
+    private ReservationInfo reserveStockAllOrNothing(
+            ReservationCommand command, String reservationId, LocalDateTime expiresAt) {
+        log.info("전체 예약 시작: orderId={}, itemCount={}", command.getOrderId(), command.getItems().size());
+
+        List<ReservationCommand.ReservationItem> items = command.getItems();
+        List<StockLine> lines = new ArrayList<>(items.size());
+        Map<Integer, String> resolveErrors = new HashMap<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            ReservationCommand.ReservationItem item = items.get(i);
+            validateReserveQuantity(item.getQuantity());
 
-        List<Inventory> inventories = inventoryRepository.findByProductId(productId);
+            String hubId = item.getHubId();
+            if (isBlank(hubId)) {
+                try {
+                    hubId = findHubWithAvailableStock(item.getProductId(), item.getQuantity());
+                } catch (InventoryException e) {
+                    resolveErrors.put(i, e.getMessage());
+                }
+            }
+            lines.add(StockLine.of(item.getProductId(), hubId, item.getQuantity()));
+        }
+
+        List<StockLine> executable = lines.stream()
+                .filter(line -> !isBlank(line.getHubId()))
+                .toList();
+        boolean[] executed = inventoryRepository.reserveAll(executable);
 
-        for (Inventory inventory : inventories) {
-            if (inventory.getAvailableQuantity().getValue() >= requiredQuantity) {
-                log.info("재고 있는 허브 발견: hubId={}, available={}",
-                        inventory.getHubId(), inventory.getAvailableQuantity().getValue());
-                return inventory.getHubId();
+        boolean[] reserved = new boolean[lines.size()];
+        for (int i = 0, e = 0; i < lines.size(); i++) {
+            if (!resolveErrors.containsKey(i)) {
+                reserved[i] = executed[e++];
             }
         }
+        Integer[] shardNos = reserveFailedOnShards(lines, reserved, resolveErrors);
+
+        Map<InventoryKey, StockSnapshot> snapshots = new HashMap<>();
+        inventoryRepository.findSnapshots(executable.stream().map(StockLine::getKey).collect(Collectors.toSet()))
+                .forEach(snapshot -> snapshots.put(
+                        InventoryKey.of(snapshot.getProductId(), snapshot.getHubId()), snapshot));
+        availabilityCache.evictSnapshots(snapshots.values());
+
+        boolean allSuccess = true;
+        for (boolean result : reserved) {
+            allSuccess &= result;
+        }
+
+        if (!allSuccess) {
+            markRollbackOnly();
+            log.warn("전체 예약 실패 - 롤백: orderId={}", command.getOrderId());
+            return buildAllOrNothingFailure(command.getOrderId(), lines, reserved, resolveErrors, snapshots);
+        }
+
+        List<ReservationInfo.ReservedItemInfo> reservedItems = new ArrayList<>(lines.size());
+        List<StockReservation> ledger = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            StockLine line = lines.get(i);
+            StockSnapshot snapshot = snapshots.get(line.getKey());
+
+            ledger.add(StockReservation.create(
+                    reservationId,
+                    command.getOrderId(),
+                    snapshot.getInventoryId(),
+                    line.getProductId(),
+                    line.getHubId(),
+                    shardNos[i],
+                    line.getQuantity(),
+                    expiresAt
+            ));
+
+            eventPublisher.publishInventoryReserved(InventoryReservedEventData.of(
+                    snapshot.getInventoryId(),
+                    snapshot.getProductId(),
+                    snapshot.getHubId(),
+                    command.getOrderId(),
+                    line.getQuantity(),
+                    snapshot.getAvailableQuantity()
+            ));
+
+            reservedItems.add(ReservationInfo.ReservedItemInfo.builder()
+                    .productId(line.getProductId())
+                    .hubId(line.getHubId())
+                    .quantity(line.getQuantity())
+                    .success(true)
+                    .allocations(List.of(HubAllocation.of(line.getHubId(), line.getQuantity())))
+                    .build());
+        }
+        snapshots.values().forEach(this::checkAndPublishLowStockEvent);
+        recordReservation(ledger);
+
+        log.info("전체 예약 완료: orderId={}, reservationId={}, itemCount={}",
+                command.getOrderId(), reservationId, lines.size());
+
+        return ReservationInfo.builder()
+                .reservationId(reservationId)
+                .orderId(command.getOrderId())
+                .expiresAt(expiresAt)
+                .allSuccess(true)
+                .reservedItems(reservedItems)
+                .build();
+    }
+
+    /**
+     * 배치 조건부 예약에서 실패한 라인을 샤드 행으로 재시도
+     * - reserveAll과 같은 InventoryKey 순서로 잠가 동시 전체 예약 주문 간 교착 방지 (샤드 잠금 대기 재시도 포함)
+     * - 한 라인이라도 샤드로도 부족하면 어차피 전체 롤백이므로 이후 라인은 시도하지 않음
+     *
+     * @return 라인별 예약된 샤드 번호 (부모 행 예약이면 null)
+     */
+    private Integer[] reserveFailedOnShards(List<StockLine> lines, boolean[] reserved, Map<Integer, String> resolveErrors) {
+        Integer[] shardNos = new Integer[lines.size()];
+        List<Integer> failed = IntStream.range(0, lines.size())
+                .filter(i -> !reserved[i] && !resolveErrors.containsKey(i))
+                .boxed()
+                .sorted(Comparator.comparing(i -> lines.get(i).getKey()))
+                .toList();
+
+        for (int i : failed) {
+            StockLine line = lines.get(i);
+            Optional<StockSnapshot> sharded =
+                    inventoryShardRepository.reserve(line.getProductId(), line.getHubId(), line.getQuantity());
+            if (sharded.isEmpty()) {
+                break;
+            }
+            reserved[i] = true;
+            shardNos[i] = sharded.get().getShardNo();
+        }
+        return shardNos;
+    }
+
+    /**
+     * 전체 예약 실패 결과 생성 (라인별 부족 수량 포함)
+     */
+    private ReservationInfo buildAllOrNothingFailure(
+            String orderId,
+            List<StockLine> lines,
+            boolean[] reserved,
+            Map<Integer, String> resolveErrors,
+            Map<InventoryKey, StockSnapshot> snapshots) {
+
+        List<ReservationInfo.ReservedItemInfo> items = new ArrayList<>(lines.size());
+
+        for (int i = 0; i < lines.size(); i++) {
+            StockLine line = lines.get(i);
+            StockSnapshot snapshot = snapshots.get(line.getKey());
+
+            String errorMessage;
+            int shortfall = 0;
+            if (resolveErrors.containsKey(i)) {
+                errorMessage = resolveErrors.get(i);
+                shortfall = line.getQuantity();
+            } else if (reserved[i]) {
+                errorMessage = "다른 상품의 재고 부족으로 주문 전체 예약이 취소되었습니다.";
+            } else if (snapshot == null) {
+                errorMessage = String.format("재고를 찾을 수 없습니다. productId=%s, hubId=%s",
+                        line.getProductId(), line.getHubId());
+                shortfall = line.getQuantity();
+            } else {
+                shortfall = line.getQuantity() - Math.max(snapshot.getAvailableQuantity(), 0);
+                errorMessage = String.format("요청 수량: %d, 가용 재고: %d",
+                        line.getQuantity(), snapshot.getAvailableQuantity());
+            }
+
+            items.add(ReservationInfo.ReservedItemInfo.builder()
+                    .productId(line.getProductId())
+                    .hubId(line.getHubId())
+                    .quantity(line.getQuantity())
+                    .success(false)
+                    .errorMessage(errorMessage)
+                    .shortfallQuantity(shortfall)
+                    .build());
+        }
+
+        return ReservationInfo.builder()
+                .orderId(orderId)
+                .allSuccess(false)
+                .reservedItems(items)
+                .build();
+    }
+
+    /**
+     * 현재 트랜잭션을 롤백 전용으로 표시
+     * - 예외 없이 결과를 반환하면서 배치로 반영된 라인을 모두 되돌리기 위해 사용
+     */
+    private void markRollbackOnly() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+    }
+
+    /**
+     * 예약 원장 기록 (배치 INSERT 1회) + 커밋 후 만료 추적 등록
+     */
+    private void recordReservation(List<StockReservation> ledger) {
+        if (ledger.isEmpty()) {
+            return;
+        }
+
+        stockReservationRepository.saveAll(ledger);
+
+        StockReservation first = ledger.get(0);
+        reservationExpiryTracker.track(first.getReservationId(), first.getExpiresAt());
+    }
+
+    /**
+     * 예약 수량 검증
+     */
+    private void validateReserveQuantity(Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new InventoryException(
+                    InventoryErrorCode.INVALID_QUANTITY,
+                    "예약 수량은 0보다 커야 합니다."
+            );
+        }
+    }
 
-        throw new InventoryException(
+    /**
+     * 조건부 UPDATE로 재고 예약
+     * - 실패 시에만 원인(재고 없음 / 가용 재고 부족) 확인을 위해 추가 조회 (가용 재고는 유효 값)
+     */
+    private StockSnapshot reserveOrThrow(String productId, String hubId, Integer quantity) {
+        validateReserveQuantity(quantity);
+
+        return reserveOnHub(productId, hubId, quantity)
+                .orElseThrow(() -> {
+                    StockSnapshot current = findSnapshot(productId, hubId);
+                    return new InventoryException(
+                            InventoryErrorCode.INSUFFICIENT_AVAILABLE_STOCK,
+                            String.format("요청 수량: %d, 가용 재고: %d",
+                                    quantity, current.getAvailableQuantity())
+                    );
+                });
+    }
+
+    /**
+     * 지정 허브 조건부 예약 (부모 행 / 샤드 행)
+     * - 샤드 모드 재고는 샤드 행 먼저, 일반 재고는 부모 행 먼저 시도
+     * - 레지스트리가 갱신 전이어도 반대쪽을 한 번 더 시도하므로 예약 가능한 재고를 놓치지 않음
+     */
+    private Optional<StockSnapshot> reserveOnHub(String productId, String hubId, int quantity) {
+        if (shardedInventoryRegistry.isSharded(InventoryKey.of(productId, hubId))) {
+            return inventoryShardRepository.reserve(productId, hubId, quantity)
+                    .or(() -> inventoryRepository.reserve(productId, hubId, quantity));
+        }
+        return inventoryRepository.reserve(productId, hubId, quantity)
+                .or(() -> inventoryShardRepository.reserve(productId, hubId, quantity));
+    }
+
+    /**
+     * 분할 예약 조각 해제 - 샤드에 예약된 조각이면 해당 샤드, 샤드가 재분배로 사라졌으면 부모 행
+     */
+    private Optional<StockSnapshot> releaseOnHub(
+            String inventoryId, String productId, String hubId, Integer shardNo, int quantity) {
+        if (shardNo != null) {
+            Optional<StockSnapshot> released = inventoryShardRepository.release(inventoryId, shardNo, quantity);
+            if (released.isPresent()) {
+                return released;
+            }
+        }
+        return inventoryRepository.release(productId, hubId, quantity);
+    }
+
+    /**
+     * 라인 1건 예약
+     * - hubId 지정: 조건부 UPDATE 한 번으로 가용 재고 검증 + 예약
+     * - hubId 없음: DB에서 정책 순서대로 허브를 골라 같은 문장에서 예약
+     * - 단일 허브로 부족하고 분할이 허용되면 여러 허브에 나눠 예약
+     *
+     * @return 허브별 배정 수량 → 예약 후 스냅샷 (배정 순서 유지)
+     */
+    private Map<HubAllocation, StockSnapshot> reserveLine(ReservationCommand.ReservationItem item, boolean allowSplit) {
+        String productId = item.getProductId();
+        Integer quantity = item.getQuantity();
+
+        if (!isBlank(item.getHubId())) {
+            StockSnapshot reserved = reserveOrThrow(productId, item.getHubId(), quantity);
+            return Map.of(HubAllocation.of(reserved.getHubId(), quantity), reserved);
+        }
+
+        if (!allowSplit) {
+            StockSnapshot reserved = reserveOnSelectedHubOrThrow(productId, quantity);
+            return Map.of(HubAllocation.of(reserved.getHubId(), quantity), reserved);
+        }
+
+        validateReserveQuantity(quantity);
+        Optional<StockSnapshot> single = inventoryRepository.reserveOnSelectedHub(productId, quantity, hubSelectionPolicy);
+        if (single.isPresent()) {
+            return Map.of(HubAllocation.of(single.get().getHubId(), quantity), single.get());
+        }
+
+        return reserveSplit(productId, quantity);
+    }
+
+    /**
+     * 다중 허브 분할 예약
+     * - 상품의 전체 허브 행을 한 번 조회해 메모리에서 계획 수립 (허브 수 최소 → 허브 우선순위)
+     * - 조각마다 조건부 UPDATE로 예약하며 잠금 순서를 고정하기 위해 hubId 순으로 실행
+     * - 계획 이후 재고가 바뀌어 한 조각이라도 실패하면 이미 예약한 조각을 해제하고 실패 처리
+     */
+    private Map<HubAllocation, StockSnapshot> reserveSplit(String productId, int quantity) {
+        List<StockSnapshot> snapshots = inventoryRepository.findSnapshotsByProduct(productId);
+
+        AllocationPlan plan = AllocationPlan.plan(productId, snapshots, quantity, splitAllocationPolicy.getHubPriority())
+                .orElseThrow(() -> new InventoryException(
+                        InventoryErrorCode.INSUFFICIENT_STOCK,
+                        String.format("전체 허브 재고로도 부족합니다. productId=%s, required=%d, available=%d",
+                                productId, quantity,
+                                snapshots.stream().mapToInt(s -> Math.max(s.getAvailableQuantity(), 0)).sum())
+                ));
+
+        List<HubAllocation> lockOrder = plan.getAllocations().stream()
+                .sorted(Comparator.comparing(HubAllocation::getHubId))
+                .toList();
+
+        Map<HubAllocation, StockSnapshot> reserved = new HashMap<>();
+        for (HubAllocation allocation : lockOrder) {
+            Optional<StockSnapshot> result =
+                    reserveOnHub(productId, allocation.getHubId(), allocation.getQuantity());
+            if (result.isEmpty()) {
+                compensateSplit(reserved);
+                throw new InventoryException(
+                        InventoryErrorCode.INSUFFICIENT_STOCK,
+                        String.format("분할 예약 중 재고가 변경되었습니다. productId=%s, hubId=%s, required=%d",
+                                productId, allocation.getHubId(), allocation.getQuantity())
+                );
+            }
+            reserved.put(allocation, result.get());
+        }
+
+        log.info("분할 예약 완료: productId={}, allocations={}", productId, plan.getAllocations());
+
+        Map<HubAllocation, StockSnapshot> ordered = new LinkedHashMap<>();
+        plan.getAllocations().forEach(allocation -> ordered.put(allocation, reserved.get(allocation)));
+        return ordered;
+    }
+
+    /**
+     * 분할 예약 보상 - 이미 예약한 조각 해제
+     */
+    private void compensateSplit(Map<HubAllocation, StockSnapshot> reserved) {
+        reserved.forEach((allocation, snapshot) ->
+                releaseOnHub(snapshot.getInventoryId(), snapshot.getProductId(), snapshot.getHubId(),
+                        snapshot.getShardNo(), allocation.getQuantity())
+                        .ifPresent(released -> availabilityCache.evictSnapshots(List.of(released))));
+    }
+
+    private boolean allowSplit(ReservationCommand command) {
+        return command.getAllowSplit() != null ? command.getAllowSplit() : splitAllocationPolicy.isEnabled();
+    }
+
+    /**
+     * 허브 자동 선택 + 조건부 예약
+     * - 허브 선택 정책 순서로 가용 재고가 충분한 허브를 DB에서 골라 같은 문장에서 예약
+     */
+    private StockSnapshot reserveOnSelectedHubOrThrow(String productId, Integer quantity) {
+        validateReserveQuantity(quantity);
+
+        StockSnapshot reserved = inventoryRepository.reserveOnSelectedHub(productId, quantity, hubSelectionPolicy)
+                .orElseThrow(() -> insufficientStockOnAnyHub(productId, quantity));
+
+        log.info("허브 자동 선택 예약: productId={}, hubId={}, available={}",
+                productId, reserved.getHubId(), reserved.getAvailableQuantity());
+
+        return reserved;
+    }
+
+    /**
+     * 재고가 있는 허브 자동 탐색 (허브 선택 정책 순서, 잠금 없음)
+     */
+    private String findHubWithAvailableStock(String productId, Integer requiredQuantity) {
+        log.info("재고 있는 허브 탐색: productId={}, requiredQuantity={}", productId, requiredQuantity);
+
+        return inventoryRepository.selectHub(productId, requiredQuantity, hubSelectionPolicy)
+                .orElseThrow(() -> insufficientStockOnAnyHub(productId, requiredQuantity));
+    }
+
+    private InventoryException insufficientStockOnAnyHub(String productId, Integer requiredQuantity) {
+        return new InventoryException(
                 InventoryErrorCode.INSUFFICIENT_STOCK,
                 String.format("재고가 충분한 허브를 찾을 수 없습니다. productId=%s, required=%d", productId, requiredQuantity)
         );
     }
 
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
     /**
-     * 예약 해제
+     * 예약 해제 (라인 단위)
+     * - 기존 API, 예약 ID / 주문 ID 기반 해제 사용 권장
+     * - 주문의 해당 상품·허브 원장 라인이 있으면 ReservationSettlementService 원장 경로로 해제 (샤드 라인 포함, 만료 추적 취소)
+     * - 원장 라인이 없는 예약(원장 도입 이전)만 카운터를 직접 변경
      */
     @Transactional
+    @RetryOnConflict("release")
     public Inventory releaseReservation(String productId, String hubId, Integer quantity, String orderId) {
         log.info("예약 해제: productId={}, hubId={}, quantity={}, orderId={}",
                 productId, hubId, quantity, orderId);
 
+        if (reservationSettlementService.releaseLedgerLines(productId, hubId, quantity, orderId)) {
+            return withEffectiveReserved(getInventoryByProductAndHub(productId, hubId));
+        }
+
         Inventory inventory = getInventoryByProductAndHub(productId, hubId);
         inventory.releaseReservation(quantity);
         Inventory savedInventory = inventoryRepository.save(inventory);
+        evictAvailability(savedInventory);
 
         // 이벤트 발행 (EventData 사용)
         StockRestoredEventData eventData = StockRestoredEventData.of(
@@ -242,7 +898,7 @@ public class InventoryService {
                 savedInventory.getHubId(),
                 orderId,
                 quantity,
-                savedInventory.getQuantityInHub().getValue()
+                savedInventory.getQuantityInHubValue()
         );
         eventPublisher.publishStockRestored(eventData);
 
@@ -252,16 +908,25 @@ public class InventoryService {
     }
 
     /**
-     * 출고 확정
+     * 출고 확정 (라인 단위)
+     * - 기존 API, 예약 ID / 주문 ID 기반 확정 사용 권장
+     * - 주문의 해당 상품·허브 원장 라인이 있으면 ReservationSettlementService 원장 경로로 확정 (샤드 라인 포함, 만료 추적 취소)
+     * - 원장 라인이 없는 예약(원장 도입 이전)만 카운터를 직접 변경
      */
     @Transactional
+    @RetryOnConflict("confirm")
     public Inventory confirmShipment(String productId, String hubId, Integer quantity, String orderId) {
         log.info("출고 확정: productId={}, hubId={}, quantity={}, orderId={}",
                 productId, hubId, quantity, orderId);
 
+        if (reservationSettlementService.confirmLedgerLines(productId, hubId, quantity, orderId)) {
+            return withEffectiveReserved(getInventoryByProductAndHub(productId, hubId));
+        }
+
         Inventory inventory = getInventoryByProductAndHub(productId, hubId);
         inventory.confirmShipment(quantity);
         Inventory savedInventory = inventoryRepository.save(inventory);
+        evictAvailability(savedInventory);
 
         // 이벤트 발행 (EventData 사용)
         StockDecreasedEventData eventData = StockDecreasedEventData.of(
@@ -270,7 +935,7 @@ public class InventoryService {
                 savedInventory.getHubId(),
                 orderId,
                 quantity,
-                savedInventory.getQuantityInHub().getValue()
+                savedInventory.getQuantityInHubValue()
         );
         eventPublisher.publishStockDecreased(eventData);
 
@@ -284,35 +949,72 @@ public class InventoryService {
 
     /**
      * 재고 조정
+     * - 하한은 유효 예약 수량 (샤드·플래시 미예약 배정분은 고객 예약이 아니므로 제외)
+     * - 샤드 배정분 아래로 줄이면 같은 트랜잭션에서 줄어든 수량으로 재분배 (잠근 부모 행 기준으로 다시 검증)
+     * - 플래시 세일 배정분은 다른 노드의 메모리 카운터가 쥐고 있어 줄일 수 없으므로 거부
      */
     @Transactional
+    @RetryOnConflict("adjust")
     public Inventory adjustInventory(String inventoryId, AdjustCommand command) {
         log.info("재고 조정: inventoryId={}, adjustment={}, reason={}",
                 inventoryId, command.getAdjustmentQuantity(), command.getReason());
 
         Inventory inventory = findById(inventoryId);
-        Integer previousQuantity = inventory.getQuantityInHub().getValue();
+        Integer previousQuantity = inventory.getQuantityInHubValue();
         int newQuantity = previousQuantity + command.getAdjustmentQuantity();
+        StockSnapshot snapshot = findSnapshot(inventory.getProductId(), inventory.getHubId());
+
+        inventory.adjust(newQuantity, snapshot.getReservedQuantity(), command.getReason());
+
+        boolean shrinksAllotment = newQuantity < inventory.getReservedQuantityValue();
+        if (shrinksAllotment && flashSaleRepository.findByInventoryId(inventoryId).isPresent()) {
+            throw new InventoryException(
+                    InventoryErrorCode.FLASH_SALE_CONFLICT,
+                    String.format("플래시 세일 배정 수량 아래로는 조정할 수 없습니다: 배정 포함 예약 %d, 요청 %d",
+                            inventory.getReservedQuantityValue(), newQuantity)
+            );
+        }
 
-        inventory.adjust(newQuantity, command.getReason());
         Inventory savedInventory = inventoryRepository.save(inventory);
+        if (shrinksAllotment) {
+            shrinkShardAllotment(inventoryId);
+        }
+        evictAvailability(savedInventory);
 
         log.info("재고 조정 완료: inventoryId={}", inventoryId);
 
-        return savedInventory;
+        return withEffectiveReserved(savedInventory);
+    }
+
+    /**
+     * 줄어든 재고 수량으로 샤드 재분배
+     * - 조정 전 스냅샷 이후 샤드 예약이 늘어 고객 예약 수량이 재고를 넘으면 롤백
+     */
+    private void shrinkShardAllotment(String inventoryId) {
+        InventoryShardLayout layout = inventoryShardRepository.rebalance(inventoryId)
+                .orElseThrow(() -> new InventoryException(InventoryErrorCode.INVENTORY_NOT_FOUND));
+        if (layout.getParentAvailable() < 0) {
+            throw new InventoryException(
+                    InventoryErrorCode.NEGATIVE_STOCK_NOT_ALLOWED,
+                    String.format("조정 후 수량이 예약 수량보다 적습니다: 부족 %d", -layout.getParentAvailable())
+            );
+        }
     }
 
     /**
      * 안전 재고 설정
      */
     @Transactional
+    @RetryOnConflict("safety-stock")
     public Inventory updateSafetyStock(String inventoryId, Integer safetyStock) {
         log.info("안전 재고 설정: inventoryId={}, safetyStock={}", inventoryId, safetyStock);
 
         Inventory inventory = findById(inventoryId);
         inventory.setSafetyStock(safetyStock);
+        Inventory savedInventory = inventoryRepository.save(inventory);
+        evictAvailability(savedInventory);
 
-        return inventoryRepository.save(inventory);
+        return savedInventory;
     }
 
     /**
@@ -330,32 +1032,36 @@ public class InventoryService {
 
     // ==================== 조회(Query) 메서드 ====================
 
+    /**
+     * 단건/상품별 조회는 예약 수량을 유효 값으로 맞춰 반환 (목록·가용성 조회와 같은 값)
+     */
     public Inventory getInventory(String inventoryId) {
-        return findById(inventoryId);
+        return withEffectiveReserved(findById(inventoryId));
     }
 
     public List<Inventory> getInventoriesByProduct(String productId) {
-        return inventoryRepository.findByProductId(productId);
+        return withEffectiveReserved(inventoryRepository.findByProductId(productId));
     }
 
-    public Page<Inventory> getInventoriesByHub(String hubId, int page, int size) {
+    /**
+     * 목록 조회는 읽기 모델(InventorySummary) 프로젝션 사용 - 엔티티 하이드레이션 없음
+     */
+    public Page<InventorySummary> getInventoriesByHub(String hubId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return inventoryRepository.findByHubIdWithPaging(hubId, pageable);
+        return inventoryRepository.findSummariesByHubId(hubId, pageable);
     }
 
-    public Page<Inventory> getAllInventories(int page, int size) {
+    public Page<InventorySummary> getAllInventories(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return inventoryRepository.findAllWithPaging(pageable);
+        return inventoryRepository.findSummaries(pageable);
     }
 
-    public List<Inventory> getOutOfStockInventories() {
-        return inventoryRepository.findAll().stream()
-                .filter(Inventory::isOutOfStock)
-                .toList();
+    public List<InventorySummary> getOutOfStockInventories() {
+        return inventoryRepository.findOutOfStockSummaries();
     }
 
-    public List<Inventory> getLowStockInventories() {
-        return inventoryRepository.findLowStock();
+    public List<InventorySummary> getLowStockInventories() {
+        return inventoryRepository.findLowStockSummaries();
     }
 
     public Inventory getInventoryByProductAndHub(String productId, String hubId) {
@@ -368,48 +1074,63 @@ public class InventoryService {
 
     /**
      * 재고 가용성 확인
+     * - 로컬 캐시 우선, 미스 시 배치 로더로 다른 요청의 미스와 묶어 수량 컬럼만 조회해 적재
+     * - 같은 키를 조회 중인 요청이 있으면 새로 조회하지 않고 그 결과를 공유
+     * - 배치를 기다리는 동안 DB 연결을 잡지 않도록 트랜잭션 없이 실행
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AvailabilityInfo checkAvailability(String productId, String hubId) {
-        log.info("재고 가용성 확인: productId={}, hubId={}", productId, hubId);
-
-        try {
-            Inventory inventory = getInventoryByProductAndHub(productId, hubId);
-            StockQuantity available = inventory.getAvailableQuantity();
-
-            return AvailabilityInfo.builder()
-                    .productId(productId)
-                    .hubId(hubId)
-                    .isAvailable(!available.isZero())
-                    .availableQuantity(available.getValue())
-                    .reservedQuantity(inventory.getReservedQuantity().getValue())
-                    .totalQuantity(inventory.getQuantityInHub().getValue())
-                    .build();
-
-        } catch (InventoryException e) {
-            return AvailabilityInfo.builder()
-                    .productId(productId)
-                    .hubId(hubId)
-                    .isAvailable(false)
-                    .availableQuantity(0)
-                    .reservedQuantity(0)
-                    .totalQuantity(0)
-                    .error(e.getMessage())
-                    .build();
-        }
+        log.debug("재고 가용성 확인: productId={}, hubId={}", productId, hubId);
+
+        InventoryKey key = InventoryKey.of(productId, hubId);
+        return availabilityCache.getIfPresent(key)
+                .or(() -> loadSnapshot(key))
+                .map(this::toAvailabilityInfo)
+                .orElseGet(() -> AvailabilityInfo.builder()
+                        .productId(productId)
+                        .hubId(hubId)
+                        .isAvailable(false)
+                        .availableQuantity(0)
+                        .reservedQuantity(0)
+                        .totalQuantity(0)
+                        .error(String.format("재고를 찾을 수 없습니다. productId=%s, hubId=%s", productId, hubId))
+                        .build());
     }
 
     /**
      * 대량 재고 가용성 확인
+     * - 캐시 적중분을 제외한 상품만 허브 기준 IN 조회 1회(청크 분할)로 확인 후 캐시에 적재
+     * - 다른 요청이 조회 중인 상품은 다시 조회하지 않고 그 결과를 공유
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BulkAvailabilityInfo checkBulkAvailability(BulkCheckCommand command) {
-        log.info("대량 재고 확인: hubId={}, itemCount={}", command.getHubId(), command.getItems().size());
+        String hubId = command.getHubId();
+        log.info("대량 재고 확인: hubId={}, itemCount={}", hubId, command.getItems().size());
+
+        Set<InventoryKey> keys = command.getItems().stream()
+                .map(item -> InventoryKey.of(item.getProductId(), hubId))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<InventoryKey, StockSnapshot> snapshots = new HashMap<>(availabilityCache.getAllPresent(keys));
+
+        List<String> missingProductIds = keys.stream()
+                .filter(key -> !snapshots.containsKey(key))
+                .map(InventoryKey::getProductId)
+                .toList();
+        if (!missingProductIds.isEmpty()) {
+            long startedAt = availabilityCache.generation();
+            availabilityBatchLoader.loadAll(hubId, missingProductIds).forEach((key, snapshot) -> {
+                availabilityCache.put(snapshot, startedAt);
+                snapshots.put(key, snapshot);
+            });
+        }
 
         List<BulkAvailabilityInfo.ItemAvailabilityInfo> results = new ArrayList<>();
         boolean allAvailable = true;
 
         for (BulkCheckCommand.CheckItem item : command.getItems()) {
-            AvailabilityInfo availabilityInfo = checkAvailability(item.getProductId(), command.getHubId());
-            Integer availableQuantity = availabilityInfo.getAvailableQuantity();
+            StockSnapshot snapshot = snapshots.get(InventoryKey.of(item.getProductId(), hubId));
+            int availableQuantity = snapshot != null ? snapshot.getAvailableQuantity() : 0;
             boolean isAvailable = availableQuantity >= item.getQuantity();
 
             results.add(BulkAvailabilityInfo.ItemAvailabilityInfo.builder()
@@ -425,7 +1146,7 @@ public class InventoryService {
         }
 
         return BulkAvailabilityInfo.builder()
-                .hubId(command.getHubId())
+                .hubId(hubId)
                 .allAvailable(allAvailable)
                 .results(results)
                 .build();
@@ -437,6 +1158,80 @@ public class InventoryService {
 
     // ==================== 내부 헬퍼 메서드 ====================
 
+    private InventoryKey keyOf(Inventory inventory) {
+        return InventoryKey.of(inventory.getProductId(), inventory.getHubId());
+    }
+
+    private StockSnapshot findSnapshot(String productId, String hubId) {
+        return inventoryRepository.findSnapshots(List.of(InventoryKey.of(productId, hubId))).stream()
+                .findFirst()
+                .orElseThrow(() -> new InventoryException(
+                        InventoryErrorCode.INVENTORY_NOT_FOUND,
+                        String.format("재고를 찾을 수 없습니다. productId=%s, hubId=%s", productId, hubId)
+                ));
+    }
+
+    /**
+     * 응답용 재고 - 엔티티의 예약 수량은 샤드·플래시 미예약 배정분을 포함하므로 스냅샷의 유효 값으로 교체
+     * - 스냅샷이 없으면 (삭제 등) 엔티티 값 그대로
+     */
+    private Inventory withEffectiveReserved(Inventory inventory) {
+        return withEffectiveReserved(List.of(inventory)).get(0);
+    }
+
+    private List<Inventory> withEffectiveReserved(List<Inventory> inventories) {
+        if (inventories.isEmpty()) {
+            return inventories;
+        }
+
+        Map<InventoryKey, StockSnapshot> snapshots = inventoryRepository
+                .findSnapshots(inventories.stream().map(this::keyOf).toList()).stream()
+                .collect(Collectors.toMap(
+                        snapshot -> InventoryKey.of(snapshot.getProductId(), snapshot.getHubId()),
+                        snapshot -> snapshot,
+                        (first, second) -> first));
+
+        return inventories.stream()
+                .map(inventory -> Optional.ofNullable(snapshots.get(keyOf(inventory)))
+                        .map(snapshot -> inventory.withReservedQuantity(snapshot.getReservedQuantity()))
+                        .orElse(inventory))
+                .toList();
+    }
+
+    /**
+     * 변경된 재고의 가용성 캐시 무효화 (변경 후 버전 포함)
+     * - 샤드 모드 재고의 캐시 버전은 부모 + 샤드 버전 합이므로 엔티티 버전으로 비교할 수 없어 버전 없이 무효화
+     */
+    private void evictAvailability(Inventory inventory) {
+        InventoryKey key = keyOf(inventory);
+        Long version = inventory.getVersion();
+        boolean comparable = version != null && !shardedInventoryRegistry.isSharded(key);
+        availabilityCache.evict(key, comparable ? version : AvailabilityCache.UNKNOWN_VERSION);
+    }
+
+    /**
+     * 캐시 미스 시 스냅샷 조회 + 적재 (조회 중 무효화된 키는 적재하지 않음)
+     */
+    private Optional<StockSnapshot> loadSnapshot(InventoryKey key) {
+        long startedAt = availabilityCache.generation();
+        Optional<StockSnapshot> loaded = availabilityBatchLoader.load(key);
+        loaded.ifPresent(snapshot -> availabilityCache.put(snapshot, startedAt));
+        return loaded;
+    }
+
+    private AvailabilityInfo toAvailabilityInfo(StockSnapshot snapshot) {
+        int available = snapshot.getAvailableQuantity();
+
+        return AvailabilityInfo.builder()
+                .productId(snapshot.getProductId())
+                .hubId(snapshot.getHubId())
+                .isAvailable(available > 0)
+                .availableQuantity(available)
+                .reservedQuantity(snapshot.getReservedQuantity())
+                .totalQuantity(snapshot.getQuantityInHub())
+                .build();
+    }
+
     private Inventory findById(String inventoryId) {
         return inventoryRepository.findById(inventoryId)
                 .orElseThrow(() -> new InventoryException(InventoryErrorCode.INVENTORY_NOT_FOUND));
@@ -450,11 +1245,46 @@ public class InventoryService {
                 inventory.getInventoryId(),
                 inventory.getProductId(),
                 inventory.getHubId(),
-                inventory.getQuantityInHub().getValue()
+                inventory.getQuantityInHubValue()
         );
         eventPublisher.publishInventoryCreated(eventData);
     }
 
+    /**
+     * 상품 초기 재고 일괄 생성 이벤트 발행 헬퍼
+     */
+    private void publishInventoriesInitializedEvent(String productId, List<Inventory> inventories) {
+        InventoriesInitializedEventData eventData = InventoriesInitializedEventData.of(
+                productId,
+                inventories.stream()
+                        .map(inventory -> InventoriesInitializedEventData.HubInventory.builder()
+                                .inventoryId(inventory.getInventoryId())
+                                .hubId(inventory.getHubId())
+                                .quantity(inventory.getQuantityInHubValue())
+                                .build())
+                        .toList()
+        );
+        eventPublisher.publishInventoriesInitialized(eventData);
+    }
+
+    /**
+     * 재고 부족 이벤트 체크 및 발행 헬퍼 (조건부 UPDATE 결과용)
+     */
+    private void checkAndPublishLowStockEvent(StockSnapshot snapshot) {
+        if (snapshot.isBelowSafetyStock()) {
+            log.warn("안전 재고 이하 감지: inventoryId={}", snapshot.getInventoryId());
+
+            InventoryLowStockEventData eventData = InventoryLowStockEventData.of(
+                    snapshot.getInventoryId(),
+                    snapshot.getProductId(),
+                    snapshot.getHubId(),
+                    snapshot.getQuantityInHub(),
+                    snapshot.getSafetyStock()
+            );
+            eventPublisher.publishInventoryLowStock(eventData);
+        }
+    }
+
     /**
      * 재고 부족 이벤트 체크 및 발행 헬퍼
      */
@@ -466,7 +1296,7 @@ public class InventoryService {
                     inventory.getInventoryId(),
                     inventory.getProductId(),
                     inventory.getHubId(),
-                    inventory.getQuantityInHub().getValue(),
+                    inventory.getQuantityInHubValue(),
                     inventory.getSafetyStock().getValue()
             );
             eventPublisher.publishInventoryLowStock(eventData);
@@ -0,0 +1,92 @@
+package com.early_express.inventory_service.domain.inventory.application.service;
+
+import com.early_express.inventory_service.domain.inventory.application.cache.AvailabilityCache;
+import com.early_express.inventory_service.domain.inventory.application.shard.ShardedInventoryRegistry;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryErrorCode;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryException;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryShardLayout;
+import com.early_express.inventory_service.domain.inventory.domain.repository.FlashSaleRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 재고 샤드 Application Service
+ * - 인기 상품(Hot SKU) 재고를 N개 샤드 행으로 나눠 같은 상품-허브의 동시 예약 경합 분산
+ * - 샤드 수는 재고별로 운영 중 변경 가능 (1이면 일반 재고로 복귀)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InventoryShardService {
+
+    private final InventoryShardRepository inventoryShardRepository;
+    private final FlashSaleRepository flashSaleRepository;
+    private final ShardedInventoryRegistry shardedInventoryRegistry;
+    private final AvailabilityCache availabilityCache;
+
+    @Value("${inventory.sharding.max-shards:64}")
+    private int maxShards;
+
+    /**
+     * 샤드 수 변경 + 재분배
+     */
+    @Transactional
+    public InventoryShardLayout updateShardCount(String inventoryId, Integer shardCount) {
+        if (shardCount == null || shardCount < 1 || shardCount > maxShards) {
+            throw new InventoryException(
+                    InventoryErrorCode.INVALID_SHARD_COUNT,
+                    String.format("샤드 수는 1 이상 %d 이하여야 합니다. shardCount=%s", maxShards, shardCount)
+            );
+        }
+
+        log.info("샤드 수 변경 시작: inventoryId={}, shardCount={}", inventoryId, shardCount);
+
+        InventoryShardLayout layout = inventoryShardRepository.reshard(inventoryId, shardCount)
+                .orElseThrow(() -> flashSaleRepository.findByInventoryId(inventoryId).isPresent()
+                        ? new InventoryException(InventoryErrorCode.FLASH_SALE_CONFLICT, "플래시 세일 중인 재고는 샤드 수를 변경할 수 없습니다.")
+                        : new InventoryException(InventoryErrorCode.INVENTORY_NOT_FOUND));
+
+        InventoryKey key = InventoryKey.of(layout.getProductId(), layout.getHubId());
+        availabilityCache.evict(key);
+        shardedInventoryRegistry.mark(key, layout.isSharded());
+
+        log.info("샤드 수 변경 완료: inventoryId={}, shardCount={}, totalAvailable={}",
+                inventoryId, layout.getShardCount(), layout.getTotalAvailable());
+
+        return layout;
+    }
+
+    /**
+     * 샤드 구성 조회
+     */
+    public InventoryShardLayout getShardLayout(String inventoryId) {
+        return inventoryShardRepository.findLayout(inventoryId)
+                .orElseThrow(() -> new InventoryException(InventoryErrorCode.INVENTORY_NOT_FOUND));
+    }
+
+    /**
+     * 필요한 경우에만 현재 샤드 수로 재분배
+     *
+     * @return 재분배했으면 true
+     */
+    @Transactional
+    public boolean rebalance(String inventoryId) {
+        InventoryShardLayout current = inventoryShardRepository.findLayout(inventoryId).orElse(null);
+        if (current == null || !current.needsRebalance()) {
+            return false;
+        }
+
+        return inventoryShardRepository.rebalance(inventoryId)
+                .map(layout -> {
+                    availabilityCache.evict(InventoryKey.of(layout.getProductId(), layout.getHubId()));
+                    return true;
+                })
+                .orElse(false);
+    }
+}
@@ -0,0 +1,385 @@
+package com.early_express.inventory_service.domain.inventory.application.service;
+
+import com.early_express.inventory_service.domain.inventory.application.cache.AvailabilityCache;
+import com.early_express.inventory_service.domain.inventory.application.dto.result.ReservationSettlementInfo;
+import com.early_express.inventory_service.domain.inventory.application.reservation.ReservationExpiryTracker;
+import com.early_express.inventory_service.domain.inventory.application.retry.RetryOnConflict;
+import com.early_express.inventory_service.domain.inventory.application.shard.ShardedInventoryRegistry;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryErrorCode;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryException;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.InventoryEventPublisher;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.InventoryLowStockEventData;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.StockDecreasedEventData;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.StockRestoredEventData;
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationStatus;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryShardRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 정산 Application Service
+ * - 예약 원장의 RESERVED 라인을 예약 ID / 주문 ID로 잠그고 해제·확정
+ * - 라인별 조건부 UPDATE로 카운터 반영, 샤드 라인은 원장의 샤드 번호로 샤드 행에 반영
+ * - 만료 시각이 지난 예약은 ReservationExpiryWorker가 expireReservations로 일괄 해제
+ * - 라인 단위 기존 API(InventoryService)의 원장 라인도 여기서 조회·정산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReservationSettlementService {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryShardRepository inventoryShardRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final ShardedInventoryRegistry shardedInventoryRegistry;
+    private final ReservationExpiryTracker reservationExpiryTracker;
+    private final AvailabilityCache availabilityCache;
+    private final InventoryEventPublisher eventPublisher;
+
+    /**
+     * 예약 ID로 예약 해제
+     * - 원장의 RESERVED 라인을 인덱스 조회 1회로 잠그고 라인별 조건부 UPDATE로 예약 수량 복원
+     * - 이미 해제/확정된 예약이면 변경 없이 현재 상태 반환 (멱등)
+     */
+    @Transactional
+    @RetryOnConflict("release")
+    public ReservationSettlementInfo releaseReservationById(String reservationId) {
+        log.info("예약 해제 (예약 ID): reservationId={}", reservationId);
+
+        List<StockReservation> lines = stockReservationRepository.findActiveByReservationIdForUpdate(reservationId);
+        if (lines.isEmpty()) {
+            return alreadySettled(reservationId, null,
+                    stockReservationRepository.findByReservationId(reservationId), ReservationStatus.RELEASED);
+        }
+
+        return settled(reservationId, lines.get(0).getOrderId(),
+                releaseLines(lines, ReservationStatus.RELEASED, true), ReservationStatus.RELEASED);
+    }
+
+    /**
+     * 주문 ID로 예약 해제 (주문의 모든 예약)
+     */
+    @Transactional
+    @RetryOnConflict("release")
+    public ReservationSettlementInfo releaseReservationsByOrder(String orderId) {
+        log.info("예약 해제 (주문 ID): orderId={}", orderId);
+
+        List<StockReservation> lines = stockReservationRepository.findActiveByOrderIdForUpdate(orderId);
+        if (lines.isEmpty()) {
+            return alreadySettled(null, orderId,
+                    stockReservationRepository.findByOrderId(orderId), ReservationStatus.RELEASED);
+        }
+
+        return settled(null, orderId,
+                releaseLines(lines, ReservationStatus.RELEASED, true), ReservationStatus.RELEASED);
+    }
+
+    /**
+     * 예약 ID로 출고 확정
+     * - 원장의 RESERVED 라인을 잠그고 라인별 조건부 UPDATE로 전체/예약 수량 차감
+     */
+    @Transactional
+    @RetryOnConflict("confirm")
+    public ReservationSettlementInfo confirmReservationById(String reservationId) {
+        log.info("출고 확정 (예약 ID): reservationId={}", reservationId);
+
+        List<StockReservation> lines = stockReservationRepository.findActiveByReservationIdForUpdate(reservationId);
+        if (lines.isEmpty()) {
+            return alreadySettled(reservationId, null,
+                    stockReservationRepository.findByReservationId(reservationId), ReservationStatus.CONFIRMED);
+        }
+
+        return settled(reservationId, lines.get(0).getOrderId(), confirmLines(lines), ReservationStatus.CONFIRMED);
+    }
+
+    /**
+     * 주문 ID로 출고 확정 (주문의 모든 예약)
+     */
+    @Transactional
+    @RetryOnConflict("confirm")
+    public ReservationSettlementInfo confirmReservationsByOrder(String orderId) {
+        log.info("출고 확정 (주문 ID): orderId={}", orderId);
+
+        List<StockReservation> lines = stockReservationRepository.findActiveByOrderIdForUpdate(orderId);
+        if (lines.isEmpty()) {
+            return alreadySettled(null, orderId,
+                    stockReservationRepository.findByOrderId(orderId), ReservationStatus.CONFIRMED);
+        }
+
+        return settled(null, orderId, confirmLines(lines), ReservationStatus.CONFIRMED);
+    }
+
+    /**
+     * 만료된 예약 일괄 해제
+     * - 만료 시각이 지난 RESERVED 라인만 잠그며, 다른 트랜잭션이 처리 중인 라인은 건너뜀
+     * - 카운터의 예약 수량이 원장보다 적은 라인은 카운터 변경 없이 EXPIRED로 정리 (배치 전체 실패 방지)
+     *
+     * @return 만료 처리된 예약 수
+     */
+    @Transactional
+    @RetryOnConflict("expire")
+    public int expireReservations(Collection<String> reservationIds) {
+        List<StockReservation> lines =
+                stockReservationRepository.findExpiredForUpdate(reservationIds, LocalDateTime.now());
+        if (lines.isEmpty()) {
+            return 0;
+        }
+
+        releaseLines(lines, ReservationStatus.EXPIRED, false);
+
+        int expired = (int) lines.stream().map(StockReservation::getReservationId).distinct().count();
+        log.info("예약 만료 처리: reservationCount={}, lineCount={}", expired, lines.size());
+
+        return expired;
+    }
+
+    /**
+     * 라인 단위 예약 해제의 원장 경로 (InventoryService.releaseReservation 전용)
+     *
+     * @return 원장 라인으로 처리했으면 true (이미 처리된 라인 포함), 원장 라인이 없어 카운터를 직접 변경해야 하면 false
+     */
+    @Transactional
+    public boolean releaseLedgerLines(String productId, String hubId, Integer quantity, String orderId) {
+        Optional<List<StockReservation>> ledgerLines = findLegacyLedgerLines(productId, hubId, quantity, orderId, "예약 해제");
+        ledgerLines.filter(lines -> !lines.isEmpty())
+                .ifPresent(lines -> releaseLines(lines, ReservationStatus.RELEASED, true));
+        return ledgerLines.isPresent();
+    }
+
+    /**
+     * 라인 단위 출고 확정의 원장 경로 (InventoryService.confirmShipment 전용)
+     *
+     * @return 원장 라인으로 처리했으면 true (이미 처리된 라인 포함), 원장 라인이 없어 카운터를 직접 변경해야 하면 false
+     */
+    @Transactional
+    public boolean confirmLedgerLines(String productId, String hubId, Integer quantity, String orderId) {
+        Optional<List<StockReservation>> ledgerLines = findLegacyLedgerLines(productId, hubId, quantity, orderId, "출고 확정");
+        ledgerLines.filter(lines -> !lines.isEmpty())
+                .ifPresent(this::confirmLines);
+        return ledgerLines.isPresent();
+    }
+
+    /**
+     * 잠근 예약 라인 해제 (재고 키 순 - 예약과 같은 잠금 순서)
+     * - 라인별 조건부 UPDATE로 예약 수량 복원 → 라인 상태 일괄 변경 → 커밋 후 만료 추적 취소
+     *
+     * @param strict 카운터의 예약 수량이 부족하면 예외 (false면 경고 후 라인만 정리)
+     */
+    private List<StockReservation> releaseLines(List<StockReservation> lines, ReservationStatus status, boolean strict) {
+        for (StockReservation line : lines) {
+            Optional<StockSnapshot> released = releaseOnHub(line);
+            if (released.isEmpty()) {
+                if (strict) {
+                    throw settlementFailure(line, "예약 해제");
+                }
+                log.warn("카운터 예약 수량 부족 - 원장만 정리: reservationId={}, productId={}, hubId={}, quantity={}",
+                        line.getReservationId(), line.getProductId(), line.getHubId(), line.getQuantity());
+                continue;
+            }
+
+            StockSnapshot snapshot = released.get();
+            availabilityCache.evictSnapshots(List.of(snapshot));
+
+            eventPublisher.publishStockRestored(StockRestoredEventData.of(
+                    snapshot.getInventoryId(),
+                    snapshot.getProductId(),
+                    snapshot.getHubId(),
+                    line.getOrderId(),
+                    line.getQuantity(),
+                    snapshot.getQuantityInHub()
+            ));
+        }
+
+        stockReservationRepository.updateStatus(lineIds(lines), status);
+        reservationExpiryTracker.untrack(reservationIds(lines));
+        return lines;
+    }
+
+    /**
+     * 잠근 예약 라인 출고 확정
+     */
+    private List<StockReservation> confirmLines(List<StockReservation> lines) {
+        for (StockReservation line : lines) {
+            StockSnapshot snapshot = confirmOnHub(line)
+                    .orElseThrow(() -> settlementFailure(line, "출고 확정"));
+            availabilityCache.evictSnapshots(List.of(snapshot));
+
+            eventPublisher.publishStockDecreased(StockDecreasedEventData.of(
+                    snapshot.getInventoryId(),
+                    snapshot.getProductId(),
+                    snapshot.getHubId(),
+                    line.getOrderId(),
+                    line.getQuantity(),
+                    snapshot.getQuantityInHub()
+            ));
+
+            checkAndPublishLowStockEvent(snapshot);
+        }
+
+        stockReservationRepository.updateStatus(lineIds(lines), ReservationStatus.CONFIRMED);
+        reservationExpiryTracker.untrack(reservationIds(lines));
+        return lines;
+    }
+
+    /**
+     * 라인 예약 수량 해제 - 샤드에 예약된 라인이면 해당 샤드, 샤드가 재분배로 사라졌으면 부모 행
+     */
+    private Optional<StockSnapshot> releaseOnHub(StockReservation line) {
+        if (line.getShardNo() != null) {
+            Optional<StockSnapshot> released =
+                    inventoryShardRepository.release(line.getInventoryId(), line.getShardNo(), line.getQuantity());
+            if (released.isPresent()) {
+                return released;
+            }
+        }
+        return inventoryRepository.release(line.getProductId(), line.getHubId(), line.getQuantity());
+    }
+
+    /**
+     * 라인 예약 수량 출고 확정 - 샤드에 예약된 라인이면 해당 샤드, 샤드가 재분배로 사라졌으면 부모 행
+     */
+    private Optional<StockSnapshot> confirmOnHub(StockReservation line) {
+        if (line.getShardNo() != null) {
+            Optional<StockSnapshot> confirmed =
+                    inventoryShardRepository.confirm(line.getInventoryId(), line.getShardNo(), line.getQuantity());
+            if (confirmed.isPresent()) {
+                return confirmed;
+            }
+        }
+        return inventoryRepository.confirm(line.getProductId(), line.getHubId(), line.getQuantity());
+    }
+
+    /**
+     * 기존 라인 단위 API의 원장 라인 조회 (주문 ID + 상품 + 허브)
+     * - RESERVED 라인이 있으면 잠근 라인 반환 (요청 수량이 라인 합계와 다르면 부분 처리 불가로 예외)
+     * - 라인이 모두 해제/확정/만료됐으면 빈 목록 반환 (멱등 - 카운터를 다시 변경하지 않음)
+     * - 원장 라인이 없으면 empty → 카운터 직접 변경, 단 샤드 모드 재고는 할당 불변식이 깨지므로 거부
+     */
+    private Optional<List<StockReservation>> findLegacyLedgerLines(
+            String productId, String hubId, Integer quantity, String orderId, String action) {
+        if (orderId != null && !orderId.isBlank()) {
+            List<StockReservation> active = stockReservationRepository.findActiveByOrderIdForUpdate(orderId).stream()
+                    .filter(line -> line.getProductId().equals(productId) && line.getHubId().equals(hubId))
+                    .toList();
+            if (!active.isEmpty()) {
+                int reserved = active.stream().mapToInt(StockReservation::getQuantity).sum();
+                if (quantity == null || quantity != reserved) {
+                    throw new InventoryException(
+                            InventoryErrorCode.INVALID_RESERVED_QUANTITY,
+                            String.format("%s 실패 - 요청 수량이 원장의 예약 수량과 다릅니다. orderId=%s, productId=%s, hubId=%s, requested=%s, reserved=%d",
+                                    action, orderId, productId, hubId, quantity, reserved)
+                    );
+                }
+                return Optional.of(active);
+            }
+
+            boolean settled = stockReservationRepository.findByOrderId(orderId).stream()
+                    .anyMatch(line -> line.getProductId().equals(productId) && line.getHubId().equals(hubId));
+            if (settled) {
+                log.info("이미 처리된 원장 라인: orderId={}, productId={}, hubId={}, requested={}",
+                        orderId, productId, hubId, action);
+                return Optional.of(List.of());
+            }
+        }
+
+        if (shardedInventoryRegistry.isSharded(InventoryKey.of(productId, hubId))) {
+            throw new InventoryException(
+                    InventoryErrorCode.RESERVATION_NOT_FOUND,
+                    String.format("%s 실패 - 샤드 모드 재고는 원장 라인이 있어야 처리할 수 있습니다. orderId=%s, productId=%s, hubId=%s",
+                            action, orderId, productId, hubId)
+            );
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 원장에는 예약이 있으나 카운터의 예약 수량이 부족한 경우 (재고 삭제, 원장 밖 해제 등)
+     */
+    private InventoryException settlementFailure(StockReservation line, String action) {
+        return new InventoryException(
+                InventoryErrorCode.CANNOT_RELEASE_MORE_THAN_RESERVED,
+                String.format("%s 실패 - 재고의 예약 수량이 원장과 일치하지 않습니다. reservationId=%s, productId=%s, hubId=%s, quantity=%d",
+                        action, line.getReservationId(), line.getProductId(), line.getHubId(), line.getQuantity())
+        );
+    }
+
+    private static List<String> lineIds(List<StockReservation> lines) {
+        return lines.stream().map(StockReservation::getReservationLineId).toList();
+    }
+
+    private static Set<String> reservationIds(List<StockReservation> lines) {
+        return lines.stream().map(StockReservation::getReservationId).collect(Collectors.toSet());
+    }
+
+    private ReservationSettlementInfo settled(
+            String reservationId, String orderId, List<StockReservation> lines, ReservationStatus status) {
+        log.info("예약 처리 완료: reservationId={}, orderId={}, status={}, lineCount={}",
+                reservationId, orderId, status, lines.size());
+
+        return ReservationSettlementInfo.builder()
+                .reservationId(reservationId)
+                .orderId(orderId)
+                .status(status)
+                .alreadySettled(false)
+                .lines(lines.stream().map(line -> ReservationSettlementInfo.SettledLine.of(line, status)).toList())
+                .build();
+    }
+
+    /**
+     * 처리할 RESERVED 라인이 없을 때 - 원장에도 없으면 예외, 있으면 현재 상태로 응답
+     */
+    private ReservationSettlementInfo alreadySettled(
+            String reservationId, String orderId, List<StockReservation> existing, ReservationStatus status) {
+        if (existing.isEmpty()) {
+            throw new InventoryException(
+                    InventoryErrorCode.RESERVATION_NOT_FOUND,
+                    String.format("예약 정보를 찾을 수 없습니다. reservationId=%s, orderId=%s", reservationId, orderId)
+            );
+        }
+
+        log.info("이미 처리된 예약: reservationId={}, orderId={}, requested={}", reservationId, orderId, status);
+
+        return ReservationSettlementInfo.builder()
+                .reservationId(reservationId)
+                .orderId(existing.get(0).getOrderId())
+                .status(status)
+                .alreadySettled(true)
+                .lines(existing.stream()
+                        .map(line -> ReservationSettlementInfo.SettledLine.of(line, line.getStatus()))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 재고 부족 이벤트 체크 및 발행 헬퍼 (조건부 UPDATE 결과용)
+     */
+    private void checkAndPublishLowStockEvent(StockSnapshot snapshot) {
+        if (snapshot.isBelowSafetyStock()) {
+            log.warn("안전 재고 이하 감지: inventoryId={}", snapshot.getInventoryId());
+
+            InventoryLowStockEventData eventData = InventoryLowStockEventData.of(
+                    snapshot.getInventoryId(),
+                    snapshot.getProductId(),
+                    snapshot.getHubId(),
+                    snapshot.getQuantityInHub(),
+                    snapshot.getSafetyStock()
+            );
+            eventPublisher.publishInventoryLowStock(eventData);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.early_express.inventory_service.domain.inventory.application.shard;
+
+import com.early_express.inventory_service.domain.inventory.application.service.InventoryShardService;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샤드 재분배 워커
+ * - 주기마다 샤드 모드 재고의 구성을 확인해 편차가 크거나 부모 행에 수량이 남은 재고만 재분배
+ * - 재고별 별도 트랜잭션 (한 재고의 실패가 다른 재고에 영향 없음)
+ * - 여러 인스턴스가 동시에 실행해도 부모 행 잠금으로 직렬화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.sharding.rebalance-enabled", havingValue = "true", matchIfMissing = true)
+public class ShardRebalancer {
+
+    private final InventoryShardRepository inventoryShardRepository;
+    private final InventoryShardService inventoryShardService;
+
+    @Scheduled(
+            initialDelayString = "${inventory.sharding.rebalance-interval-ms:10000}",
+            fixedDelayString = "${inventory.sharding.rebalance-interval-ms:10000}"
+    )
+    public void rebalance() {
+        int rebalanced = 0;
+        for (String inventoryId : inventoryShardRepository.findShardedInventoryIds()) {
+            try {
+                if (inventoryShardService.rebalance(inventoryId)) {
+                    rebalanced++;
+                }
+            } catch (Exception e) {
+                log.error("샤드 재분배 실패: inventoryId={}, error={}", inventoryId, e.getMessage(), e);
+            }
+        }
+
+        if (rebalanced > 0) {
+            log.info("샤드 재분배 완료: rebalanced={}", rebalanced);
+        }
+    }
+}
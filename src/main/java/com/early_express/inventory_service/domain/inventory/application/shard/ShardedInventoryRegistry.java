@@ -0,0 +1,60 @@
+package com.early_express.inventory_service.domain.inventory.application.shard;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 샤드 모드 재고 키 레지스트리
+ * - 예약 경로가 부모 행 / 샤드 행 중 어느 쪽을 먼저 시도할지 결정하는 데 사용
+ * - shard_count 인덱스 조회로 주기적으로 갱신 (다른 인스턴스의 샤드 수 변경 반영)
+ * - 갱신 전의 오래된 값이어도 예약 경로가 반대쪽으로 한 번 더 시도하므로 정합성에는 영향 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardedInventoryRegistry {
+
+    private final InventoryShardRepository inventoryShardRepository;
+
+    private volatile Set<InventoryKey> shardedKeys = Set.of();
+
+    public boolean isSharded(InventoryKey key) {
+        return shardedKeys.contains(key);
+    }
+
+    /**
+     * 이 인스턴스에서 샤드 수를 변경한 경우 즉시 반영
+     */
+    public synchronized void mark(InventoryKey key, boolean sharded) {
+        Set<InventoryKey> updated = new HashSet<>(shardedKeys);
+        if (sharded) {
+            updated.add(key);
+        } else {
+            updated.remove(key);
+        }
+        shardedKeys = Set.copyOf(updated);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.sharding.refresh-interval-ms:5000}")
+    public void refresh() {
+        try {
+            Set<InventoryKey> loaded = Set.copyOf(inventoryShardRepository.findShardedKeys());
+            synchronized (this) {
+                shardedKeys = loaded;
+            }
+        } catch (Exception e) {
+            log.warn("샤드 모드 재고 목록 갱신 실패: error={}", e.getMessage());
+        }
+    }
+
+    public int size() {
+        return shardedKeys.size();
+    }
+}
@@ -25,6 +25,7 @@ public enum InventoryErrorCode implements ErrorCode {
     INVALID_REORDER_POINT("INVENTORY_104", "재주문 시점은 안전 재고보다 크거나 같아야 합니다.", 400),
     INVALID_MOVEMENT_QUANTITY("INVENTORY_105", "변동 수량이 올바르지 않습니다.", 400),
     INVALID_LOCATION_FORMAT("INVENTORY_106", "위치 형식이 올바르지 않습니다. (예: A-1-3)", 400),
+    INVALID_SHARD_COUNT("INVENTORY_107", "샤드 수가 올바르지 않습니다.", 400),
 
     // ===== 400 Bad Request - Business Logic =====
     INSUFFICIENT_STOCK("INVENTORY_201", "재고가 부족합니다.", 400),
@@ -46,6 +47,9 @@ public enum InventoryErrorCode implements ErrorCode {
     DUPLICATE_LOCATION("INVENTORY_402", "중복된 위치입니다.", 409),
     CONCURRENT_MODIFICATION("INVENTORY_403", "동시 수정이 발생했습니다. 다시 시도해주세요.", 409),
     OPTIMISTIC_LOCK_FAILURE("INVENTORY_404", "재고 업데이트 충돌이 발생했습니다. 다시 시도해주세요.", 409),
+    FLASH_SALE_CONFLICT("INVENTORY_405", "플래시 세일 모드를 변경할 수 없는 재고 상태입니다.", 409),
+    FLASH_SALE_NOT_ACTIVE("INVENTORY_406", "플래시 세일 중인 재고가 아닙니다.", 409),
+    FLASH_SALE_NOT_OWNER("INVENTORY_407", "플래시 세일 소유 노드에서만 처리할 수 있습니다.", 409),
 
     // ===== 500 Internal Server Error =====
     INVENTORY_CREATION_FAILED("INVENTORY_501", "재고 생성에 실패했습니다.", 500),
@@ -57,7 +61,8 @@ public enum InventoryErrorCode implements ErrorCode {
 
     // ===== 503 Service Unavailable - External Service =====
     PRODUCT_SERVICE_UNAVAILABLE("INVENTORY_601", "상품 서비스에 연결할 수 없습니다.", 503),
-    HUB_SERVICE_UNAVAILABLE("INVENTORY_602", "허브 서비스에 연결할 수 없습니다.", 503);
+    HUB_SERVICE_UNAVAILABLE("INVENTORY_602", "허브 서비스에 연결할 수 없습니다.", 503),
+    FLASH_SALE_OWNER_UNAVAILABLE("INVENTORY_603", "플래시 세일 소유 노드의 처리 결과를 확인할 수 없습니다. 잠시 후 다시 시도해주세요.", 503);
 
     private final String code;
     private final String message;
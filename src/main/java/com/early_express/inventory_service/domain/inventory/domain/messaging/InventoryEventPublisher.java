@@ -15,6 +15,13 @@ public interface InventoryEventPublisher {
      */
     void publishInventoryCreated(InventoryCreatedEventData eventData);
 
+    /**
+     * 상품 초기 재고 일괄 생성 이벤트 발행 (상품당 1건)
+     *
+     * @param eventData 초기 재고 일괄 생성 이벤트 데이터
+     */
+    void publishInventoriesInitialized(InventoriesInitializedEventData eventData);
+
     /**
      * 재고 부족 이벤트 발행
      * Inventory Service → Product Service
@@ -39,6 +46,14 @@ public interface InventoryEventPublisher {
      */
     void publishInventoryReserved(InventoryReservedEventData eventData);
 
+    /**
+     * 재고 예약 실패 이벤트 발행 (응답 후 반영에 실패한 예약)
+     * Inventory Service → Order Service
+     *
+     * @param eventData 재고 예약 실패 이벤트 데이터
+     */
+    void publishInventoryReservationFailed(InventoryReservationFailedEventData eventData);
+
     /**
      * 재고 차감 이벤트 발행
      * Inventory Service → Order Service
@@ -0,0 +1,39 @@
+package com.early_express.inventory_service.domain.inventory.domain.messaging.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 초기 재고 일괄 생성 이벤트 데이터 (도메인 DTO)
+ * - 상품 하나에 대해 새로 생성된 허브 재고를 한 이벤트로 묶음
+ */
+@Getter
+@Builder
+public class InventoriesInitializedEventData {
+
+    private final String productId;
+    private final List<HubInventory> inventories;
+    private final LocalDateTime createdAt;
+
+    @Getter
+    @Builder
+    public static class HubInventory {
+        private final String inventoryId;
+        private final String hubId;
+        private final Integer quantity;
+    }
+
+    public static InventoriesInitializedEventData of(
+            String productId,
+            List<HubInventory> inventories) {
+
+        return InventoriesInitializedEventData.builder()
+                .productId(productId)
+                .inventories(inventories)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.early_express.inventory_service.domain.inventory.domain.messaging.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 실패 이벤트 데이터 (도메인 DTO)
+ * Inventory Service → Order Service
+ * - 성공 응답 후 지연 반영 단계에서 반영하지 못한 예약 (플래시 세일) - 주문 취소·보상 처리용
+ */
+@Getter
+@Builder
+public class InventoryReservationFailedEventData {
+
+    private final String reservationId;
+    private final String inventoryId;
+    private final String productId;
+    private final String hubId;
+    private final String orderId;
+    private final Integer failedQuantity;
+    private final String reason;
+    private final LocalDateTime failedAt;
+
+    public static InventoryReservationFailedEventData of(
+            String reservationId,
+            String inventoryId,
+            String productId,
+            String hubId,
+            String orderId,
+            Integer failedQuantity,
+            String reason) {
+
+        return InventoryReservationFailedEventData.builder()
+                .reservationId(reservationId)
+                .inventoryId(inventoryId)
+                .productId(productId)
+                .hubId(hubId)
+                .orderId(orderId)
+                .failedQuantity(failedQuantity)
+                .reason(reason)
+                .failedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
  * Inventory 도메인 모델 (Aggregate Root)
  * - 순수 자바 객체 (JPA 의존성 없음)
  * - 재고 관리 비즈니스 로직 포함
+ * - 수량은 int로 보관하고 조회 시에만 StockQuantity로 감쌈 (예약/검증 경로에서 객체 생성 없음)
  */
 @Getter
 public class Inventory {
@@ -21,10 +22,10 @@ public class Inventory {
     private final String productId;
     private final String hubId;
 
-    private StockQuantity quantityInHub;        // 허브 내 전체 수량
-    private StockQuantity reservedQuantity;     // 예약된 수량 (주문 처리 중)
-    private StockQuantity safetyStock;          // 안전 재고
-    private StockQuantity reorderPoint;         // 재주문 시점
+    private int quantityInHub;                   // 허브 내 전체 수량
+    private int reservedQuantity;                // 예약된 수량 (주문 처리 중)
+    private int safetyStock;                     // 안전 재고
+    private int reorderPoint;                    // 재주문 시점
 
     private String location;                     // 허브 내 물리적 위치
     private LocalDateTime lastRestockedAt;       // 마지막 입고 시간
@@ -45,10 +46,10 @@ public class Inventory {
             String inventoryId,
             String productId,
             String hubId,
-            StockQuantity quantityInHub,
-            StockQuantity reservedQuantity,
-            StockQuantity safetyStock,
-            StockQuantity reorderPoint,
+            int quantityInHub,
+            int reservedQuantity,
+            int safetyStock,
+            int reorderPoint,
             String location,
             LocalDateTime lastRestockedAt,
             Long version,
@@ -91,15 +92,17 @@ public class Inventory {
             String location
     ) {
         validateLocation(location);
+        int initial = StockQuantity.of(initialQuantity).getValue();
+        int safety = StockQuantity.of(safetyStock).getValue();
 
         return Inventory.builder()
                 .inventoryId(inventoryId)
                 .productId(productId)
                 .hubId(hubId)
-                .quantityInHub(StockQuantity.of(initialQuantity))
-                .reservedQuantity(StockQuantity.zero())
-                .safetyStock(StockQuantity.of(safetyStock))
-                .reorderPoint(StockQuantity.of(safetyStock)) // 기본값: 안전재고와 동일
+                .quantityInHub(initial)
+                .reservedQuantity(0)
+                .safetyStock(safety)
+                .reorderPoint(safety) // 기본값: 안전재고와 동일
                 .location(location)
                 .lastRestockedAt(LocalDateTime.now())
                 .version(0L)
@@ -128,6 +131,49 @@ public class Inventory {
             LocalDateTime deletedAt,
             String deletedBy,
             boolean isDeleted
+    ) {
+        return reconstruct(
+                inventoryId,
+                productId,
+                hubId,
+                quantityInHub.getValue(),
+                reservedQuantity.getValue(),
+                safetyStock.getValue(),
+                reorderPoint.getValue(),
+                location,
+                lastRestockedAt,
+                version,
+                createdAt,
+                createdBy,
+                updatedAt,
+                updatedBy,
+                deletedAt,
+                deletedBy,
+                isDeleted
+        );
+    }
+
+    /**
+     * 기존 재고 재구성 (from Entity / JDBC 행, 수량은 int 그대로)
+     */
+    public static Inventory reconstruct(
+            String inventoryId,
+            String productId,
+            String hubId,
+            int quantityInHub,
+            int reservedQuantity,
+            int safetyStock,
+            int reorderPoint,
+            String location,
+            LocalDateTime lastRestockedAt,
+            Long version,
+            LocalDateTime createdAt,
+            String createdBy,
+            LocalDateTime updatedAt,
+            String updatedBy,
+            LocalDateTime deletedAt,
+            String deletedBy,
+            boolean isDeleted
     ) {
         return Inventory.builder()
                 .inventoryId(inventoryId)
@@ -150,12 +196,25 @@ public class Inventory {
                 .build();
     }
 
+    /**
+     * 조회 응답용 사본 - 예약 수량을 유효 값(샤드·플래시 미예약 배정분 제외)으로 바꿈
+     * - 배정분이 빠진 값이므로 저장하면 배정이 사라짐 (변경 경로에서 사용 금지)
+     */
+    public Inventory withReservedQuantity(int effectiveReserved) {
+        if (effectiveReserved == this.reservedQuantity) {
+            return this;
+        }
+        return reconstruct(inventoryId, productId, hubId, quantityInHub, effectiveReserved, safetyStock, reorderPoint,
+                location, lastRestockedAt, version, createdAt, createdBy, updatedAt, updatedBy,
+                deletedAt, deletedBy, isDeleted);
+    }
+
     // ==================== 비즈니스 로직 ====================
 
     /**
      * 입고 (재고 증가)
      */
-    public void restock(Integer quantity) {
+    public void restock(int quantity) {
         if (quantity <= 0) {
             throw new InventoryException(
                     InventoryErrorCode.INVALID_QUANTITY,
@@ -163,76 +222,104 @@ public class Inventory {
             );
         }
 
-        this.quantityInHub = this.quantityInHub.increase(quantity);
+        this.quantityInHub += quantity;
         this.lastRestockedAt = LocalDateTime.now();
     }
 
     /**
      * 재고 예약 (주문 시)
      */
-    public void reserve(Integer quantity) {
-        StockQuantity available = getAvailableQuantity();
+    public void reserve(int quantity) {
+        validateAmount(quantity);
+        int available = getAvailableQuantityValue();
 
-        if (available.isLessThan(StockQuantity.of(quantity))) {
+        if (available < quantity) {
             throw new InventoryException(
                     InventoryErrorCode.INSUFFICIENT_AVAILABLE_STOCK,
-                    String.format("요청 수량: %d, 가용 재고: %d", quantity, available.getValue())
+                    String.format("요청 수량: %d, 가용 재고: %d", quantity, available)
             );
         }
 
-        this.reservedQuantity = this.reservedQuantity.increase(quantity);
+        this.reservedQuantity += quantity;
     }
 
     /**
      * 예약 해제 (주문 취소 시)
      */
-    public void releaseReservation(Integer quantity) {
-        if (this.reservedQuantity.isLessThan(StockQuantity.of(quantity))) {
+    public void releaseReservation(int quantity) {
+        validateAmount(quantity);
+        if (this.reservedQuantity < quantity) {
             throw new InventoryException(
                     InventoryErrorCode.CANNOT_RELEASE_MORE_THAN_RESERVED,
                     String.format("예약 수량: %d, 해제 요청: %d",
-                            this.reservedQuantity.getValue(), quantity)
+                            this.reservedQuantity, quantity)
             );
         }
 
-        this.reservedQuantity = this.reservedQuantity.decrease(quantity);
+        this.reservedQuantity -= quantity;
     }
 
     /**
      * 출고 확정 (배송 시작 시)
      */
-    public void confirmShipment(Integer quantity) {
+    public void confirmShipment(int quantity) {
+        validateAmount(quantity);
         // 예약에서 차감
-        if (this.reservedQuantity.isLessThan(StockQuantity.of(quantity))) {
+        if (this.reservedQuantity < quantity) {
             throw new InventoryException(
                     InventoryErrorCode.CANNOT_RELEASE_MORE_THAN_RESERVED,
                     "예약된 수량보다 많이 출고할 수 없습니다."
             );
         }
+        if (this.quantityInHub < quantity) {
+            throw new InventoryException(
+                    InventoryErrorCode.NEGATIVE_STOCK_NOT_ALLOWED,
+                    String.format("재고 부족: 현재 %d, 요청 %d", this.quantityInHub, quantity)
+            );
+        }
 
-        this.reservedQuantity = this.reservedQuantity.decrease(quantity);
-        this.quantityInHub = this.quantityInHub.decrease(quantity);
+        this.reservedQuantity -= quantity;
+        this.quantityInHub -= quantity;
     }
 
     /**
-     * 재고 조정 (실사 후)
+     * 재고 조정 (실사 후) - 샤드·플래시 배정이 없는 일반 재고
      */
     public void adjust(Integer newQuantity, String reason) {
+        adjust(newQuantity, this.reservedQuantity, reason);
+    }
+
+    /**
+     * 재고 조정 (실사 후)
+     * - 고객 예약 수량보다 적게 조정하면 가용 재고가 음수가 되므로 거부 (예약 해제/확정 후 조정)
+     * - 샤드·플래시 카운터의 미예약 배정분은 예약 수량에 포함되어 있지만 고객 예약이 아니므로 기준에서 제외
+     *   (배정분 아래로 줄이면 호출 측에서 배정을 다시 나눔)
+     *
+     * @param committedReserved 미예약 배정분을 뺀 유효 예약 수량 (일반 재고는 reservedQuantity와 같음)
+     */
+    public void adjust(Integer newQuantity, int committedReserved, String reason) {
         if (newQuantity < 0) {
             throw new InventoryException(
                     InventoryErrorCode.INVALID_QUANTITY,
                     "조정 후 수량은 0 이상이어야 합니다."
             );
         }
+        if (newQuantity < committedReserved) {
+            throw new InventoryException(
+                    InventoryErrorCode.NEGATIVE_STOCK_NOT_ALLOWED,
+                    String.format("조정 후 수량은 예약 수량 이상이어야 합니다: 예약 %d, 요청 %d",
+                            committedReserved, newQuantity)
+            );
+        }
 
-        this.quantityInHub = StockQuantity.of(newQuantity);
+        this.quantityInHub = newQuantity;
     }
 
     /**
      * 안전 재고 설정
      */
     public void setSafetyStock(Integer safetyStock) {
-        this.safetyStock = StockQuantity.of(safetyStock);
+        this.safetyStock = StockQuantity.of(safetyStock).getValue();
     }
 
     /**
@@ -248,7 +335,7 @@ public class Inventory {
             );
         }
 
-        this.reorderPoint = newReorderPoint;
+        this.reorderPoint = newReorderPoint.getValue();
     }
 
     /**
@@ -279,38 +366,83 @@ public class Inventory {
 
     // ==================== 조회 메서드 ====================
 
+    public StockQuantity getQuantityInHub() {
+        return StockQuantity.of(this.quantityInHub);
+    }
+
+    public StockQuantity getReservedQuantity() {
+        return StockQuantity.of(this.reservedQuantity);
+    }
+
+    public StockQuantity getSafetyStock() {
+        return StockQuantity.of(this.safetyStock);
+    }
+
+    public StockQuantity getReorderPoint() {
+        return StockQuantity.of(this.reorderPoint);
+    }
+
     /**
      * 판매 가능한 수량 (전체 - 예약)
      */
     public StockQuantity getAvailableQuantity() {
-        return this.quantityInHub.decrease(this.reservedQuantity.getValue());
+        return StockQuantity.of(getAvailableQuantityValue());
+    }
+
+    // int 조회 (영속화 매핑, 예약/검증 경로용 - StockQuantity 생성 없음)
+
+    public int getQuantityInHubValue() {
+        return this.quantityInHub;
+    }
+
+    public int getReservedQuantityValue() {
+        return this.reservedQuantity;
+    }
+
+    public int getSafetyStockValue() {
+        return this.safetyStock;
+    }
+
+    public int getReorderPointValue() {
+        return this.reorderPoint;
+    }
+
+    public int getAvailableQuantityValue() {
+        return this.quantityInHub - this.reservedQuantity;
     }
 
     /**
      * 안전 재고 이하인지 확인
      */
     public boolean isBelowSafetyStock() {
-        StockQuantity available = getAvailableQuantity();
-        return available.isLessThanOrEqual(this.safetyStock);
+        return getAvailableQuantityValue() <= this.safetyStock;
     }
 
     /**
      * 재주문 시점 도달 여부
      */
     public boolean needsReorder() {
-        StockQuantity available = getAvailableQuantity();
-        return available.isLessThanOrEqual(this.reorderPoint);
+        return getAvailableQuantityValue() <= this.reorderPoint;
     }
 
     /**
      * 재고 없음
      */
     public boolean isOutOfStock() {
-        return getAvailableQuantity().isZero();
+        return getAvailableQuantityValue() == 0;
     }
 
     // ==================== 검증 로직 ====================
 
+    private static void validateAmount(int quantity) {
+        if (quantity < 0) {
+            throw new InventoryException(
+                    InventoryErrorCode.INVALID_QUANTITY,
+                    "수량은 0 이상이어야 합니다. 입력값: " + quantity
+            );
+        }
+    }
+
     private static void validateLocation(String location) {
         if (location == null || location.trim().isEmpty()) {
             throw new InventoryException(
@@ -0,0 +1,121 @@
+package com.early_express.inventory_service.domain.inventory.domain.model;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 라인 (예약 원장)
+ * - 예약 1건(reservationId)은 허브별 배정마다 1개 라인으로 기록
+ * - 재고 카운터 변경과 같은 트랜잭션에서 저장되어 예약 ID / 주문 ID만으로 해제·확정 가능
+ * - RESERVED 상태의 라인만 해제/확정/만료 대상 (중복 처리 방지)
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class StockReservation {
+
+    private final String reservationLineId;
+    private final String reservationId;
+    private final String orderId;
+    private final String inventoryId;
+    private final String productId;
+    private final String hubId;
+    private final Integer shardNo;  // 샤드 모드 재고의 예약 샤드 (부모 행 예약이면 null)
+    private final int quantity;
+    private ReservationStatus status;
+    private final LocalDateTime expiresAt;
+    private final LocalDateTime createdAt;
+
+    /**
+     * 신규 예약 라인 생성 (ID는 저장 시 생성)
+     */
+    public static StockReservation create(
+            String reservationId,
+            String orderId,
+            String inventoryId,
+            String productId,
+            String hubId,
+            Integer shardNo,
+            int quantity,
+            LocalDateTime expiresAt
+    ) {
+        return StockReservation.builder()
+                .reservationId(reservationId)
+                .orderId(orderId)
+                .inventoryId(inventoryId)
+                .productId(productId)
+                .hubId(hubId)
+                .shardNo(shardNo)
+                .quantity(quantity)
+                .status(ReservationStatus.RESERVED)
+                .expiresAt(expiresAt)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 쓰기 지연 예약 라인 생성 (플래시 세일)
+     * - 라인 ID를 예약 시점에 생성하여 저널 재적용 시 같은 라인을 중복 INSERT하지 않음
+     */
+    public static StockReservation createWithLineId(
+            String reservationLineId,
+            String reservationId,
+            String orderId,
+            String inventoryId,
+            String productId,
+            String hubId,
+            int quantity,
+            LocalDateTime expiresAt
+    ) {
+        return StockReservation.builder()
+                .reservationLineId(reservationLineId)
+                .reservationId(reservationId)
+                .orderId(orderId)
+                .inventoryId(inventoryId)
+                .productId(productId)
+                .hubId(hubId)
+                .quantity(quantity)
+                .status(ReservationStatus.RESERVED)
+                .expiresAt(expiresAt)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * DB에서 복원
+     */
+    public static StockReservation reconstruct(
+            String reservationLineId,
+            String reservationId,
+            String orderId,
+            String inventoryId,
+            String productId,
+            String hubId,
+            Integer shardNo,
+            int quantity,
+            ReservationStatus status,
+            LocalDateTime expiresAt,
+            LocalDateTime createdAt
+    ) {
+        return StockReservation.builder()
+                .reservationLineId(reservationLineId)
+                .reservationId(reservationId)
+                .orderId(orderId)
+                .inventoryId(inventoryId)
+                .productId(productId)
+                .hubId(hubId)
+                .shardNo(shardNo)
+                .quantity(quantity)
+                .status(status)
+                .expiresAt(expiresAt)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    public boolean isActive() {
+        return this.status.isActive();
+    }
+}
@@ -0,0 +1,130 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 다중 허브 분할 배정 계획 Value Object
+ * - 한 상품의 전체 허브 스냅샷으로 메모리에서 계획 수립 (추가 조회 없음)
+ * - 1순위: 사용하는 허브 수 최소화
+ * - 2순위: 같은 허브 수의 계획 중 허브 우선순위가 높은 허브 조합
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AllocationPlan {
+
+    private final String productId;
+    private final List<HubAllocation> allocations;
+
+    /**
+     * 분할 배정 계획 수립
+     *
+     * @param productId    상품 ID
+     * @param snapshots    상품의 허브별 재고 스냅샷
+     * @param quantity     요청 수량
+     * @param hubPriority  허브 우선순위 (앞일수록 우선, 목록에 없는 허브는 가장 뒤)
+     * @return 전체 허브 가용 재고 합으로도 부족하면 빈 Optional
+     */
+    public static Optional<AllocationPlan> plan(
+            String productId,
+            List<StockSnapshot> snapshots,
+            int quantity,
+            List<String> hubPriority) {
+
+        // 우선순위 순으로 정렬 (동순위는 가용 재고 많은 순, 그다음 hubId)
+        List<StockSnapshot> candidates = snapshots.stream()
+                .filter(snapshot -> snapshot.getAvailableQuantity() > 0)
+                .sorted(Comparator
+                        .comparingInt((StockSnapshot snapshot) -> priorityOf(hubPriority, snapshot.getHubId()))
+                        .thenComparing(Comparator.comparingInt(StockSnapshot::getAvailableQuantity).reversed())
+                        .thenComparing(StockSnapshot::getHubId))
+                .toList();
+
+        int hubCount = minimumHubCount(candidates, quantity);
+        if (hubCount == 0) {
+            return Optional.empty();
+        }
+
+        // 최소 허브 수를 유지할 수 있는 범위에서 우선순위가 높은 허브부터 채택
+        List<StockSnapshot> chosen = new ArrayList<>(hubCount);
+        int chosenSum = 0;
+        for (int i = 0; i < candidates.size() && chosen.size() < hubCount; i++) {
+            StockSnapshot candidate = candidates.get(i);
+            int slotsAfter = hubCount - chosen.size() - 1;
+            int reachable = chosenSum + candidate.getAvailableQuantity()
+                    + largestSum(candidates.subList(i + 1, candidates.size()), slotsAfter);
+            if (reachable >= quantity) {
+                chosen.add(candidate);
+                chosenSum += candidate.getAvailableQuantity();
+            }
+        }
+
+        List<HubAllocation> allocations = new ArrayList<>(chosen.size());
+        int remaining = quantity;
+        for (StockSnapshot snapshot : chosen) {
+            int take = Math.min(snapshot.getAvailableQuantity(), remaining);
+            allocations.add(HubAllocation.of(snapshot.getHubId(), take));
+            remaining -= take;
+        }
+
+        return Optional.of(new AllocationPlan(productId, List.copyOf(allocations)));
+    }
+
+    /**
+     * 계획에 포함된 허브 수
+     */
+    public int getHubCount() {
+        return allocations.size();
+    }
+
+    public boolean isSplit() {
+        return allocations.size() > 1;
+    }
+
+    /**
+     * 가용 재고가 큰 허브부터 채울 때 필요한 허브 수 (부족하면 0)
+     */
+    private static int minimumHubCount(List<StockSnapshot> candidates, int quantity) {
+        int[] available = candidates.stream()
+                .mapToInt(StockSnapshot::getAvailableQuantity)
+                .sorted()
+                .toArray();
+
+        long sum = 0;
+        for (int i = available.length - 1, count = 1; i >= 0; i--, count++) {
+            sum += available[i];
+            if (sum >= quantity) {
+                return count;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 가용 재고 상위 n개 합
+     */
+    private static int largestSum(List<StockSnapshot> candidates, int n) {
+        if (n <= 0) {
+            return 0;
+        }
+        return candidates.stream()
+                .map(StockSnapshot::getAvailableQuantity)
+                .sorted(Comparator.reverseOrder())
+                .limit(n)
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    private static int priorityOf(List<String> hubPriority, String hubId) {
+        int index = hubPriority.indexOf(hubId);
+        return index >= 0 ? index : hubPriority.size();
+    }
+}
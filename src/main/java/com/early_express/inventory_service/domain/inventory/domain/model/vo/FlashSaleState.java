@@ -0,0 +1,35 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 플래시 세일 상태 Value Object
+ * - ownerId: 메모리 카운터로 예약을 처리하는 노드 (다른 노드는 ownerUrl로 예약 요청 전달)
+ * - allottedQuantity: 카운터에 배정된 수량, reservedQuantity: DB에 반영된 예약 수량
+ */
+@Getter
+@Builder
+@ToString
+public class FlashSaleState {
+
+    private final String inventoryId;
+    private final String productId;
+    private final String hubId;
+    private final String ownerId;
+    private final String ownerUrl;
+    private final int allottedQuantity;
+    private final int reservedQuantity;
+
+    public InventoryKey getKey() {
+        return InventoryKey.of(productId, hubId);
+    }
+
+    /**
+     * 카운터에 남은 수량 (DB 반영 기준)
+     */
+    public int getAvailableQuantity() {
+        return allottedQuantity - reservedQuantity;
+    }
+}
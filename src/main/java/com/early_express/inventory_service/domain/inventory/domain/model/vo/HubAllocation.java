@@ -0,0 +1,20 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 허브별 배정 수량 Value Object
+ * - 분할 배정 계획의 한 조각 (허브 하나에 배정된 수량)
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(staticName = "of")
+public class HubAllocation {
+
+    private final String hubId;
+    private final int quantity;
+}
@@ -0,0 +1,49 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 허브 자동 선택 정책 Value Object
+ * - hubId 없이 들어온 예약 라인을 어느 허브에 배정할지 결정하는 우선순위
+ * - 가용 재고가 요청 수량 이상인 허브 중 정책 순서상 첫 번째 허브를 선택
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class HubSelectionPolicy {
+
+    public enum Type {
+        /**
+         * 가용 재고가 가장 많은 허브 우선
+         */
+        MOST_AVAILABLE,
+
+        /**
+         * 지정한 허브 순서 우선 (목록에 없는 허브는 가용 재고 순으로 뒤에 배치)
+         */
+        PREFERRED_HUBS
+    }
+
+    private final Type type;
+    private final List<String> preferredHubs;
+
+    public static HubSelectionPolicy mostAvailable() {
+        return new HubSelectionPolicy(Type.MOST_AVAILABLE, List.of());
+    }
+
+    public static HubSelectionPolicy preferredHubs(List<String> preferredHubs) {
+        if (preferredHubs == null || preferredHubs.isEmpty()) {
+            throw new IllegalArgumentException("선호 허브 목록은 비어 있을 수 없습니다.");
+        }
+        return new HubSelectionPolicy(Type.PREFERRED_HUBS, List.copyOf(preferredHubs));
+    }
+
+    public static HubSelectionPolicy of(Type type, List<String> preferredHubs) {
+        return type == Type.PREFERRED_HUBS ? preferredHubs(preferredHubs) : mostAvailable();
+    }
+}
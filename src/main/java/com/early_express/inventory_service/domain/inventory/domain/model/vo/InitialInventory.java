@@ -0,0 +1,29 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 초기 재고 생성(insert-if-absent) 결과 Value Object
+ * - inventory: 새로 생성된 행 또는 이미 있던 행
+ * - created: 이번 호출로 INSERT 되었는지 여부 (생성 이벤트 발행 기준)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class InitialInventory {
+
+    private final Inventory inventory;
+    private final boolean created;
+
+    public static InitialInventory created(Inventory inventory) {
+        return new InitialInventory(inventory, true);
+    }
+
+    public static InitialInventory existing(Inventory inventory) {
+        return new InitialInventory(inventory, false);
+    }
+}
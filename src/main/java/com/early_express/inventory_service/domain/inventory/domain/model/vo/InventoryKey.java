@@ -0,0 +1,40 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+
+/**
+ * 재고 식별 키 Value Object (상품 ID + 허브 ID)
+ * - 불변 객체
+ * - 잠금 순서 고정을 위한 정렬 기준 제공 (상품 ID → 허브 ID)
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class InventoryKey implements Comparable<InventoryKey> {
+
+    private static final Comparator<InventoryKey> ORDER = Comparator
+            .comparing(InventoryKey::getProductId)
+            .thenComparing(InventoryKey::getHubId);
+
+    private final String productId;
+    private final String hubId;
+
+    public static InventoryKey of(String productId, String hubId) {
+        return new InventoryKey(productId, hubId);
+    }
+
+    @Override
+    public int compareTo(InventoryKey other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public String toString() {
+        return productId + "@" + hubId;
+    }
+}
@@ -0,0 +1,68 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 재고 샤드 구성 Value Object
+ * - shardCount 1이면 일반 재고 (샤드 없음)
+ * - parentAvailable: 샤드에 배정되지 않고 부모 행에 남은 가용 수량
+ */
+@Getter
+@Builder
+@ToString
+public class InventoryShardLayout {
+
+    private final String inventoryId;
+    private final String productId;
+    private final String hubId;
+    private final int shardCount;
+    private final int parentAvailable;
+    private final List<Shard> shards;
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    /**
+     * 부모 잔여분 + 샤드 미예약 수량 합
+     */
+    public int getTotalAvailable() {
+        return parentAvailable + shards.stream().mapToInt(Shard::getAvailableQuantity).sum();
+    }
+
+    /**
+     * 재분배 필요 여부
+     * - 샤드 행 수가 샤드 수와 다르거나, 부모 행에 가용 수량이 남아 있거나 (재입고 등),
+     *   샤드 간 가용 수량 편차가 평균의 절반을 넘으면 재분배
+     */
+    public boolean needsRebalance() {
+        if (!isSharded()) {
+            return false;
+        }
+        if (shards.size() != shardCount || parentAvailable > 0) {
+            return true;
+        }
+
+        int min = shards.stream().mapToInt(Shard::getAvailableQuantity).min().orElse(0);
+        int max = shards.stream().mapToInt(Shard::getAvailableQuantity).max().orElse(0);
+        int average = getTotalAvailable() / shardCount;
+        return max - min > Math.max(1, average / 2);
+    }
+
+    @Getter
+    @ToString
+    @Builder
+    public static class Shard {
+        private final int shardNo;
+        private final int allottedQuantity;
+        private final int reservedQuantity;
+
+        public int getAvailableQuantity() {
+            return allottedQuantity - reservedQuantity;
+        }
+    }
+}
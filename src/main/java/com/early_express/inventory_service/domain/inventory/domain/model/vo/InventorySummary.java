@@ -0,0 +1,52 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 목록 조회용 읽기 모델 Value Object
+ * - 관리자/허브 목록 화면에 필요한 컬럼만 담는 프로젝션 결과
+ * - 엔티티 하이드레이션·영속성 컨텍스트 등록 없이 조회 (변경 불가, 저장 경로에 사용하지 않음)
+ */
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+public class InventorySummary {
+
+    private final String inventoryId;
+    private final String productId;
+    private final String hubId;
+    private final int quantityInHub;
+    private final int reservedQuantity;
+    private final int safetyStock;
+    private final String location;
+    private final LocalDateTime lastRestockedAt;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    /**
+     * 판매 가능한 수량 (전체 - 예약)
+     */
+    public int getAvailableQuantity() {
+        return this.quantityInHub - this.reservedQuantity;
+    }
+
+    /**
+     * 재고 없음
+     */
+    public boolean isOutOfStock() {
+        return getAvailableQuantity() == 0;
+    }
+
+    /**
+     * 안전 재고 이하인지 확인
+     */
+    public boolean isBelowSafetyStock() {
+        return getAvailableQuantity() <= this.safetyStock;
+    }
+}
@@ -0,0 +1,21 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+/**
+ * 예약 라인 상태
+ * - RESERVED: 재고 예약 중 (해제/확정/만료 가능)
+ * - RELEASED: 예약 해제됨 (주문 취소)
+ * - CONFIRMED: 출고 확정됨
+ * - EXPIRED: 만료 시각 경과로 자동 해제됨
+ * - FAILED: 플래시 세일 쓰기 지연 반영 시 재고가 부족해 카운터에 반영되지 않음 (예약 수량 변경 없음)
+ */
+public enum ReservationStatus {
+    RESERVED,
+    RELEASED,
+    CONFIRMED,
+    EXPIRED,
+    FAILED;
+
+    public boolean isActive() {
+        return this == RESERVED;
+    }
+}
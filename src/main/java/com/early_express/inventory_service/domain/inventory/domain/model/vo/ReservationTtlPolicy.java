@@ -0,0 +1,24 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 유효 기간 정책 Value Object
+ * - 예약 라인의 만료 시각 = 예약 시각 + ttl
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(staticName = "of")
+public class ReservationTtlPolicy {
+
+    private final Duration ttl;
+
+    public LocalDateTime expiresAt(LocalDateTime reservedAt) {
+        return reservedAt.plus(ttl);
+    }
+}
@@ -0,0 +1,25 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 다중 허브 분할 배정 정책 Value Object
+ * - 허브 미지정 라인을 단일 허브로 채울 수 없을 때 여러 허브로 나눠 예약할지 여부
+ * - 같은 허브 수의 계획 중에서 고를 때 사용할 허브 우선순위
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(staticName = "of")
+public class SplitAllocationPolicy {
+
+    private final boolean enabled;
+    private final List<String> hubPriority;
+
+    public static SplitAllocationPolicy disabled() {
+        return of(false, List.of());
+    }
+}
@@ -0,0 +1,33 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 재고 변경 라인 Value Object (재고 키 + 수량)
+ * - 다건 예약/해제 등 배치 카운터 변경 입력
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class StockLine {
+
+    private final InventoryKey key;
+    private final int quantity;
+
+    public static StockLine of(String productId, String hubId, int quantity) {
+        return new StockLine(InventoryKey.of(productId, hubId), quantity);
+    }
+
+    public String getProductId() {
+        return key.getProductId();
+    }
+
+    public String getHubId() {
+        return key.getHubId();
+    }
+}
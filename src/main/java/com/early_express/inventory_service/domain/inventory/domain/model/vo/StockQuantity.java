@@ -2,43 +2,55 @@ package com.early_express.inventory_service.domain.inventory.domain.model.vo;
 
 import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryErrorCode;
 import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryException;
-import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
 /**
  * 재고 수량 Value Object
  * - 불변 객체
  * - 음수 방지 검증 포함
+ * - int 기반 (박싱 없음), 0 ~ CACHE_SIZE-1 수량은 미리 만든 인스턴스 재사용
+ * - 비교 메서드는 int 오버로드 제공 (비교용 임시 객체 생성 없음)
  */
 @Getter
 @EqualsAndHashCode
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StockQuantity {
 
-    private Integer value;
+    private static final int CACHE_SIZE = 1024;
+    private static final StockQuantity[] CACHE = new StockQuantity[CACHE_SIZE];
 
-    private StockQuantity(Integer value) {
-        validate(value);
-        this.value = value;
+    static {
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            CACHE[i] = new StockQuantity(i);
+        }
     }
 
-    public static StockQuantity of(Integer value) {
-        return new StockQuantity(value);
+    private final int value;
+
+    private StockQuantity(int value) {
+        this.value = value;
     }
 
-    public static StockQuantity zero() {
-        return new StockQuantity(0);
+    public static StockQuantity of(int value) {
+        validate(value);
+        return value < CACHE_SIZE ? CACHE[value] : new StockQuantity(value);
     }
 
-    private void validate(Integer value) {
+    public static StockQuantity of(Integer value) {
         if (value == null) {
             throw new InventoryException(
                     InventoryErrorCode.INVALID_QUANTITY,
                     "수량은 null일 수 없습니다."
             );
         }
+        return of(value.intValue());
+    }
+
+    public static StockQuantity zero() {
+        return CACHE[0];
+    }
+
+    private static void validate(int value) {
         if (value < 0) {
             throw new InventoryException(
                     InventoryErrorCode.INVALID_QUANTITY,
@@ -50,7 +62,7 @@ public class StockQuantity {
     /**
      * 증가
      */
-    public StockQuantity increase(Integer amount) {
+    public StockQuantity increase(int amount) {
         if (amount < 0) {
             throw new InventoryException(
                     InventoryErrorCode.INVALID_QUANTITY,
@@ -63,7 +75,7 @@ public class StockQuantity {
     /**
      * 감소
      */
-    public StockQuantity decrease(Integer amount) {
+    public StockQuantity decrease(int amount) {
         if (amount < 0) {
             throw new InventoryException(
                     InventoryErrorCode.INVALID_QUANTITY,
@@ -101,12 +113,28 @@ public class StockQuantity {
         return this.value <= other.value;
     }
 
+    public boolean isGreaterThan(int other) {
+        return this.value > other;
+    }
+
+    public boolean isGreaterThanOrEqual(int other) {
+        return this.value >= other;
+    }
+
+    public boolean isLessThan(int other) {
+        return this.value < other;
+    }
+
+    public boolean isLessThanOrEqual(int other) {
+        return this.value <= other;
+    }
+
     public boolean isZero() {
         return this.value == 0;
     }
 
     @Override
     public String toString() {
-        return value.toString();
+        return Integer.toString(value);
     }
 }
@@ -0,0 +1,42 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 재고 카운터 스냅샷 Value Object
+ * - 조건부 UPDATE / 프로젝션 조회 결과를 담는 읽기 전용 값
+ * - 엔티티 하이드레이션 없이 수량 컬럼만 전달
+ * - 샤드 모드 재고는 샤드 합산 기준 유효 값 (shardNo: 예약이 반영된 샤드, 부모 행이면 null)
+ */
+@Getter
+@Builder(toBuilder = true)
+@ToString
+@EqualsAndHashCode
+public class StockSnapshot {
+
+    private final String inventoryId;
+    private final String productId;
+    private final String hubId;
+    private final int quantityInHub;
+    private final int reservedQuantity;
+    private final int safetyStock;
+    private final long version;
+    private final Integer shardNo;
+
+    /**
+     * 판매 가능한 수량 (전체 - 예약)
+     */
+    public int getAvailableQuantity() {
+        return this.quantityInHub - this.reservedQuantity;
+    }
+
+    /**
+     * 안전 재고 이하인지 확인
+     */
+    public boolean isBelowSafetyStock() {
+        return getAvailableQuantity() <= this.safetyStock;
+    }
+}
@@ -0,0 +1,57 @@
+package com.early_express.inventory_service.domain.inventory.domain.repository;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.FlashSaleState;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 플래시 세일 Repository 인터페이스 (포트)
+ * - 플래시 세일 재고는 가용 수량 전체를 소유 노드의 메모리 카운터에 배정하고 (부모 예약 수량에 포함),
+ *   카운터에서 나간 예약은 쓰기 지연으로 모아 반영
+ */
+public interface FlashSaleRepository {
+
+    /**
+     * 플래시 세일 시작 - 가용 수량 전체를 카운터에 배정하고 소유 노드 기록
+     * - 이미 플래시 세일 중이거나 샤드 모드 재고면 빈 Optional
+     */
+    Optional<FlashSaleState> activate(String inventoryId, String ownerId, String ownerUrl);
+
+    /**
+     * 플래시 세일 종료 - 카운터의 미예약 수량을 부모 행으로 반환
+     *
+     * @param ownerId 소유 노드 (null이면 소유 노드와 무관하게 강제 종료)
+     * @return 종료 후 스냅샷, 플래시 세일 중이 아니거나 소유 노드가 다르면 빈 Optional
+     */
+    Optional<StockSnapshot> deactivate(String inventoryId, String ownerId);
+
+    /**
+     * 쓰기 지연 예약 반영
+     * - 소유권이 없어졌으면 (강제 종료 등) 부모 행 예약 수량에 직접 반영
+     * - 부모 행 반영은 가용 재고(전체 - 예약) 안에서만 허용 (종료 후 일반 경로로 팔린 재고와 겹치면 초과 예약)
+     *
+     * @return 반영 후 스냅샷, 재고가 삭제됐거나 가용 재고가 부족하면 빈 Optional
+     */
+    Optional<StockSnapshot> applyReserved(String inventoryId, String ownerId, int quantity);
+
+    /**
+     * 부모 행에 생긴 가용 수량 (재입고, 예약 해제 등)을 카운터에 추가 배정
+     *
+     * @return 추가 배정된 수량
+     */
+    int refill(String inventoryId, String ownerId);
+
+    Optional<FlashSaleState> findByInventoryId(String inventoryId);
+
+    /**
+     * 플래시 세일 중인 전체 재고 (flash_owner 인덱스)
+     */
+    List<FlashSaleState> findActive();
+
+    /**
+     * 노드가 소유한 플래시 세일 재고 (재시작 시 카운터 복구)
+     */
+    List<FlashSaleState> findByOwner(String ownerId);
+}
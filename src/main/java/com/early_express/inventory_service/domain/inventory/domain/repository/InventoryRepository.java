@@ -1,9 +1,16 @@
 package com.early_express.inventory_service.domain.inventory.domain.repository;
 
 import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.HubSelectionPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InitialInventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventorySummary;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockLine;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +27,75 @@ public interface InventoryRepository {
      */
     Inventory save(Inventory inventory);
 
+    /**
+     * 초기 재고 생성 (단일 문장 insert-if-absent)
+     * - 같은 상품-허브 재고가 없으면 생성, 있으면 기존 재고 반환 (동시 생성 요청도 한 건만 INSERT)
+     * - 재고 ID는 호출자가 미리 생성해 전달
+     * - 같은 조합을 삭제된 재고만 점유하고 있으면 빈 Optional
+     */
+    Optional<InitialInventory> createIfAbsent(Inventory inventory);
+
+    /**
+     * 초기 재고 일괄 생성 (배치 insert-if-absent)
+     * - 이미 있는(삭제된 재고 포함) 상품-허브 조합은 건너뜀
+     * - 재고 ID는 호출자가 미리 생성해 전달
+     *
+     * @return 실제로 생성된 재고
+     */
+    List<Inventory> createAllIfAbsent(List<Inventory> inventories);
+
+    /**
+     * 조건부 재고 예약 (단일 UPDATE)
+     * - 가용 재고가 충분할 때만 예약 수량 증가 (삭제된 재고 제외)
+     * - 변경된 행 값을 반환하며, 재고가 없거나 부족하면 빈 Optional
+     */
+    Optional<StockSnapshot> reserve(String productId, String hubId, int quantity);
+
+    /**
+     * 다건 조건부 재고 예약 (배치 1회)
+     * - 재고 키 순으로 실행하여 잠금 순서 고정
+     * - 입력 순서 기준 각 라인의 성공 여부 반환 (전체 롤백은 호출 트랜잭션 책임)
+     */
+    boolean[] reserveAll(List<StockLine> lines);
+
+    /**
+     * 조건부 예약 해제 (단일 UPDATE)
+     * - 예약 수량이 해제 수량 이상일 때만 감소
+     */
+    Optional<StockSnapshot> release(String productId, String hubId, int quantity);
+
+    /**
+     * 조건부 출고 확정 (단일 UPDATE)
+     * - 예약 수량이 확정 수량 이상일 때만 전체 수량과 예약 수량을 함께 감소
+     */
+    Optional<StockSnapshot> confirm(String productId, String hubId, int quantity);
+
+    /**
+     * 상품의 전체 허브 재고 스냅샷 조회 (삭제된 재고 제외)
+     */
+    List<StockSnapshot> findSnapshotsByProduct(String productId);
+
+    /**
+     * 허브 자동 선택 + 조건부 예약 (단일 문장)
+     * - 정책 순서상 가용 재고가 충분한 첫 번째 허브에 예약
+     */
+    Optional<StockSnapshot> reserveOnSelectedHub(String productId, int quantity, HubSelectionPolicy policy);
+
+    /**
+     * 정책 순서상 가용 재고가 충분한 첫 번째 허브 조회
+     */
+    Optional<String> selectHub(String productId, int quantity, HubSelectionPolicy policy);
+
+    /**
+     * 상품-허브 조합 목록으로 재고 스냅샷 조회 (삭제된 재고 제외)
+     */
+    List<StockSnapshot> findSnapshots(Collection<InventoryKey> keys);
+
+    /**
+     * 허브 내 상품 목록의 재고 스냅샷 조회 (삭제된 재고 제외)
+     */
+    List<StockSnapshot> findSnapshotsByHub(String hubId, Collection<String> productIds);
+
     /**
      * ID로 재고 조회 (삭제된 재고 제외)
      */
@@ -46,25 +122,42 @@ public interface InventoryRepository {
     Optional<Inventory> findByProductIdAndHubId(String productId, String hubId);
 
     /**
-     * 안전 재고 이하 재고 조회 (삭제된 재고 제외)
+     * 재고 목록 요약 페이징 조회 (삭제된 재고 제외, 생성일 역순)
+     * - 목록 화면용 컬럼만 프로젝션으로 조회 (엔티티 하이드레이션·스냅샷 없음)
      */
-    List<Inventory> findLowStock();
+    Page<InventorySummary> findSummaries(Pageable pageable);
 
     /**
-     * 페이징 조회 (삭제된 재고 제외)
+     * 허브별 재고 목록 요약 페이징 조회 (삭제된 재고 제외, 생성일 역순)
      */
-    Page<Inventory> findAllWithPaging(Pageable pageable);
+    Page<InventorySummary> findSummariesByHubId(String hubId, Pageable pageable);
 
     /**
-     * 허브별 페이징 조회 (삭제된 재고 제외)
+     * 품절(가용 재고 0) 재고 목록 요약 조회 (삭제된 재고 제외)
+     * - 전체 로드 후 메모리 필터 대신 DB에서 조건 평가
+     * - 가용 재고는 샤드·플래시 세일 배정분을 반영한 유효 값 (StockSnapshot과 같은 기준)
      */
-    Page<Inventory> findByHubIdWithPaging(String hubId, Pageable pageable);
+    List<InventorySummary> findOutOfStockSummaries();
+
+    /**
+     * 안전 재고 이하 재고 목록 요약 조회 (삭제된 재고 제외)
+     * - 유효 가용 재고 <= 안전 재고 (재고 부족 이벤트와 같은 조건)
+     */
+    List<InventorySummary> findLowStockSummaries();
 
     /**
      * 소프트 삭제
      */
     void delete(String inventoryId);
 
+    /**
+     * 상품 목록의 재고 일괄 소프트 삭제 (집합 기반 UPDATE)
+     * - 상품별 조회 → 행별 삭제 대신 한 문장으로 처리
+     *
+     * @return 삭제된 재고의 스냅샷 (ID, 상품-허브 키 포함)
+     */
+    List<StockSnapshot> softDeleteByProductIds(Collection<String> productIds);
+
     /**
      * 재고 존재 여부 확인 (삭제된 재고 제외)
      */
@@ -0,0 +1,60 @@
+package com.early_express.inventory_service.domain.inventory.domain.repository;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryShardLayout;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 재고 샤드 Repository 인터페이스 (포트)
+ * - 반환 스냅샷은 샤드 합산 유효 값이며 shardNo에 예약이 반영된 샤드 번호를 담음
+ */
+public interface InventoryShardRepository {
+
+    /**
+     * 무작위 샤드에 조건부 예약
+     * - 잠기지 않은 샤드 중 가용 수량이 충분한 샤드를 무작위로 선택, 모두 잠겨 있으면 무작위 샤드를 대기
+     * - 샤드가 없거나 모든 샤드가 부족하면 빈 Optional
+     */
+    Optional<StockSnapshot> reserve(String productId, String hubId, int quantity);
+
+    /**
+     * 샤드 예약 해제 (샤드가 없거나 예약 수량이 부족하면 빈 Optional)
+     */
+    Optional<StockSnapshot> release(String inventoryId, int shardNo, int quantity);
+
+    /**
+     * 샤드 예약 출고 확정 - 샤드 배정/예약 수량과 부모 행 전체/예약 수량을 함께 차감
+     */
+    Optional<StockSnapshot> confirm(String inventoryId, int shardNo, int quantity);
+
+    /**
+     * 샤드 수 변경 + 재분배 (부모 행과 샤드 행을 잠그고 한 트랜잭션에서 처리)
+     * - 가용 수량(부모 잔여분 + 샤드 미예약분)을 활성 샤드에 균등 배정
+     * - shardCount 이상 번호의 샤드와 shardCount 1 이하의 모든 샤드는 부모 행으로 합쳐 삭제
+     */
+    Optional<InventoryShardLayout> reshard(String inventoryId, int shardCount);
+
+    /**
+     * 현재 샤드 수를 유지한 채 재분배 (재입고로 부모 행에 쌓인 수량, 샤드 간 편차 해소)
+     */
+    Optional<InventoryShardLayout> rebalance(String inventoryId);
+
+    /**
+     * 샤드 구성 조회
+     */
+    Optional<InventoryShardLayout> findLayout(String inventoryId);
+
+    /**
+     * 샤드 모드 재고 ID 목록
+     */
+    List<String> findShardedInventoryIds();
+
+    /**
+     * 샤드 모드 재고 키 목록
+     */
+    Set<InventoryKey> findShardedKeys();
+}
@@ -0,0 +1,71 @@
+package com.early_express.inventory_service.domain.inventory.domain.repository;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 예약 원장 Repository 인터페이스 (포트)
+ */
+public interface StockReservationRepository {
+
+    /**
+     * 예약 라인 일괄 저장 (배치 INSERT 1회)
+     */
+    void saveAll(List<StockReservation> reservations);
+
+    /**
+     * 라인 ID가 정해진 예약 라인 저장 (이미 있는 라인은 건너뜀)
+     *
+     * @return 새로 저장된 라인
+     */
+    List<StockReservation> saveAllIfAbsent(List<StockReservation> reservations);
+
+    /**
+     * 예약 ID의 RESERVED 라인 조회 + 행 잠금 (reservation_id 인덱스)
+     * - 동시 해제/확정 요청은 잠금에서 직렬화되고, 뒤늦은 요청은 빈 결과를 받음
+     */
+    List<StockReservation> findActiveByReservationIdForUpdate(String reservationId);
+
+    /**
+     * 주문 ID의 RESERVED 라인 조회 + 행 잠금 (order_id 인덱스)
+     */
+    List<StockReservation> findActiveByOrderIdForUpdate(String orderId);
+
+    /**
+     * 예약 ID의 전체 라인 조회 (상태 무관)
+     */
+    List<StockReservation> findByReservationId(String reservationId);
+
+    /**
+     * 주문 ID의 전체 라인 조회 (상태 무관)
+     */
+    List<StockReservation> findByOrderId(String orderId);
+
+    /**
+     * 예약 ID 목록 중 만료 시각이 지난 RESERVED 라인 조회 + 행 잠금
+     * - 다른 트랜잭션이 잠근 라인은 건너뜀 (SKIP LOCKED) - 인스턴스 간 중복 만료 방지
+     */
+    List<StockReservation> findExpiredForUpdate(Collection<String> reservationIds, LocalDateTime now);
+
+    /**
+     * 만료 시각이 지난 RESERVED 예약 ID 조회 ((status, expires_at) 인덱스 범위 조회)
+     */
+    List<String> findExpiredReservationIds(LocalDateTime now, int limit);
+
+    /**
+     * RESERVED 예약별 가장 이른 만료 시각을 순회 (시작 시 만료 추적 재구성용, 결과를 메모리에 모으지 않음)
+     */
+    void forEachActiveExpiry(BiConsumer<String, LocalDateTime> consumer);
+
+    /**
+     * RESERVED 라인 상태 일괄 변경 (UPDATE 1회)
+     *
+     * @return 변경된 라인 수
+     */
+    int updateStatus(Collection<String> reservationLineIds, ReservationStatus status);
+}
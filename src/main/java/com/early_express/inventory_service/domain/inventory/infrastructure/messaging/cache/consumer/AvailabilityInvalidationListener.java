@@ -0,0 +1,89 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.cache.consumer;
+
+import com.early_express.inventory_service.domain.inventory.application.cache.AvailabilityCache;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.cache.event.AvailabilityInvalidationMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 가용성 캐시 무효화 수신
+ * Inventory Service (다른 인스턴스) → Inventory Service
+ * - 인스턴스마다 고유 그룹 ID로 구독하여 모든 인스턴스가 전체 메시지를 수신 (브로드캐스트)
+ * - 자기 자신이 보낸 메시지는 이미 로컬에서 무효화했으므로 무시
+ * - 전파 지연은 inventory.cache.invalidation.lag 타이머로 기록 (허용 staleness 측정용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class AvailabilityInvalidationListener {
+
+    private final AvailabilityCache availabilityCache;
+
+    @Getter
+    private final String groupId;
+
+    private final Timer lagTimer;
+    private final Counter appliedCounter;
+    private final Counter skippedCounter;
+    private final Counter selfCounter;
+
+    public AvailabilityInvalidationListener(
+            AvailabilityCache availabilityCache,
+            MeterRegistry meterRegistry,
+            @Value("${spring.application.name}") String applicationName
+    ) {
+        this.availabilityCache = availabilityCache;
+        this.groupId = applicationName + "-cache-" + availabilityCache.getNodeId();
+
+        this.lagTimer = Timer.builder("inventory.cache.invalidation.lag")
+                .description("커밋 후 다른 인스턴스 캐시 무효화까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.appliedCounter = receivedCounter(meterRegistry, "applied");
+        this.skippedCounter = receivedCounter(meterRegistry, "skipped");
+        this.selfCounter = receivedCounter(meterRegistry, "self");
+    }
+
+    private static Counter receivedCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("inventory.cache.invalidation.received")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 무효화 메시지 처리
+     * Topic: inventory-cache-invalidation
+     */
+    @KafkaListener(
+            topics = "${spring.kafka.topic.inventory-cache-invalidation:inventory-cache-invalidation}",
+            groupId = "#{__listener.groupId}",
+            containerFactory = "cacheInvalidationListenerContainerFactory"
+    )
+    public void handleInvalidation(@Payload AvailabilityInvalidationMessage message) {
+        if (availabilityCache.getNodeId().equals(message.getOrigin())) {
+            selfCounter.increment();
+            return;
+        }
+
+        lagTimer.record(Duration.ofMillis(Math.max(0L, System.currentTimeMillis() - message.getSentAt())));
+
+        InventoryKey key = InventoryKey.of(message.getProductId(), message.getHubId());
+        if (availabilityCache.applyRemoteInvalidation(key, message.getVersion())) {
+            appliedCounter.increment();
+        } else {
+            skippedCounter.increment();
+            log.debug("캐시 무효화 생략 (캐시 없음 또는 최신) - key: {}, version: {}", key, message.getVersion());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.cache.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가용성 캐시 무효화 메시지 (Kafka 메시지)
+ * Inventory Service → Inventory Service (모든 인스턴스)
+ * Topic: inventory-cache-invalidation
+ * - 도메인 이벤트가 아니므로 BaseEvent를 상속하지 않는 최소 필드 구성
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityInvalidationMessage {
+
+    private String productId;
+    private String hubId;
+
+    /**
+     * 변경 후 재고 버전 (순서 역전 메시지 판별용)
+     */
+    private long version;
+
+    /**
+     * 발신 인스턴스 ID
+     */
+    private String origin;
+
+    /**
+     * 발신 시각 (epoch millis, 전파 지연 측정용)
+     */
+    private long sentAt;
+}
@@ -0,0 +1,47 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.cache.producer;
+
+import com.early_express.inventory_service.domain.inventory.application.cache.AvailabilityInvalidationBroadcaster;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.cache.event.AvailabilityInvalidationMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가용성 캐시 무효화 전파 (Kafka Adapter)
+ * - 키를 productId@hubId로 지정해 같은 재고의 메시지가 한 파티션에서 순서대로 전달되도록 함
+ * - 캐시 무효화는 커밋 이후 best-effort 전송 (아웃박스를 거치지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaAvailabilityInvalidationBroadcaster implements AvailabilityInvalidationBroadcaster {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${spring.kafka.topic.inventory-cache-invalidation:inventory-cache-invalidation}")
+    private String invalidationTopic;
+
+    @Override
+    public void broadcast(InventoryKey key, long version, String origin) {
+        AvailabilityInvalidationMessage message = AvailabilityInvalidationMessage.builder()
+                .productId(key.getProductId())
+                .hubId(key.getHubId())
+                .version(version)
+                .origin(origin)
+                .sentAt(System.currentTimeMillis())
+                .build();
+
+        kafkaTemplate.send(invalidationTopic, key.toString(), message)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("캐시 무효화 전송 실패 - key: {}, version: {}, error: {}",
+                                key, version, ex.getMessage());
+                    }
+                });
+    }
+}
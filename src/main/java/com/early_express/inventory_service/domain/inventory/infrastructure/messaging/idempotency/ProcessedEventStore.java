@@ -0,0 +1,144 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.idempotency;
+
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jdbc.ProcessedEventJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 멱등 컨슈머용 처리 완료 이벤트 저장소
+ * - 앞단: 최근 처리한 eventId의 크기 제한 LRU (재전달 대부분은 리밸런스 직후라 여기서 걸러짐)
+ * - 뒷단: p_processed_events 테이블 (인스턴스 재시작·파티션 이동 후에도 중복 판별)
+ * - 기록은 처리 트랜잭션 안에서 수행해 처리 결과와 함께 커밋되며, LRU는 커밋 후에만 반영
+ * - 보관 기간이 지난 기록은 주기적으로 청크 삭제
+ * - eventId가 없는 이벤트는 판별 대상에서 제외 (항상 처리)
+ */
+@Slf4j
+@Component
+public class ProcessedEventStore {
+
+    private final ProcessedEventJdbcRepository processedEventJdbcRepository;
+    private final Map<String, Boolean> recent;
+    private final Counter duplicateCounter;
+
+    @Value("${inventory.idempotency.retention-hours:168}")
+    private long retentionHours;
+
+    @Value("${inventory.idempotency.prune-batch-size:5000}")
+    private int pruneBatchSize;
+
+    public ProcessedEventStore(
+            ProcessedEventJdbcRepository processedEventJdbcRepository,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.idempotency.cache-size:100000}") int cacheSize
+    ) {
+        this.processedEventJdbcRepository = processedEventJdbcRepository;
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.duplicateCounter = Counter.builder("inventory.consumer.duplicate")
+                .description("이미 처리되어 건너뛴 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미 처리된 이벤트 ID 조회
+     * - LRU에 없는 ID만 테이블에서 한 번에 조회
+     */
+    public Set<String> findProcessed(Collection<String> eventIds) {
+        Set<String> processed = new HashSet<>();
+        List<String> unknown = new ArrayList<>();
+
+        for (String eventId : eventIds) {
+            if (eventId == null) {
+                continue;
+            }
+            if (recent.containsKey(eventId)) {
+                processed.add(eventId);
+            } else {
+                unknown.add(eventId);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            Set<String> stored = processedEventJdbcRepository.findProcessed(unknown);
+            stored.forEach(eventId -> recent.put(eventId, Boolean.TRUE));
+            processed.addAll(stored);
+        }
+
+        if (!processed.isEmpty()) {
+            duplicateCounter.increment(processed.size());
+        }
+
+        return processed;
+    }
+
+    /**
+     * 단건 처리 여부 확인
+     */
+    public boolean isProcessed(String eventId) {
+        return eventId != null && !findProcessed(List.of(eventId)).isEmpty();
+    }
+
+    /**
+     * 처리 완료 기록
+     * - 호출 트랜잭션에 참여하며 커밋된 뒤에 LRU에 반영 (롤백되면 기록도 사라짐)
+     */
+    public void markProcessed(Collection<String> eventIds, String topic) {
+        List<String> ids = eventIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        processedEventJdbcRepository.insertAllIfAbsent(ids, topic);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(eventId -> recent.put(eventId, Boolean.TRUE));
+                }
+            });
+        } else {
+            ids.forEach(eventId -> recent.put(eventId, Boolean.TRUE));
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 처리 기록 삭제
+     */
+    @Scheduled(fixedDelayString = "${inventory.idempotency.prune-interval-ms:600000}")
+    public void prune() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(retentionHours);
+        int total = 0;
+        int deleted;
+
+        do {
+            deleted = processedEventJdbcRepository.deleteProcessedBefore(threshold, pruneBatchSize);
+            total += deleted;
+        } while (deleted == pruneBatchSize);
+
+        if (total > 0) {
+            log.info("처리 완료 이벤트 기록 정리: deleted={}, threshold={}", total, threshold);
+        }
+    }
+}
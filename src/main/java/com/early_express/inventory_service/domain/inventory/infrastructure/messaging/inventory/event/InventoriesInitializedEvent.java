@@ -0,0 +1,58 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.inventory.event;
+
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.InventoriesInitializedEventData;
+import com.early_express.inventory_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 초기 재고 일괄 생성 이벤트 (Kafka 메시지)
+ * - 허브별 InventoryCreated 대신 상품당 한 건
+ * Topic: inventory-initialized
+ */
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+public class InventoriesInitializedEvent extends BaseEvent {
+
+    private String productId;
+    private List<HubInventory> inventories;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HubInventory {
+        private String inventoryId;
+        private String hubId;
+        private Integer quantity;
+    }
+
+    public static InventoriesInitializedEvent from(InventoriesInitializedEventData data) {
+        InventoriesInitializedEvent event = InventoriesInitializedEvent.builder()
+                .productId(data.getProductId())
+                .inventories(data.getInventories().stream()
+                        .map(inventory -> HubInventory.builder()
+                                .inventoryId(inventory.getInventoryId())
+                                .hubId(inventory.getHubId())
+                                .quantity(inventory.getQuantity())
+                                .build())
+                        .toList())
+                .createdAt(data.getCreatedAt())
+                .build();
+
+        event.initBaseEvent("INVENTORIES_INITIALIZED", "inventory-service");
+
+        return event;
+    }
+}
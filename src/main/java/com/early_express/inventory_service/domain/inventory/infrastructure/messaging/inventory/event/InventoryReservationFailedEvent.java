@@ -0,0 +1,49 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.inventory.event;
+
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.InventoryReservationFailedEventData;
+import com.early_express.inventory_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 실패 이벤트 (Kafka 메시지)
+ * Inventory Service → Order Service
+ * Topic: inventory-reservation-failed
+ */
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+public class InventoryReservationFailedEvent extends BaseEvent {
+
+    private String reservationId;
+    private String inventoryId;
+    private String productId;
+    private String hubId;
+    private String orderId;
+    private Integer failedQuantity;
+    private String reason;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime failedAt;
+
+    public static InventoryReservationFailedEvent from(InventoryReservationFailedEventData data) {
+        InventoryReservationFailedEvent event = InventoryReservationFailedEvent.builder()
+                .reservationId(data.getReservationId())
+                .inventoryId(data.getInventoryId())
+                .productId(data.getProductId())
+                .hubId(data.getHubId())
+                .orderId(data.getOrderId())
+                .failedQuantity(data.getFailedQuantity())
+                .reason(data.getReason())
+                .failedAt(data.getFailedAt())
+                .build();
+
+        event.initBaseEvent("INVENTORY_RESERVATION_FAILED", "inventory-service");
+
+        return event;
+    }
+}
@@ -0,0 +1,45 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.inventory.producer;
+
+import com.early_express.inventory_service.global.infrastructure.event.base.BaseEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Kafka 직접 전송 채널
+ * - inventory.outbox.enabled=false 일 때만 사용
+ * - 호출 트랜잭션과 무관하게 즉시 전송 (롤백되어도 이벤트가 나갈 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.outbox.enabled", havingValue = "false")
+public class DirectInventoryEventSender implements InventoryEventSender {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Override
+    public void send(String topic, String key, BaseEvent event, String eventName) {
+        CompletableFuture<SendResult<String, Object>> future =
+                kafkaTemplate.send(topic, key, event);
+
+        future.whenComplete((result, ex) -> {
+            if (ex == null) {
+                log.info("{} 이벤트 발행 성공 - key: {}, topic: {}, partition: {}, offset: {}",
+                        eventName,
+                        key,
+                        result.getRecordMetadata().topic(),
+                        result.getRecordMetadata().partition(),
+                        result.getRecordMetadata().offset());
+            } else {
+                log.error("{} 이벤트 발행 실패 - key: {}, error: {}",
+                        eventName, key, ex.getMessage(), ex);
+            }
+        });
+    }
+}
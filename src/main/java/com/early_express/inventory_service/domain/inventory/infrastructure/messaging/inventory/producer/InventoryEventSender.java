@@ -0,0 +1,21 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.inventory.producer;
+
+import com.early_express.inventory_service.global.infrastructure.event.base.BaseEvent;
+
+/**
+ * Inventory 이벤트 전송 채널
+ * - KafkaInventoryEventPublisher가 변환한 Kafka 이벤트를 실제로 내보내는 방식
+ * - 아웃박스 적재(기본) 또는 Kafka 직접 전송
+ */
+public interface InventoryEventSender {
+
+    /**
+     * 이벤트 전송
+     *
+     * @param topic     대상 토픽
+     * @param key       메시지 키 (파티셔닝 기준)
+     * @param event     Kafka 이벤트
+     * @param eventName 로그용 이벤트 이름
+     */
+    void send(String topic, String key, BaseEvent event, String eventName);
+}
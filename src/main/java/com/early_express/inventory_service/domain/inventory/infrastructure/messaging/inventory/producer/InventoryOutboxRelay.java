@@ -0,0 +1,240 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.inventory.producer;
+
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity.InventoryOutboxEntity;
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity.OutboxStatus;
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jpa.InventoryOutboxJpaRepository;
+import com.early_express.inventory_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 아웃박스 릴레이
+ * - 아웃박스 테이블을 주기적으로 읽어 기존 토픽으로 대량 전송
+ * - 배치 하나 = 트랜잭션 하나: SKIP LOCKED 조회 → 키마다 한 행씩 비동기 전송 → 응답 대기 (반복) → 성공 행만 삭제
+ * - 여러 인스턴스가 동시에 실행되어도 잠긴 행은 건너뛰므로 같은 행을 중복 전송하지 않음
+ * - 전송 실패 행은 시도 횟수·오류를 기록하고 다음 주기에 재시도 (at-least-once, 컨슈머는 eventId로 중복 제거)
+ * - 재시도로 해결되지 않는 실패(알 수 없는 타입, 역직렬화·직렬화 실패 등)는 최대 시도 횟수 초과 시 DEAD로 전환
+ *   (브로커 장애 같은 일시적 실패는 데드레터로 보내지 않음)
+ * - 같은 메시지 키(집계)의 행은 앞 행의 전송이 확인된 뒤에 보내고, 앞 행이 실패하면(비동기 실패 포함)
+ *   같은 배치의 뒤 행은 보내지 않아 키 내 순서 유지
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class InventoryOutboxRelay {
+
+    private final InventoryOutboxJpaRepository outboxJpaRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * payloadType → 이벤트 클래스 캐시 (BaseEvent 하위 타입만 허용)
+     */
+    private final Map<String, Class<? extends BaseEvent>> eventTypeCache = new ConcurrentHashMap<>();
+
+    @Value("${inventory.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${inventory.outbox.max-batches-per-poll:20}")
+    private int maxBatchesPerPoll;
+
+    @Value("${inventory.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${inventory.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    public InventoryOutboxRelay(
+            InventoryOutboxJpaRepository outboxJpaRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.outboxJpaRepository = outboxJpaRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 아웃박스 드레인
+     * - 배치 전체가 처리되면 한 주기 안에서 최대 maxBatchesPerPoll 회 연속 처리
+     * - 남은 행이 있으면 같은 행을 곧바로 다시 조회하지 않도록 다음 주기로 넘김
+     */
+    @Scheduled(fixedDelayString = "${inventory.outbox.poll-interval-ms:200}")
+    public void relay() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            Integer settled = transactionTemplate.execute(status -> relayBatch());
+            if (settled == null || settled < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 배치 1회 전송
+     *
+     * @return 처리 완료된 행 수 (전송 성공 + 데드레터)
+     */
+    int relayBatch() {
+        List<InventoryOutboxEntity> batch =
+                outboxJpaRepository.findRelayBatch(OutboxStatus.PENDING, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // 키별 대기열 - 같은 키는 앞 행의 전송 확인 후에만 다음 행을 보냄 (키 없는 행은 첫 차수에 모두 전송)
+        Map<String, Deque<InventoryOutboxEntity>> pendingByKey = new LinkedHashMap<>();
+        List<InventoryOutboxEntity> sending = new ArrayList<>();
+        for (InventoryOutboxEntity outbox : batch) {
+            if (outbox.getMessageKey() == null) {
+                sending.add(outbox);
+            } else {
+                pendingByKey.computeIfAbsent(outbox.getMessageKey(), key -> new ArrayDeque<>()).addLast(outbox);
+            }
+        }
+
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        int deadLettered = 0;
+        int blockedKeys = 0;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (int wave = 0; ; wave++) {
+            pendingByKey.values().forEach(rows -> sending.add(rows.peekFirst()));
+            // 전송 대기 시간을 다 쓴 뒤 남은 행은 시도 횟수를 늘리지 않고 다음 주기로 넘김
+            if (sending.isEmpty() || (wave > 0 && deadline - System.nanoTime() <= 0)) {
+                break;
+            }
+
+            // 차수 하나 = 키마다 최대 한 행 - 프로듀서가 linger 동안 모아 보낸 전송 결과를 한꺼번에 대기
+            List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(sending.size());
+            sending.forEach(outbox -> futures.add(send(outbox)));
+
+            boolean interrupted = false;
+            for (int i = 0; i < sending.size(); i++) {
+                InventoryOutboxEntity outbox = sending.get(i);
+                String key = outbox.getMessageKey();
+                try {
+                    long remaining = Math.max(0L, deadline - System.nanoTime());
+                    futures.get(i).get(remaining, TimeUnit.NANOSECONDS);
+                    sentIds.add(outbox.getOutboxId());
+                    if (key != null) {
+                        Deque<InventoryOutboxEntity> rows = pendingByKey.get(key);
+                        rows.pollFirst();
+                        if (rows.isEmpty()) {
+                            pendingByKey.remove(key);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    interrupted = true;
+                    break;
+                } catch (Exception e) {
+                    if (recordFailure(outbox, e)) {
+                        deadLettered++;
+                    }
+                    // 같은 키의 뒤 행은 이번 배치에서 보내지 않음 (다음 주기에 실패한 행부터 다시 전송)
+                    if (key != null && pendingByKey.remove(key) != null) {
+                        blockedKeys++;
+                    }
+                }
+            }
+            if (interrupted) {
+                break;
+            }
+            sending.clear();
+        }
+
+        if (!sentIds.isEmpty()) {
+            outboxJpaRepository.deleteAllByIdInBatch(sentIds);
+        }
+
+        log.debug("아웃박스 릴레이 - 조회: {}, 전송 성공: {}, 데드레터: {}, 보류 키: {}",
+                batch.size(), sentIds.size(), deadLettered, blockedKeys);
+
+        return sentIds.size() + deadLettered;
+    }
+
+    /**
+     * 전송 실패 기록 - 재시도로 해결되지 않는 실패가 최대 시도 횟수에 도달하면 데드레터 전환
+     *
+     * @return 데드레터로 전환되었는지 여부
+     */
+    private boolean recordFailure(InventoryOutboxEntity outbox, Exception e) {
+        Throwable cause = unwrap(e);
+        outbox.recordFailure(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+
+        if (isTransient(cause) || outbox.getAttempts() < maxAttempts) {
+            log.warn("아웃박스 이벤트 전송 실패 - outboxId: {}, topic: {}, eventType: {}, attempts: {}, error: {}",
+                    outbox.getOutboxId(), outbox.getTopic(), outbox.getEventType(), outbox.getAttempts(), cause.getMessage());
+            return false;
+        }
+
+        outbox.markDead();
+        log.error("아웃박스 이벤트 데드레터 전환 - outboxId: {}, topic: {}, eventType: {}, attempts: {}, error: {}",
+                outbox.getOutboxId(), outbox.getTopic(), outbox.getEventType(), outbox.getAttempts(), cause.getMessage());
+        return true;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * 브로커 장애·응답 지연처럼 재시도하면 성공할 수 있는 실패인지 확인
+     */
+    private static boolean isTransient(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof RetriableException || t instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(InventoryOutboxEntity outbox) {
+        try {
+            BaseEvent event = objectMapper.readValue(outbox.getPayload(), resolveEventType(outbox.getPayloadType()));
+            return kafkaTemplate.send(outbox.getTopic(), outbox.getMessageKey(), event);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Class<? extends BaseEvent> resolveEventType(String payloadType) {
+        return eventTypeCache.computeIfAbsent(payloadType, name -> {
+            try {
+                return Class.forName(name).asSubclass(BaseEvent.class);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("알 수 없는 아웃박스 이벤트 타입: " + name, e);
+            }
+        });
+    }
+}
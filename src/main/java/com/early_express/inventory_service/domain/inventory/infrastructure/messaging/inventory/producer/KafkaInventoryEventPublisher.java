@@ -3,29 +3,30 @@ package com.early_express.inventory_service.domain.inventory.infrastructure.mess
 import com.early_express.inventory_service.domain.inventory.domain.messaging.InventoryEventPublisher;
 import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.*;
 import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.inventory.event.*;
+import com.early_express.inventory_service.global.infrastructure.event.base.BaseEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.CompletableFuture;
-
 /**
  * Inventory 이벤트 발행자 구현체 (Kafka Adapter)
  * 도메인 EventData → Kafka Event 변환 후 발행
+ * 토픽/키 결정까지 담당하고 전송 방식은 InventoryEventSender가 결정
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaInventoryEventPublisher implements InventoryEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final InventoryEventSender eventSender;
 
     @Value("${spring.kafka.topic.inventory-created:inventory-created}")
     private String inventoryCreatedTopic;
 
+    @Value("${spring.kafka.topic.inventory-initialized:inventory-initialized}")
+    private String inventoryInitializedTopic;
+
     @Value("${spring.kafka.topic.inventory-low-stock:inventory-low-stock}")
     private String inventoryLowStockTopic;
 
@@ -35,6 +36,9 @@ public class KafkaInventoryEventPublisher implements InventoryEventPublisher {
     @Value("${spring.kafka.topic.inventory-reserved:inventory-reserved}")
     private String inventoryReservedTopic;
 
+    @Value("${spring.kafka.topic.inventory-reservation-failed:inventory-reservation-failed}")
+    private String inventoryReservationFailedTopic;
+
     @Value("${spring.kafka.topic.stock-decreased:stock-decreased}")
     private String stockDecreasedTopic;
 
@@ -54,6 +58,19 @@ public class KafkaInventoryEventPublisher implements InventoryEventPublisher {
         sendEvent(inventoryCreatedTopic, eventData.getProductId(), event, "InventoryCreated");
     }
 
+    /**
+     * 상품 초기 재고 일괄 생성 이벤트 발행
+     */
+    @Override
+    public void publishInventoriesInitialized(InventoriesInitializedEventData eventData) {
+        log.info("InventoriesInitialized 이벤트 발행 준비 - productId: {}, hubCount: {}",
+                eventData.getProductId(), eventData.getInventories().size());
+
+        InventoriesInitializedEvent event = InventoriesInitializedEvent.from(eventData);
+
+        sendEvent(inventoryInitializedTopic, eventData.getProductId(), event, "InventoriesInitialized");
+    }
+
     /**
      * 재고 부족 이벤트 발행
      * Inventory Service → Product Service
@@ -97,6 +114,21 @@ public class KafkaInventoryEventPublisher implements InventoryEventPublisher {
         sendEvent(inventoryReservedTopic, eventData.getOrderId(), event, "InventoryReserved");
     }
 
+    /**
+     * 재고 예약 실패 이벤트 발행
+     * Inventory Service → Order Service
+     */
+    @Override
+    public void publishInventoryReservationFailed(InventoryReservationFailedEventData eventData) {
+        log.info("InventoryReservationFailed 이벤트 발행 준비 - orderId: {}, productId: {}, failedQuantity: {}",
+                eventData.getOrderId(), eventData.getProductId(), eventData.getFailedQuantity());
+
+        InventoryReservationFailedEvent event = InventoryReservationFailedEvent.from(eventData);
+
+        // orderId를 키로 사용
+        sendEvent(inventoryReservationFailedTopic, eventData.getOrderId(), event, "InventoryReservationFailed");
+    }
+
     /**
      * 재고 차감 이벤트 발행
      * Inventory Service → Order Service
@@ -129,23 +161,9 @@ public class KafkaInventoryEventPublisher implements InventoryEventPublisher {
 
     /**
      * 공통 이벤트 발행 헬퍼 메서드
+     * - 실제 전송은 InventoryEventSender에 위임 (기본: 트랜잭셔널 아웃박스)
      */
-    private void sendEvent(String topic, String key, Object event, String eventName) {
-        CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(topic, key, event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("{} 이벤트 발행 성공 - key: {}, topic: {}, partition: {}, offset: {}",
-                        eventName,
-                        key,
-                        result.getRecordMetadata().topic(),
-                        result.getRecordMetadata().partition(),
-                        result.getRecordMetadata().offset());
-            } else {
-                log.error("{} 이벤트 발행 실패 - key: {}, error: {}",
-                        eventName, key, ex.getMessage(), ex);
-            }
-        });
+    private void sendEvent(String topic, String key, BaseEvent event, String eventName) {
+        eventSender.send(topic, key, event, eventName);
     }
-}
\ No newline at end of file
+}
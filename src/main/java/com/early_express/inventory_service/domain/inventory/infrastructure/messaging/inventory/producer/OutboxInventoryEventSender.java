@@ -0,0 +1,46 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.inventory.producer;
+
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity.InventoryOutboxEntity;
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jpa.InventoryOutboxJpaRepository;
+import com.early_express.inventory_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 트랜잭셔널 아웃박스 전송 채널 (기본값)
+ * - 재고 변경과 같은 트랜잭션에서 아웃박스 테이블에 이벤트 적재
+ * - 롤백되면 이벤트도 함께 사라지고, 실제 Kafka 전송은 InventoryOutboxRelay가 담당
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxInventoryEventSender implements InventoryEventSender {
+
+    private final InventoryOutboxJpaRepository outboxJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void send(String topic, String key, BaseEvent event, String eventName) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+
+            outboxJpaRepository.save(InventoryOutboxEntity.of(
+                    topic,
+                    key,
+                    event.getEventType(),
+                    event.getClass().getName(),
+                    payload
+            ));
+
+            log.debug("{} 이벤트 아웃박스 적재 - key: {}, topic: {}", eventName, key, topic);
+
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(eventName + " 이벤트 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.product.consumer;
+
+import com.early_express.inventory_service.domain.inventory.application.service.InventoryService;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.idempotency.ProcessedEventStore;
+import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.product.event.ProductCreatedEvent;
+import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.product.event.ProductDeletedEvent;
+import com.early_express.inventory_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 상품 이벤트 레코드 단건 적용기 (배치 / 병렬 Consumer 공용)
+ * - 토픽별 JSON 역직렬화
+ * - 이미 처리된 eventId는 건너뛰고, 재고 변경과 처리 기록을 한 트랜잭션으로 적용
+ */
+@Component
+public class ProductEventApplier {
+
+    private final InventoryService inventoryService;
+    private final ObjectMapper objectMapper;
+    private final ProcessedEventStore processedEventStore;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.kafka.topic.product-created:product-created}")
+    private String productCreatedTopic;
+
+    @Value("${spring.kafka.topic.product-deleted:product-deleted}")
+    private String productDeletedTopic;
+
+    public ProductEventApplier(
+            InventoryService inventoryService,
+            ObjectMapper objectMapper,
+            ProcessedEventStore processedEventStore,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.inventoryService = inventoryService;
+        this.objectMapper = objectMapper;
+        this.processedEventStore = processedEventStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 레코드 하나 적용 (중복이면 건너뜀)
+     */
+    public void apply(ConsumerRecord<String, String> record) throws JsonProcessingException {
+        BaseEvent event = parse(record);
+        if (processedEventStore.isProcessed(event.getEventId())) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (event instanceof ProductCreatedEvent createdEvent) {
+                inventoryService.createInitialInventoriesAt(
+                        List.of(InventoryKey.of(createdEvent.getProductId(), createdEvent.getHubId())));
+            } else if (event instanceof ProductDeletedEvent deletedEvent) {
+                inventoryService.deleteInventoriesByProducts(List.of(deletedEvent.getProductId()));
+            }
+            processedEventStore.markProcessed(Collections.singletonList(event.getEventId()), record.topic());
+        });
+    }
+
+    /**
+     * 토픽에 맞는 이벤트 타입으로 역직렬화
+     */
+    public BaseEvent parse(ConsumerRecord<String, String> record) throws JsonProcessingException {
+        if (isCreated(record)) {
+            return objectMapper.readValue(record.value(), ProductCreatedEvent.class);
+        }
+        return objectMapper.readValue(record.value(), ProductDeletedEvent.class);
+    }
+
+    /**
+     * product-created 레코드 여부 (product-deleted면 false, 그 외 토픽은 예외)
+     */
+    public boolean isCreated(ConsumerRecord<String, String> record) {
+        if (productCreatedTopic.equals(record.topic())) {
+            return true;
+        }
+        if (productDeletedTopic.equals(record.topic())) {
+            return false;
+        }
+        throw new IllegalArgumentException("알 수 없는 상품 이벤트 토픽: " + record.topic());
+    }
+}
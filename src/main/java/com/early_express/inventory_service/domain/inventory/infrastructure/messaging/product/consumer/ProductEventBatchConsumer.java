@@ -0,0 +1,154 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.product.consumer;
+
+import com.early_express.inventory_service.domain.inventory.application.service.InventoryService;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.idempotency.ProcessedEventStore;
+import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.product.event.ProductCreatedEvent;
+import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.product.event.ProductDeletedEvent;
+import com.early_express.inventory_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Product 이벤트 배치 Consumer
+ * Product Service → Inventory Service
+ * - 배치 처리 모드 (inventory.product-events.mode=batch)
+ * - poll 한 번의 product-created / product-deleted 레코드를 종류별로 묶어
+ *   초기 재고 일괄 생성 1회 + 일괄 소프트 삭제 1회로 처리한 뒤 배치 단위로 커밋
+ * - 발행 이벤트는 레코드 단위 모드와 같음 (생성된 재고 행마다 InventoryCreated)
+ * - 같은 배치 안에서는 생성 후 삭제 순으로 적용 (생성·삭제가 함께 오면 최종 상태는 삭제)
+ * - 이미 처리된 eventId는 건너뛰고, 처리한 eventId는 같은 트랜잭션에서 기록 (ProcessedEventStore)
+ * - 일괄 처리가 실패하면 레코드 단위로 다시 적용하고, 실패한 레코드 인덱스를
+ *   BatchListenerFailedException으로 알려 해당 레코드만 재시도 후 DLT로 격리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.product-events.mode", havingValue = "batch")
+public class ProductEventBatchConsumer {
+
+    private final InventoryService inventoryService;
+    private final ProcessedEventStore processedEventStore;
+    private final ProductEventApplier productEventApplier;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.kafka.topic.product-created:product-created}")
+    private String productCreatedTopic;
+
+    @Value("${spring.kafka.topic.product-deleted:product-deleted}")
+    private String productDeletedTopic;
+
+    public ProductEventBatchConsumer(
+            InventoryService inventoryService,
+            ProcessedEventStore processedEventStore,
+            ProductEventApplier productEventApplier,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.inventoryService = inventoryService;
+        this.processedEventStore = processedEventStore;
+        this.productEventApplier = productEventApplier;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @KafkaListener(
+            topics = {
+                    "${spring.kafka.topic.product-created:product-created}",
+                    "${spring.kafka.topic.product-deleted:product-deleted}"
+            },
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "productEventBatchListenerContainerFactory"
+    )
+    public void handleProductEvents(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        log.info("[Product] 이벤트 배치 수신 - count: {}", records.size());
+
+        try {
+            applyBulk(records);
+        } catch (Exception e) {
+            log.warn("[Product] 이벤트 일괄 처리 실패, 레코드 단위로 재처리 - count: {}, error: {}",
+                    records.size(), e.getMessage());
+            applyOneByOne(records);
+        }
+
+        // 배치 단위 수동 커밋
+        ack.acknowledge();
+
+        log.info("[Product] 이벤트 배치 처리 완료 - count: {}", records.size());
+    }
+
+    /**
+     * 종류별로 묶어 일괄 생성 1회 + 일괄 삭제 1회 (한 트랜잭션)
+     */
+    private void applyBulk(List<ConsumerRecord<String, String>> records) throws JsonProcessingException {
+        List<BaseEvent> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, String> record : records) {
+            events.add(productEventApplier.parse(record));
+        }
+
+        Set<String> skip = new HashSet<>(processedEventStore.findProcessed(
+                events.stream().map(BaseEvent::getEventId).toList()));
+
+        List<InventoryKey> created = new ArrayList<>();
+        Set<String> deleted = new LinkedHashSet<>();
+        List<String> createdEventIds = new ArrayList<>();
+        List<String> deletedEventIds = new ArrayList<>();
+
+        for (BaseEvent event : events) {
+            // 배치 안의 같은 eventId도 한 번만 적용
+            if (event.getEventId() != null && !skip.add(event.getEventId())) {
+                continue;
+            }
+            if (event instanceof ProductCreatedEvent createdEvent) {
+                created.add(InventoryKey.of(createdEvent.getProductId(), createdEvent.getHubId()));
+                createdEventIds.add(createdEvent.getEventId());
+            } else if (event instanceof ProductDeletedEvent deletedEvent) {
+                deleted.add(deletedEvent.getProductId());
+                deletedEventIds.add(deletedEvent.getEventId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!created.isEmpty()) {
+                inventoryService.createInitialInventoriesAt(created);
+                processedEventStore.markProcessed(createdEventIds, productCreatedTopic);
+            }
+            if (!deleted.isEmpty()) {
+                inventoryService.deleteInventoriesByProducts(deleted);
+                processedEventStore.markProcessed(deletedEventIds, productDeletedTopic);
+            }
+        });
+
+        log.info("[Product] 이벤트 일괄 처리 - created: {}, deleted: {}, skipped: {}",
+                created.size(), deleted.size(), records.size() - createdEventIds.size() - deletedEventIds.size());
+    }
+
+    /**
+     * 레코드 순서대로 하나씩 적용
+     * - 첫 실패 레코드의 인덱스로 예외를 던져 그 앞까지만 커밋되게 함
+     */
+    private void applyOneByOne(List<ConsumerRecord<String, String>> records) {
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> record = records.get(i);
+            try {
+                productEventApplier.apply(record);
+            } catch (Exception e) {
+                log.error("[Product] 이벤트 처리 실패 - topic: {}, partition: {}, offset: {}, error: {}",
+                        record.topic(), record.partition(), record.offset(), e.getMessage(), e);
+                throw new BatchListenerFailedException("상품 이벤트 처리 실패: offset=" + record.offset(), e, i);
+            }
+        }
+    }
+}
@@ -1,27 +1,47 @@
 package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.product.consumer;
 
 import com.early_express.inventory_service.domain.inventory.application.service.InventoryService;
+import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.idempotency.ProcessedEventStore;
 import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.product.event.ProductCreatedEvent;
 import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.product.event.ProductDeletedEvent;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
 
 /**
  * Product 이벤트 Consumer
  * Product Service → Inventory Service
+ * - 레코드 단위 처리 모드 (inventory.product-events.mode=record)
+ * - 배치 모드는 ProductEventBatchConsumer, 키 순서 병렬 모드는 ProductEventParallelConsumer 참고
+ * - 이미 처리된 eventId는 건너뛰고, 처리한 eventId는 같은 트랜잭션에서 기록 (ProcessedEventStore)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.product-events.mode", havingValue = "record", matchIfMissing = true)
 public class ProductEventConsumer {
 
     private final InventoryService inventoryService;
+    private final ProcessedEventStore processedEventStore;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductEventConsumer(
+            InventoryService inventoryService,
+            ProcessedEventStore processedEventStore,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.inventoryService = inventoryService;
+        this.processedEventStore = processedEventStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 상품 생성 이벤트 처리
@@ -36,6 +56,7 @@ public class ProductEventConsumer {
     public void handleProductCreated(
             @Payload ProductCreatedEvent event,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
             Acknowledgment ack) {
@@ -46,9 +67,18 @@ public class ProductEventConsumer {
                 partition,
                 offset);
 
+        if (processedEventStore.isProcessed(event.getEventId())) {
+            log.info("[Product] Created 이벤트 중복 수신, 건너뜀 - eventId: {}", event.getEventId());
+            ack.acknowledge();
+            return;
+        }
+
         try {
-            // 특정 허브에 초기 재고 생성
-            inventoryService.createInitialInventory(event.getProductId(), event.getHubId());
+            // 특정 허브에 초기 재고 생성 + 처리 기록 (한 트랜잭션)
+            transactionTemplate.executeWithoutResult(status -> {
+                inventoryService.createInitialInventory(event.getProductId(), event.getHubId());
+                processedEventStore.markProcessed(Collections.singletonList(event.getEventId()), topic);
+            });
 
             // 수동 커밋
             ack.acknowledge();
@@ -76,6 +106,7 @@ public class ProductEventConsumer {
     public void handleProductDeleted(
             @Payload ProductDeletedEvent event,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
             Acknowledgment ack) {
@@ -86,9 +117,18 @@ public class ProductEventConsumer {
                 partition,
                 offset);
 
+        if (processedEventStore.isProcessed(event.getEventId())) {
+            log.info("[Product] Deleted 이벤트 중복 수신, 건너뜀 - eventId: {}", event.getEventId());
+            ack.acknowledge();
+            return;
+        }
+
         try {
-            // 해당 상품의 모든 재고 삭제
-            inventoryService.deleteInventoriesByProduct(event.getProductId());
+            // 해당 상품의 모든 재고 삭제 + 처리 기록 (한 트랜잭션)
+            transactionTemplate.executeWithoutResult(status -> {
+                inventoryService.deleteInventoriesByProduct(event.getProductId());
+                processedEventStore.markProcessed(Collections.singletonList(event.getEventId()), topic);
+            });
 
             // 수동 커밋
             ack.acknowledge();
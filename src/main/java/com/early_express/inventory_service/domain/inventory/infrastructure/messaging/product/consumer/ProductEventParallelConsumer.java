@@ -0,0 +1,151 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.product.consumer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Product 이벤트 키 순서 보장 병렬 Consumer
+ * Product Service → Inventory Service
+ * - poll 한 번의 레코드를 키(productId)별로 나눠 가상 스레드에서 병렬 처리
+ * - 같은 키의 레코드는 한 가상 스레드에서 순차 처리 (같은 배치 안에서는 생성 후 삭제, 배치 모드와 동일)
+ * - 동시에 DB 작업을 수행하는 키 수는 max-concurrency로 제한 (커넥션 풀 보호)
+ * - 키의 레코드가 실패하면 그 키의 이후 레코드는 적용하지 않고, 배치 내 가장 앞선 실패 레코드 인덱스를
+ *   BatchListenerFailedException으로 알려 그 앞(모두 완료된 레코드)까지만 커밋
+ *   (뒤쪽에서 이미 완료된 레코드는 재수신 후 ProcessedEventStore로 건너뜀)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.product-events.mode", havingValue = "parallel")
+public class ProductEventParallelConsumer {
+
+    private final ProductEventApplier productEventApplier;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+
+    public ProductEventParallelConsumer(
+            ProductEventApplier productEventApplier,
+            @Value("${inventory.product-events.parallel.max-concurrency:32}") int maxConcurrency
+    ) {
+        this.productEventApplier = productEventApplier;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    @KafkaListener(
+            topics = {
+                    "${spring.kafka.topic.product-created:product-created}",
+                    "${spring.kafka.topic.product-deleted:product-deleted}"
+            },
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "productEventBatchListenerContainerFactory"
+    )
+    public void handleProductEvents(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        Map<String, List<Integer>> indexesByKey = groupByKey(records);
+
+        log.info("[Product] 이벤트 병렬 처리 시작 - count: {}, keys: {}", records.size(), indexesByKey.size());
+
+        // 실패 레코드 인덱스 → 원인 (키별 첫 실패만 기록)
+        ConcurrentSkipListMap<Integer, Exception> failures = new ConcurrentSkipListMap<>();
+
+        CompletableFuture.allOf(indexesByKey.values().stream()
+                        .map(indexes -> CompletableFuture.runAsync(() -> applyInOrder(records, indexes, failures), executor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+
+        if (!failures.isEmpty()) {
+            Map.Entry<Integer, Exception> first = failures.firstEntry();
+            ConsumerRecord<String, String> record = records.get(first.getKey());
+            log.error("[Product] 이벤트 처리 실패 - topic: {}, partition: {}, offset: {}, failedKeys: {}, error: {}",
+                    record.topic(), record.partition(), record.offset(), failures.size(),
+                    first.getValue().getMessage(), first.getValue());
+            throw new BatchListenerFailedException(
+                    "상품 이벤트 처리 실패: offset=" + record.offset(), first.getValue(), first.getKey());
+        }
+
+        // 배치 단위 수동 커밋
+        ack.acknowledge();
+
+        log.info("[Product] 이벤트 병렬 처리 완료 - count: {}", records.size());
+    }
+
+    /**
+     * 한 키의 레코드를 순서대로 적용 (실패하면 중단)
+     * - 생성 우선 정렬로 적용 순서와 인덱스 순서가 다를 수 있으므로
+     *   실패 위치는 아직 적용되지 않은 레코드 중 가장 앞선 인덱스로 기록
+     */
+    private void applyInOrder(
+            List<ConsumerRecord<String, String>> records,
+            List<Integer> indexes,
+            Map<Integer, Exception> failures
+    ) {
+        permits.acquireUninterruptibly();
+        try {
+            for (int i = 0; i < indexes.size(); i++) {
+                try {
+                    productEventApplier.apply(records.get(indexes.get(i)));
+                } catch (Exception e) {
+                    int firstPending = indexes.subList(i, indexes.size()).stream()
+                            .min(Comparator.naturalOrder())
+                            .orElseThrow();
+                    failures.put(firstPending, e);
+                    return;
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 레코드 인덱스를 키별로 묶음
+     * - 키가 없으면 토픽-파티션 단위로 순서 유지
+     * - 키 안에서는 생성 레코드를 삭제 레코드보다 먼저, 같은 종류는 수신 순서대로
+     *   (토픽이 달라 생성·삭제 간 수신 순서는 보장되지 않으므로 최종 상태가 삭제가 되도록 함)
+     */
+    private Map<String, List<Integer>> groupByKey(List<ConsumerRecord<String, String>> records) {
+        Map<String, List<Integer>> indexesByKey = new LinkedHashMap<>();
+
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> record = records.get(i);
+            String key = record.key() != null ? record.key() : record.topic() + "-" + record.partition();
+            indexesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+
+        indexesByKey.values().forEach(indexes -> indexes.sort(
+                Comparator.comparing((Integer index) -> !isCreatedSafely(records.get(index)))
+                        .thenComparing(Comparator.naturalOrder())));
+
+        return indexesByKey;
+    }
+
+    private boolean isCreatedSafely(ConsumerRecord<String, String> record) {
+        try {
+            return productEventApplier.isCreated(record);
+        } catch (IllegalArgumentException e) {
+            // 알 수 없는 토픽은 적용 단계에서 실패 처리
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
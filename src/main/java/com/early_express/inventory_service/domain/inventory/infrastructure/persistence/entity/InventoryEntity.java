@@ -3,7 +3,6 @@ package com.early_express.inventory_service.domain.inventory.infrastructure.pers
 import com.early_express.inventory_service.global.common.utils.UuidUtils;
 import com.early_express.inventory_service.global.infrastructure.entity.BaseEntity;
 import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
-import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockQuantity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -11,19 +10,26 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Inventory JPA Entity
  * - BaseEntity 상속 (Audit 필드)
  * - Domain Model과 완전 분리
  * - @Version을 통한 낙관적 락 지원
+ * - (product_id, hub_id) 유니크 제약 (삭제된 행 포함) - 초기 재고 생성은 ON CONFLICT로 중복 INSERT 차단
+ * - inventory_id는 UUID 타입 매핑: hibernate.type.preferred_uuid_jdbc_type에 따라 네이티브 uuid(16바이트) 또는 36자 문자열로 저장
  */
 @Entity
 @Table(
         name = "p_inventories",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_inventory_product_hub", columnNames = {"product_id", "hub_id"})
+        },
         indexes = {
-                @Index(name = "idx_product_hub", columnList = "product_id, hub_id"),
-                @Index(name = "idx_hub_id", columnList = "hub_id")
+                @Index(name = "idx_hub_id", columnList = "hub_id"),
+                @Index(name = "idx_shard_count", columnList = "shard_count"),
+                @Index(name = "idx_flash_owner", columnList = "flash_owner")
         }
 )
 @Getter
@@ -32,7 +38,7 @@ public class InventoryEntity extends BaseEntity {
 
     @Id
     @Column(name = "inventory_id", length = 36, nullable = false)
-    private String inventoryId;
+    private UUID inventoryId;
 
     @Column(name = "product_id", length = 36, nullable = false)
     private String productId;
@@ -62,6 +68,31 @@ public class InventoryEntity extends BaseEntity {
     @Column(name = "version")
     private Long version;
 
+    /**
+     * 샤드 수 (1: 일반 재고, 2 이상: 샤드 모드 - p_inventory_shards에 분산)
+     * - 샤드 관리 JDBC 경로에서만 변경하며 도메인 모델에는 노출하지 않음
+     */
+    @Column(name = "shard_count", nullable = false, updatable = false, columnDefinition = "integer default 1")
+    private Integer shardCount = 1;
+
+    /**
+     * 플래시 세일 모드 (flash_owner가 있으면 해당 노드가 메모리 카운터로 예약 처리)
+     * - flash_allotted_quantity: 플래시 카운터에 배정된 수량 (부모 예약 수량에 포함)
+     * - flash_reserved_quantity: 쓰기 지연으로 반영된 플래시 예약 수량
+     * - 플래시 세일 JDBC 경로에서만 변경하며 도메인 모델에는 노출하지 않음
+     */
+    @Column(name = "flash_owner", length = 100, updatable = false)
+    private String flashOwner;
+
+    @Column(name = "flash_owner_url", length = 255, updatable = false)
+    private String flashOwnerUrl;
+
+    @Column(name = "flash_allotted_quantity", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer flashAllottedQuantity = 0;
+
+    @Column(name = "flash_reserved_quantity", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private Integer flashReservedQuantity = 0;
+
     @Builder
     private InventoryEntity(
             String inventoryId,
@@ -75,7 +106,7 @@ public class InventoryEntity extends BaseEntity {
             LocalDateTime lastRestockedAt,
             Long version
     ) {
-        this.inventoryId = inventoryId;
+        this.inventoryId = inventoryId != null ? UUID.fromString(inventoryId) : null;
         this.productId = productId;
         this.hubId = hubId;
         this.quantityInHub = quantityInHub;
@@ -94,17 +125,17 @@ public class InventoryEntity extends BaseEntity {
     public static InventoryEntity fromDomain(Inventory inventory) {
         String inventoryId = inventory.getInventoryId();
         if (inventoryId == null || inventoryId.isBlank()) {
-            inventoryId = UuidUtils.generate();
+            inventoryId = UuidUtils.generate();  // 시간 순서 UUIDv7
         }
 
         return InventoryEntity.builder()
                 .inventoryId(inventoryId)
                 .productId(inventory.getProductId())
                 .hubId(inventory.getHubId())
-                .quantityInHub(inventory.getQuantityInHub().getValue())
-                .reservedQuantity(inventory.getReservedQuantity().getValue())
-                .safetyStock(inventory.getSafetyStock().getValue())
-                .reorderPoint(inventory.getReorderPoint().getValue())
+                .quantityInHub(inventory.getQuantityInHubValue())
+                .reservedQuantity(inventory.getReservedQuantityValue())
+                .safetyStock(inventory.getSafetyStockValue())
+                .reorderPoint(inventory.getReorderPointValue())
                 .location(inventory.getLocation())
                 .lastRestockedAt(inventory.getLastRestockedAt())
 //                .version(inventory.getVersion())  //jpa레벨에서 버전을 0으로 넣으면 문제가 발생 -> 머지가 발생.
@@ -125,18 +156,25 @@ public class InventoryEntity extends BaseEntity {
         return entity;
     }
 
+    /**
+     * 재고 ID (도메인 모델과 같은 문자열 표현)
+     */
+    public String getInventoryId() {
+        return this.inventoryId != null ? this.inventoryId.toString() : null;
+    }
+
     /**
      * Entity -> Domain Model 변환
      */
     public Inventory toDomain() {
         return Inventory.reconstruct(
-                this.inventoryId,
+                getInventoryId(),
                 this.productId,
                 this.hubId,
-                StockQuantity.of(this.quantityInHub),
-                StockQuantity.of(this.reservedQuantity),
-                StockQuantity.of(this.safetyStock),
-                StockQuantity.of(this.reorderPoint),
+                this.quantityInHub,
+                this.reservedQuantity,
+                this.safetyStock,
+                this.reorderPoint,
                 this.location,
                 this.lastRestockedAt,
                 this.version,
@@ -154,10 +192,10 @@ public class InventoryEntity extends BaseEntity {
      * Domain Model의 변경사항을 Entity에 반영
      */
     public void updateFromDomain(Inventory inventory) {
-        this.quantityInHub = inventory.getQuantityInHub().getValue();
-        this.reservedQuantity = inventory.getReservedQuantity().getValue();
-        this.safetyStock = inventory.getSafetyStock().getValue();
-        this.reorderPoint = inventory.getReorderPoint().getValue();
+        this.quantityInHub = inventory.getQuantityInHubValue();
+        this.reservedQuantity = inventory.getReservedQuantityValue();
+        this.safetyStock = inventory.getSafetyStockValue();
+        this.reorderPoint = inventory.getReorderPointValue();
         this.location = inventory.getLocation();
         this.lastRestockedAt = inventory.getLastRestockedAt();
 
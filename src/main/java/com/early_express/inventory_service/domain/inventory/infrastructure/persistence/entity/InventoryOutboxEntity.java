@@ -0,0 +1,116 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Inventory 이벤트 아웃박스 JPA Entity
+ * - 재고 변경 트랜잭션 안에서 함께 저장되는 발행 대기 이벤트
+ * - 릴레이가 Kafka 전송에 성공하면 삭제
+ * - 전송할 수 없는 행(알 수 없는 타입, 역직렬화 실패 등)은 시도 횟수 초과 시 DEAD로 전환해 릴레이에서 제외
+ * - 시퀀스 ID(allocationSize 50)로 배치 INSERT가 가능하고 발행 순서 기준으로 사용
+ */
+@Entity
+@Table(
+        name = "p_inventory_outbox",
+        indexes = {
+                @Index(name = "idx_outbox_created_at", columnList = "created_at"),
+                @Index(name = "idx_outbox_status", columnList = "status, outbox_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_outbox_seq")
+    @SequenceGenerator(name = "inventory_outbox_seq", sequenceName = "p_inventory_outbox_seq", allocationSize = 50)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "topic", length = 100, nullable = false)
+    private String topic;
+
+    @Column(name = "message_key", length = 100)
+    private String messageKey;
+
+    @Column(name = "event_type", length = 50, nullable = false)
+    private String eventType;
+
+    @Column(name = "payload_type", length = 255, nullable = false)
+    private String payloadType;
+
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false, columnDefinition = "varchar(20) default 'PENDING'")
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false, columnDefinition = "integer default 0")
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    private InventoryOutboxEntity(
+            String topic,
+            String messageKey,
+            String eventType,
+            String payloadType,
+            String payload,
+            LocalDateTime createdAt
+    ) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.eventType = eventType;
+        this.payloadType = payloadType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.status = OutboxStatus.PENDING;
+    }
+
+    /**
+     * 발행 대기 이벤트 생성
+     */
+    public static InventoryOutboxEntity of(
+            String topic,
+            String messageKey,
+            String eventType,
+            String payloadType,
+            String payload
+    ) {
+        return InventoryOutboxEntity.builder()
+                .topic(topic)
+                .messageKey(messageKey)
+                .eventType(eventType)
+                .payloadType(payloadType)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 전송 실패 기록 (시도 횟수 증가, 마지막 오류 보관)
+     */
+    public void recordFailure(String error) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    /**
+     * 데드레터 전환 - 이후 릴레이 조회에서 제외
+     */
+    public void markDead() {
+        this.status = OutboxStatus.DEAD;
+    }
+}
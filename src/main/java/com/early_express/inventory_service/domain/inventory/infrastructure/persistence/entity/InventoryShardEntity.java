@@ -0,0 +1,53 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 재고 샤드 JPA Entity
+ * - 스키마 정의용 (읽기/쓰기는 InventoryShardJdbcRepository가 담당)
+ * - 샤드 모드 재고의 부분 카운터: 부모 재고에서 배정받은 수량(allotted) 안에서 예약
+ * - 배정 수량은 부모 행의 예약 수량에 포함되어 있어 부모 행만 보는 경로에서도 초과 예약이 발생하지 않음
+ */
+@Entity
+@Table(name = "p_inventory_shards")
+@IdClass(InventoryShardEntity.ShardId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryShardEntity {
+
+    @Id
+    @Column(name = "inventory_id", length = 36, nullable = false)
+    private UUID inventoryId;  // p_inventories.inventory_id와 같은 저장 타입 (조인 비교)
+
+    @Id
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(name = "allotted_quantity", nullable = false)
+    private Integer allottedQuantity;
+
+    @Column(name = "reserved_quantity", nullable = false)
+    private Integer reservedQuantity;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ShardId implements Serializable {
+        private UUID inventoryId;
+        private Integer shardNo;
+    }
+}
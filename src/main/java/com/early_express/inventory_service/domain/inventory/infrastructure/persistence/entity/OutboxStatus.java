@@ -0,0 +1,11 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity;
+
+/**
+ * 아웃박스 행 상태
+ * - PENDING: 발행 대기 (릴레이 조회 대상)
+ * - DEAD: 재시도해도 전송할 수 없어 릴레이에서 제외된 행 (원인 확인 후 수동 재처리)
+ */
+public enum OutboxStatus {
+    PENDING,
+    DEAD
+}
@@ -0,0 +1,37 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료 이벤트 JPA Entity (멱등 컨슈머)
+ * - 컨슈머가 처리한 이벤트의 eventId를 처리 트랜잭션 안에서 함께 기록
+ * - 재전달된 이벤트는 이 테이블에 eventId가 있으면 건너뜀
+ * - processed_at 기준 보관 기간이 지나면 주기적으로 삭제 (ProcessedEventStore 참고)
+ * - 스키마 정의용이며 읽기/쓰기는 ProcessedEventJdbcRepository 경유
+ */
+@Entity
+@Table(
+        name = "p_processed_events",
+        indexes = {
+                @Index(name = "idx_processed_event_at", columnList = "processed_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedEventEntity {
+
+    @Id
+    @Column(name = "event_id", length = 36, nullable = false)
+    private String eventId;
+
+    @Column(name = "topic", length = 100, nullable = false)
+    private String topic;
+
+    @Column(name = "processed_at", nullable = false, updatable = false)
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,68 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 예약 원장 JPA Entity
+ * - 스키마 정의용 (읽기/쓰기는 StockReservationJdbcRepository가 담당)
+ * - reservation_id / order_id 인덱스로 예약 단위 해제·확정 시 라인 전체를 한 번에 조회
+ * - (status, expires_at) 인덱스로 만료 대상 조회
+ */
+@Entity
+@Table(
+        name = "p_stock_reservations",
+        indexes = {
+                @Index(name = "idx_reservation_reservation_id", columnList = "reservation_id"),
+                @Index(name = "idx_reservation_order_id", columnList = "order_id"),
+                @Index(name = "idx_reservation_status_expires_at", columnList = "status, expires_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservationEntity {
+
+    @Id
+    @Column(name = "reservation_line_id", length = 36, nullable = false)
+    private String reservationLineId;
+
+    @Column(name = "reservation_id", length = 36, nullable = false)
+    private String reservationId;
+
+    @Column(name = "order_id", length = 36, nullable = false)
+    private String orderId;
+
+    @Column(name = "inventory_id", length = 36, nullable = false)
+    private UUID inventoryId;  // p_inventories.inventory_id와 같은 저장 타입 (조인 비교)
+
+    @Column(name = "product_id", length = 36, nullable = false)
+    private String productId;
+
+    @Column(name = "hub_id", length = 36, nullable = false)
+    private String hubId;
+
+    @Column(name = "shard_no")
+    private Integer shardNo;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private ReservationStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,156 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jdbc;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.FlashSaleState;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 플래시 세일 JDBC 저장소
+ * - 플래시 세일 상태는 p_inventories의 flash_* 컬럼에 저장 (엔티티에서는 갱신하지 않음)
+ * - 배정 수량은 부모 예약 수량에 포함되므로 부모 행만 보는 경로는 플래시 카운터 몫을 예약할 수 없음
+ * - 스냅샷은 InventoryJdbcRepository.SNAPSHOT_COLUMNS로 카운터 미예약분을 뺀 유효 값 반환
+ */
+@Repository
+@RequiredArgsConstructor
+public class FlashSaleJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InventoryIdBinder inventoryIdBinder;
+
+    private static final String STATE_COLUMNS = "inventory_id, product_id, hub_id, flash_owner, flash_owner_url,"
+            + " flash_allotted_quantity, flash_reserved_quantity";
+
+    private static final String ACTIVATE_SQL = """
+            UPDATE p_inventories
+               SET flash_owner = ?,
+                   flash_owner_url = ?,
+                   flash_allotted_quantity = GREATEST(quantity_in_hub - reserved_quantity, 0),
+                   flash_reserved_quantity = 0,
+                   reserved_quantity = reserved_quantity + GREATEST(quantity_in_hub - reserved_quantity, 0),
+                   version = version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE inventory_id = ?
+               AND is_deleted = false
+               AND flash_owner IS NULL
+               AND shard_count = 1
+            RETURNING\s""" + STATE_COLUMNS;
+
+    private static final String DEACTIVATE_SQL = """
+            UPDATE p_inventories i
+               SET reserved_quantity = reserved_quantity - (flash_allotted_quantity - flash_reserved_quantity),
+                   flash_owner = NULL,
+                   flash_owner_url = NULL,
+                   flash_allotted_quantity = 0,
+                   flash_reserved_quantity = 0,
+                   version = version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE inventory_id = ?
+               AND flash_owner IS NOT NULL
+               AND (CAST(? AS varchar) IS NULL OR flash_owner = ?)
+            RETURNING\s""" + InventoryJdbcRepository.SNAPSHOT_COLUMNS;
+
+    private static final String APPLY_RESERVED_SQL = """
+            UPDATE p_inventories i
+               SET flash_reserved_quantity = flash_reserved_quantity + ?,
+                   version = version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE inventory_id = ?
+               AND flash_owner = ?
+            RETURNING\s""" + InventoryJdbcRepository.SNAPSHOT_COLUMNS;
+
+    private static final String APPLY_RESERVED_TO_PARENT_SQL = """
+            UPDATE p_inventories i
+               SET reserved_quantity = reserved_quantity + ?,
+                   version = version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE inventory_id = ?
+               AND is_deleted = false
+               AND reserved_quantity + ? <= quantity_in_hub
+            RETURNING\s""" + InventoryJdbcRepository.SNAPSHOT_COLUMNS;
+
+    private static final String REFILL_SQL = """
+            WITH free AS (
+                SELECT inventory_id, quantity_in_hub - reserved_quantity AS quantity
+                  FROM p_inventories
+                 WHERE inventory_id = ?
+                   AND flash_owner = ?
+                   AND is_deleted = false
+                   AND quantity_in_hub - reserved_quantity > 0
+                   FOR UPDATE
+            )
+            UPDATE p_inventories i
+               SET flash_allotted_quantity = i.flash_allotted_quantity + free.quantity,
+                   reserved_quantity = i.reserved_quantity + free.quantity,
+                   version = i.version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+              FROM free
+             WHERE i.inventory_id = free.inventory_id
+            RETURNING free.quantity""";
+
+    private static final RowMapper<FlashSaleState> STATE_ROW_MAPPER = (rs, rowNum) -> FlashSaleState.builder()
+            .inventoryId(rs.getString("inventory_id"))
+            .productId(rs.getString("product_id"))
+            .hubId(rs.getString("hub_id"))
+            .ownerId(rs.getString("flash_owner"))
+            .ownerUrl(rs.getString("flash_owner_url"))
+            .allottedQuantity(rs.getInt("flash_allotted_quantity"))
+            .reservedQuantity(rs.getInt("flash_reserved_quantity"))
+            .build();
+
+    public Optional<FlashSaleState> activate(String inventoryId, String ownerId, String ownerUrl) {
+        return jdbcTemplate.query(ACTIVATE_SQL, STATE_ROW_MAPPER, ownerId, ownerUrl, inventoryIdBinder.bind(inventoryId))
+                .stream()
+                .findFirst();
+    }
+
+    public Optional<StockSnapshot> deactivate(String inventoryId, String ownerId) {
+        return jdbcTemplate.query(DEACTIVATE_SQL, InventoryJdbcRepository.SNAPSHOT_ROW_MAPPER,
+                        inventoryIdBinder.bind(inventoryId), ownerId, ownerId)
+                .stream()
+                .findFirst();
+    }
+
+    public Optional<StockSnapshot> applyReserved(String inventoryId, String ownerId, int quantity) {
+        Object id = inventoryIdBinder.bind(inventoryId);
+        List<StockSnapshot> rows = jdbcTemplate.query(APPLY_RESERVED_SQL, InventoryJdbcRepository.SNAPSHOT_ROW_MAPPER,
+                quantity, id, ownerId);
+        if (rows.isEmpty()) {
+            rows = jdbcTemplate.query(APPLY_RESERVED_TO_PARENT_SQL, InventoryJdbcRepository.SNAPSHOT_ROW_MAPPER,
+                    quantity, id, quantity);
+        }
+        return rows.stream().findFirst();
+    }
+
+    public int refill(String inventoryId, String ownerId) {
+        return jdbcTemplate.queryForList(REFILL_SQL, Integer.class, inventoryIdBinder.bind(inventoryId), ownerId)
+                .stream()
+                .findFirst()
+                .orElse(0);
+    }
+
+    public Optional<FlashSaleState> findByInventoryId(String inventoryId) {
+        return jdbcTemplate.query(
+                        "SELECT " + STATE_COLUMNS + " FROM p_inventories WHERE inventory_id = ? AND flash_owner IS NOT NULL",
+                        STATE_ROW_MAPPER, inventoryIdBinder.bind(inventoryId))
+                .stream()
+                .findFirst();
+    }
+
+    public List<FlashSaleState> findActive() {
+        return jdbcTemplate.query(
+                "SELECT " + STATE_COLUMNS + " FROM p_inventories WHERE flash_owner IS NOT NULL AND is_deleted = false",
+                STATE_ROW_MAPPER);
+    }
+
+    public List<FlashSaleState> findByOwner(String ownerId) {
+        return jdbcTemplate.query(
+                "SELECT " + STATE_COLUMNS + " FROM p_inventories WHERE flash_owner = ? AND is_deleted = false",
+                STATE_ROW_MAPPER, ownerId);
+    }
+}
@@ -0,0 +1,32 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jdbc;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * inventory_id 바인드 값 변환
+ * - JPA 매핑과 같은 설정(hibernate.type.preferred_uuid_jdbc_type)으로 저장 타입 판단
+ * - UUID(네이티브 uuid 컬럼): java.util.UUID로 바인딩해 드라이버가 uuid 타입으로 전송
+ * - 그 외(VARCHAR, 기본값): 문자열 그대로 바인딩
+ * - 다른 문자열 파라미터의 바인딩 방식은 건드리지 않도록 ID 바인드에만 적용
+ */
+@Component
+public class InventoryIdBinder {
+
+    private final boolean nativeUuid;
+
+    public InventoryIdBinder(
+            @Value("${spring.jpa.properties.hibernate.type.preferred_uuid_jdbc_type:VARCHAR}") String uuidJdbcType
+    ) {
+        this.nativeUuid = "UUID".equalsIgnoreCase(uuidJdbcType.trim());
+    }
+
+    public Object bind(String inventoryId) {
+        if (!nativeUuid || inventoryId == null) {
+            return inventoryId;
+        }
+        return UUID.fromString(inventoryId);
+    }
+}
@@ -0,0 +1,592 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jdbc;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.HubSelectionPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InitialInventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventorySummary;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockLine;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Inventory 카운터 전용 JDBC 저장소
+ * - 조회-수정-저장 대신 조건부 UPDATE 한 번으로 카운터 변경
+ * - PostgreSQL RETURNING 절로 변경된 행 값을 같은 라운드트립에서 반환
+ * - 영속성 컨텍스트를 거치지 않으므로 version 컬럼을 직접 증가시켜
+ *   같은 행을 더티 체킹으로 덮어쓰려는 트랜잭션이 낙관적 락으로 감지되도록 함
+ * - 스냅샷은 샤드 모드 재고의 샤드 분산분을 합산한 유효 값 (InventoryShardJdbcRepository 참고)
+ * - 초기 재고 생성은 (product_id, hub_id) 유니크 제약 기반 INSERT ... ON CONFLICT 한 문장으로 생성 또는 기존 행 반환
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InventoryIdBinder inventoryIdBinder;
+
+    /**
+     * 샤드 모드 재고(shard_count > 1)의 샤드 합산 값 (부모 행 별칭 i)
+     * - 샤드에 배정된 수량은 부모 행의 예약 수량에 포함되어 있으므로 샤드의 미예약 수량만큼 빼서 실제 예약 수량으로 환산
+     * - 버전은 부모 + 샤드 버전 합 (샤드만 바뀌어도 증가하여 캐시 버전 비교가 유지됨)
+     */
+    private static final String SHARD_FREE_SUM = "CASE WHEN i.shard_count > 1 THEN"
+            + " (SELECT COALESCE(SUM(s.allotted_quantity - s.reserved_quantity), 0)"
+            + " FROM p_inventory_shards s WHERE s.inventory_id = i.inventory_id) ELSE 0 END";
+
+    private static final String SHARD_VERSION_SUM = "CASE WHEN i.shard_count > 1 THEN"
+            + " (SELECT COALESCE(SUM(s.version), 0)"
+            + " FROM p_inventory_shards s WHERE s.inventory_id = i.inventory_id) ELSE 0 END";
+
+    /**
+     * 플래시 세일 카운터에 배정되었지만 아직 예약되지 않은 수량 (일반 재고는 0)
+     */
+    private static final String FLASH_FREE = "(i.flash_allotted_quantity - i.flash_reserved_quantity)";
+
+    /**
+     * 유효 예약 수량 - 부모 예약 수량에서 플래시 카운터·샤드의 미예약 배정분을 뺀 값
+     */
+    private static final String EFFECTIVE_RESERVED = "i.reserved_quantity - " + FLASH_FREE + " - " + SHARD_FREE_SUM;
+
+    static final String SNAPSHOT_COLUMNS = "i.inventory_id, i.product_id, i.hub_id, i.quantity_in_hub, "
+            + EFFECTIVE_RESERVED + " AS reserved_quantity, "
+            + "i.safety_stock, "
+            + "i.version + " + SHARD_VERSION_SUM + " AS version";
+
+    /**
+     * 목록 화면용 요약 컬럼 (예약 수량은 스냅샷과 같은 유효 값)
+     * - 가용 재고 조건을 유효 값으로 평가하도록 파생 테이블 s로 감싸 조회
+     */
+    private static final String SUMMARY_SQL = "SELECT * FROM ("
+            + "SELECT i.inventory_id, i.product_id, i.hub_id, i.quantity_in_hub, "
+            + EFFECTIVE_RESERVED + " AS reserved_quantity, "
+            + "i.safety_stock, i.location, i.last_restocked_at, i.created_at, i.updated_at"
+            + " FROM p_inventories i WHERE i.is_deleted = false%s) s";
+
+    private static final RowMapper<InventorySummary> SUMMARY_ROW_MAPPER = (rs, rowNum) -> InventorySummary.builder()
+            .inventoryId(rs.getString("inventory_id"))
+            .productId(rs.getString("product_id"))
+            .hubId(rs.getString("hub_id"))
+            .quantityInHub(rs.getInt("quantity_in_hub"))
+            .reservedQuantity(rs.getInt("reserved_quantity"))
+            .safetyStock(rs.getInt("safety_stock"))
+            .location(rs.getString("location"))
+            .lastRestockedAt(toLocalDateTime(rs, "last_restocked_at"))
+            .createdAt(toLocalDateTime(rs, "created_at"))
+            .updatedAt(toLocalDateTime(rs, "updated_at"))
+            .build();
+
+    /**
+     * IN 절 한 번에 바인딩할 최대 키 수
+     */
+    static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+    private static final String GUARDED_RESERVE_SQL = """
+            UPDATE p_inventories i
+               SET reserved_quantity = reserved_quantity + ?,
+                   version = version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE product_id = ?
+               AND hub_id = ?
+               AND quantity_in_hub - reserved_quantity >= ?
+               AND is_deleted = false""";
+
+    private static final String RESERVE_SQL = GUARDED_RESERVE_SQL + " RETURNING " + SNAPSHOT_COLUMNS;
+
+    private static final String RELEASE_SQL = """
+            UPDATE p_inventories i
+               SET reserved_quantity = reserved_quantity - ?,
+                   version = version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE product_id = ?
+               AND hub_id = ?
+               AND reserved_quantity >= ?
+               AND is_deleted = false
+            RETURNING\s""" + SNAPSHOT_COLUMNS;
+
+    private static final String CONFIRM_SQL = """
+            UPDATE p_inventories i
+               SET quantity_in_hub = quantity_in_hub - ?,
+                   reserved_quantity = reserved_quantity - ?,
+                   version = version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE product_id = ?
+               AND hub_id = ?
+               AND reserved_quantity >= ?
+               AND is_deleted = false
+            RETURNING\s""" + SNAPSHOT_COLUMNS;
+
+    static final RowMapper<StockSnapshot> SNAPSHOT_ROW_MAPPER = (rs, rowNum) -> StockSnapshot.builder()
+            .inventoryId(rs.getString("inventory_id"))
+            .productId(rs.getString("product_id"))
+            .hubId(rs.getString("hub_id"))
+            .quantityInHub(rs.getInt("quantity_in_hub"))
+            .reservedQuantity(rs.getInt("reserved_quantity"))
+            .safetyStock(rs.getInt("safety_stock"))
+            .version(rs.getLong("version"))
+            .build();
+
+    /**
+     * 도메인 모델 재구성용 전체 컬럼 (별칭 i)
+     */
+    private static final String INVENTORY_COLUMNS = "i.inventory_id, i.product_id, i.hub_id, i.quantity_in_hub,"
+            + " i.reserved_quantity, i.safety_stock, i.reorder_point, i.location, i.last_restocked_at, i.version,"
+            + " i.created_at, i.created_by, i.updated_at, i.updated_by, i.deleted_at, i.deleted_by, i.is_deleted";
+
+    /**
+     * 생성 또는 기존 행 반환 (단일 문장)
+     * - inserted: 충돌이 없을 때만 INSERT 된 행 (created = true)
+     * - 충돌 시 같은 문장에서 기존 활성 행을 조회 (created = false)
+     * - 같은 문장의 스냅샷은 동시에 INSERT 후 아직 커밋되지 않은 행을 보지 못하므로 빈 결과가 나올 수 있음 (호출부에서 재조회)
+     * - ON CONFLICT 대상인 uk_inventory_product_hub가 필요 (기존 DB는 db/migration/inventory_product_hub_unique.sql로 중복 정리 후 생성)
+     */
+    private static final String INSERT_INTO = "INSERT INTO p_inventories AS i"
+            + " (inventory_id, product_id, hub_id, quantity_in_hub, reserved_quantity, safety_stock,"
+            + " reorder_point, location, last_restocked_at, version, created_at, updated_at, is_deleted)"
+            + " VALUES ";
+
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+
+    private static final String INSERT_IF_ABSENT_SQL = "WITH inserted AS ("
+            + INSERT_INTO + INSERT_ROW
+            + " ON CONFLICT (product_id, hub_id) DO NOTHING"
+            + " RETURNING " + INVENTORY_COLUMNS + """
+            )
+            SELECT *, true AS created FROM inserted
+            UNION ALL
+            SELECT\s""" + INVENTORY_COLUMNS + """
+            , false AS created
+              FROM p_inventories i
+             WHERE i.product_id = ?
+               AND i.hub_id = ?
+               AND i.is_deleted = false
+               AND NOT EXISTS (SELECT 1 FROM inserted)""";
+
+    private static final String FIND_ACTIVE_SQL = "SELECT " + INVENTORY_COLUMNS + ", false AS created"
+            + " FROM p_inventories i WHERE i.product_id = ? AND i.hub_id = ? AND i.is_deleted = false";
+
+    static final RowMapper<Inventory> INVENTORY_ROW_MAPPER = (rs, rowNum) -> Inventory.reconstruct(
+            rs.getString("inventory_id"),
+            rs.getString("product_id"),
+            rs.getString("hub_id"),
+            rs.getInt("quantity_in_hub"),
+            rs.getInt("reserved_quantity"),
+            rs.getInt("safety_stock"),
+            rs.getInt("reorder_point"),
+            rs.getString("location"),
+            toLocalDateTime(rs, "last_restocked_at"),
+            rs.getLong("version"),
+            toLocalDateTime(rs, "created_at"),
+            rs.getString("created_by"),
+            toLocalDateTime(rs, "updated_at"),
+            rs.getString("updated_by"),
+            toLocalDateTime(rs, "deleted_at"),
+            rs.getString("deleted_by"),
+            rs.getBoolean("is_deleted")
+    );
+
+    private static final RowMapper<InitialInventory> INITIAL_ROW_MAPPER = (rs, rowNum) -> {
+        Inventory inventory = INVENTORY_ROW_MAPPER.mapRow(rs, rowNum);
+        return rs.getBoolean("created") ? InitialInventory.created(inventory) : InitialInventory.existing(inventory);
+    };
+
+    /**
+     * 초기 재고 생성 (insert-if-absent)
+     * - 같은 상품-허브 행이 없으면 INSERT, 있으면 기존 행 반환
+     * - 문장 스냅샷 이후 커밋된 행과 충돌한 경우에만 재조회 1회 추가
+     *
+     * @return 생성 또는 기존 행, 같은 키를 삭제된 행만 점유하고 있으면 빈 Optional
+     */
+    public Optional<InitialInventory> insertIfAbsent(Inventory inventory) {
+        List<Object> args = new ArrayList<>(14);
+        addInsertArgs(args, inventory, Timestamp.valueOf(LocalDateTime.now()));
+        args.add(inventory.getProductId());
+        args.add(inventory.getHubId());
+
+        List<InitialInventory> rows = jdbcTemplate.query(INSERT_IF_ABSENT_SQL, INITIAL_ROW_MAPPER, args.toArray());
+
+        if (rows.isEmpty()) {
+            rows = jdbcTemplate.query(FIND_ACTIVE_SQL, INITIAL_ROW_MAPPER,
+                    inventory.getProductId(), inventory.getHubId());
+        }
+
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 초기 재고 일괄 생성 (이미 있는 상품-허브 조합은 건너뜀)
+     * - 청크마다 다중 VALUES INSERT ... ON CONFLICT DO NOTHING RETURNING 한 문장
+     * - 재고 ID는 호출자가 미리 생성해 전달 (엔티티 저장 시 ID 조회 없음)
+     *
+     * @return 실제로 INSERT 된 재고 (삭제된 행이 점유한 조합 포함, 충돌한 행은 제외)
+     */
+    public List<Inventory> insertAllIfAbsent(List<Inventory> inventories) {
+        List<Inventory> inserted = new ArrayList<>(inventories.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < inventories.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Inventory> chunk = inventories.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, inventories.size()));
+
+            String sql = INSERT_INTO + String.join(", ", Collections.nCopies(chunk.size(), INSERT_ROW))
+                    + " ON CONFLICT (product_id, hub_id) DO NOTHING"
+                    + " RETURNING " + INVENTORY_COLUMNS;
+
+            List<Object> args = new ArrayList<>(chunk.size() * 12);
+            for (Inventory inventory : chunk) {
+                addInsertArgs(args, inventory, now);
+            }
+
+            inserted.addAll(jdbcTemplate.query(sql, INVENTORY_ROW_MAPPER, args.toArray()));
+        }
+
+        return inserted;
+    }
+
+    private void addInsertArgs(List<Object> args, Inventory inventory, Timestamp now) {
+        args.add(inventoryIdBinder.bind(inventory.getInventoryId()));
+        args.add(inventory.getProductId());
+        args.add(inventory.getHubId());
+        args.add(inventory.getQuantityInHubValue());
+        args.add(inventory.getReservedQuantityValue());
+        args.add(inventory.getSafetyStockValue());
+        args.add(inventory.getReorderPointValue());
+        args.add(inventory.getLocation());
+        args.add(Timestamp.valueOf(inventory.getLastRestockedAt()));
+        args.add(inventory.getVersion());
+        args.add(now);
+        args.add(now);
+    }
+
+    /**
+     * 상품 목록의 재고 일괄 소프트 삭제 (청크마다 UPDATE 한 문장)
+     * - version을 증가시켜 같은 행을 더티 체킹으로 덮어쓰려는 트랜잭션이 낙관적 락으로 감지되도록 함
+     *
+     * @return 삭제된 행 값 (이미 삭제된 행 제외)
+     */
+    public List<StockSnapshot> softDeleteByProductIds(Collection<String> productIds, String deletedBy) {
+        List<String> ids = new ArrayList<>(productIds);
+        List<StockSnapshot> deleted = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            String sql = "UPDATE p_inventories i"
+                    + " SET is_deleted = true, deleted_at = ?, deleted_by = ?, updated_at = ?, version = version + 1"
+                    + " WHERE product_id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")"
+                    + " AND is_deleted = false"
+                    + " RETURNING " + SNAPSHOT_COLUMNS;
+
+            List<Object> args = new ArrayList<>(chunk.size() + 3);
+            args.add(now);
+            args.add(deletedBy);
+            args.add(now);
+            args.addAll(chunk);
+
+            deleted.addAll(jdbcTemplate.query(sql, SNAPSHOT_ROW_MAPPER, args.toArray()));
+        }
+
+        return deleted;
+    }
+
+    private static LocalDateTime toLocalDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    /**
+     * 조건부 재고 예약
+     * - 가용 재고(전체 - 예약)가 요청 수량 이상일 때만 예약 수량 증가
+     * - 행 잠금은 UPDATE 동안만 유지되며 동시 요청은 DB가 직렬화
+     *
+     * @return 예약 후 행 값, 재고가 없거나 부족하면 빈 Optional
+     */
+    public Optional<StockSnapshot> reserve(String productId, String hubId, int quantity) {
+        List<StockSnapshot> rows = jdbcTemplate.query(
+                RESERVE_SQL, SNAPSHOT_ROW_MAPPER, quantity, productId, hubId, quantity);
+
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 조건부 예약 해제
+     * - 예약 수량이 해제 수량 이상일 때만 감소 (분할 예약 보상 등)
+     *
+     * @return 해제 후 행 값, 재고가 없거나 예약 수량이 부족하면 빈 Optional
+     */
+    public Optional<StockSnapshot> release(String productId, String hubId, int quantity) {
+        List<StockSnapshot> rows = jdbcTemplate.query(
+                RELEASE_SQL, SNAPSHOT_ROW_MAPPER, quantity, productId, hubId, quantity);
+
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 조건부 출고 확정
+     * - 예약 수량이 확정 수량 이상일 때만 전체 수량과 예약 수량을 함께 감소
+     *
+     * @return 확정 후 행 값, 재고가 없거나 예약 수량이 부족하면 빈 Optional
+     */
+    public Optional<StockSnapshot> confirm(String productId, String hubId, int quantity) {
+        List<StockSnapshot> rows = jdbcTemplate.query(
+                CONFIRM_SQL, SNAPSHOT_ROW_MAPPER, quantity, quantity, productId, hubId, quantity);
+
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 상품의 전체 허브 재고 스냅샷 조회 (삭제된 재고 제외)
+     */
+    public List<StockSnapshot> findSnapshotsByProduct(String productId) {
+        return jdbcTemplate.query(
+                "SELECT " + SNAPSHOT_COLUMNS + " FROM p_inventories i WHERE i.product_id = ? AND i.is_deleted = false",
+                SNAPSHOT_ROW_MAPPER,
+                productId);
+    }
+
+    /**
+     * 허브 자동 선택 + 조건부 예약 (단일 문장)
+     * - 서브쿼리가 정책 순서상 첫 번째 후보 허브 행을 잠그고, 바깥 UPDATE가 가용 재고를 다시 검증하며 예약
+     * - 잠금 대기 중 다른 트랜잭션이 후보 재고를 소진하면 빈 결과가 나오므로 1회 재선택
+     *
+     * @return 예약된 허브의 예약 후 행 값, 조건을 만족하는 허브가 없으면 빈 Optional
+     */
+    public Optional<StockSnapshot> reserveOnSelectedHub(String productId, int quantity, HubSelectionPolicy policy) {
+        List<Object> args = new ArrayList<>();
+        args.add(quantity);
+        args.add(productId);
+        args.add(quantity);
+        String orderBy = hubOrderBy(policy, args);
+        args.add(quantity);
+
+        String sql = """
+                UPDATE p_inventories i
+                   SET reserved_quantity = reserved_quantity + ?,
+                       version = version + 1,
+                       updated_at = CURRENT_TIMESTAMP
+                 WHERE inventory_id = (
+                        SELECT inventory_id
+                          FROM p_inventories
+                         WHERE product_id = ?
+                           AND quantity_in_hub - reserved_quantity >= ?
+                           AND is_deleted = false
+                         ORDER BY %s
+                         LIMIT 1
+                           FOR UPDATE)
+                   AND quantity_in_hub - reserved_quantity >= ?
+                RETURNING %s""".formatted(orderBy, SNAPSHOT_COLUMNS);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            List<StockSnapshot> rows = jdbcTemplate.query(sql, SNAPSHOT_ROW_MAPPER, args.toArray());
+            if (!rows.isEmpty()) {
+                return Optional.of(rows.get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 정책 순서상 요청 수량을 충족하는 첫 번째 허브 조회 (잠금 없음)
+     */
+    public Optional<String> selectHub(String productId, int quantity, HubSelectionPolicy policy) {
+        List<Object> args = new ArrayList<>();
+        args.add(productId);
+        args.add(quantity);
+        String orderBy = hubOrderBy(policy, args);
+
+        String sql = """
+                SELECT hub_id
+                  FROM p_inventories
+                 WHERE product_id = ?
+                   AND quantity_in_hub - reserved_quantity >= ?
+                   AND is_deleted = false
+                 ORDER BY %s
+                 LIMIT 1""".formatted(orderBy);
+
+        return jdbcTemplate.queryForList(sql, String.class, args.toArray()).stream().findFirst();
+    }
+
+    /**
+     * 허브 선택 정책 → ORDER BY 절 (바인딩 값은 args에 추가)
+     * - 동순위는 hub_id로 고정하여 결과를 결정적으로 유지
+     */
+    private static String hubOrderBy(HubSelectionPolicy policy, List<Object> args) {
+        String byAvailable = "quantity_in_hub - reserved_quantity DESC, hub_id";
+
+        if (policy.getType() != HubSelectionPolicy.Type.PREFERRED_HUBS) {
+            return byAvailable;
+        }
+
+        List<String> hubs = policy.getPreferredHubs();
+        StringBuilder caseClause = new StringBuilder("CASE hub_id");
+        for (int i = 0; i < hubs.size(); i++) {
+            caseClause.append(" WHEN ? THEN ").append(i);
+            args.add(hubs.get(i));
+        }
+        caseClause.append(" ELSE ").append(hubs.size()).append(" END");
+
+        return caseClause + ", " + byAvailable;
+    }
+
+    /**
+     * 다건 조건부 재고 예약 (JDBC 배치 1회)
+     * - 재고 키 순으로 정렬해 실행하여 동시 주문 간 잠금 순서를 고정 (교착 상태 방지)
+     * - 각 라인은 독립적인 조건부 UPDATE이며, 전체 성공 여부 판단과 롤백은 호출자 책임
+     *
+     * @return 입력 순서 기준 각 라인의 예약 성공 여부
+     */
+    public boolean[] reserveAll(List<StockLine> lines) {
+        boolean[] results = new boolean[lines.size()];
+        if (lines.isEmpty()) {
+            return results;
+        }
+
+        int[] order = IntStream.range(0, lines.size())
+                .boxed()
+                .sorted(Comparator.comparing(i -> lines.get(i).getKey()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        List<Object[]> batchArgs = new ArrayList<>(lines.size());
+        for (int index : order) {
+            StockLine line = lines.get(index);
+            batchArgs.add(new Object[]{line.getQuantity(), line.getProductId(), line.getHubId(), line.getQuantity()});
+        }
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(GUARDED_RESERVE_SQL, batchArgs);
+
+        for (int i = 0; i < order.length; i++) {
+            results[order[i]] = updateCounts[i] > 0;
+        }
+        return results;
+    }
+
+    /**
+     * 재고 목록 요약 페이징 조회 (삭제된 재고 제외, 생성일 역순)
+     *
+     * @param hubId 허브 조건 (null이면 전체 허브)
+     */
+    public List<InventorySummary> findSummaries(String hubId, long offset, int limit) {
+        if (hubId == null) {
+            return jdbcTemplate.query(
+                    SUMMARY_SQL.formatted("") + " ORDER BY s.created_at DESC LIMIT ? OFFSET ?",
+                    SUMMARY_ROW_MAPPER, limit, offset);
+        }
+        return jdbcTemplate.query(
+                SUMMARY_SQL.formatted(" AND i.hub_id = ?") + " ORDER BY s.created_at DESC LIMIT ? OFFSET ?",
+                SUMMARY_ROW_MAPPER, hubId, limit, offset);
+    }
+
+    /**
+     * 삭제되지 않은 재고 수 (요약 페이징의 전체 건수)
+     *
+     * @param hubId 허브 조건 (null이면 전체 허브)
+     */
+    public long countActive(String hubId) {
+        Long count = hubId == null
+                ? jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM p_inventories WHERE is_deleted = false", Long.class)
+                : jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM p_inventories WHERE hub_id = ? AND is_deleted = false", Long.class, hubId);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 품절 재고 요약 조회 (유효 가용 재고 = 0)
+     */
+    public List<InventorySummary> findOutOfStockSummaries() {
+        return jdbcTemplate.query(
+                SUMMARY_SQL.formatted("") + " WHERE s.quantity_in_hub - s.reserved_quantity = 0",
+                SUMMARY_ROW_MAPPER);
+    }
+
+    /**
+     * 안전 재고 이하 재고 요약 조회 (유효 가용 재고 <= 안전 재고, 재고 부족 이벤트와 같은 기준)
+     */
+    public List<InventorySummary> findLowStockSummaries() {
+        return jdbcTemplate.query(
+                SUMMARY_SQL.formatted("") + " WHERE s.quantity_in_hub - s.reserved_quantity <= s.safety_stock",
+                SUMMARY_ROW_MAPPER);
+    }
+
+    /**
+     * 상품-허브 조합 목록으로 재고 스냅샷 조회 (삭제된 재고 제외)
+     * - (product_id, hub_id) IN 절, 키가 많으면 청크 단위로 분할
+     */
+    public List<StockSnapshot> findSnapshots(Collection<InventoryKey> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<InventoryKey> keyList = new ArrayList<>(keys);
+        List<StockSnapshot> snapshots = new ArrayList<>(keyList.size());
+
+        for (int from = 0; from < keyList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<InventoryKey> chunk = keyList.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, keyList.size()));
+
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)"));
+            String sql = "SELECT " + SNAPSHOT_COLUMNS
+                    + " FROM p_inventories i"
+                    + " WHERE (product_id, hub_id) IN (" + placeholders + ")"
+                    + " AND is_deleted = false";
+
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i * 2] = chunk.get(i).getProductId();
+                args[i * 2 + 1] = chunk.get(i).getHubId();
+            }
+
+            snapshots.addAll(jdbcTemplate.query(sql, SNAPSHOT_ROW_MAPPER, args));
+        }
+
+        return snapshots;
+    }
+
+    /**
+     * 허브 내 상품 목록의 재고 스냅샷 조회 (삭제된 재고 제외)
+     * - hub_id = ? AND product_id IN (...) 프로젝션, 상품이 많으면 청크 단위로 분할
+     */
+    public List<StockSnapshot> findSnapshotsByHub(String hubId, Collection<String> productIds) {
+        if (productIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> idList = new ArrayList<>(productIds);
+        List<StockSnapshot> snapshots = new ArrayList<>(idList.size());
+
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = idList.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, idList.size()));
+
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            String sql = "SELECT " + SNAPSHOT_COLUMNS
+                    + " FROM p_inventories i"
+                    + " WHERE hub_id = ?"
+                    + " AND product_id IN (" + placeholders + ")"
+                    + " AND is_deleted = false";
+
+            Object[] args = new Object[chunk.size() + 1];
+            args[0] = hubId;
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i + 1] = chunk.get(i);
+            }
+
+            snapshots.addAll(jdbcTemplate.query(sql, SNAPSHOT_ROW_MAPPER, args));
+        }
+
+        return snapshots;
+    }
+}
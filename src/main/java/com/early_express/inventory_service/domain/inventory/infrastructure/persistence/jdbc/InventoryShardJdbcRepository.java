@@ -0,0 +1,302 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jdbc;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryShardLayout;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 재고 샤드 JDBC 저장소
+ * - 샤드 모드 재고는 부모 행(p_inventories)의 가용 수량 일부를 N개 샤드 행에 배정하고,
+ *   배정 수량만큼 부모 행의 예약 수량을 미리 올려 둠 (부모 행만 보는 경로의 초과 예약 방지)
+ * - 예약/해제는 샤드 행만 갱신하여 같은 상품-허브의 동시 예약이 N개 행으로 분산
+ * - 출고 확정은 실제 재고가 줄어드므로 샤드 행과 부모 행을 함께 갱신
+ * - 스냅샷은 InventoryJdbcRepository.SNAPSHOT_COLUMNS로 샤드 합산 유효 값 반환
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryShardJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InventoryIdBinder inventoryIdBinder;
+
+    private static final String RESERVE_SQL = """
+            UPDATE p_inventory_shards
+               SET reserved_quantity = reserved_quantity + ?,
+                   version = version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE (inventory_id, shard_no) = (
+                    SELECT s.inventory_id, s.shard_no
+                      FROM p_inventory_shards s
+                      JOIN p_inventories i ON i.inventory_id = s.inventory_id
+                     WHERE i.product_id = ?
+                       AND i.hub_id = ?
+                       AND i.is_deleted = false
+                       AND s.allotted_quantity - s.reserved_quantity >= ?
+                     ORDER BY random()
+                     LIMIT 1
+                       FOR UPDATE OF s%s)
+               AND allotted_quantity - reserved_quantity >= ?
+            RETURNING inventory_id, shard_no""";
+
+    private static final String SKIP_LOCKED_RESERVE_SQL = RESERVE_SQL.formatted(" SKIP LOCKED");
+    private static final String WAITING_RESERVE_SQL = RESERVE_SQL.formatted("");
+
+    private static final String RELEASE_SQL = """
+            UPDATE p_inventory_shards
+               SET reserved_quantity = reserved_quantity - ?,
+                   version = version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE inventory_id = ?
+               AND shard_no = ?
+               AND reserved_quantity >= ?""";
+
+    private static final String CONFIRM_SHARD_SQL = """
+            UPDATE p_inventory_shards
+               SET allotted_quantity = allotted_quantity - ?,
+                   reserved_quantity = reserved_quantity - ?,
+                   version = version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE inventory_id = ?
+               AND shard_no = ?
+               AND reserved_quantity >= ?""";
+
+    private static final String CONFIRM_PARENT_SQL = """
+            UPDATE p_inventories i
+               SET quantity_in_hub = quantity_in_hub - ?,
+                   reserved_quantity = reserved_quantity - ?,
+                   version = version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE inventory_id = ?
+               AND reserved_quantity >= ?
+            RETURNING\s""" + InventoryJdbcRepository.SNAPSHOT_COLUMNS;
+
+    private static final String UPSERT_SHARD_SQL = """
+            INSERT INTO p_inventory_shards
+                   (inventory_id, shard_no, allotted_quantity, reserved_quantity, version, updated_at)
+            VALUES (?, ?, ?, 0, 0, CURRENT_TIMESTAMP)
+            ON CONFLICT (inventory_id, shard_no) DO UPDATE
+               SET allotted_quantity = EXCLUDED.allotted_quantity,
+                   version = p_inventory_shards.version + 1,
+                   updated_at = EXCLUDED.updated_at""";
+
+    private static final RowMapper<ShardRow> SHARD_ROW_MAPPER = (rs, rowNum) -> new ShardRow(
+            rs.getInt("shard_no"),
+            rs.getInt("allotted_quantity"),
+            rs.getInt("reserved_quantity"),
+            rs.getLong("version")
+    );
+
+    /**
+     * 무작위 샤드 예약
+     * - 1차: SKIP LOCKED로 잠기지 않은 샤드 중 선택 (대기 없음)
+     * - 2차: 모든 후보가 잠겨 있으면 무작위 샤드 잠금을 대기하고, 대기 중 소진되면 1회 재선택
+     */
+    public Optional<StockSnapshot> reserve(String productId, String hubId, int quantity) {
+        Object[] args = {quantity, productId, hubId, quantity, quantity};
+
+        for (String sql : List.of(SKIP_LOCKED_RESERVE_SQL, WAITING_RESERVE_SQL, WAITING_RESERVE_SQL)) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql, args);
+            if (!rows.isEmpty()) {
+                String inventoryId = String.valueOf(rows.get(0).get("inventory_id"));  // uuid 컬럼이면 UUID로 반환됨
+                int shardNo = ((Number) rows.get(0).get("shard_no")).intValue();
+                return findSnapshot(inventoryId, shardNo);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 샤드 예약 해제
+     */
+    public Optional<StockSnapshot> release(String inventoryId, int shardNo, int quantity) {
+        int updated = jdbcTemplate.update(RELEASE_SQL, quantity, inventoryIdBinder.bind(inventoryId), shardNo, quantity);
+        return updated > 0 ? findSnapshot(inventoryId, shardNo) : Optional.empty();
+    }
+
+    /**
+     * 샤드 예약 출고 확정
+     * - 샤드 갱신 후 부모 행 갱신이 실패하면 불변식(배정 수량 ⊂ 부모 예약 수량)이 깨진 것이므로 예외로 롤백
+     */
+    public Optional<StockSnapshot> confirm(String inventoryId, int shardNo, int quantity) {
+        Object id = inventoryIdBinder.bind(inventoryId);
+        int updated = jdbcTemplate.update(CONFIRM_SHARD_SQL, quantity, quantity, id, shardNo, quantity);
+        if (updated == 0) {
+            return Optional.empty();
+        }
+
+        List<StockSnapshot> rows = jdbcTemplate.query(CONFIRM_PARENT_SQL, InventoryJdbcRepository.SNAPSHOT_ROW_MAPPER,
+                quantity, quantity, id, quantity);
+        if (rows.isEmpty()) {
+            throw new IllegalStateException(String.format(
+                    "샤드 배정 수량이 부모 예약 수량에 포함되어 있지 않습니다. inventoryId=%s, shardNo=%d", inventoryId, shardNo));
+        }
+        return Optional.of(rows.get(0).toBuilder().shardNo(shardNo).build());
+    }
+
+    /**
+     * 샤드 수 변경 + 재분배
+     * - 부모 행 → 샤드 행 순으로 잠가 예약 경로(샤드 행만 잠금)와 교착하지 않음
+     * - 가용 풀 = 재고 - 고객 예약 수량(부모 예약 - 샤드 미예약분), 활성 샤드(0 ~ shardCount-1)에 균등 배정
+     *   (재고 조정으로 재고가 배정분 아래로 줄었으면 풀도 줄어 배정분이 재고를 넘지 않음)
+     * - 삭제되는 샤드의 예약분은 부모 행 예약 수량에 남으며, 원장 해제 시 부모 행으로 처리됨
+     * - 부모 버전은 1 + 삭제된 샤드 버전 합만큼 올려 유효 버전(부모 + 샤드 합)이 감소하지 않도록 함
+     * - 플래시 세일 중인 재고는 대상에서 제외 (빈 Optional)
+     */
+    public Optional<InventoryShardLayout> reshard(String inventoryId, int shardCount) {
+        return redistribute(inventoryId, shardCount);
+    }
+
+    /**
+     * 현재 샤드 수 유지 + 재분배 (샤드 수는 잠근 부모 행에서 읽어 동시 변경을 덮어쓰지 않음)
+     */
+    public Optional<InventoryShardLayout> rebalance(String inventoryId) {
+        return redistribute(inventoryId, null);
+    }
+
+    private Optional<InventoryShardLayout> redistribute(String inventoryId, Integer requestedShardCount) {
+        Object id = inventoryIdBinder.bind(inventoryId);
+        List<Map<String, Object>> parents = jdbcTemplate.queryForList("""
+                SELECT quantity_in_hub, reserved_quantity, shard_count
+                  FROM p_inventories
+                 WHERE inventory_id = ?
+                   AND is_deleted = false
+                   AND flash_owner IS NULL
+                   FOR UPDATE""", id);
+        if (parents.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int quantityInHub = ((Number) parents.get(0).get("quantity_in_hub")).intValue();
+        int parentReserved = ((Number) parents.get(0).get("reserved_quantity")).intValue();
+        int shardCount = requestedShardCount != null
+                ? requestedShardCount
+                : ((Number) parents.get(0).get("shard_count")).intValue();
+
+        List<ShardRow> shards = jdbcTemplate.query("""
+                SELECT shard_no, allotted_quantity, reserved_quantity, version
+                  FROM p_inventory_shards
+                 WHERE inventory_id = ?
+                 ORDER BY shard_no
+                   FOR UPDATE""", SHARD_ROW_MAPPER, id);
+
+        int activeCount = shardCount > 1 ? shardCount : 0;
+        int oldFree = shards.stream().mapToInt(ShardRow::free).sum();
+        int pool = Math.max(quantityInHub - (parentReserved - oldFree), 0);
+
+        long removedVersions = shards.stream()
+                .filter(shard -> shard.shardNo() >= activeCount)
+                .mapToLong(ShardRow::version)
+                .sum();
+        jdbcTemplate.update("DELETE FROM p_inventory_shards WHERE inventory_id = ? AND shard_no >= ?",
+                id, activeCount);
+
+        int assigned = 0;
+        if (activeCount > 0) {
+            int[] reservedByShard = new int[activeCount];
+            shards.stream()
+                    .filter(shard -> shard.shardNo() < activeCount)
+                    .forEach(shard -> reservedByShard[shard.shardNo()] = shard.reserved());
+
+            List<Object[]> batchArgs = new ArrayList<>(activeCount);
+            for (int shardNo = 0; shardNo < activeCount; shardNo++) {
+                int target = pool / activeCount + (shardNo < pool % activeCount ? 1 : 0);
+                batchArgs.add(new Object[]{id, shardNo, reservedByShard[shardNo] + target});
+                assigned += target;
+            }
+            jdbcTemplate.batchUpdate(UPSERT_SHARD_SQL, batchArgs);
+        }
+
+        jdbcTemplate.update("""
+                        UPDATE p_inventories
+                           SET reserved_quantity = ?,
+                               shard_count = ?,
+                               version = version + ?,
+                               updated_at = CURRENT_TIMESTAMP
+                         WHERE inventory_id = ?""",
+                parentReserved - oldFree + assigned, Math.max(activeCount, 1), 1 + removedVersions, id);
+
+        return findLayout(inventoryId);
+    }
+
+    /**
+     * 샤드 구성 조회
+     */
+    public Optional<InventoryShardLayout> findLayout(String inventoryId) {
+        Object id = inventoryIdBinder.bind(inventoryId);
+        List<Map<String, Object>> parents = jdbcTemplate.queryForList("""
+                SELECT product_id, hub_id, quantity_in_hub, reserved_quantity, shard_count
+                  FROM p_inventories
+                 WHERE inventory_id = ?
+                   AND is_deleted = false""", id);
+        if (parents.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, Object> parent = parents.get(0);
+        List<InventoryShardLayout.Shard> shards = jdbcTemplate.query("""
+                        SELECT shard_no, allotted_quantity, reserved_quantity, version
+                          FROM p_inventory_shards
+                         WHERE inventory_id = ?
+                         ORDER BY shard_no""", SHARD_ROW_MAPPER, id)
+                .stream()
+                .map(row -> InventoryShardLayout.Shard.builder()
+                        .shardNo(row.shardNo())
+                        .allottedQuantity(row.allotted())
+                        .reservedQuantity(row.reserved())
+                        .build())
+                .toList();
+
+        return Optional.of(InventoryShardLayout.builder()
+                .inventoryId(inventoryId)
+                .productId((String) parent.get("product_id"))
+                .hubId((String) parent.get("hub_id"))
+                .shardCount(((Number) parent.get("shard_count")).intValue())
+                .parentAvailable(((Number) parent.get("quantity_in_hub")).intValue()
+                        - ((Number) parent.get("reserved_quantity")).intValue())
+                .shards(shards)
+                .build());
+    }
+
+    /**
+     * 샤드 모드 재고 ID 목록 (shard_count 인덱스)
+     */
+    public List<String> findShardedInventoryIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT inventory_id FROM p_inventories WHERE shard_count > 1 AND is_deleted = false", String.class);
+    }
+
+    /**
+     * 샤드 모드 재고 키 목록 (shard_count 인덱스)
+     */
+    public Set<InventoryKey> findShardedKeys() {
+        return new HashSet<>(jdbcTemplate.query(
+                "SELECT product_id, hub_id FROM p_inventories WHERE shard_count > 1 AND is_deleted = false",
+                (rs, rowNum) -> InventoryKey.of(rs.getString("product_id"), rs.getString("hub_id"))));
+    }
+
+    private Optional<StockSnapshot> findSnapshot(String inventoryId, int shardNo) {
+        return jdbcTemplate.query(
+                        "SELECT " + InventoryJdbcRepository.SNAPSHOT_COLUMNS + " FROM p_inventories i WHERE i.inventory_id = ?",
+                        InventoryJdbcRepository.SNAPSHOT_ROW_MAPPER, inventoryIdBinder.bind(inventoryId))
+                .stream()
+                .findFirst()
+                .map(snapshot -> snapshot.toBuilder().shardNo(shardNo).build());
+    }
+
+    private record ShardRow(int shardNo, int allotted, int reserved, long version) {
+        int free() {
+            return allotted - reserved;
+        }
+    }
+}
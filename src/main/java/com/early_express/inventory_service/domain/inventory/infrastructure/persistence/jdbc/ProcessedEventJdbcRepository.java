@@ -0,0 +1,85 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 처리 완료 이벤트 JDBC 저장소
+ * - 조회는 PK IN 절, 기록은 다중 VALUES INSERT ... ON CONFLICT DO NOTHING (재기록 시 무시)
+ * - 보관 기간이 지난 행은 processed_at 인덱스 범위로 청크 단위 삭제
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedEventJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String DELETE_PROCESSED_BEFORE_SQL = """
+            DELETE FROM p_processed_events
+             WHERE event_id IN (
+                   SELECT event_id
+                     FROM p_processed_events
+                    WHERE processed_at < ?
+                    LIMIT ?)""";
+
+    /**
+     * 이미 처리된 이벤트 ID 조회
+     */
+    public Set<String> findProcessed(Collection<String> eventIds) {
+        List<String> ids = new ArrayList<>(eventIds);
+        Set<String> processed = new HashSet<>();
+
+        for (int from = 0; from < ids.size(); from += InventoryJdbcRepository.IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + InventoryJdbcRepository.IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            String sql = "SELECT event_id FROM p_processed_events WHERE event_id IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+
+            processed.addAll(jdbcTemplate.queryForList(sql, String.class, chunk.toArray()));
+        }
+
+        return processed;
+    }
+
+    /**
+     * 처리 완료 기록 (이미 기록된 ID는 건너뜀)
+     */
+    public void insertAllIfAbsent(Collection<String> eventIds, String topic) {
+        List<String> ids = new ArrayList<>(eventIds);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < ids.size(); from += InventoryJdbcRepository.IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + InventoryJdbcRepository.IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            String sql = "INSERT INTO p_processed_events (event_id, topic, processed_at) VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?)"))
+                    + " ON CONFLICT (event_id) DO NOTHING";
+
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (String eventId : chunk) {
+                args.add(eventId);
+                args.add(topic);
+                args.add(now);
+            }
+
+            jdbcTemplate.update(sql, args.toArray());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 기록 삭제 (최대 limit 건)
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteProcessedBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update(DELETE_PROCESSED_BEFORE_SQL, Timestamp.valueOf(threshold), limit);
+    }
+}
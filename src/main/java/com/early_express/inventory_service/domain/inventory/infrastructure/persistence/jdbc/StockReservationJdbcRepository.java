@@ -0,0 +1,286 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jdbc;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 예약 원장 JDBC 저장소
+ * - 예약 라인 INSERT는 예약 트랜잭션 안에서 배치 1회
+ * - 해제/확정 대상 라인은 인덱스 조회 1회 + FOR UPDATE로 잠가 중복 처리 방지
+ * - 만료 처리는 (status, expires_at) 인덱스 범위 조회만 사용 (전체 스캔 없음)
+ * - 엔티티를 영속성 컨텍스트에 올리지 않고 행 값만 매핑
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockReservationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InventoryIdBinder inventoryIdBinder;
+
+    static final String RESERVATION_COLUMNS =
+            "reservation_line_id, reservation_id, order_id, inventory_id, product_id, hub_id,"
+                    + " shard_no, quantity, status, expires_at, created_at";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO p_stock_reservations
+                   (reservation_line_id, reservation_id, order_id, inventory_id, product_id, hub_id,
+                    shard_no, quantity, status, expires_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    /**
+     * 잠금 순서를 재고 키 순으로 고정 (카운터 UPDATE도 같은 순서로 실행)
+     */
+    private static final String ACTIVE_FOR_UPDATE_SQL = "SELECT " + RESERVATION_COLUMNS
+            + " FROM p_stock_reservations WHERE %s = ? AND status = 'RESERVED'"
+            + " ORDER BY product_id, hub_id, reservation_line_id FOR UPDATE";
+
+    /**
+     * 시작 시 재구성 조회의 fetch size (커서로 나눠 읽어 전체 결과를 메모리에 올리지 않음)
+     */
+    private static final int REBUILD_FETCH_SIZE = 1_000;
+
+    static final RowMapper<StockReservation> RESERVATION_ROW_MAPPER = (rs, rowNum) -> StockReservation.reconstruct(
+            rs.getString("reservation_line_id"),
+            rs.getString("reservation_id"),
+            rs.getString("order_id"),
+            rs.getString("inventory_id"),
+            rs.getString("product_id"),
+            rs.getString("hub_id"),
+            rs.getObject("shard_no", Integer.class),
+            rs.getInt("quantity"),
+            ReservationStatus.valueOf(rs.getString("status")),
+            rs.getTimestamp("expires_at").toLocalDateTime(),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    /**
+     * 예약 라인 배치 INSERT
+     * - 라인 ID는 호출자가 미리 생성해 전달
+     */
+    public void insertAll(List<String> lineIds, List<StockReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(reservations.size());
+        for (int i = 0; i < reservations.size(); i++) {
+            StockReservation reservation = reservations.get(i);
+            Timestamp createdAt = Timestamp.valueOf(reservation.getCreatedAt());
+            batchArgs.add(new Object[]{
+                    lineIds.get(i),
+                    reservation.getReservationId(),
+                    reservation.getOrderId(),
+                    inventoryIdBinder.bind(reservation.getInventoryId()),
+                    reservation.getProductId(),
+                    reservation.getHubId(),
+                    reservation.getShardNo(),
+                    reservation.getQuantity(),
+                    reservation.getStatus().name(),
+                    Timestamp.valueOf(reservation.getExpiresAt()),
+                    createdAt,
+                    createdAt
+            });
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    /**
+     * 라인 ID가 정해진 예약 라인 INSERT (이미 있는 라인은 건너뜀)
+     * - 다중 VALUES INSERT ... ON CONFLICT DO NOTHING RETURNING으로 실제 INSERT된 라인만 반환
+     *
+     * @return INSERT된 라인 ID
+     */
+    public Set<String> insertAllIfAbsent(List<StockReservation> reservations) {
+        Set<String> inserted = new HashSet<>();
+
+        for (int from = 0; from < reservations.size(); from += InventoryJdbcRepository.IN_CLAUSE_CHUNK_SIZE) {
+            List<StockReservation> chunk = reservations.subList(
+                    from, Math.min(from + InventoryJdbcRepository.IN_CLAUSE_CHUNK_SIZE, reservations.size()));
+
+            String rows = String.join(", ",
+                    Collections.nCopies(chunk.size(), "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"));
+            String sql = "INSERT INTO p_stock_reservations"
+                    + " (reservation_line_id, reservation_id, order_id, inventory_id, product_id, hub_id,"
+                    + " shard_no, quantity, status, expires_at, created_at, updated_at)"
+                    + " VALUES " + rows
+                    + " ON CONFLICT (reservation_line_id) DO NOTHING"
+                    + " RETURNING reservation_line_id";
+
+            List<Object> args = new ArrayList<>(chunk.size() * 12);
+            for (StockReservation reservation : chunk) {
+                Timestamp createdAt = Timestamp.valueOf(reservation.getCreatedAt());
+                args.add(reservation.getReservationLineId());
+                args.add(reservation.getReservationId());
+                args.add(reservation.getOrderId());
+                args.add(inventoryIdBinder.bind(reservation.getInventoryId()));
+                args.add(reservation.getProductId());
+                args.add(reservation.getHubId());
+                args.add(reservation.getShardNo());
+                args.add(reservation.getQuantity());
+                args.add(reservation.getStatus().name());
+                args.add(Timestamp.valueOf(reservation.getExpiresAt()));
+                args.add(createdAt);
+                args.add(createdAt);
+            }
+
+            inserted.addAll(jdbcTemplate.queryForList(sql, String.class, args.toArray()));
+        }
+
+        return inserted;
+    }
+
+    /**
+     * 예약 ID의 RESERVED 라인 조회 + 행 잠금
+     */
+    public List<StockReservation> findActiveByReservationIdForUpdate(String reservationId) {
+        return jdbcTemplate.query(
+                ACTIVE_FOR_UPDATE_SQL.formatted("reservation_id"), RESERVATION_ROW_MAPPER, reservationId);
+    }
+
+    /**
+     * 주문 ID의 RESERVED 라인 조회 + 행 잠금
+     */
+    public List<StockReservation> findActiveByOrderIdForUpdate(String orderId) {
+        return jdbcTemplate.query(
+                ACTIVE_FOR_UPDATE_SQL.formatted("order_id"), RESERVATION_ROW_MAPPER, orderId);
+    }
+
+    /**
+     * 예약 ID의 전체 라인 조회 (상태 무관)
+     */
+    public List<StockReservation> findByReservationId(String reservationId) {
+        return jdbcTemplate.query(
+                "SELECT " + RESERVATION_COLUMNS + " FROM p_stock_reservations WHERE reservation_id = ?",
+                RESERVATION_ROW_MAPPER, reservationId);
+    }
+
+    /**
+     * 주문 ID의 전체 라인 조회 (상태 무관)
+     */
+    public List<StockReservation> findByOrderId(String orderId) {
+        return jdbcTemplate.query(
+                "SELECT " + RESERVATION_COLUMNS + " FROM p_stock_reservations WHERE order_id = ?",
+                RESERVATION_ROW_MAPPER, orderId);
+    }
+
+    /**
+     * 예약 ID 목록 중 만료된 RESERVED 라인 조회 + 행 잠금 (SKIP LOCKED)
+     * - 재고 키 순 정렬로 카운터 UPDATE 잠금 순서 고정
+     */
+    public List<StockReservation> findExpiredForUpdate(Collection<String> reservationIds, LocalDateTime now) {
+        if (reservationIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> idList = new ArrayList<>(reservationIds);
+        List<StockReservation> lines = new ArrayList<>(idList.size());
+
+        for (int from = 0; from < idList.size(); from += InventoryJdbcRepository.IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = idList.subList(
+                    from, Math.min(from + InventoryJdbcRepository.IN_CLAUSE_CHUNK_SIZE, idList.size()));
+
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            String sql = "SELECT " + RESERVATION_COLUMNS
+                    + " FROM p_stock_reservations"
+                    + " WHERE reservation_id IN (" + placeholders + ")"
+                    + " AND status = 'RESERVED'"
+                    + " AND expires_at <= ?"
+                    + " ORDER BY product_id, hub_id, reservation_line_id"
+                    + " FOR UPDATE SKIP LOCKED";
+
+            Object[] args = new Object[chunk.size() + 1];
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i] = chunk.get(i);
+            }
+            args[chunk.size()] = Timestamp.valueOf(now);
+
+            lines.addAll(jdbcTemplate.query(sql, RESERVATION_ROW_MAPPER, args));
+        }
+
+        return lines;
+    }
+
+    /**
+     * 만료 시각이 지난 RESERVED 예약 ID 조회 (인덱스 범위 조회, 오래된 순)
+     */
+    public List<String> findExpiredReservationIds(LocalDateTime now, int limit) {
+        return jdbcTemplate.queryForList("""
+                        SELECT reservation_id
+                          FROM p_stock_reservations
+                         WHERE status = 'RESERVED'
+                           AND expires_at <= ?
+                         GROUP BY reservation_id
+                         ORDER BY MIN(expires_at)
+                         LIMIT ?""",
+                String.class, Timestamp.valueOf(now), limit);
+    }
+
+    /**
+     * RESERVED 예약별 가장 이른 만료 시각 순회
+     */
+    public void forEachActiveExpiry(BiConsumer<String, LocalDateTime> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement("""
+                            SELECT reservation_id, MIN(expires_at) AS expires_at
+                              FROM p_stock_reservations
+                             WHERE status = 'RESERVED'
+                             GROUP BY reservation_id""");
+                    ps.setFetchSize(REBUILD_FETCH_SIZE);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(
+                        rs.getString("reservation_id"), rs.getTimestamp("expires_at").toLocalDateTime()));
+    }
+
+    /**
+     * RESERVED 라인 상태 일괄 변경
+     * - status = 'RESERVED' 조건으로 이미 처리된 라인은 건너뜀
+     */
+    public int updateStatus(Collection<String> reservationLineIds, ReservationStatus status) {
+        if (reservationLineIds.isEmpty()) {
+            return 0;
+        }
+
+        List<String> idList = new ArrayList<>(reservationLineIds);
+        int updated = 0;
+
+        for (int from = 0; from < idList.size(); from += InventoryJdbcRepository.IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = idList.subList(
+                    from, Math.min(from + InventoryJdbcRepository.IN_CLAUSE_CHUNK_SIZE, idList.size()));
+
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            String sql = "UPDATE p_stock_reservations"
+                    + " SET status = ?, updated_at = CURRENT_TIMESTAMP"
+                    + " WHERE reservation_line_id IN (" + placeholders + ")"
+                    + " AND status = 'RESERVED'";
+
+            Object[] args = new Object[chunk.size() + 1];
+            args[0] = status.name();
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i + 1] = chunk.get(i);
+            }
+
+            updated += jdbcTemplate.update(sql, args);
+        }
+
+        return updated;
+    }
+}
@@ -3,9 +3,11 @@ package com.early_express.inventory_service.domain.inventory.infrastructure.pers
 import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity.InventoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.UUID;
+
 /**
  * Inventory JPA Repository
  * - Spring Data JPA 기본 인터페이스
  */
-public interface InventoryJpaRepository extends JpaRepository<InventoryEntity, String> {
+public interface InventoryJpaRepository extends JpaRepository<InventoryEntity, UUID> {
 }
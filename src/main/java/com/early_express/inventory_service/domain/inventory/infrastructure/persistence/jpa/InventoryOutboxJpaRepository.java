@@ -0,0 +1,30 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jpa;
+
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity.InventoryOutboxEntity;
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Inventory 아웃박스 JPA Repository
+ */
+public interface InventoryOutboxJpaRepository extends JpaRepository<InventoryOutboxEntity, Long> {
+
+    /**
+     * 발행 대기(PENDING) 이벤트 배치 조회 (오래된 순, 데드레터 제외)
+     * - FOR UPDATE SKIP LOCKED: 여러 인스턴스의 릴레이가 서로 다른 행을 나눠 처리
+     *   (lock.timeout = -2 는 Hibernate의 SKIP_LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from InventoryOutboxEntity o where o.status = :status order by o.outboxId")
+    List<InventoryOutboxEntity> findRelayBatch(@Param("status") OutboxStatus status, Pageable pageable);
+}
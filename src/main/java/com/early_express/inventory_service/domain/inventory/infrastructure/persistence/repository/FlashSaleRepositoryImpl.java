@@ -0,0 +1,62 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.repository;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.FlashSaleState;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.FlashSaleRepository;
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jdbc.FlashSaleJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 플래시 세일 Repository 구현체 (어댑터)
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FlashSaleRepositoryImpl implements FlashSaleRepository {
+
+    private final FlashSaleJdbcRepository jdbcRepository;
+
+    @Override
+    @Transactional
+    public Optional<FlashSaleState> activate(String inventoryId, String ownerId, String ownerUrl) {
+        return jdbcRepository.activate(inventoryId, ownerId, ownerUrl);
+    }
+
+    @Override
+    @Transactional
+    public Optional<StockSnapshot> deactivate(String inventoryId, String ownerId) {
+        return jdbcRepository.deactivate(inventoryId, ownerId);
+    }
+
+    @Override
+    @Transactional
+    public Optional<StockSnapshot> applyReserved(String inventoryId, String ownerId, int quantity) {
+        return jdbcRepository.applyReserved(inventoryId, ownerId, quantity);
+    }
+
+    @Override
+    @Transactional
+    public int refill(String inventoryId, String ownerId) {
+        return jdbcRepository.refill(inventoryId, ownerId);
+    }
+
+    @Override
+    public Optional<FlashSaleState> findByInventoryId(String inventoryId) {
+        return jdbcRepository.findByInventoryId(inventoryId);
+    }
+
+    @Override
+    public List<FlashSaleState> findActive() {
+        return jdbcRepository.findActive();
+    }
+
+    @Override
+    public List<FlashSaleState> findByOwner(String ownerId) {
+        return jdbcRepository.findByOwner(ownerId);
+    }
+}
@@ -1,20 +1,31 @@
 package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.repository;
 
 import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.HubSelectionPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InitialInventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventorySummary;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockLine;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
 import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryRepository;
 import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity.InventoryEntity;
 import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity.QInventoryEntity;
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jdbc.InventoryJdbcRepository;
 import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jpa.InventoryJpaRepository;
+import com.early_express.inventory_service.global.common.utils.UuidUtils;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -27,12 +38,14 @@ public class InventoryRepositoryImpl implements InventoryRepository {
 
     private final InventoryJpaRepository jpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final InventoryJdbcRepository jdbcRepository;
+    private final AuditorAware<String> auditorAware;
 
     private static final QInventoryEntity inventory = QInventoryEntity.inventoryEntity;
 
     /**
      * 재고 저장
-     * - ID가 있으면 업데이트 (더티 체킹, 낙관적 락)
+     * - ID가 있으면 업데이트 (더티 체킹, 낙관적 락) 후 즉시 flush하여 증가된 버전을 반환
      * - ID가 없으면 신규 저장
      */
     @Override
@@ -42,10 +55,11 @@ public class InventoryRepositoryImpl implements InventoryRepository {
 
         // ID가 있으면 업데이트 (더티 체킹, 낙관적 락)
         if (inventoryId != null && !inventoryId.isBlank()) {
-            Optional<InventoryEntity> existingEntity = jpaRepository.findById(inventoryId);
+            Optional<InventoryEntity> existingEntity = UuidUtils.parse(inventoryId).flatMap(jpaRepository::findById);
             if (existingEntity.isPresent()) {
                 InventoryEntity entity = existingEntity.get();
                 entity.updateFromDomain(domain);
+                jpaRepository.flush();
                 return entity.toDomain();
             }
         }
@@ -56,20 +70,116 @@ public class InventoryRepositoryImpl implements InventoryRepository {
         return savedEntity.toDomain();
     }
 
+    /**
+     * 초기 재고 생성 (JDBC INSERT ... ON CONFLICT 단일 문장)
+     * - 존재 확인 → 조회 → 저장(findById 포함) 대신 한 번의 라운드트립으로 생성 또는 기존 행 반환
+     */
+    @Override
+    @Transactional
+    public Optional<InitialInventory> createIfAbsent(Inventory inventory) {
+        return jdbcRepository.insertIfAbsent(inventory);
+    }
+
+    /**
+     * 초기 재고 일괄 생성 (JDBC 다중 VALUES INSERT ... ON CONFLICT)
+     */
+    @Override
+    @Transactional
+    public List<Inventory> createAllIfAbsent(List<Inventory> inventories) {
+        return jdbcRepository.insertAllIfAbsent(inventories);
+    }
+
+    /**
+     * 조건부 재고 예약 (단일 UPDATE)
+     * - 조회 → 도메인 검증 → 더티 체킹 대신 DB에서 가용 재고를 검증하며 증가
+     */
+    @Override
+    @Transactional
+    public Optional<StockSnapshot> reserve(String productId, String hubId, int quantity) {
+        return jdbcRepository.reserve(productId, hubId, quantity);
+    }
+
+    /**
+     * 다건 조건부 재고 예약 (JDBC 배치)
+     */
+    @Override
+    @Transactional
+    public boolean[] reserveAll(List<StockLine> lines) {
+        return jdbcRepository.reserveAll(lines);
+    }
+
+    /**
+     * 조건부 예약 해제 (단일 UPDATE)
+     */
+    @Override
+    @Transactional
+    public Optional<StockSnapshot> release(String productId, String hubId, int quantity) {
+        return jdbcRepository.release(productId, hubId, quantity);
+    }
+
+    /**
+     * 조건부 출고 확정 (단일 UPDATE)
+     */
+    @Override
+    @Transactional
+    public Optional<StockSnapshot> confirm(String productId, String hubId, int quantity) {
+        return jdbcRepository.confirm(productId, hubId, quantity);
+    }
+
+    /**
+     * 상품의 전체 허브 재고 스냅샷 조회 (삭제된 재고 제외)
+     */
+    @Override
+    public List<StockSnapshot> findSnapshotsByProduct(String productId) {
+        return jdbcRepository.findSnapshotsByProduct(productId);
+    }
+
+    /**
+     * 허브 자동 선택 + 조건부 예약 (단일 문장)
+     */
+    @Override
+    @Transactional
+    public Optional<StockSnapshot> reserveOnSelectedHub(String productId, int quantity, HubSelectionPolicy policy) {
+        return jdbcRepository.reserveOnSelectedHub(productId, quantity, policy);
+    }
+
+    /**
+     * 정책 순서상 가용 재고가 충분한 첫 번째 허브 조회
+     */
+    @Override
+    public Optional<String> selectHub(String productId, int quantity, HubSelectionPolicy policy) {
+        return jdbcRepository.selectHub(productId, quantity, policy);
+    }
+
+    /**
+     * 상품-허브 조합 목록으로 재고 스냅샷 조회 (삭제된 재고 제외)
+     */
+    @Override
+    public List<StockSnapshot> findSnapshots(Collection<InventoryKey> keys) {
+        return jdbcRepository.findSnapshots(keys);
+    }
+
+    /**
+     * 허브 내 상품 목록의 재고 스냅샷 조회 (삭제된 재고 제외)
+     */
+    @Override
+    public List<StockSnapshot> findSnapshotsByHub(String hubId, Collection<String> productIds) {
+        return jdbcRepository.findSnapshotsByHub(hubId, productIds);
+    }
+
     /**
      * ID로 재고 조회 (삭제된 재고 제외)
      */
     @Override
     public Optional<Inventory> findById(String inventoryId) {
-        return Optional.ofNullable(
-                        queryFactory
-                                .selectFrom(inventory)
-                                .where(
-                                        inventory.inventoryId.eq(inventoryId),
-                                        inventory.isDeleted.eq(false)
-                                )
-                                .fetchOne()
-                )
+        return UuidUtils.parse(inventoryId)
+                .map(id -> queryFactory
+                        .selectFrom(inventory)
+                        .where(
+                                inventory.inventoryId.eq(id),
+                                inventory.isDeleted.eq(false)
+                        )
+                        .fetchOne())
                 .map(InventoryEntity::toDomain);
     }
 
@@ -140,76 +250,40 @@ public class InventoryRepositoryImpl implements InventoryRepository {
     }
 
     /**
-     * 안전 재고 이하 재고 조회 (삭제된 재고 제외)
+     * 재고 목록 요약 페이징 조회 (JDBC 프로젝션)
+     * - 엔티티 하이드레이션 없이 목록 컬럼만 조회하며, 예약 수량은 샤드·플래시 배정분을 반영한 유효 값
      */
     @Override
-    public List<Inventory> findLowStock() {
-        return queryFactory
-                .selectFrom(inventory)
-                .where(
-                        inventory.quantityInHub.loe(inventory.safetyStock),
-                        inventory.isDeleted.eq(false)
-                )
-                .fetch()
-                .stream()
-                .map(InventoryEntity::toDomain)
-                .collect(Collectors.toList());
+    public Page<InventorySummary> findSummaries(Pageable pageable) {
+        List<InventorySummary> summaries =
+                jdbcRepository.findSummaries(null, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(summaries, pageable, jdbcRepository.countActive(null));
     }
 
     /**
-     * 페이징 조회 (삭제된 재고 제외)
+     * 허브별 재고 목록 요약 페이징 조회 (JDBC 프로젝션)
      */
     @Override
-    public Page<Inventory> findAllWithPaging(Pageable pageable) {
-        List<InventoryEntity> entities = queryFactory
-                .selectFrom(inventory)
-                .where(inventory.isDeleted.eq(false))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(inventory.createdAt.desc())
-                .fetch();
-
-        long total = queryFactory
-                .selectFrom(inventory)
-                .where(inventory.isDeleted.eq(false))
-                .fetchCount();
-
-        List<Inventory> inventories = entities.stream()
-                .map(InventoryEntity::toDomain)
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(inventories, pageable, total);
+    public Page<InventorySummary> findSummariesByHubId(String hubId, Pageable pageable) {
+        List<InventorySummary> summaries =
+                jdbcRepository.findSummaries(hubId, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(summaries, pageable, jdbcRepository.countActive(hubId));
     }
 
     /**
-     * 허브별 페이징 조회 (삭제된 재고 제외)
+     * 품절 재고 목록 요약 조회 (유효 가용 재고 = 0)
      */
     @Override
-    public Page<Inventory> findByHubIdWithPaging(String hubId, Pageable pageable) {
-        List<InventoryEntity> entities = queryFactory
-                .selectFrom(inventory)
-                .where(
-                        inventory.hubId.eq(hubId),
-                        inventory.isDeleted.eq(false)
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(inventory.createdAt.desc())
-                .fetch();
-
-        long total = queryFactory
-                .selectFrom(inventory)
-                .where(
-                        inventory.hubId.eq(hubId),
-                        inventory.isDeleted.eq(false)
-                )
-                .fetchCount();
-
-        List<Inventory> inventories = entities.stream()
-                .map(InventoryEntity::toDomain)
-                .collect(Collectors.toList());
+    public List<InventorySummary> findOutOfStockSummaries() {
+        return jdbcRepository.findOutOfStockSummaries();
+    }
 
-        return new PageImpl<>(inventories, pageable, total);
+    /**
+     * 안전 재고 이하 재고 목록 요약 조회 (유효 가용 재고 <= 안전 재고)
+     */
+    @Override
+    public List<InventorySummary> findLowStockSummaries() {
+        return jdbcRepository.findLowStockSummaries();
     }
 
     /**
@@ -218,21 +292,36 @@ public class InventoryRepositoryImpl implements InventoryRepository {
     @Override
     @Transactional
     public void delete(String inventoryId) {
-        InventoryEntity entity = jpaRepository.findById(inventoryId)
+        InventoryEntity entity = UuidUtils.parse(inventoryId)
+                .flatMap(jpaRepository::findById)
                 .orElseThrow(() -> new IllegalArgumentException("재고를 찾을 수 없습니다: " + inventoryId));
 
         entity.delete(null); // deletedBy는 Service에서 처리 가능
     }
 
+    /**
+     * 상품 목록의 재고 일괄 소프트 삭제 (JDBC 집합 기반 UPDATE ... RETURNING)
+     * - deleted_by는 JPA Auditing과 같은 AuditorAware 기준 (인증 정보가 없으면 null)
+     */
+    @Override
+    @Transactional
+    public List<StockSnapshot> softDeleteByProductIds(Collection<String> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcRepository.softDeleteByProductIds(productIds, auditorAware.getCurrentAuditor().orElse(null));
+    }
+
     /**
      * 재고 존재 여부 확인 (삭제된 재고 제외)
      */
     @Override
     public boolean existsById(String inventoryId) {
-        return queryFactory
+        Optional<UUID> id = UuidUtils.parse(inventoryId);
+        return id.isPresent() && queryFactory
                 .selectFrom(inventory)
                 .where(
-                        inventory.inventoryId.eq(inventoryId),
+                        inventory.inventoryId.eq(id.get()),
                         inventory.isDeleted.eq(false)
                 )
                 .fetchFirst() != null;
@@ -0,0 +1,70 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.repository;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryShardLayout;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryShardRepository;
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jdbc.InventoryShardJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 재고 샤드 Repository 구현체 (어댑터)
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InventoryShardRepositoryImpl implements InventoryShardRepository {
+
+    private final InventoryShardJdbcRepository jdbcRepository;
+
+    @Override
+    @Transactional
+    public Optional<StockSnapshot> reserve(String productId, String hubId, int quantity) {
+        return jdbcRepository.reserve(productId, hubId, quantity);
+    }
+
+    @Override
+    @Transactional
+    public Optional<StockSnapshot> release(String inventoryId, int shardNo, int quantity) {
+        return jdbcRepository.release(inventoryId, shardNo, quantity);
+    }
+
+    @Override
+    @Transactional
+    public Optional<StockSnapshot> confirm(String inventoryId, int shardNo, int quantity) {
+        return jdbcRepository.confirm(inventoryId, shardNo, quantity);
+    }
+
+    @Override
+    @Transactional
+    public Optional<InventoryShardLayout> reshard(String inventoryId, int shardCount) {
+        return jdbcRepository.reshard(inventoryId, shardCount);
+    }
+
+    @Override
+    @Transactional
+    public Optional<InventoryShardLayout> rebalance(String inventoryId) {
+        return jdbcRepository.rebalance(inventoryId);
+    }
+
+    @Override
+    public Optional<InventoryShardLayout> findLayout(String inventoryId) {
+        return jdbcRepository.findLayout(inventoryId);
+    }
+
+    @Override
+    public List<String> findShardedInventoryIds() {
+        return jdbcRepository.findShardedInventoryIds();
+    }
+
+    @Override
+    public Set<InventoryKey> findShardedKeys() {
+        return jdbcRepository.findShardedKeys();
+    }
+}
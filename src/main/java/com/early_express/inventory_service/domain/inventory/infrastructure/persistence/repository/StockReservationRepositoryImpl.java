@@ -0,0 +1,89 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.repository;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationStatus;
+import com.early_express.inventory_service.domain.inventory.domain.repository.StockReservationRepository;
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jdbc.StockReservationJdbcRepository;
+import com.early_express.inventory_service.global.common.utils.UuidUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 예약 원장 Repository 구현체 (어댑터)
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StockReservationRepositoryImpl implements StockReservationRepository {
+
+    private final StockReservationJdbcRepository jdbcRepository;
+
+    @Override
+    @Transactional
+    public void saveAll(List<StockReservation> reservations) {
+        List<String> lineIds = reservations.stream()
+                .map(reservation -> UuidUtils.generate())
+                .toList();
+        jdbcRepository.insertAll(lineIds, reservations);
+    }
+
+    @Override
+    @Transactional
+    public List<StockReservation> saveAllIfAbsent(List<StockReservation> reservations) {
+        Set<String> inserted = jdbcRepository.insertAllIfAbsent(reservations);
+        return reservations.stream()
+                .filter(reservation -> inserted.contains(reservation.getReservationLineId()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public List<StockReservation> findActiveByReservationIdForUpdate(String reservationId) {
+        return jdbcRepository.findActiveByReservationIdForUpdate(reservationId);
+    }
+
+    @Override
+    @Transactional
+    public List<StockReservation> findActiveByOrderIdForUpdate(String orderId) {
+        return jdbcRepository.findActiveByOrderIdForUpdate(orderId);
+    }
+
+    @Override
+    public List<StockReservation> findByReservationId(String reservationId) {
+        return jdbcRepository.findByReservationId(reservationId);
+    }
+
+    @Override
+    public List<StockReservation> findByOrderId(String orderId) {
+        return jdbcRepository.findByOrderId(orderId);
+    }
+
+    @Override
+    @Transactional
+    public List<StockReservation> findExpiredForUpdate(Collection<String> reservationIds, LocalDateTime now) {
+        return jdbcRepository.findExpiredForUpdate(reservationIds, now);
+    }
+
+    @Override
+    public List<String> findExpiredReservationIds(LocalDateTime now, int limit) {
+        return jdbcRepository.findExpiredReservationIds(now, limit);
+    }
+
+    @Override
+    public void forEachActiveExpiry(BiConsumer<String, LocalDateTime> consumer) {
+        jdbcRepository.forEachActiveExpiry(consumer);
+    }
+
+    @Override
+    @Transactional
+    public int updateStatus(Collection<String> reservationLineIds, ReservationStatus status) {
+        return jdbcRepository.updateStatus(reservationLineIds, status);
+    }
+}
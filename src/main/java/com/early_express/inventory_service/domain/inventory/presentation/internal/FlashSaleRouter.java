@@ -0,0 +1,116 @@
+package com.early_express.inventory_service.domain.inventory.presentation.internal;
+
+import com.early_express.inventory_service.domain.inventory.application.flashsale.FlashSaleRegistry;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryErrorCode;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryException;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.presentation.internal.dto.request.ReserveStockRequest;
+import com.early_express.inventory_service.domain.inventory.presentation.internal.dto.response.ReservationResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 플래시 세일 예약 전달기
+ * - 다른 노드가 소유한 플래시 세일 재고 예약은 소유 노드의 메모리 카운터에서 처리해야 하므로 그대로 전달
+ * - 전달된 요청은 다시 전달하지 않음 (소유권 변경 중 순환 방지)
+ * - 요청이 소유 노드에 도달하지 않은 실패(연결 거부, 호스트 해석 실패)만 빈 Optional (호출 측에서 일반 예약 경로로 처리)
+ * - 요청을 보낸 뒤의 실패(응답 타임아웃, 전송 중 IO 오류)는 소유 노드가 이미 예약했을 수 있으므로
+ *   일반 경로로 넘기지 않고 FLASH_SALE_OWNER_UNAVAILABLE(503)로 응답 (같은 주문의 이중 예약 방지)
+ */
+@Slf4j
+@Component
+public class FlashSaleRouter {
+
+    public static final String FORWARDED_HEADER = "X-Flash-Sale-Forwarded";
+
+    private static final String RESERVATION_PATH = "/v1/inventory/internal/reservations";
+
+    private final FlashSaleRegistry flashSaleRegistry;
+    private final WebClient webClient;
+    private final Duration forwardTimeout;
+
+    public FlashSaleRouter(
+            FlashSaleRegistry flashSaleRegistry,
+            WebClient webClient,
+            @Value("${inventory.flash-sale.forward-timeout-ms:2000}") long forwardTimeoutMs
+    ) {
+        this.flashSaleRegistry = flashSaleRegistry;
+        this.webClient = webClient;
+        this.forwardTimeout = Duration.ofMillis(forwardTimeoutMs);
+    }
+
+    /**
+     * 다른 노드 소유 플래시 세일 재고가 포함된 예약이면 소유 노드로 전달
+     *
+     * @return 소유 노드 응답 (상태 코드 유지), 전달 대상이 아니거나 전달 실패면 빈 Optional
+     */
+    public Optional<ResponseEntity<ReservationResponse>> forward(
+            ReserveStockRequest request, String authorization, boolean forwarded
+    ) {
+        if (forwarded) {
+            return Optional.empty();
+        }
+
+        Optional<String> ownerUrl = request.getItems().stream()
+                .filter(item -> item.getHubId() != null)
+                .map(item -> flashSaleRegistry.remoteOwnerUrl(InventoryKey.of(item.getProductId(), item.getHubId())))
+                .flatMap(Optional::stream)
+                .findFirst();
+        if (ownerUrl.isEmpty()) {
+            return Optional.empty();
+        }
+
+        log.debug("플래시 세일 예약 전달: orderId={}, owner={}", request.getOrderId(), ownerUrl.get());
+
+        try {
+            ResponseEntity<ReservationResponse> response = webClient.post()
+                    .uri(ownerUrl.get() + RESERVATION_PATH)
+                    .headers(headers -> {
+                        headers.set(FORWARDED_HEADER, "true");
+                        if (authorization != null) {
+                            headers.set(HttpHeaders.AUTHORIZATION, authorization);
+                        }
+                    })
+                    .bodyValue(request)
+                    .exchangeToMono(clientResponse -> clientResponse.toEntity(ReservationResponse.class))
+                    .timeout(forwardTimeout)
+                    .block();
+            return Optional.ofNullable(response);
+
+        } catch (RuntimeException e) {
+            if (neverSent(e)) {
+                log.warn("플래시 세일 소유 노드 연결 실패 - 일반 경로로 처리: orderId={}, owner={}, error={}",
+                        request.getOrderId(), ownerUrl.get(), e.getMessage());
+                return Optional.empty();
+            }
+
+            log.error("플래시 세일 예약 전달 결과 불명 - 일반 경로로 넘기지 않음: orderId={}, owner={}, error={}",
+                    request.getOrderId(), ownerUrl.get(), e.getMessage());
+            throw new InventoryException(
+                    InventoryErrorCode.FLASH_SALE_OWNER_UNAVAILABLE,
+                    String.format("플래시 세일 소유 노드 응답 없음: orderId=%s, owner=%s", request.getOrderId(), ownerUrl.get())
+            );
+        }
+    }
+
+    /**
+     * 연결 단계에서 실패해 요청이 소유 노드에 전송되지 않았는지 확인
+     */
+    private static boolean neverSent(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConnectException || t instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,9 +1,15 @@
 package com.early_express.inventory_service.domain.inventory.presentation.internal;
 
+import com.early_express.inventory_service.domain.inventory.application.dto.command.ReservationCommand;
 import com.early_express.inventory_service.domain.inventory.application.dto.result.AvailabilityInfo;
 import com.early_express.inventory_service.domain.inventory.application.dto.result.BulkAvailabilityInfo;
 import com.early_express.inventory_service.domain.inventory.application.dto.result.ReservationInfo;
+import com.early_express.inventory_service.domain.inventory.application.reservation.ReservationCombiner;
+import com.early_express.inventory_service.domain.inventory.application.service.FlashSaleService;
 import com.early_express.inventory_service.domain.inventory.application.service.InventoryService;
+import com.early_express.inventory_service.domain.inventory.application.service.ReservationSettlementService;
+import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
+import com.early_express.inventory_service.domain.inventory.presentation.internal.dto.request.BulkInitializeInventoryRequest;
 import com.early_express.inventory_service.domain.inventory.presentation.internal.dto.request.CheckAvailabilityRequest;
 import com.early_express.inventory_service.domain.inventory.presentation.internal.dto.request.InitializeInventoryRequest;
 import com.early_express.inventory_service.domain.inventory.presentation.internal.dto.request.ReserveStockRequest;
@@ -11,6 +17,7 @@ import com.early_express.inventory_service.domain.inventory.presentation.interna
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -29,6 +36,10 @@ import java.util.stream.Collectors;
 public class InternalInventoryController {
 
     private final InventoryService inventoryService;
+    private final ReservationSettlementService reservationSettlementService;
+    private final FlashSaleService flashSaleService;
+    private final FlashSaleRouter flashSaleRouter;
+    private final ReservationCombiner reservationCombiner;
 
     /**
      * 재고 가용성 확인
@@ -86,15 +97,26 @@ public class InternalInventoryController {
 
     /**
      * 재고 예약
+     * - 다른 노드가 소유한 플래시 세일 재고가 포함되면 소유 노드로 전달
+     * - 이 노드가 소유한 플래시 세일 재고만으로 구성되면 메모리 카운터로 예약
+     * - 그 외는 일반 예약 (같은 재고의 동시 단일 라인 예약은 결합기에서 묶어서 처리)
      */
     @PostMapping("/reservations")
     public ResponseEntity<ReservationResponse> reserveStock(
-            @Valid @RequestBody ReserveStockRequest request
+            @Valid @RequestBody ReserveStockRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestHeader(value = FlashSaleRouter.FORWARDED_HEADER, required = false) boolean forwarded
     ) {
         log.info("재고 예약 요청: orderId={}, itemCount={}", request.getOrderId(), request.getItems().size());
 
-        String reservationId = UUID.randomUUID().toString();
-        ReservationInfo info = inventoryService.reserveStock(request.toCommand());
+        Optional<ResponseEntity<ReservationResponse>> routed = flashSaleRouter.forward(request, authorization, forwarded);
+        if (routed.isPresent()) {
+            return routed.get();
+        }
+
+        ReservationCommand command = request.toCommand();
+        ReservationInfo info = flashSaleService.tryReserve(command)
+                .orElseGet(() -> reservationCombiner.reserve(command));
 
         List<ReservationResponse.ReservedItem> reservedItems = info.getReservedItems().stream()
                 .map(item -> ReservationResponse.ReservedItem.builder()
@@ -103,15 +125,90 @@ public class InternalInventoryController {
                         .quantity(item.getQuantity())
                         .success(item.isSuccess())
                         .errorMessage(item.getErrorMessage())
+                        .shortfallQuantity(item.getShortfallQuantity())
+                        .allocations(item.getAllocations() == null ? null : item.getAllocations().stream()
+                                .map(allocation -> ReservationResponse.Allocation.builder()
+                                        .hubId(allocation.getHubId())
+                                        .quantity(allocation.getQuantity())
+                                        .build())
+                                .collect(Collectors.toList()))
                         .build())
                 .collect(Collectors.toList());
 
-        return ResponseEntity.status(info.isAllSuccess() ? HttpStatus.OK : HttpStatus.PARTIAL_CONTENT)
-                .body(ReservationResponse.of(reservationId, info.getOrderId(), info.isAllSuccess(), reservedItems));
+        return ResponseEntity.status(resolveReservationStatus(info, request))
+                .body(ReservationResponse.of(
+                        info.getReservationId(), info.getOrderId(), info.getExpiresAt(), info.isAllSuccess(), reservedItems));
+    }
+
+    /**
+     * 예약 결과별 HTTP 상태
+     * - 전체 성공: 200, 부분 성공: 206, 전체 예약 모드 실패(전부 롤백): 409
+     */
+    private HttpStatus resolveReservationStatus(ReservationInfo info, ReserveStockRequest request) {
+        if (info.isAllSuccess()) {
+            return HttpStatus.OK;
+        }
+        return Boolean.TRUE.equals(request.getAllOrNothing()) ? HttpStatus.CONFLICT : HttpStatus.PARTIAL_CONTENT;
+    }
+
+    /**
+     * 예약 ID로 예약 해제 (예약의 모든 라인, 멱등)
+     */
+    @DeleteMapping("/reservations/by-id/{reservationId}")
+    public ResponseEntity<ReservationSettlementResponse> releaseReservationById(
+            @PathVariable String reservationId
+    ) {
+        log.info("예약 해제 (예약 ID): reservationId={}", reservationId);
+
+        return ResponseEntity.ok(
+                ReservationSettlementResponse.from(reservationSettlementService.releaseReservationById(reservationId))
+        );
+    }
+
+    /**
+     * 예약 ID로 출고 확정 (예약의 모든 라인, 멱등)
+     */
+    @PostMapping("/reservations/by-id/{reservationId}/confirm")
+    public ResponseEntity<ReservationSettlementResponse> confirmReservationById(
+            @PathVariable String reservationId
+    ) {
+        log.info("출고 확정 (예약 ID): reservationId={}", reservationId);
+
+        return ResponseEntity.ok(
+                ReservationSettlementResponse.from(reservationSettlementService.confirmReservationById(reservationId))
+        );
     }
 
     /**
-     * 재고 예약 해제
+     * 주문 ID로 예약 해제 (주문의 모든 예약, 멱등)
+     */
+    @DeleteMapping("/orders/{orderId}/reservations")
+    public ResponseEntity<ReservationSettlementResponse> releaseReservationsByOrder(
+            @PathVariable String orderId
+    ) {
+        log.info("예약 해제 (주문 ID): orderId={}", orderId);
+
+        return ResponseEntity.ok(
+                ReservationSettlementResponse.from(reservationSettlementService.releaseReservationsByOrder(orderId))
+        );
+    }
+
+    /**
+     * 주문 ID로 출고 확정 (주문의 모든 예약, 멱등)
+     */
+    @PostMapping("/orders/{orderId}/reservations/confirm")
+    public ResponseEntity<ReservationSettlementResponse> confirmReservationsByOrder(
+            @PathVariable String orderId
+    ) {
+        log.info("출고 확정 (주문 ID): orderId={}", orderId);
+
+        return ResponseEntity.ok(
+                ReservationSettlementResponse.from(reservationSettlementService.confirmReservationsByOrder(orderId))
+        );
+    }
+
+    /**
+     * 재고 예약 해제 (라인 단위, 예약 원장 미사용)
      */
     @DeleteMapping("/reservations/{orderId}")
     public ResponseEntity<ReleaseResponse> releaseReservation(
@@ -130,7 +227,7 @@ public class InternalInventoryController {
     }
 
     /**
-     * 출고 확정
+     * 출고 확정 (라인 단위, 예약 원장 미사용)
      */
     @PostMapping("/reservations/{orderId}/confirm")
     public ResponseEntity<ConfirmResponse> confirmShipment(
@@ -178,17 +275,49 @@ public class InternalInventoryController {
         List<InitializeInventoryResponse.HubInventory> hubInventories =
                 inventoryService.createInitialInventories(productId)
                         .stream()
-                        .map(inv -> InitializeInventoryResponse.HubInventory.builder()
-                                .inventoryId(inv.getInventoryId())
-                                .hubId(inv.getHubId())
-                                .totalQuantity(inv.getQuantityInHub().getValue())
-                                .build())
+                        .map(this::toHubInventory)
                         .collect(Collectors.toList());
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(InitializeInventoryResponse.of(productId, hubInventories));
     }
 
+    /**
+     * 대량 초기 재고 생성
+     * - 요청한 모든 상품 × 허브 재고를 배치 INSERT 한 번으로 생성
+     */
+    @PostMapping("/products/initialize")
+    public ResponseEntity<BulkInitializeInventoryResponse> initializeInventories(
+            @Valid @RequestBody BulkInitializeInventoryRequest request
+    ) {
+        log.info("대량 초기 재고 생성: sellerId={}, productCount={}",
+                request.getSellerId(), request.getProductIds().size());
+
+        Map<String, List<InitializeInventoryResponse.HubInventory>> created =
+                inventoryService.createInitialInventories(request.getProductIds())
+                        .stream()
+                        .collect(Collectors.groupingBy(
+                                Inventory::getProductId,
+                                Collectors.mapping(this::toHubInventory, Collectors.toList())));
+
+        List<InitializeInventoryResponse> products = request.getProductIds().stream()
+                .distinct()
+                .map(productId -> InitializeInventoryResponse.of(
+                        productId, created.getOrDefault(productId, List.of())))
+                .collect(Collectors.toList());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(BulkInitializeInventoryResponse.of(products));
+    }
+
+    private InitializeInventoryResponse.HubInventory toHubInventory(Inventory inventory) {
+        return InitializeInventoryResponse.HubInventory.builder()
+                .inventoryId(inventory.getInventoryId())
+                .hubId(inventory.getHubId())
+                .totalQuantity(inventory.getQuantityInHub().getValue())
+                .build();
+    }
+
     /**
      * 재고 존재 확인
      */
@@ -0,0 +1,29 @@
+package com.early_express.inventory_service.domain.inventory.presentation.internal.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대량 초기 재고 생성 요청 DTO (Internal API)
+ * 판매자 카탈로그 일괄 등록 시 Product Service에서 호출
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkInitializeInventoryRequest {
+
+    @NotBlank(message = "판매자 ID는 필수입니다.")
+    private String sellerId;
+
+    @NotEmpty(message = "상품 ID 목록은 비어있을 수 없습니다.")
+    @Size(max = 10000, message = "한 번에 최대 10000개 상품까지 초기화할 수 있습니다.")
+    private List<@NotBlank(message = "상품 ID는 필수입니다.") String> productIds;
+}
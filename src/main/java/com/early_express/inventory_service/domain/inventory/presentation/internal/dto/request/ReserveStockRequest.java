@@ -30,6 +30,16 @@ public class ReserveStockRequest {
     @Valid
     private List<ReservationItem> items;
 
+    /**
+     * 전체 성공 또는 전체 실패 모드 (기본값: false)
+     */
+    private Boolean allOrNothing;
+
+    /**
+     * 허브 미지정 상품을 여러 허브로 나눠 예약할지 여부 (기본값: 서버 설정)
+     */
+    private Boolean allowSplit;
+
     /**
      * Presentation DTO → Application Command 변환
      */
@@ -43,6 +53,8 @@ public class ReserveStockRequest {
                                 .quantity(item.getQuantity())
                                 .build())
                         .collect(Collectors.toList()))
+                .allOrNothing(Boolean.TRUE.equals(allOrNothing))
+                .allowSplit(allowSplit)
                 .build();
     }
 
@@ -0,0 +1,29 @@
+package com.early_express.inventory_service.domain.inventory.presentation.internal.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대량 초기 재고 생성 응답 DTO
+ * - 상품별로 이번 요청에서 새로 생성된 허브 재고 (이미 있던 재고는 제외)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkInitializeInventoryResponse {
+
+    private Integer createdCount;
+    private List<InitializeInventoryResponse> products;
+
+    public static BulkInitializeInventoryResponse of(List<InitializeInventoryResponse> products) {
+        return BulkInitializeInventoryResponse.builder()
+                .createdCount(products.stream().mapToInt(product -> product.getInventories().size()).sum())
+                .products(products)
+                .build();
+    }
+}
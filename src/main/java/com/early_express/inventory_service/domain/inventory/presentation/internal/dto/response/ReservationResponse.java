@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -16,8 +17,9 @@ import java.util.List;
 @AllArgsConstructor
 public class ReservationResponse {
 
-    private String reservationId;  // UUID 생성
+    private String reservationId;  // 예약 원장 ID (해제/확정 시 사용, 예약된 라인이 없으면 null)
     private String orderId;
+    private LocalDateTime expiresAt;  // 예약 만료 시각
     private boolean allSuccess;
     private List<ReservedItem> reservedItems;
 
@@ -31,17 +33,30 @@ public class ReservationResponse {
         private Integer quantity;
         private boolean success;
         private String errorMessage;
+        private Integer shortfallQuantity;
+        private List<Allocation> allocations;  // 허브별 배정 수량 (분할 배정이면 2개 이상)
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Allocation {
+        private String hubId;
+        private Integer quantity;
     }
 
     public static ReservationResponse of(
             String reservationId,
             String orderId,
+            LocalDateTime expiresAt,
             boolean allSuccess,
             List<ReservedItem> reservedItems
     ) {
         return ReservationResponse.builder()
                 .reservationId(reservationId)
                 .orderId(orderId)
+                .expiresAt(expiresAt)
                 .allSuccess(allSuccess)
                 .reservedItems(reservedItems)
                 .build();
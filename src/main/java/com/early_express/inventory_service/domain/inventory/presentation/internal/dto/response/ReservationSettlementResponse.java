@@ -0,0 +1,55 @@
+package com.early_express.inventory_service.domain.inventory.presentation.internal.dto.response;
+
+import com.early_express.inventory_service.domain.inventory.application.dto.result.ReservationSettlementInfo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 예약 해제/확정 응답 DTO (예약 ID / 주문 ID 기반)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationSettlementResponse {
+
+    private String reservationId;
+    private String orderId;
+    private String status;  // RELEASED / CONFIRMED
+    private boolean alreadySettled;  // 이미 처리된 예약 (변경 없음)
+    private List<Line> lines;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+        private String reservationId;
+        private String productId;
+        private String hubId;
+        private Integer quantity;
+        private String status;
+    }
+
+    public static ReservationSettlementResponse from(ReservationSettlementInfo info) {
+        return ReservationSettlementResponse.builder()
+                .reservationId(info.getReservationId())
+                .orderId(info.getOrderId())
+                .status(info.getStatus().name())
+                .alreadySettled(info.isAlreadySettled())
+                .lines(info.getLines().stream()
+                        .map(line -> Line.builder()
+                                .reservationId(line.getReservationId())
+                                .productId(line.getProductId())
+                                .hubId(line.getHubId())
+                                .quantity(line.getQuantity())
+                                .status(line.getStatus().name())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -1,10 +1,19 @@
 package com.early_express.inventory_service.domain.inventory.presentation.web;
 
+import com.early_express.inventory_service.domain.inventory.application.dto.result.FlashSaleInfo;
+import com.early_express.inventory_service.domain.inventory.application.service.FlashSaleService;
 import com.early_express.inventory_service.domain.inventory.application.service.InventoryService;
+import com.early_express.inventory_service.domain.inventory.application.service.InventoryShardService;
 import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryShardLayout;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventorySummary;
+import com.early_express.inventory_service.domain.inventory.presentation.web.dto.request.UpdateShardCountRequest;
+import com.early_express.inventory_service.domain.inventory.presentation.web.dto.response.FlashSaleResponse;
 import com.early_express.inventory_service.domain.inventory.presentation.web.dto.response.InventoryResponse;
+import com.early_express.inventory_service.domain.inventory.presentation.web.dto.response.InventoryShardResponse;
 import com.early_express.inventory_service.global.common.utils.PageUtils;
 import com.early_express.inventory_service.global.presentation.dto.PageResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -27,6 +36,8 @@ import java.util.stream.Collectors;
 public class AdminInventoryController {
 
     private final InventoryService inventoryService;
+    private final InventoryShardService inventoryShardService;
+    private final FlashSaleService flashSaleService;
 
     /**
      * 전체 재고 조회 (페이징)
@@ -38,7 +49,7 @@ public class AdminInventoryController {
     ) {
         log.info("전체 재고 조회 요청: page={}, size={}", page, size);
 
-        Page<Inventory> inventoryPage = inventoryService.getAllInventories(page, size);
+        Page<InventorySummary> inventoryPage = inventoryService.getAllInventories(page, size);
 
         PageResponse<InventoryResponse> response = PageUtils.toPageResponse(
                 inventoryPage,
@@ -59,7 +70,7 @@ public class AdminInventoryController {
     ) {
         log.info("허브별 재고 조회: hubId={}, page={}, size={}", hubId, page, size);
 
-        Page<Inventory> inventoryPage = inventoryService.getInventoriesByHub(hubId, page, size);
+        Page<InventorySummary> inventoryPage = inventoryService.getInventoriesByHub(hubId, page, size);
 
         PageResponse<InventoryResponse> response = PageUtils.toPageResponse(
                 inventoryPage,
@@ -76,7 +87,7 @@ public class AdminInventoryController {
     public ResponseEntity<List<InventoryResponse>> getOutOfStockInventories() {
         log.info("품절 상품 조회 요청");
 
-        List<Inventory> inventories = inventoryService.getOutOfStockInventories();
+        List<InventorySummary> inventories = inventoryService.getOutOfStockInventories();
 
         List<InventoryResponse> response = inventories.stream()
                 .map(InventoryResponse::from)
@@ -92,7 +103,7 @@ public class AdminInventoryController {
     public ResponseEntity<List<InventoryResponse>> getLowStockInventories() {
         log.info("안전 재고 이하 상품 조회 요청");
 
-        List<Inventory> inventories = inventoryService.getLowStockInventories();
+        List<InventorySummary> inventories = inventoryService.getLowStockInventories();
 
         List<InventoryResponse> response = inventories.stream()
                 .map(InventoryResponse::from)
@@ -134,6 +145,78 @@ public class AdminInventoryController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 재고 샤드 구성 조회
+     */
+    @GetMapping("/inventories/{inventoryId}/shards")
+    public ResponseEntity<InventoryShardResponse> getShardLayout(
+            @PathVariable String inventoryId
+    ) {
+        log.info("재고 샤드 구성 조회: inventoryId={}", inventoryId);
+
+        InventoryShardLayout layout = inventoryShardService.getShardLayout(inventoryId);
+
+        return ResponseEntity.ok(InventoryShardResponse.from(layout));
+    }
+
+    /**
+     * 재고 샤드 수 변경 (인기 상품 동시 예약 분산, 1이면 일반 재고로 복귀)
+     */
+    @PutMapping("/inventories/{inventoryId}/shards")
+    public ResponseEntity<InventoryShardResponse> updateShardCount(
+            @PathVariable String inventoryId,
+            @Valid @RequestBody UpdateShardCountRequest request
+    ) {
+        log.info("재고 샤드 수 변경 요청: inventoryId={}, shardCount={}", inventoryId, request.getShardCount());
+
+        InventoryShardLayout layout = inventoryShardService.updateShardCount(inventoryId, request.getShardCount());
+
+        return ResponseEntity.ok(InventoryShardResponse.from(layout));
+    }
+
+    /**
+     * 플래시 세일 상태 조회
+     */
+    @GetMapping("/inventories/{inventoryId}/flash-sale")
+    public ResponseEntity<FlashSaleResponse> getFlashSale(
+            @PathVariable String inventoryId
+    ) {
+        log.info("플래시 세일 상태 조회: inventoryId={}", inventoryId);
+
+        FlashSaleInfo info = flashSaleService.getFlashSale(inventoryId);
+
+        return ResponseEntity.ok(FlashSaleResponse.from(info));
+    }
+
+    /**
+     * 플래시 세일 시작 (요청을 받은 노드가 메모리 카운터로 예약을 처리)
+     */
+    @PutMapping("/inventories/{inventoryId}/flash-sale")
+    public ResponseEntity<FlashSaleResponse> startFlashSale(
+            @PathVariable String inventoryId
+    ) {
+        log.info("플래시 세일 시작 요청: inventoryId={}", inventoryId);
+
+        FlashSaleInfo info = flashSaleService.startFlashSale(inventoryId);
+
+        return ResponseEntity.ok(FlashSaleResponse.from(info));
+    }
+
+    /**
+     * 플래시 세일 종료 (소유 노드에서 호출, 소유 노드가 없어졌으면 force=true)
+     */
+    @DeleteMapping("/inventories/{inventoryId}/flash-sale")
+    public ResponseEntity<FlashSaleResponse> stopFlashSale(
+            @PathVariable String inventoryId,
+            @RequestParam(defaultValue = "false") boolean force
+    ) {
+        log.info("플래시 세일 종료 요청: inventoryId={}, force={}", inventoryId, force);
+
+        FlashSaleInfo info = flashSaleService.stopFlashSale(inventoryId, force);
+
+        return ResponseEntity.ok(FlashSaleResponse.from(info));
+    }
+
     // TODO: 재고 이동 (허브 간) 기능 추가
     // POST /admin/inventories/transfer
     // Request: { productId, fromHubId, toHubId, quantity }
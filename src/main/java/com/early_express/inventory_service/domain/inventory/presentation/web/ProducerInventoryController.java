@@ -3,6 +3,7 @@ package com.early_express.inventory_service.domain.inventory.presentation.web;
 import com.early_express.inventory_service.domain.inventory.application.dto.command.AdjustCommand;
 import com.early_express.inventory_service.domain.inventory.application.service.InventoryService;
 import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventorySummary;
 import com.early_express.inventory_service.domain.inventory.presentation.web.dto.request.AdjustInventoryRequest;
 import com.early_express.inventory_service.domain.inventory.presentation.web.dto.request.RestockRequest;
 import com.early_express.inventory_service.domain.inventory.presentation.web.dto.request.UpdateLocationRequest;
@@ -78,7 +79,7 @@ public class ProducerInventoryController {
     ) {
         log.info("허브별 내 재고 조회: sellerId={}, hubId={}", sellerId, hubId);
 
-        Page<Inventory> inventoryPage = inventoryService.getInventoriesByHub(hubId, page, size);
+        Page<InventorySummary> inventoryPage = inventoryService.getInventoriesByHub(hubId, page, size);
 
         return ResponseEntity.ok(
                 PageUtils.toPageResponse(inventoryPage, InventoryResponse::from)
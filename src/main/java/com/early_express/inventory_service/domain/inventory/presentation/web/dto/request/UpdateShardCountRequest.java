@@ -0,0 +1,22 @@
+package com.early_express.inventory_service.domain.inventory.presentation.web.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 샤드 수 변경 요청 DTO (1이면 샤드 해제, 상한은 inventory.sharding.max-shards)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateShardCountRequest {
+
+    @NotNull(message = "샤드 수는 필수입니다.")
+    @Min(value = 1, message = "샤드 수는 1 이상이어야 합니다.")
+    private Integer shardCount;
+}
@@ -0,0 +1,41 @@
+package com.early_express.inventory_service.domain.inventory.presentation.web.dto.response;
+
+import com.early_express.inventory_service.domain.inventory.application.dto.result.FlashSaleInfo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 플래시 세일 상태 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlashSaleResponse {
+
+    private String inventoryId;
+    private String productId;
+    private String hubId;
+    private boolean active;
+    private String ownerId;
+    private String ownerUrl;
+    private Integer allottedQuantity;
+    private Integer persistedReservedQuantity;
+    private Integer counterAvailableQuantity;  // 소유 노드에서 조회한 경우만
+
+    public static FlashSaleResponse from(FlashSaleInfo info) {
+        return FlashSaleResponse.builder()
+                .inventoryId(info.getInventoryId())
+                .productId(info.getProductId())
+                .hubId(info.getHubId())
+                .active(info.isActive())
+                .ownerId(info.getOwnerId())
+                .ownerUrl(info.getOwnerUrl())
+                .allottedQuantity(info.isActive() ? info.getAllottedQuantity() : null)
+                .persistedReservedQuantity(info.isActive() ? info.getPersistedReservedQuantity() : null)
+                .counterAvailableQuantity(info.getCounterAvailable())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.early_express.inventory_service.domain.inventory.presentation.web.dto.response;
 
 import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventorySummary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -48,4 +49,25 @@ public class InventoryResponse {
                 .updatedAt(inventory.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 목록 조회용 읽기 모델 변환
+     */
+    public static InventoryResponse from(InventorySummary summary) {
+        return InventoryResponse.builder()
+                .inventoryId(summary.getInventoryId())
+                .productId(summary.getProductId())
+                .hubId(summary.getHubId())
+                .totalQuantity(summary.getQuantityInHub())
+                .availableQuantity(summary.getAvailableQuantity())
+                .reservedQuantity(summary.getReservedQuantity())
+                .safetyStock(summary.getSafetyStock())
+                .location(summary.getLocation())
+                .isOutOfStock(summary.isOutOfStock())
+                .isBelowSafetyStock(summary.isBelowSafetyStock())
+                .lastRestockedAt(summary.getLastRestockedAt())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.early_express.inventory_service.domain.inventory.presentation.web.dto.response;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryShardLayout;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 재고 샤드 구성 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryShardResponse {
+
+    private String inventoryId;
+    private String productId;
+    private String hubId;
+    private Integer shardCount;
+    private Integer parentAvailableQuantity;
+    private Integer totalAvailableQuantity;
+    private List<ShardResponse> shards;
+
+    public static InventoryShardResponse from(InventoryShardLayout layout) {
+        return InventoryShardResponse.builder()
+                .inventoryId(layout.getInventoryId())
+                .productId(layout.getProductId())
+                .hubId(layout.getHubId())
+                .shardCount(layout.getShardCount())
+                .parentAvailableQuantity(layout.getParentAvailable())
+                .totalAvailableQuantity(layout.getTotalAvailable())
+                .shards(layout.getShards().stream().map(ShardResponse::from).toList())
+                .build();
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ShardResponse {
+
+        private Integer shardNo;
+        private Integer allottedQuantity;
+        private Integer reservedQuantity;
+        private Integer availableQuantity;
+
+        public static ShardResponse from(InventoryShardLayout.Shard shard) {
+            return ShardResponse.builder()
+                    .shardNo(shard.getShardNo())
+                    .allottedQuantity(shard.getAllottedQuantity())
+                    .reservedQuantity(shard.getReservedQuantity())
+                    .availableQuantity(shard.getAvailableQuantity())
+                    .build();
+        }
+    }
+}
@@ -1,30 +1,70 @@
 package com.early_express.inventory_service.global.common.utils;
 
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * UUID 생성 유틸리티
  * 표준 36자 UUID만 생성
+ * - 시간 순서 UUIDv7 (RFC 9562): 상위 48비트 밀리초 타임스탬프 + 12비트 시퀀스 + 62비트 난수
+ * - 같은 밀리초 안에서는 시퀀스로 단조 증가 (B-tree 인덱스 끝에 순차 삽입)
+ * - 난수는 ThreadLocalRandom 사용 (UUID.randomUUID의 SecureRandom 경합 없음)
  * */
 public class UuidUtils {
-    
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long SEQUENCE_MASK = 0xFFFL;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+
+    /**
+     * 마지막으로 발급한 (밀리초 타임스탬프 << 12 | 시퀀스)
+     * - 시퀀스가 넘치면 타임스탬프 자리로 올림되어 시계보다 조금 앞서가도 순서는 유지
+     */
+    private static final AtomicLong LAST_TIMESTAMP_SEQUENCE = new AtomicLong();
+
     private UuidUtils() {
         throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
     }
 
     public static String generate() {
-        return UUID.randomUUID().toString();
+        return generateUuid().toString();
     }
 
-    public static boolean isValid(String uuid) {
+    /**
+     * 시간 순서 UUIDv7 생성 (네이티브 uuid 컬럼 바인딩용)
+     */
+    public static UUID generateUuid() {
+        long timestampSequence = nextTimestampSequence();
+        long mostSigBits = (timestampSequence >>> 12) << 16
+                | VERSION_7
+                | (timestampSequence & SEQUENCE_MASK);
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & VARIANT_MASK | VARIANT_RFC_4122;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * UUID 문자열 파싱 (형식이 아니면 empty)
+     */
+    public static Optional<UUID> parse(String uuid) {
         if (uuid == null) {
-            return false;
+            return Optional.empty();
         }
         try {
-            UUID.fromString(uuid);
-            return true;
+            return Optional.of(UUID.fromString(uuid));
         } catch (IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
+
+    public static boolean isValid(String uuid) {
+        return parse(uuid).isPresent();
+    }
+
+    private static long nextTimestampSequence() {
+        long candidate = System.currentTimeMillis() << 12;
+        return LAST_TIMESTAMP_SEQUENCE.accumulateAndGet(candidate, (last, now) -> Math.max(now, last + 1));
+    }
 }
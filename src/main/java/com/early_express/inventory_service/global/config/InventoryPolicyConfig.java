@@ -0,0 +1,44 @@
+package com.early_express.inventory_service.global.config;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.HubSelectionPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationTtlPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.SplitAllocationPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 재고 배정 정책 설정
+ * - inventory.reservation.hub-selection.* 값으로 허브 자동 선택 정책 구성
+ * - inventory.reservation.split-allocation.* 값으로 다중 허브 분할 배정 정책 구성
+ * - inventory.reservation.ttl-minutes 값으로 예약 유효 기간 구성
+ */
+@Configuration
+public class InventoryPolicyConfig {
+
+    @Bean
+    public HubSelectionPolicy hubSelectionPolicy(
+            @Value("${inventory.reservation.hub-selection.policy:MOST_AVAILABLE}") HubSelectionPolicy.Type type,
+            @Value("${inventory.reservation.hub-selection.preferred-hubs:}") List<String> preferredHubs
+    ) {
+        return HubSelectionPolicy.of(type, preferredHubs);
+    }
+
+    @Bean
+    public SplitAllocationPolicy splitAllocationPolicy(
+            @Value("${inventory.reservation.split-allocation.enabled:true}") boolean enabled,
+            @Value("${inventory.reservation.split-allocation.hub-priority:}") List<String> hubPriority
+    ) {
+        return SplitAllocationPolicy.of(enabled, List.copyOf(hubPriority));
+    }
+
+    @Bean
+    public ReservationTtlPolicy reservationTtlPolicy(
+            @Value("${inventory.reservation.ttl-minutes:30}") long ttlMinutes
+    ) {
+        return ReservationTtlPolicy.of(Duration.ofMinutes(ttlMinutes));
+    }
+}
@@ -46,6 +46,10 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
 
+        // 아웃박스 릴레이가 한 번에 수백 건을 보내므로 짧게 모아서 전송
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024);
+
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
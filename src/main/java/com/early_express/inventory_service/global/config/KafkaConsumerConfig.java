@@ -1,16 +1,25 @@
 package com.early_express.inventory_service.global.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.converter.StringJsonMessageConverter;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -30,8 +39,18 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id:inventory-service-group}")
     private String groupId;
 
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${spring.kafka.listener.concurrency:3}")
+    private int concurrency;
+
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(consumerProps());
+    }
+
+    private Map<String, Object> consumerProps() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
@@ -48,7 +67,7 @@ public class KafkaConsumerConfig {
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300000);
 
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        return configProps;
     }
 
     @Bean
@@ -62,7 +81,7 @@ public class KafkaConsumerConfig {
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
 
         // 동시성 설정 (파티션 수와 동일하게)
-        factory.setConcurrency(3);
+        factory.setConcurrency(concurrency);
 
         // 에러 핸들러
         factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
@@ -71,4 +90,66 @@ public class KafkaConsumerConfig {
 
         return factory;
     }
+
+    /**
+     * 캐시 무효화 전용 리스너 팩토리
+     * - 인스턴스별 임시 그룹이므로 시작 시점 이후 메시지만 수신 (latest)
+     * - 유실되어도 캐시 만료로 보완되므로 자동 커밋
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> cacheInvalidationListenerContainerFactory(ObjectMapper objectMapper) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps));
+        factory.setConcurrency(1);
+        factory.setRecordMessageConverter(new StringJsonMessageConverter(objectMapper));
+
+        return factory;
+    }
+
+    /**
+     * 상품 이벤트 배치 리스너 팩토리 (배치 / 키 순서 병렬 모드 공용)
+     * - poll 한 번의 레코드를 List로 전달 (값은 JSON 문자열 그대로, 토픽별 역직렬화는 리스너 담당)
+     * - 리스너가 BatchListenerFailedException으로 실패 인덱스를 알리면
+     *   그 앞까지 커밋하고 실패 레코드만 재시도 후 DLT로 보낸 뒤 나머지를 다시 수신
+     * - JSON 파싱 실패는 재시도 없이 바로 DLT
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> productEventBatchListenerContainerFactory(
+            ProducerFactory<String, Object> producerFactory,
+            @Value("${inventory.product-events.batch.max-poll-records:500}") int maxPollRecords,
+            @Value("${inventory.product-events.batch.retry-attempts:2}") long retryAttempts,
+            @Value("${inventory.product-events.batch.retry-interval-ms:1000}") long retryIntervalMs
+    ) {
+        Map<String, Object> configProps = consumerProps();
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setConcurrency(concurrency);
+
+        // 원본 JSON 문자열을 그대로 DLT에 보관 (JsonSerializer로 다시 감싸지 않음)
+        KafkaTemplate<String, Object> deadLetterTemplate = new KafkaTemplate<>(
+                producerFactory, Map.of(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class));
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterTemplate,
+                (record, exception) -> new TopicPartition(applicationName + "-dlt", -1));
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, new FixedBackOff(retryIntervalMs, retryAttempts));
+        errorHandler.addNotRetryableExceptions(JsonProcessingException.class);
+        factory.setCommonErrorHandler(errorHandler);
+
+        return factory;
+    }
 }
@@ -0,0 +1,42 @@
+package com.early_express.inventory_service.global.config;
+
+import com.early_express.inventory_service.domain.inventory.application.retry.ConflictRetryInterceptor;
+import com.early_express.inventory_service.domain.inventory.application.retry.RetryOnConflict;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * 동시 수정 충돌 재시도 설정
+ * - @RetryOnConflict 메서드에 재시도 인터셉터 적용
+ * - 트랜잭션 어드바이저(LOWEST_PRECEDENCE)보다 먼저 실행되어 재시도마다 새 트랜잭션을 시작
+ */
+@Configuration
+public class RetryConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor conflictRetryAdvisor(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${inventory.retry.max-attempts:4}") int maxAttempts,
+            @Value("${inventory.retry.initial-backoff-ms:20}") long initialBackoffMs,
+            @Value("${inventory.retry.max-backoff-ms:500}") long maxBackoffMs,
+            @Value("${inventory.retry.multiplier:2.0}") double multiplier
+    ) {
+        ConflictRetryInterceptor interceptor = new ConflictRetryInterceptor(
+                meterRegistryProvider, maxAttempts, initialBackoffMs, maxBackoffMs, multiplier);
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(RetryOnConflict.class), interceptor);
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+}
@@ -0,0 +1,13 @@
+package com.early_express.inventory_service.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄러 설정
+ * - 아웃박스 릴레이 등 주기 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,22 @@
+-- ========================================
+-- inventory_id 네이티브 uuid 전환 (선택)
+-- - INVENTORY_ID_JDBC_TYPE=UUID로 배포하기 전에 1회 실행
+-- - 조인 비교 타입이 같도록 세 테이블을 한 트랜잭션에서 함께 변환
+-- - 변환 전 확인: 아래 쿼리 결과가 모두 0건이어야 함
+--   SELECT inventory_id FROM p_inventories
+--    WHERE inventory_id !~ '^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$';
+--   (p_inventory_shards, p_stock_reservations도 동일)
+-- ========================================
+
+BEGIN;
+
+ALTER TABLE p_inventory_shards
+    ALTER COLUMN inventory_id TYPE uuid USING inventory_id::uuid;
+
+ALTER TABLE p_stock_reservations
+    ALTER COLUMN inventory_id TYPE uuid USING inventory_id::uuid;
+
+ALTER TABLE p_inventories
+    ALTER COLUMN inventory_id TYPE uuid USING inventory_id::uuid;
+
+COMMIT;
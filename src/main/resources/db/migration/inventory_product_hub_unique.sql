@@ -0,0 +1,60 @@
+-- ========================================
+-- (product_id, hub_id) 유니크 제약 추가
+-- - 초기 재고 생성이 ON CONFLICT (product_id, hub_id)로 중복 INSERT를 막으므로,
+--   insert-if-absent 생성 경로를 배포하기 전에 1회 실행
+-- - 이전 버전에서 동시 상품 생성 이벤트로 생긴 중복 행을 먼저 정리한 뒤 유니크 인덱스 생성
+-- - 남길 행: 삭제되지 않은 행 → 수량/예약이 있는 행 → 먼저 생성된 행 순
+-- - 지울 중복 행에 수량, 예약, 샤드, 플래시 세일, 원장 라인이 있으면 아무것도 지우지 않고 중단 (수동 병합 필요)
+-- ========================================
+
+BEGIN;
+
+CREATE TEMP TABLE dup_inventories ON COMMIT DROP AS
+SELECT inventory_id
+  FROM (SELECT inventory_id,
+               ROW_NUMBER() OVER (
+                   PARTITION BY product_id, hub_id
+                   ORDER BY is_deleted,
+                            (quantity_in_hub > 0 OR reserved_quantity > 0) DESC,
+                            created_at,
+                            inventory_id
+               ) AS rn
+          FROM p_inventories) ranked
+ WHERE rn > 1;
+
+DO $$
+DECLARE
+    blocked integer;
+BEGIN
+    SELECT COUNT(*) INTO blocked
+      FROM p_inventories i
+      JOIN dup_inventories d ON d.inventory_id = i.inventory_id
+     WHERE i.quantity_in_hub > 0
+        OR i.reserved_quantity > 0
+        OR i.shard_count > 1
+        OR i.flash_owner IS NOT NULL
+        OR EXISTS (SELECT 1 FROM p_inventory_shards s WHERE s.inventory_id = i.inventory_id)
+        OR EXISTS (SELECT 1 FROM p_stock_reservations r WHERE r.inventory_id = i.inventory_id);
+
+    IF blocked > 0 THEN
+        RAISE EXCEPTION '수량 또는 예약이 있는 중복 재고 % 건 - 수동 병합 후 다시 실행하세요', blocked;
+    END IF;
+END $$;
+
+DELETE FROM p_inventories
+ WHERE inventory_id IN (SELECT inventory_id FROM dup_inventories);
+
+COMMIT;
+
+-- 운영 중 쓰기를 막지 않도록 트랜잭션 밖에서 인덱스를 만든 뒤 제약으로 승격
+-- (인덱스 생성이 중간에 실패하면 INVALID 인덱스가 남으므로 DROP INDEX uk_inventory_product_hub 후 다시 실행)
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_inventory_product_hub
+    ON p_inventories (product_id, hub_id);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_inventory_product_hub') THEN
+        ALTER TABLE p_inventories
+            ADD CONSTRAINT uk_inventory_product_hub UNIQUE USING INDEX uk_inventory_product_hub;
+    END IF;
+END $$;
@@ -0,0 +1,16 @@
+-- ========================================
+-- 예약 원장 FAILED 상태 추가
+-- - Hibernate가 생성한 enum 체크 제약(status IN (...))은 스키마 갱신(update) 시 다시 만들어지지 않으므로
+--   FAILED를 사용하는 버전을 배포하기 전에 1회 실행
+-- ========================================
+
+BEGIN;
+
+ALTER TABLE p_stock_reservations
+    DROP CONSTRAINT IF EXISTS p_stock_reservations_status_check;
+
+ALTER TABLE p_stock_reservations
+    ADD CONSTRAINT p_stock_reservations_status_check
+        CHECK (status IN ('RESERVED', 'RELEASED', 'CONFIRMED', 'EXPIRED', 'FAILED'));
+
+COMMIT;
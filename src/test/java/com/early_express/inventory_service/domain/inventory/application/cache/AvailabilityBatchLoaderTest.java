@@ -0,0 +1,201 @@
+package com.early_express.inventory_service.domain.inventory.application.cache;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * AvailabilityBatchLoader 테스트
+ */
+@DisplayName("AvailabilityBatchLoader 테스트")
+class AvailabilityBatchLoaderTest {
+
+    private final InventoryRepository inventoryRepository = mock(InventoryRepository.class);
+    private final AvailabilityCache availabilityCache =
+            new AvailabilityCache(new SimpleMeterRegistry(), Optional.empty(), 1_000, 60_000);
+
+    private static StockSnapshot snapshot(InventoryKey key) {
+        return StockSnapshot.builder()
+                .inventoryId("INV-" + key.getProductId())
+                .productId(key.getProductId())
+                .hubId(key.getHubId())
+                .quantityInHub(100)
+                .reservedQuantity(0)
+                .safetyStock(10)
+                .version(1L)
+                .build();
+    }
+
+    private List<CompletableFuture<Optional<StockSnapshot>>> loadConcurrently(
+            AvailabilityBatchLoader loader, List<InventoryKey> keys, ExecutorService executor) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Optional<StockSnapshot>>> futures = new ArrayList<>();
+        for (InventoryKey key : keys) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return loader.load(key);
+            }, executor));
+        }
+        start.countDown();
+        return futures;
+    }
+
+    @Test
+    @DisplayName("구간 안에 도착한 조회는 IN 조회 1회로 처리되고 호출자별 결과를 받는다")
+    void load_BatchesWithinWindow() throws Exception {
+        AvailabilityBatchLoader loader =
+                new AvailabilityBatchLoader(inventoryRepository, availabilityCache, new SimpleMeterRegistry(), true, 300_000, 100);
+        InventoryKey found1 = InventoryKey.of("PROD-001", "HUB-SEOUL");
+        InventoryKey found2 = InventoryKey.of("PROD-002", "HUB-SEOUL");
+        InventoryKey missing = InventoryKey.of("PROD-404", "HUB-SEOUL");
+        given(inventoryRepository.findSnapshots(anyCollection()))
+                .willReturn(List.of(snapshot(found1), snapshot(found2)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<CompletableFuture<Optional<StockSnapshot>>> futures =
+                    loadConcurrently(loader, List.of(found1, found2, missing), executor);
+
+            assertThat(futures.get(0).get()).map(StockSnapshot::getProductId).hasValue("PROD-001");
+            assertThat(futures.get(1).get()).map(StockSnapshot::getProductId).hasValue("PROD-002");
+            assertThat(futures.get(2).get()).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(inventoryRepository, times(1)).findSnapshots(anyCollection());
+    }
+
+    @Test
+    @DisplayName("최대 배치 크기에 도달하면 구간이 끝나기 전에 실행된다")
+    void load_DispatchesWhenBatchFull() throws Exception {
+        AvailabilityBatchLoader loader = new AvailabilityBatchLoader(
+                inventoryRepository, availabilityCache, new SimpleMeterRegistry(), true, TimeUnit.MINUTES.toMicros(1), 2);
+        given(inventoryRepository.findSnapshots(anyCollection())).willAnswer(invocation -> {
+            Collection<InventoryKey> keys = invocation.getArgument(0);
+            return keys.stream().map(AvailabilityBatchLoaderTest::snapshot).toList();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<CompletableFuture<Optional<StockSnapshot>>> futures = loadConcurrently(loader,
+                    List.of(InventoryKey.of("PROD-001", "HUB-SEOUL"), InventoryKey.of("PROD-002", "HUB-SEOUL")),
+                    executor);
+
+            for (CompletableFuture<Optional<StockSnapshot>> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS)).isPresent();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키를 조회 중이면 새로 조회하지 않고 진행 중인 조회 결과를 공유한다")
+    void load_CoalescesInFlightLookups() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AvailabilityBatchLoader loader =
+                new AvailabilityBatchLoader(inventoryRepository, availabilityCache, meterRegistry, false, 0, 100);
+        InventoryKey hot = InventoryKey.of("PROD-001", "HUB-SEOUL");
+        InventoryKey cold = InventoryKey.of("PROD-002", "HUB-SEOUL");
+
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(inventoryRepository.findSnapshots(anyCollection())).willAnswer(invocation -> {
+            entered.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return List.of(snapshot(hot));
+        });
+        given(inventoryRepository.findSnapshotsByHub("HUB-SEOUL", List.of("PROD-002")))
+                .willReturn(List.of(snapshot(cold)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            CompletableFuture<Optional<StockSnapshot>> first = CompletableFuture.supplyAsync(() -> loader.load(hot), executor);
+            assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<Optional<StockSnapshot>> second = CompletableFuture.supplyAsync(() -> loader.load(hot), executor);
+            CompletableFuture<Map<InventoryKey, StockSnapshot>> bulk =
+                    CompletableFuture.supplyAsync(() -> loader.loadAll("HUB-SEOUL", List.of("PROD-001", "PROD-002")), executor);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (meterRegistry.counter("inventory.availability.coalesced").count() < 2 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(first.get(10, TimeUnit.SECONDS)).isPresent();
+            assertThat(second.get(10, TimeUnit.SECONDS)).isPresent();
+            assertThat(bulk.get(10, TimeUnit.SECONDS)).containsOnlyKeys(hot, cold);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(inventoryRepository, times(1)).findSnapshots(anyCollection());
+        verify(inventoryRepository, times(1)).findSnapshotsByHub("HUB-SEOUL", List.of("PROD-002"));
+    }
+
+    @Test
+    @DisplayName("조회 시작 후 무효화된 키는 진행 중인 조회를 공유하지 않고 새로 조회한다")
+    void load_DoesNotCoalesceOntoLookupStartedBeforeEviction() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AvailabilityBatchLoader loader =
+                new AvailabilityBatchLoader(inventoryRepository, availabilityCache, meterRegistry, false, 0, 100);
+        InventoryKey hot = InventoryKey.of("PROD-001", "HUB-SEOUL");
+
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(inventoryRepository.findSnapshots(anyCollection()))
+                .willAnswer(invocation -> {
+                    entered.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                    return List.of(snapshot(hot));
+                })
+                .willReturn(List.of(snapshot(hot)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            long firstStartedAt = availabilityCache.generation();
+            CompletableFuture<Optional<StockSnapshot>> first = CompletableFuture.supplyAsync(() -> loader.load(hot), executor);
+            assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 커밋 후 무효화 - 이후 도착한 조회는 이전 조회 결과를 받지 않음
+            availabilityCache.evict(hot);
+            assertThat(loader.load(hot)).isPresent();
+            release.countDown();
+
+            Optional<StockSnapshot> stale = first.get(10, TimeUnit.SECONDS);
+            availabilityCache.put(stale.orElseThrow(), firstStartedAt);
+            assertThat(availabilityCache.getIfPresent(hot)).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(inventoryRepository, times(2)).findSnapshots(anyCollection());
+        assertThat(meterRegistry.counter("inventory.availability.coalesced").count()).isZero();
+    }
+}
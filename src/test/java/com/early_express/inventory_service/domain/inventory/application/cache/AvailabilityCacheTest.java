@@ -0,0 +1,87 @@
+package com.early_express.inventory_service.domain.inventory.application.cache;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AvailabilityCache 테스트
+ */
+@DisplayName("AvailabilityCache 테스트")
+class AvailabilityCacheTest {
+
+    private static final InventoryKey KEY = InventoryKey.of("PROD-001", "HUB-SEOUL");
+
+    private final List<Long> broadcasted = new ArrayList<>();
+    private AvailabilityCache cache;
+
+    @BeforeEach
+    void setUp() {
+        AvailabilityInvalidationBroadcaster broadcaster = (key, version, origin) -> broadcasted.add(version);
+        cache = new AvailabilityCache(new SimpleMeterRegistry(), Optional.of(broadcaster), 1_000, 60_000);
+    }
+
+    private StockSnapshot snapshot(long version) {
+        return StockSnapshot.builder()
+                .inventoryId("INV-001")
+                .productId(KEY.getProductId())
+                .hubId(KEY.getHubId())
+                .quantityInHub(100)
+                .reservedQuantity(0)
+                .safetyStock(10)
+                .version(version)
+                .build();
+    }
+
+    @Test
+    @DisplayName("원격 무효화 - 캐시 버전이 더 오래되었으면 제거")
+    void applyRemoteInvalidation_OlderCachedVersion_Evicts() {
+        cache.put(snapshot(3L));
+
+        assertThat(cache.applyRemoteInvalidation(KEY, 4L)).isTrue();
+        assertThat(cache.getAllPresent(List.of(KEY))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원격 무효화 - 순서가 뒤바뀐 오래된 메시지는 무시")
+    void applyRemoteInvalidation_OutOfOrderMessage_Ignored() {
+        cache.put(snapshot(5L));
+
+        assertThat(cache.applyRemoteInvalidation(KEY, 4L)).isFalse();
+        assertThat(cache.getAllPresent(List.of(KEY))).containsKey(KEY);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 로컬 무효화는 즉시 전파")
+    void evict_OutsideTransaction_BroadcastsImmediately() {
+        cache.put(snapshot(1L));
+
+        cache.evict(KEY, 2L);
+
+        assertThat(cache.getAllPresent(List.of(KEY))).isEmpty();
+        assertThat(broadcasted).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("조회 시작 후 무효화된 키의 조회 결과는 적재하지 않음")
+    void put_InvalidatedAfterLookupStarted_Discarded() {
+        long startedAt = cache.generation();
+
+        cache.evict(KEY, 2L);
+        cache.put(snapshot(1L), startedAt);
+
+        assertThat(cache.getAllPresent(List.of(KEY))).isEmpty();
+
+        cache.put(snapshot(2L), cache.generation());
+        assertThat(cache.getAllPresent(List.of(KEY))).containsKey(KEY);
+    }
+}
@@ -0,0 +1,30 @@
+package com.early_express.inventory_service.domain.inventory.application.flashsale;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FlashSaleCounter 테스트")
+class FlashSaleCounterTest {
+
+    private static final InventoryKey KEY = InventoryKey.of("PROD-1", "HUB-SEOUL");
+
+    @Test
+    @DisplayName("소유권 임대가 끝난 카운터는 예약을 내주지 않고, 임대가 연장되면 다시 예약한다")
+    void tryReserve_FencedByLease() {
+        // given - 임대 없이 열린 카운터
+        FlashSaleCounter counter = new FlashSaleCounter("INV-1", KEY, 10, 0L);
+
+        // when & then
+        assertThat(counter.tryReserve(1)).isFalse();
+        assertThat(counter.getAvailable()).isEqualTo(10);
+
+        counter.renewLease(System.nanoTime() + TimeUnit.SECONDS.toNanos(30));
+        assertThat(counter.tryReserve(1)).isTrue();
+        assertThat(counter.getAvailable()).isEqualTo(9);
+    }
+}
@@ -0,0 +1,66 @@
+package com.early_express.inventory_service.domain.inventory.application.flashsale;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("FlashSaleJournal 테스트")
+class FlashSaleJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private StockReservation line(String lineId, int quantity) {
+        return StockReservation.createWithLineId(lineId, "RSV-1", "ORDER-1", "INV-1", "PROD-1", "HUB-SEOUL",
+                quantity, LocalDateTime.of(2026, 1, 1, 12, 30));
+    }
+
+    @Test
+    @DisplayName("봉인된 세그먼트는 재시작 후 기록 순서대로 다시 읽힌다")
+    void readAll_ReplaysSegmentsInOrder() throws Exception {
+        FlashSaleJournal journal = new FlashSaleJournal(directory, false);
+        journal.append(List.of(line("L-1", 1), line("L-2", 2)));
+        Path first = journal.seal();
+        journal.append(List.of(line("L-3", 3)));
+        Path second = journal.seal();
+
+        Map<Path, List<StockReservation>> replayed = new FlashSaleJournal(directory, false).readAll();
+
+        assertThat(replayed.keySet()).containsExactly(first, second);
+        assertThat(replayed.get(first))
+                .extracting(StockReservation::getReservationLineId, StockReservation::getQuantity)
+                .containsExactly(
+                        tuple("L-1", 1),
+                        tuple("L-2", 2));
+        assertThat(replayed.get(second).get(0).getExpiresAt()).isEqualTo(LocalDateTime.of(2026, 1, 1, 12, 30));
+    }
+
+    @Test
+    @DisplayName("기록 도중 잘린 마지막 줄은 건너뛰고, 반영이 끝난 세그먼트는 삭제된다")
+    void readAll_SkipsTornRecord() throws Exception {
+        FlashSaleJournal journal = new FlashSaleJournal(directory, false);
+        journal.append(List.of(line("L-1", 1)));
+        Path segment = journal.seal();
+        Files.writeString(segment, "L-2\tRSV-2\tORDER", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        FlashSaleJournal restarted = new FlashSaleJournal(directory, false);
+        assertThat(restarted.readAll().get(segment))
+                .extracting(StockReservation::getReservationLineId)
+                .containsExactly("L-1");
+
+        restarted.delete(segment);
+        assertThat(restarted.readAll()).isEmpty();
+    }
+}
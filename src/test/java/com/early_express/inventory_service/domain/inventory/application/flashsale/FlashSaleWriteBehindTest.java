@@ -0,0 +1,130 @@
+package com.early_express.inventory_service.domain.inventory.application.flashsale;
+
+import com.early_express.inventory_service.domain.inventory.application.service.FlashSaleReservationService;
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FlashSaleWriteBehind 테스트")
+class FlashSaleWriteBehindTest {
+
+    private static final String OWNER_ID = "inventory-node-1";
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private FlashSaleRegistry registry;
+
+    @Mock
+    private FlashSaleReservationService flashSaleReservationService;
+
+    private final List<StockReservation> lines = List.of(
+            StockReservation.createWithLineId("L-1", "RSV-1", "ORDER-1", "INV-1", "PROD-1", "HUB-SEOUL",
+                    2, LocalDateTime.of(2026, 1, 1, 12, 30)));
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 이전 실행에서 반영하지 못한 저널 세그먼트
+        FlashSaleJournal journal = new FlashSaleJournal(directory, false);
+        journal.append(lines);
+        journal.seal();
+
+        given(registry.getInstanceId()).willReturn(OWNER_ID);
+    }
+
+    private FlashSaleWriteBehind writeBehind(int maxPendingLines) throws Exception {
+        return new FlashSaleWriteBehind(registry, flashSaleReservationService, new SimpleMeterRegistry(),
+                directory.toString(), false, 2, maxPendingLines);
+    }
+
+    @Test
+    @DisplayName("반복해서 실패한 묶음은 격리 파일로 옮기고 실패 이벤트를 발행한 뒤 카운터를 복구한다")
+    void flush_QuarantinesBatchAfterMaxAttempts() throws Exception {
+        // given
+        willThrow(new DataIntegrityViolationException("bad line"))
+                .given(flashSaleReservationService).recordFlashSaleReservations(eq(OWNER_ID), anyList());
+        FlashSaleWriteBehind writeBehind = writeBehind(100);
+
+        // when - 복구 시 1회 실패 후 다음 주기에 최대 시도 횟수 도달
+        writeBehind.recover();
+        verify(registry, never()).restoreOwned();
+        boolean flushed = writeBehind.flush();
+
+        // then
+        assertThat(flushed).isTrue();
+        verify(flashSaleReservationService).publishFlashSaleReservationFailures(eq(lines), anyString());
+        verify(registry).restoreOwned();
+        assertThat(journalFiles(directory)).isEmpty();
+        assertThat(journalFiles(directory.resolve("quarantine"))).hasSize(1);
+        assertThat(new FlashSaleJournal(directory, false).readAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일시적 DB 오류는 격리하지 않고 계속 재시도한다")
+    void flush_KeepsRetryingTransientFailure() throws Exception {
+        // given
+        willThrow(new QueryTimeoutException("lock timeout"))
+                .given(flashSaleReservationService).recordFlashSaleReservations(eq(OWNER_ID), anyList());
+        FlashSaleWriteBehind writeBehind = writeBehind(100);
+
+        // when
+        writeBehind.recover();
+        boolean flushed = writeBehind.flush() || writeBehind.flush() || writeBehind.flush();
+
+        // then
+        assertThat(flushed).isFalse();
+        verify(flashSaleReservationService, times(4)).recordFlashSaleReservations(eq(OWNER_ID), anyList());
+        verify(flashSaleReservationService, never()).publishFlashSaleReservationFailures(anyList(), anyString());
+        verify(registry, never()).restoreOwned();
+        assertThat(journalFiles(directory)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("반영 대기 라인이 상한에 이르면 카운터 예약을 받지 않고, 반영되면 다시 받는다")
+    void isAccepting_BoundedByPendingLines() throws Exception {
+        // given
+        willThrow(new QueryTimeoutException("lock timeout"))
+                .willReturn(1)
+                .given(flashSaleReservationService).recordFlashSaleReservations(eq(OWNER_ID), anyList());
+        FlashSaleWriteBehind writeBehind = writeBehind(1);
+
+        // when & then
+        writeBehind.recover();
+        assertThat(writeBehind.isAccepting()).isFalse();
+
+        assertThat(writeBehind.flush()).isTrue();
+        assertThat(writeBehind.isAccepting()).isTrue();
+    }
+
+    private static List<Path> journalFiles(Path dir) throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+}
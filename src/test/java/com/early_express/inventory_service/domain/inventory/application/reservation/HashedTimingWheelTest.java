@@ -0,0 +1,79 @@
+package com.early_express.inventory_service.domain.inventory.application.reservation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HashedTimingWheel 테스트")
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("만료 시각 이전에는 꺼내지지 않고, 도달하면 한 번만 반환된다")
+    void advance_ExpiresAtDeadline() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, START);
+        wheel.schedule("R-1", START + 250);
+
+        assertThat(wheel.advance(START + 200)).isEmpty();
+        assertThat(wheel.advance(START + 300)).containsExactly("R-1");
+        assertThat(wheel.advance(START + 400)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴를 넘는 만료는 남은 회전 수만큼 기다린다")
+    void advance_MultipleRounds() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 4, START);
+        wheel.schedule("R-1", START + 1_000);  // 10 tick = 2바퀴 + 2 tick
+
+        assertThat(wheel.advance(START + 900)).isEmpty();
+        assertThat(wheel.advance(START + 1_000)).containsExactly("R-1");
+    }
+
+    @Test
+    @DisplayName("취소된 항목은 만료되지 않는다")
+    void cancel_RemovesTimeout() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, START);
+        wheel.schedule("R-1", START + 200);
+        wheel.schedule("R-2", START + 200);
+        wheel.schedule("R-3", START + 200);
+
+        assertThat(wheel.cancel("R-2")).isTrue();
+        assertThat(wheel.cancel("R-2")).isFalse();
+
+        assertThat(wheel.advance(START + 200)).containsExactlyInAnyOrder("R-1", "R-3");
+    }
+
+    @Test
+    @DisplayName("같은 키를 다시 등록하면 이전 만료를 대체한다")
+    void schedule_ReplacesExisting() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, START);
+        wheel.schedule("R-1", START + 200);
+        wheel.schedule("R-1", START + 600);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 500)).isEmpty();
+        assertThat(wheel.advance(START + 600)).containsExactly("R-1");
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각은 다음 tick에 만료된다")
+    void schedule_PastDeadline() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, START);
+        wheel.advance(START + 500);
+
+        wheel.schedule("R-1", START - 1_000);
+
+        assertThat(wheel.advance(START + 600)).containsExactly("R-1");
+    }
+
+    @Test
+    @DisplayName("휠 크기가 2의 거듭제곱이 아니면 예외 발생")
+    void constructor_InvalidWheelSize() {
+        assertThatThrownBy(() -> new HashedTimingWheel<String>(100, 10, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
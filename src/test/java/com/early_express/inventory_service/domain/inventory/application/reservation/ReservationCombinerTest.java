@@ -0,0 +1,91 @@
+package com.early_express.inventory_service.domain.inventory.application.reservation;
+
+import com.early_express.inventory_service.domain.inventory.application.dto.command.ReservationCommand;
+import com.early_express.inventory_service.domain.inventory.application.dto.result.ReservationInfo;
+import com.early_express.inventory_service.domain.inventory.application.service.InventoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ReservationCombiner 테스트")
+class ReservationCombinerTest {
+
+    private final InventoryService inventoryService = mock(InventoryService.class);
+
+    private ReservationCommand single(String orderId, String hubId) {
+        return ReservationCommand.builder()
+                .orderId(orderId)
+                .items(List.of(ReservationCommand.ReservationItem.builder()
+                        .productId("PROD-001").hubId(hubId).quantity(1).build()))
+                .build();
+    }
+
+    private static ReservationInfo success(ReservationCommand command) {
+        return ReservationInfo.builder().orderId(command.getOrderId()).allSuccess(true).build();
+    }
+
+    @Test
+    @DisplayName("허브 미지정 요청은 묶지 않고 일반 예약 경로로 처리된다")
+    void reserve_NotCombinable() {
+        ReservationCombiner combiner = new ReservationCombiner(inventoryService, new SimpleMeterRegistry(), true, 0, 64);
+        ReservationCommand command = single("ORDER-1", null);
+        given(inventoryService.reserveStock(command)).willReturn(success(command));
+
+        assertThat(combiner.reserve(command).getOrderId()).isEqualTo("ORDER-1");
+        verify(inventoryService, never()).reserveCombined(anyList());
+    }
+
+    @Test
+    @DisplayName("같은 재고의 동시 요청은 한 번에 처리되고 요청별 결과가 돌아간다")
+    void reserve_CombinesConcurrentRequests() throws Exception {
+        // 리더가 나머지 요청을 충분히 기다리도록 넓은 구간 사용
+        ReservationCombiner combiner = new ReservationCombiner(inventoryService, new SimpleMeterRegistry(), true, 300_000, 64);
+        given(inventoryService.reserveCombined(anyList())).willAnswer(invocation -> {
+            List<ReservationCommand> commands = invocation.getArgument(0);
+            return commands.stream().map(ReservationCombinerTest::success).toList();
+        });
+
+        int requests = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<ReservationInfo>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                ReservationCommand command = single("ORDER-" + i, "HUB-SEOUL");
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return combiner.reserve(command);
+                }, executor));
+            }
+            start.countDown();
+
+            for (int i = 0; i < requests; i++) {
+                assertThat(results.get(i).get().getOrderId()).isEqualTo("ORDER-" + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(inventoryService).reserveCombined(anyList());
+        verify(inventoryService, never()).reserveStock(any());
+    }
+}
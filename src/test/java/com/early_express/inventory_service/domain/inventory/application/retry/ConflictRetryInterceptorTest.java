@@ -0,0 +1,155 @@
+package com.early_express.inventory_service.domain.inventory.application.retry;
+
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryErrorCode;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * ConflictRetryInterceptor 테스트
+ * - 실제 프록시에 재시도 인터셉터 → 트랜잭션 인터셉터 순으로 적용해 시도마다 트랜잭션이 열리는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConflictRetryInterceptor 테스트")
+class ConflictRetryInterceptorTest {
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RecordingTransactionManager transactionManager;
+    private Target target;
+    private Target proxy;
+
+    static class Target {
+        final List<Boolean> transactionActivePerAttempt = new ArrayList<>();
+        int conflictsToThrow;
+        RuntimeException failure;
+
+        @RetryOnConflict("reserve")
+        public String reserve() {
+            transactionActivePerAttempt.add(TransactionSynchronizationManager.isActualTransactionActive());
+            if (failure != null) {
+                throw failure;
+            }
+            if (conflictsToThrow > 0) {
+                conflictsToThrow--;
+                throw new ObjectOptimisticLockingFailureException("InventoryEntity", "INV-001");
+            }
+            return "ok";
+        }
+    }
+
+    /**
+     * 시작/커밋/롤백 횟수만 기록하는 트랜잭션 매니저
+     */
+    static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        int begun;
+        int committed;
+        int rolledBack;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begun++;
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committed++;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rolledBack++;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(meterRegistryProvider.getIfAvailable(any())).willReturn(meterRegistry);
+        ConflictRetryInterceptor interceptor = new ConflictRetryInterceptor(meterRegistryProvider, 3, 1, 2, 2.0);
+        transactionManager = new RecordingTransactionManager();
+        target = new Target();
+
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(RetryOnConflict.class), interceptor));
+        proxyFactory.addAdvice(new TransactionInterceptor(
+                transactionManager, new MatchAlwaysTransactionAttributeSource()));
+        proxy = (Target) proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("충돌 후 재시도는 새 트랜잭션 안에서 실행되고 결과 반환")
+    void invoke_RecoversAfterConflictInNewTransaction() {
+        target.conflictsToThrow = 1;
+
+        String result = proxy.reserve();
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(target.transactionActivePerAttempt).containsExactly(true, true);
+        assertThat(transactionManager.begun).isEqualTo(2);
+        assertThat(transactionManager.rolledBack).isEqualTo(1);
+        assertThat(transactionManager.committed).isEqualTo(1);
+        assertThat(meterRegistry.counter("inventory.conflict.retries", "operation", "reserve").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("inventory.conflict.recovered", "operation", "reserve").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 소진하면 OPTIMISTIC_LOCK_FAILURE 예외")
+    void invoke_ExhaustedThrowsOptimisticLockFailure() {
+        target.conflictsToThrow = Integer.MAX_VALUE;
+
+        assertThatThrownBy(() -> proxy.reserve())
+                .isInstanceOf(InventoryException.class)
+                .satisfies(e -> assertThat(((InventoryException) e).getErrorCode())
+                        .isEqualTo(InventoryErrorCode.OPTIMISTIC_LOCK_FAILURE));
+
+        assertThat(target.transactionActivePerAttempt).containsExactly(true, true, true);
+        assertThat(transactionManager.rolledBack).isEqualTo(3);
+        assertThat(meterRegistry.counter("inventory.conflict.exhausted", "operation", "reserve").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("충돌이 아닌 예외는 재시도하지 않음")
+    void invoke_NonConflictNotRetried() {
+        target.failure = new InventoryException(InventoryErrorCode.INSUFFICIENT_STOCK);
+
+        assertThatThrownBy(() -> proxy.reserve()).isInstanceOf(InventoryException.class);
+
+        assertThat(target.transactionActivePerAttempt).hasSize(1);
+        assertThat(transactionManager.begun).isEqualTo(1);
+    }
+}
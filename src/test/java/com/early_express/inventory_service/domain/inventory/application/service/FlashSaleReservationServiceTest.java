@@ -0,0 +1,140 @@
+package com.early_express.inventory_service.domain.inventory.application.service;
+
+import com.early_express.inventory_service.domain.inventory.application.cache.AvailabilityCache;
+import com.early_express.inventory_service.domain.inventory.application.reservation.ReservationExpiryTracker;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.InventoryEventPublisher;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.InventoryLowStockEventData;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.InventoryReservedEventData;
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationStatus;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.FlashSaleRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.StockReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * FlashSaleReservationService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FlashSaleReservationService 테스트")
+class FlashSaleReservationServiceTest {
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private FlashSaleRepository flashSaleRepository;
+
+    @Mock
+    private ReservationExpiryTracker reservationExpiryTracker;
+
+    @Mock
+    private InventoryEventPublisher eventPublisher;
+
+    @Spy
+    private AvailabilityCache availabilityCache =
+            new AvailabilityCache(new SimpleMeterRegistry(), Optional.empty(), 1_000, 60_000);
+
+    @InjectMocks
+    private FlashSaleReservationService flashSaleReservationService;
+
+    private static final String OWNER_ID = "inventory-service:19300";
+    private static final String TEST_INVENTORY_ID = "INV-001";
+    private static final String TEST_PRODUCT_ID = "PROD-001";
+    private static final String TEST_HUB_ID = "HUB-SEOUL";
+
+    private StockReservation flashLine(String lineId, String reservationId, int quantity, LocalDateTime expiresAt) {
+        return StockReservation.createWithLineId(lineId, reservationId, "ORDER-401",
+                TEST_INVENTORY_ID, TEST_PRODUCT_ID, TEST_HUB_ID, quantity, expiresAt);
+    }
+
+    private StockSnapshot snapshot(int total, int reserved) {
+        return StockSnapshot.builder()
+                .inventoryId(TEST_INVENTORY_ID)
+                .productId(TEST_PRODUCT_ID)
+                .hubId(TEST_HUB_ID)
+                .quantityInHub(total)
+                .reservedQuantity(reserved)
+                .safetyStock(10)
+                .version(1L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("새로 저장된 라인만 재고별로 합산해 한 번에 반영하고 예약별 최초 만료 시각으로 추적")
+    void recordFlashSaleReservations_AppliesInsertedOnly() {
+        // given
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(30);
+        StockReservation first = flashLine("L-1", "RSV-401", 2, expiresAt);
+        StockReservation second = flashLine("L-2", "RSV-401", 3, expiresAt.plusSeconds(1));
+        StockReservation duplicated = flashLine("L-3", "RSV-402", 4, expiresAt);
+
+        given(stockReservationRepository.saveAllIfAbsent(List.of(first, second, duplicated)))
+                .willReturn(List.of(first, second));
+        given(flashSaleRepository.applyReserved(TEST_INVENTORY_ID, OWNER_ID, 5))
+                .willReturn(Optional.of(snapshot(100, 100)));
+
+        // when
+        int recorded = flashSaleReservationService.recordFlashSaleReservations(OWNER_ID, List.of(first, second, duplicated));
+
+        // then
+        assertThat(recorded).isEqualTo(2);
+        verify(flashSaleRepository).applyReserved(TEST_INVENTORY_ID, OWNER_ID, 5);
+        verify(eventPublisher, times(2)).publishInventoryReserved(any(InventoryReservedEventData.class));
+        verify(eventPublisher).publishInventoryLowStock(any(InventoryLowStockEventData.class));
+        verify(reservationExpiryTracker).track("RSV-401", expiresAt);
+        verify(reservationExpiryTracker, never()).track(eq("RSV-402"), any());
+    }
+
+    @Test
+    @DisplayName("저널 재적용으로 이미 저장된 라인뿐이면 카운터를 반영하지 않음")
+    void recordFlashSaleReservations_ReplayIsNoOp() {
+        // given
+        StockReservation line = flashLine("L-1", "RSV-401", 2, LocalDateTime.now().plusMinutes(30));
+        given(stockReservationRepository.saveAllIfAbsent(List.of(line))).willReturn(List.of());
+
+        // when
+        int recorded = flashSaleReservationService.recordFlashSaleReservations(OWNER_ID, List.of(line));
+
+        // then
+        assertThat(recorded).isZero();
+        verifyNoInteractions(flashSaleRepository, eventPublisher, reservationExpiryTracker);
+    }
+
+    @Test
+    @DisplayName("부모 행에 반영할 가용 재고가 없으면 라인을 FAILED로 기록하고 예약 실패 이벤트 발행, 예약 이벤트·만료 추적 생략")
+    void recordFlashSaleReservations_ParentShortfallMarksFailed() {
+        // given
+        StockReservation line = flashLine("L-1", "RSV-401", 2, LocalDateTime.now().plusMinutes(30));
+        given(stockReservationRepository.saveAllIfAbsent(List.of(line))).willReturn(List.of(line));
+        given(flashSaleRepository.applyReserved(TEST_INVENTORY_ID, OWNER_ID, 2)).willReturn(Optional.empty());
+
+        // when
+        int recorded = flashSaleReservationService.recordFlashSaleReservations(OWNER_ID, List.of(line));
+
+        // then
+        assertThat(recorded).isZero();
+        verify(stockReservationRepository).updateStatus(List.of("L-1"), ReservationStatus.FAILED);
+        verify(eventPublisher, never()).publishInventoryReserved(any(InventoryReservedEventData.class));
+        verify(eventPublisher).publishInventoryReservationFailed(argThat(event ->
+                event.getReservationId().equals("RSV-401") && event.getFailedQuantity() == 2));
+        verifyNoInteractions(reservationExpiryTracker);
+    }
+}
@@ -1,12 +1,37 @@
 package com.early_express.inventory_service.domain.inventory.application.service;
 
+import com.early_express.inventory_service.domain.inventory.application.cache.AvailabilityBatchLoader;
+import com.early_express.inventory_service.domain.inventory.application.cache.AvailabilityCache;
 import com.early_express.inventory_service.domain.inventory.application.dto.command.*;
 import com.early_express.inventory_service.domain.inventory.application.dto.result.*;
+import com.early_express.inventory_service.domain.inventory.application.reservation.ReservationExpiryTracker;
+import com.early_express.inventory_service.domain.inventory.application.shard.ShardedInventoryRegistry;
 import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryErrorCode;
 import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryException;
 import com.early_express.inventory_service.domain.inventory.domain.messaging.InventoryEventPublisher;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.InventoriesInitializedEventData;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.InventoryCreatedEventData;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.InventoryLowStockEventData;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.InventoryReservedEventData;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.StockDecreasedEventData;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.StockRestoredEventData;
 import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.FlashSaleState;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.HubSelectionPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InitialInventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.HubAllocation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryShardLayout;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationStatus;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationTtlPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.SplitAllocationPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.FlashSaleRepository;
 import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryShardRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.StockReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,9 +40,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -39,6 +69,41 @@ class InventoryServiceTest {
     @Mock
     private InventoryEventPublisher eventPublisher;
 
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private ReservationExpiryTracker reservationExpiryTracker;
+
+    @Mock
+    private InventoryShardRepository inventoryShardRepository;
+
+    @Mock
+    private ShardedInventoryRegistry shardedInventoryRegistry;
+
+    @Mock
+    private FlashSaleRepository flashSaleRepository;
+
+    @Mock
+    private ReservationSettlementService reservationSettlementService;
+
+    @Mock
+    private AvailabilityBatchLoader availabilityBatchLoader;
+
+    @Spy
+    private AvailabilityCache availabilityCache =
+            new AvailabilityCache(new SimpleMeterRegistry(), Optional.empty(), 1_000, 60_000);
+
+    @Spy
+    private HubSelectionPolicy hubSelectionPolicy = HubSelectionPolicy.mostAvailable();
+
+    @Spy
+    private SplitAllocationPolicy splitAllocationPolicy =
+            SplitAllocationPolicy.of(true, List.of("HUB-SEOUL", "HUB-BUSAN", "HUB-INCHEON", "HUB-DAEGU"));
+
+    @Spy
+    private ReservationTtlPolicy reservationTtlPolicy = ReservationTtlPolicy.of(Duration.ofMinutes(30));
+
     @InjectMocks
     private InventoryService inventoryService;
 
@@ -49,6 +114,16 @@ class InventoryServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 배치 로더는 저장소 조회로 바로 위임 (배치·공유 동작은 AvailabilityBatchLoaderTest에서 검증)
+        lenient().when(availabilityBatchLoader.load(any(InventoryKey.class))).thenAnswer(invocation ->
+                inventoryRepository.findSnapshots(List.of(invocation.<InventoryKey>getArgument(0))).stream().findFirst());
+        lenient().when(availabilityBatchLoader.loadAll(anyString(), anyCollection())).thenAnswer(invocation -> {
+            Map<InventoryKey, StockSnapshot> loaded = new HashMap<>();
+            inventoryRepository.findSnapshotsByHub(invocation.getArgument(0), invocation.getArgument(1)).forEach(snapshot ->
+                    loaded.put(InventoryKey.of(snapshot.getProductId(), snapshot.getHubId()), snapshot));
+            return loaded;
+        });
+
         testInventory = Inventory.create(
                 TEST_INVENTORY_ID,
                 TEST_PRODUCT_ID,
@@ -59,6 +134,18 @@ class InventoryServiceTest {
         );
     }
 
+    private StockSnapshot snapshot(String inventoryId, String productId, int total, int reserved) {
+        return StockSnapshot.builder()
+                .inventoryId(inventoryId)
+                .productId(productId)
+                .hubId(TEST_HUB_ID)
+                .quantityInHub(total)
+                .reservedQuantity(reserved)
+                .safetyStock(10)
+                .version(1L)
+                .build();
+    }
+
     @Nested
     @DisplayName("초기 재고 생성 테스트")
     class CreateInitialInventoriesTest {
@@ -68,9 +155,7 @@ class InventoryServiceTest {
         void createInitialInventories_Success() {
             // given
             String productId = "PROD-NEW-001";
-            given(inventoryRepository.existsByProductIdAndHubId(eq(productId), anyString()))
-                    .willReturn(false);
-            given(inventoryRepository.save(any(Inventory.class)))
+            given(inventoryRepository.createAllIfAbsent(anyList()))
                     .willAnswer(invocation -> invocation.getArgument(0));
 
             // when
@@ -78,8 +163,11 @@ class InventoryServiceTest {
 
             // then
             assertThat(result).hasSize(4);
-            verify(inventoryRepository, times(4)).save(any(Inventory.class));
-            verify(eventPublisher, times(4)).publishInventoryCreated(any(Inventory.class));
+            assertThat(result).allMatch(inv -> inv.getInventoryId() != null);
+            verify(inventoryRepository, times(1)).createAllIfAbsent(anyList());
+            verify(inventoryRepository, never()).existsByProductIdAndHubId(anyString(), anyString());
+            verify(inventoryRepository, never()).save(any(Inventory.class));
+            verify(eventPublisher, times(1)).publishInventoriesInitialized(any(InventoriesInitializedEventData.class));
         }
 
         @Test
@@ -87,20 +175,22 @@ class InventoryServiceTest {
         void createInitialInventories_SkipExisting() {
             // given
             String productId = "PROD-EXISTING-001";
-            given(inventoryRepository.existsByProductIdAndHubId(productId, "HUB-SEOUL"))
-                    .willReturn(true);
-            given(inventoryRepository.existsByProductIdAndHubId(eq(productId), argThat(hubId -> !hubId.equals("HUB-SEOUL"))))
-                    .willReturn(false);
-            given(inventoryRepository.save(any(Inventory.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(inventoryRepository.createAllIfAbsent(anyList()))
+                    .willAnswer(invocation -> invocation.<List<Inventory>>getArgument(0).stream()
+                            .filter(inventory -> !inventory.getHubId().equals("HUB-SEOUL"))
+                            .toList());
+            ArgumentCaptor<InventoriesInitializedEventData> eventCaptor =
+                    ArgumentCaptor.forClass(InventoriesInitializedEventData.class);
 
             // when
             List<Inventory> result = inventoryService.createInitialInventories(productId);
 
             // then
             assertThat(result).hasSize(3); // 3개만 생성
-            verify(inventoryRepository, times(3)).save(any(Inventory.class));
-            verify(eventPublisher, times(3)).publishInventoryCreated(any(Inventory.class));
+            verify(eventPublisher).publishInventoriesInitialized(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getInventories())
+                    .extracting(InventoriesInitializedEventData.HubInventory::getHubId)
+                    .containsExactly("HUB-BUSAN", "HUB-INCHEON", "HUB-DAEGU");
         }
 
         @Test
@@ -108,21 +198,118 @@ class InventoryServiceTest {
         void createInitialInventories_InitialQuantityIsZero() {
             // given
             String productId = "PROD-NEW-002";
-            given(inventoryRepository.existsByProductIdAndHubId(eq(productId), anyString()))
-                    .willReturn(false);
-            ArgumentCaptor<Inventory> inventoryCaptor = ArgumentCaptor.forClass(Inventory.class);
-            given(inventoryRepository.save(inventoryCaptor.capture()))
+            given(inventoryRepository.createAllIfAbsent(anyList()))
                     .willAnswer(invocation -> invocation.getArgument(0));
 
             // when
-            inventoryService.createInitialInventories(productId);
+            List<Inventory> savedInventories = inventoryService.createInitialInventories(productId);
 
             // then
-            List<Inventory> savedInventories = inventoryCaptor.getAllValues();
             assertThat(savedInventories).hasSize(4);
             assertThat(savedInventories)
                     .allMatch(inv -> inv.getQuantityInHub().getValue() == 0);
         }
+
+        @Test
+        @DisplayName("여러 상품을 한 번의 배치로 생성하고 상품당 이벤트 1건을 발행한다")
+        void createInitialInventories_MultipleProducts() {
+            // given
+            given(inventoryRepository.createAllIfAbsent(anyList()))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            List<Inventory> result = inventoryService.createInitialInventories(
+                    List.of("PROD-A", "PROD-B", "PROD-A"));
+
+            // then
+            assertThat(result).hasSize(8);
+            verify(inventoryRepository, times(1)).createAllIfAbsent(anyList());
+            verify(eventPublisher, times(2)).publishInventoriesInitialized(any(InventoriesInitializedEventData.class));
+            verify(eventPublisher, never()).publishInventoryCreated(any(InventoryCreatedEventData.class));
+        }
+
+        @Test
+        @DisplayName("상품 생성 이벤트 경로는 생성된 행마다 InventoryCreated를 발행한다")
+        void createInitialInventoriesAt_PublishesCreatedPerRow() {
+            // given
+            given(inventoryRepository.createAllIfAbsent(anyList()))
+                    .willAnswer(invocation -> invocation.<List<Inventory>>getArgument(0).stream()
+                            .filter(inventory -> !inventory.getHubId().equals("HUB-BUSAN"))
+                            .toList());
+            ArgumentCaptor<InventoryCreatedEventData> eventCaptor = ArgumentCaptor.forClass(InventoryCreatedEventData.class);
+
+            // when
+            List<Inventory> result = inventoryService.createInitialInventoriesAt(List.of(
+                    InventoryKey.of("PROD-A", "HUB-SEOUL"),
+                    InventoryKey.of("PROD-A", "HUB-BUSAN"),
+                    InventoryKey.of("PROD-B", "HUB-SEOUL")));
+
+            // then
+            assertThat(result).hasSize(2);
+            verify(eventPublisher, times(2)).publishInventoryCreated(eventCaptor.capture());
+            assertThat(eventCaptor.getAllValues())
+                    .extracting(InventoryCreatedEventData::getProductId)
+                    .containsExactly("PROD-A", "PROD-B");
+            verify(eventPublisher, never()).publishInventoriesInitialized(any(InventoriesInitializedEventData.class));
+        }
+
+        @Test
+        @DisplayName("이미 존재하는 허브 재고는 기존 재고를 반환하고 이벤트를 발행하지 않는다")
+        void createInitialInventory_ReturnsExisting() {
+            // given
+            Inventory existing = Inventory.create("INV-EXISTING", "PROD-001", "HUB-SEOUL", 50, 10, "A-1-1");
+            given(inventoryRepository.createIfAbsent(any(Inventory.class)))
+                    .willReturn(Optional.of(InitialInventory.existing(existing)));
+
+            // when
+            Optional<Inventory> result = inventoryService.createInitialInventory("PROD-001", "HUB-SEOUL");
+
+            // then
+            assertThat(result).map(Inventory::getInventoryId).contains("INV-EXISTING");
+            verify(eventPublisher, never()).publishInventoryCreated(any(InventoryCreatedEventData.class));
+        }
+
+        @Test
+        @DisplayName("삭제된 재고가 상품-허브 조합을 점유하면 예외 없이 건너뛴다")
+        void createInitialInventory_DeletedRowSkipped() {
+            // given
+            given(inventoryRepository.createIfAbsent(any(Inventory.class)))
+                    .willReturn(Optional.empty());
+
+            // when
+            Optional<Inventory> result = inventoryService.createInitialInventory("PROD-001", "HUB-SEOUL");
+
+            // then
+            assertThat(result).isEmpty();
+            verify(eventPublisher, never()).publishInventoryCreated(any(InventoryCreatedEventData.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("상품 재고 삭제 테스트")
+    class DeleteInventoriesTest {
+
+        @Test
+        @DisplayName("여러 상품의 재고를 한 번의 집합 UPDATE로 삭제하고 삭제된 ID를 반환한다")
+        void deleteInventoriesByProducts_SetBased() {
+            // given
+            given(inventoryRepository.softDeleteByProductIds(List.of("PROD-001", "PROD-002")))
+                    .willReturn(List.of(
+                            StockSnapshot.builder().inventoryId("INV-001").productId("PROD-001").hubId("HUB-SEOUL").build(),
+                            StockSnapshot.builder().inventoryId("INV-002").productId("PROD-002").hubId("HUB-BUSAN").build()));
+
+            // when
+            List<String> deletedIds = inventoryService.deleteInventoriesByProducts(
+                    List.of("PROD-001", "PROD-002", "PROD-001"));
+
+            // then
+            assertThat(deletedIds).containsExactly("INV-001", "INV-002");
+            verify(inventoryRepository, never()).findByProductId(anyString());
+            verify(inventoryRepository, never()).delete(anyString());
+            verify(availabilityCache).evictAll(List.of(
+                    InventoryKey.of("PROD-001", "HUB-SEOUL"),
+                    InventoryKey.of("PROD-002", "HUB-BUSAN")));
+        }
     }
 
     @Nested
@@ -182,7 +369,7 @@ class InventoryServiceTest {
     class ReserveStockTest {
 
         @Test
-        @DisplayName("단일 상품 예약 성공")
+        @DisplayName("단일 상품 예약 성공 - 조건부 UPDATE 한 번으로 처리")
         void reserveStock_SingleItem_Success() {
             // given
             int reserveQuantity = 30;
@@ -199,23 +386,170 @@ class InventoryServiceTest {
                     ))
                     .build();
 
-            given(inventoryRepository.findByProductIdAndHubId(TEST_PRODUCT_ID, TEST_HUB_ID))
-                    .willReturn(Optional.of(testInventory));
-            given(inventoryRepository.save(any(Inventory.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, reserveQuantity))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, reserveQuantity)));
 
             // when
             ReservationInfo result = inventoryService.reserveStock(command);
 
             // then
             assertThat(result.getOrderId()).isEqualTo(orderId);
+            assertThat(result.getReservationId()).isNotBlank();
             assertThat(result.isAllSuccess()).isTrue();
             assertThat(result.getReservedItems()).hasSize(1);
             assertThat(result.getReservedItems().get(0).isSuccess()).isTrue();
             assertThat(result.getReservedItems().get(0).getQuantity()).isEqualTo(reserveQuantity);
 
-            verify(inventoryRepository).save(any(Inventory.class));
-            verify(eventPublisher).publishInventoryReserved(any(Inventory.class), eq(orderId), eq(reserveQuantity));
+            verify(inventoryRepository, never()).findByProductIdAndHubId(anyString(), anyString());
+            verify(inventoryRepository, never()).save(any(Inventory.class));
+            verify(eventPublisher).publishInventoryReserved(any(InventoryReservedEventData.class));
+
+            ArgumentCaptor<List<StockReservation>> ledgerCaptor = ArgumentCaptor.forClass(List.class);
+            verify(stockReservationRepository).saveAll(ledgerCaptor.capture());
+            assertThat(ledgerCaptor.getValue()).singleElement().satisfies(line -> {
+                assertThat(line.getReservationId()).isEqualTo(result.getReservationId());
+                assertThat(line.getInventoryId()).isEqualTo(TEST_INVENTORY_ID);
+                assertThat(line.getQuantity()).isEqualTo(reserveQuantity);
+                assertThat(line.getStatus()).isEqualTo(ReservationStatus.RESERVED);
+                assertThat(line.getExpiresAt()).isEqualTo(result.getExpiresAt());
+            });
+            verify(reservationExpiryTracker).track(result.getReservationId(), result.getExpiresAt());
+        }
+
+        @Test
+        @DisplayName("허브 미지정 예약 - DB에서 허브를 선택해 같은 문장에서 예약")
+        void reserveStock_AutoHub_ReservesOnSelectedHub() {
+            // given
+            ReservationCommand command = ReservationCommand.builder()
+                    .orderId("ORDER-001")
+                    .items(List.of(
+                            ReservationCommand.ReservationItem.builder()
+                                    .productId(TEST_PRODUCT_ID)
+                                    .quantity(10)
+                                    .build()
+                    ))
+                    .build();
+
+            given(inventoryRepository.reserveOnSelectedHub(TEST_PRODUCT_ID, 10, hubSelectionPolicy))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 10)));
+
+            // when
+            ReservationInfo result = inventoryService.reserveStock(command);
+
+            // then
+            assertThat(result.isAllSuccess()).isTrue();
+            assertThat(result.getReservedItems().get(0).getHubId()).isEqualTo(TEST_HUB_ID);
+            verify(inventoryRepository, never()).findByProductId(anyString());
+            verify(inventoryRepository, never()).reserve(anyString(), anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("허브 미지정 예약 - 분할을 허용하지 않으면 충분한 허브가 없을 때 실패")
+        void reserveStock_AutoHub_NoHubWithEnoughStock() {
+            // given
+            ReservationCommand command = ReservationCommand.builder()
+                    .orderId("ORDER-001")
+                    .allowSplit(false)
+                    .items(List.of(
+                            ReservationCommand.ReservationItem.builder()
+                                    .productId(TEST_PRODUCT_ID)
+                                    .quantity(500)
+                                    .build()
+                    ))
+                    .build();
+
+            given(inventoryRepository.reserveOnSelectedHub(TEST_PRODUCT_ID, 500, hubSelectionPolicy))
+                    .willReturn(Optional.empty());
+
+            // when
+            ReservationInfo result = inventoryService.reserveStock(command);
+
+            // then
+            assertThat(result.isAllSuccess()).isFalse();
+            assertThat(result.getReservedItems().get(0).getErrorMessage()).contains("재고가 충분한 허브를 찾을 수 없습니다");
+        }
+
+        @Test
+        @DisplayName("허브 미지정 예약 - 단일 허브로 부족하면 여러 허브로 분할 예약")
+        void reserveStock_AutoHub_SplitAcrossHubs() {
+            // given
+            ReservationCommand command = ReservationCommand.builder()
+                    .orderId("ORDER-001")
+                    .items(List.of(
+                            ReservationCommand.ReservationItem.builder()
+                                    .productId(TEST_PRODUCT_ID)
+                                    .quantity(120)
+                                    .build()
+                    ))
+                    .build();
+
+            given(inventoryRepository.reserveOnSelectedHub(TEST_PRODUCT_ID, 120, hubSelectionPolicy))
+                    .willReturn(Optional.empty());
+            given(inventoryRepository.findSnapshotsByProduct(TEST_PRODUCT_ID)).willReturn(List.of(
+                    hubSnapshot("HUB-SEOUL", 80, 0),
+                    hubSnapshot("HUB-BUSAN", 50, 0),
+                    hubSnapshot("HUB-DAEGU", 10, 0)));
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, "HUB-SEOUL", 80))
+                    .willReturn(Optional.of(hubSnapshot("HUB-SEOUL", 80, 80)));
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, "HUB-BUSAN", 40))
+                    .willReturn(Optional.of(hubSnapshot("HUB-BUSAN", 50, 40)));
+
+            // when
+            ReservationInfo result = inventoryService.reserveStock(command);
+
+            // then
+            assertThat(result.isAllSuccess()).isTrue();
+            assertThat(result.getReservedItems().get(0).getAllocations()).containsExactly(
+                    HubAllocation.of("HUB-SEOUL", 80),
+                    HubAllocation.of("HUB-BUSAN", 40));
+            verify(eventPublisher, times(2)).publishInventoryReserved(any(InventoryReservedEventData.class));
+        }
+
+        @Test
+        @DisplayName("허브 미지정 예약 - 분할 예약 중 한 조각이 실패하면 이미 예약한 조각을 해제")
+        void reserveStock_AutoHub_SplitCompensatesOnFailure() {
+            // given
+            ReservationCommand command = ReservationCommand.builder()
+                    .orderId("ORDER-001")
+                    .items(List.of(
+                            ReservationCommand.ReservationItem.builder()
+                                    .productId(TEST_PRODUCT_ID)
+                                    .quantity(120)
+                                    .build()
+                    ))
+                    .build();
+
+            given(inventoryRepository.reserveOnSelectedHub(TEST_PRODUCT_ID, 120, hubSelectionPolicy))
+                    .willReturn(Optional.empty());
+            given(inventoryRepository.findSnapshotsByProduct(TEST_PRODUCT_ID)).willReturn(List.of(
+                    hubSnapshot("HUB-SEOUL", 80, 0),
+                    hubSnapshot("HUB-BUSAN", 50, 0)));
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, "HUB-BUSAN", 40))
+                    .willReturn(Optional.of(hubSnapshot("HUB-BUSAN", 50, 40)));
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, "HUB-SEOUL", 80))
+                    .willReturn(Optional.empty());
+            given(inventoryRepository.release(TEST_PRODUCT_ID, "HUB-BUSAN", 40))
+                    .willReturn(Optional.of(hubSnapshot("HUB-BUSAN", 50, 0)));
+
+            // when
+            ReservationInfo result = inventoryService.reserveStock(command);
+
+            // then
+            assertThat(result.isAllSuccess()).isFalse();
+            verify(inventoryRepository).release(TEST_PRODUCT_ID, "HUB-BUSAN", 40);
+            verify(eventPublisher, never()).publishInventoryReserved(any(InventoryReservedEventData.class));
+        }
+
+        private StockSnapshot hubSnapshot(String hubId, int total, int reserved) {
+            return StockSnapshot.builder()
+                    .inventoryId("INV-" + hubId)
+                    .productId(TEST_PRODUCT_ID)
+                    .hubId(hubId)
+                    .quantityInHub(total)
+                    .reservedQuantity(reserved)
+                    .safetyStock(0)
+                    .version(1L)
+                    .build();
         }
 
         @Test
@@ -223,14 +557,6 @@ class InventoryServiceTest {
         void reserveStock_MultipleItems_AllSuccess() {
             // given
             String orderId = "ORDER-002";
-            Inventory testInventory2 = Inventory.create(
-                    "INV-002",
-                    "PROD-002",
-                    TEST_HUB_ID,
-                    100,
-                    10,
-                    "A-2-1"
-            );
 
             ReservationCommand command = ReservationCommand.builder()
                     .orderId(orderId)
@@ -248,12 +574,10 @@ class InventoryServiceTest {
                     ))
                     .build();
 
-            given(inventoryRepository.findByProductIdAndHubId(TEST_PRODUCT_ID, TEST_HUB_ID))
-                    .willReturn(Optional.of(testInventory));
-            given(inventoryRepository.findByProductIdAndHubId("PROD-002", TEST_HUB_ID))
-                    .willReturn(Optional.of(testInventory2));
-            given(inventoryRepository.save(any(Inventory.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 30))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 30)));
+            given(inventoryRepository.reserve("PROD-002", TEST_HUB_ID, 20))
+                    .willReturn(Optional.of(snapshot("INV-002", "PROD-002", 100, 20)));
 
             // when
             ReservationInfo result = inventoryService.reserveStock(command);
@@ -286,12 +610,10 @@ class InventoryServiceTest {
                     ))
                     .build();
 
-            given(inventoryRepository.findByProductIdAndHubId(TEST_PRODUCT_ID, TEST_HUB_ID))
-                    .willReturn(Optional.of(testInventory));
-            given(inventoryRepository.findByProductIdAndHubId("PROD-NOT-EXIST", TEST_HUB_ID))
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 30))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 30)));
+            given(inventoryRepository.reserve("PROD-NOT-EXIST", TEST_HUB_ID, 20))
                     .willReturn(Optional.empty());
-            given(inventoryRepository.save(any(Inventory.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
 
             // when
             ReservationInfo result = inventoryService.reserveStock(command);
@@ -304,6 +626,123 @@ class InventoryServiceTest {
             assertThat(result.getReservedItems().get(1).getErrorMessage()).isNotNull();
         }
 
+        @Test
+        @DisplayName("라인 예약 중 DB 오류는 실패 결과로 삼키지 않고 전파 (충돌 재시도 대상)")
+        void reserveStock_DataAccessExceptionPropagates() {
+            // given
+            ReservationCommand command = ReservationCommand.builder()
+                    .orderId("ORDER-006")
+                    .items(List.of(
+                            ReservationCommand.ReservationItem.builder()
+                                    .productId(TEST_PRODUCT_ID)
+                                    .hubId(TEST_HUB_ID)
+                                    .quantity(10)
+                                    .build()
+                    ))
+                    .build();
+
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 10))
+                    .willThrow(new CannotAcquireLockException("could not serialize access"));
+
+            // when & then
+            assertThatThrownBy(() -> inventoryService.reserveStock(command))
+                    .isInstanceOf(CannotAcquireLockException.class);
+            verify(stockReservationRepository, never()).saveAll(anyList());
+            verify(eventPublisher, never()).publishInventoryReserved(any(InventoryReservedEventData.class));
+        }
+
+        @Test
+        @DisplayName("가용 재고 부족으로 조건부 UPDATE가 실패하면 가용 수량을 포함한 오류 반환")
+        void reserveStock_InsufficientStock() {
+            // given
+            ReservationCommand command = ReservationCommand.builder()
+                    .orderId("ORDER-005")
+                    .items(List.of(
+                            ReservationCommand.ReservationItem.builder()
+                                    .productId(TEST_PRODUCT_ID)
+                                    .hubId(TEST_HUB_ID)
+                                    .quantity(150)
+                                    .build()
+                    ))
+                    .build();
+
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 150))
+                    .willReturn(Optional.empty());
+            given(inventoryRepository.findSnapshots(List.of(InventoryKey.of(TEST_PRODUCT_ID, TEST_HUB_ID))))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0)));
+
+            // when
+            ReservationInfo result = inventoryService.reserveStock(command);
+
+            // then
+            assertThat(result.isAllSuccess()).isFalse();
+            assertThat(result.getReservedItems().get(0).getErrorMessage()).contains("가용 재고: 100");
+            verify(eventPublisher, never()).publishInventoryReserved(any(InventoryReservedEventData.class));
+        }
+
+        @Test
+        @DisplayName("전체 예약 모드 - 배치 1회로 모든 라인 예약 성공")
+        void reserveStock_AllOrNothing_Success() {
+            // given
+            ReservationCommand command = ReservationCommand.builder()
+                    .orderId("ORDER-101")
+                    .allOrNothing(true)
+                    .items(List.of(
+                            ReservationCommand.ReservationItem.builder()
+                                    .productId(TEST_PRODUCT_ID).hubId(TEST_HUB_ID).quantity(30).build(),
+                            ReservationCommand.ReservationItem.builder()
+                                    .productId("PROD-002").hubId(TEST_HUB_ID).quantity(20).build()
+                    ))
+                    .build();
+
+            given(inventoryRepository.reserveAll(anyList())).willReturn(new boolean[]{true, true});
+            given(inventoryRepository.findSnapshots(anyCollection())).willReturn(List.of(
+                    snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 30),
+                    snapshot("INV-002", "PROD-002", 100, 20)
+            ));
+
+            // when
+            ReservationInfo result = inventoryService.reserveStock(command);
+
+            // then
+            assertThat(result.isAllSuccess()).isTrue();
+            assertThat(result.getReservedItems()).allMatch(ReservationInfo.ReservedItemInfo::isSuccess);
+            verify(inventoryRepository, never()).reserve(anyString(), anyString(), anyInt());
+            verify(eventPublisher, times(2)).publishInventoryReserved(any(InventoryReservedEventData.class));
+        }
+
+        @Test
+        @DisplayName("전체 예약 모드 - 한 라인이라도 부족하면 전체 실패와 라인별 부족 수량 반환")
+        void reserveStock_AllOrNothing_Shortfall() {
+            // given
+            ReservationCommand command = ReservationCommand.builder()
+                    .orderId("ORDER-102")
+                    .allOrNothing(true)
+                    .items(List.of(
+                            ReservationCommand.ReservationItem.builder()
+                                    .productId(TEST_PRODUCT_ID).hubId(TEST_HUB_ID).quantity(30).build(),
+                            ReservationCommand.ReservationItem.builder()
+                                    .productId("PROD-002").hubId(TEST_HUB_ID).quantity(50).build()
+                    ))
+                    .build();
+
+            given(inventoryRepository.reserveAll(anyList())).willReturn(new boolean[]{true, false});
+            given(inventoryRepository.findSnapshots(anyCollection())).willReturn(List.of(
+                    snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 30),
+                    snapshot("INV-002", "PROD-002", 40, 0)
+            ));
+
+            // when
+            ReservationInfo result = inventoryService.reserveStock(command);
+
+            // then
+            assertThat(result.isAllSuccess()).isFalse();
+            assertThat(result.getReservedItems()).noneMatch(ReservationInfo.ReservedItemInfo::isSuccess);
+            assertThat(result.getReservedItems().get(0).getShortfallQuantity()).isZero();
+            assertThat(result.getReservedItems().get(1).getShortfallQuantity()).isEqualTo(10);
+            verify(eventPublisher, never()).publishInventoryReserved(any(InventoryReservedEventData.class));
+        }
+
         @Test
         @DisplayName("재고 예약 시 안전 재고 이하면 LowStock 이벤트 발행")
         void reserveStock_PublishLowStockEvent() {
@@ -322,16 +761,206 @@ class InventoryServiceTest {
                     ))
                     .build();
 
-            given(inventoryRepository.findByProductIdAndHubId(TEST_PRODUCT_ID, TEST_HUB_ID))
-                    .willReturn(Optional.of(testInventory));
-            given(inventoryRepository.save(any(Inventory.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, reserveQuantity))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, reserveQuantity)));
 
             // when
             inventoryService.reserveStock(command);
 
             // then
-            verify(eventPublisher).publishInventoryLowStock(any(Inventory.class));
+            verify(eventPublisher).publishInventoryLowStock(any(InventoryLowStockEventData.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("샤드 모드 재고 테스트")
+    class ShardedStockTest {
+
+        private StockSnapshot shardSnapshot(int shardNo, int total, int reserved) {
+            return snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, total, reserved).toBuilder()
+                    .shardNo(shardNo)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("샤드 모드 재고는 샤드 행에 먼저 예약하고 원장에 샤드 번호 기록")
+        void reserveStock_ShardedFirst() {
+            // given
+            ReservationCommand command = ReservationCommand.builder()
+                    .orderId("ORDER-301")
+                    .items(List.of(ReservationCommand.ReservationItem.builder()
+                            .productId(TEST_PRODUCT_ID).hubId(TEST_HUB_ID).quantity(5).build()))
+                    .build();
+
+            given(shardedInventoryRegistry.isSharded(InventoryKey.of(TEST_PRODUCT_ID, TEST_HUB_ID))).willReturn(true);
+            given(inventoryShardRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 5))
+                    .willReturn(Optional.of(shardSnapshot(3, 100, 5)));
+
+            // when
+            ReservationInfo result = inventoryService.reserveStock(command);
+
+            // then
+            assertThat(result.isAllSuccess()).isTrue();
+            verify(inventoryRepository, never()).reserve(anyString(), anyString(), anyInt());
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<StockReservation>> ledger = ArgumentCaptor.forClass(List.class);
+            verify(stockReservationRepository).saveAll(ledger.capture());
+            assertThat(ledger.getValue()).singleElement()
+                    .extracting(StockReservation::getShardNo)
+                    .isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("레지스트리 갱신 전이면 부모 행 실패 후 샤드 행으로 예약")
+        void reserveStock_StaleRegistryFallsBackToShard() {
+            // given
+            ReservationCommand command = ReservationCommand.builder()
+                    .orderId("ORDER-302")
+                    .items(List.of(ReservationCommand.ReservationItem.builder()
+                            .productId(TEST_PRODUCT_ID).hubId(TEST_HUB_ID).quantity(5).build()))
+                    .build();
+
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 5)).willReturn(Optional.empty());
+            given(inventoryShardRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 5))
+                    .willReturn(Optional.of(shardSnapshot(0, 100, 5)));
+
+            // when
+            ReservationInfo result = inventoryService.reserveStock(command);
+
+            // then
+            assertThat(result.isAllSuccess()).isTrue();
+            assertThat(result.getReservationId()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("전체 예약 모드 - 배치에서 실패한 라인을 샤드 행으로 재시도")
+        void reserveStock_AllOrNothing_ShardRetry() {
+            // given
+            ReservationCommand command = ReservationCommand.builder()
+                    .orderId("ORDER-303")
+                    .allOrNothing(true)
+                    .items(List.of(ReservationCommand.ReservationItem.builder()
+                            .productId(TEST_PRODUCT_ID).hubId(TEST_HUB_ID).quantity(5).build()))
+                    .build();
+
+            given(inventoryRepository.reserveAll(anyList())).willReturn(new boolean[]{false});
+            given(inventoryShardRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 5))
+                    .willReturn(Optional.of(shardSnapshot(1, 100, 5)));
+            given(inventoryRepository.findSnapshots(anyCollection()))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 5)));
+
+            // when
+            ReservationInfo result = inventoryService.reserveStock(command);
+
+            // then
+            assertThat(result.isAllSuccess()).isTrue();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<StockReservation>> ledger = ArgumentCaptor.forClass(List.class);
+            verify(stockReservationRepository).saveAll(ledger.capture());
+            assertThat(ledger.getValue().get(0).getShardNo()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("전체 예약 모드 - 샤드 재시도는 요청 순서가 아닌 InventoryKey 순서로 잠금")
+        void reserveStock_AllOrNothing_ShardRetryInKeyOrder() {
+            // given - 요청 순서는 PROD-002 → PROD-001
+            ReservationCommand command = ReservationCommand.builder()
+                    .orderId("ORDER-304")
+                    .allOrNothing(true)
+                    .items(List.of(
+                            ReservationCommand.ReservationItem.builder()
+                                    .productId("PROD-002").hubId(TEST_HUB_ID).quantity(5).build(),
+                            ReservationCommand.ReservationItem.builder()
+                                    .productId(TEST_PRODUCT_ID).hubId(TEST_HUB_ID).quantity(5).build()))
+                    .build();
+
+            given(inventoryRepository.reserveAll(anyList())).willReturn(new boolean[]{false, false});
+            given(inventoryShardRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 5))
+                    .willReturn(Optional.empty());
+
+            // when
+            ReservationInfo result = inventoryService.reserveStock(command);
+
+            // then - PROD-001이 먼저 실패하므로 PROD-002 샤드는 잠그지 않음
+            assertThat(result.isAllSuccess()).isFalse();
+            verify(inventoryShardRepository, never()).reserve("PROD-002", TEST_HUB_ID, 5);
+        }
+    }
+
+    @Nested
+    @DisplayName("예약 묶음 테스트")
+    class ReserveCombinedTest {
+
+        private ReservationCommand single(String orderId, int quantity, boolean allOrNothing) {
+            return ReservationCommand.builder()
+                    .orderId(orderId)
+                    .allOrNothing(allOrNothing)
+                    .items(List.of(ReservationCommand.ReservationItem.builder()
+                            .productId(TEST_PRODUCT_ID).hubId(TEST_HUB_ID).quantity(quantity).build()))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("합계 수량으로 UPDATE 1회 후 요청별 예약 ID와 예약 직후 가용 수량 배분")
+        void reserveCombined_SingleUpdate() {
+            // given
+            List<ReservationCommand> commands = List.of(
+                    single("ORDER-501", 2, false), single("ORDER-502", 3, false), single("ORDER-503", 5, false));
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 10))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 10)));
+
+            // when
+            List<ReservationInfo> results = inventoryService.reserveCombined(commands);
+
+            // then
+            assertThat(results).extracting(ReservationInfo::getOrderId)
+                    .containsExactly("ORDER-501", "ORDER-502", "ORDER-503");
+            assertThat(results).allMatch(ReservationInfo::isAllSuccess);
+            assertThat(results).extracting(ReservationInfo::getReservationId).doesNotHaveDuplicates();
+            verify(inventoryRepository, times(1)).reserve(anyString(), anyString(), anyInt());
+
+            ArgumentCaptor<InventoryReservedEventData> events = ArgumentCaptor.forClass(InventoryReservedEventData.class);
+            verify(eventPublisher, times(3)).publishInventoryReserved(events.capture());
+            assertThat(events.getAllValues()).extracting(InventoryReservedEventData::getAvailableQuantity)
+                    .containsExactly(98, 95, 90);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<StockReservation>> ledger = ArgumentCaptor.forClass(List.class);
+            verify(stockReservationRepository).saveAll(ledger.capture());
+            assertThat(ledger.getValue()).extracting(StockReservation::getQuantity).containsExactly(2, 3, 5);
+        }
+
+        @Test
+        @DisplayName("합계가 부족하면 도착 순서대로 예약하고 부족한 요청만 실패")
+        void reserveCombined_FallsBackInArrivalOrder() {
+            // given
+            List<ReservationCommand> commands = List.of(
+                    single("ORDER-511", 2, false), single("ORDER-512", 5, true), single("ORDER-513", 1, false));
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 8)).willReturn(Optional.empty());
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 2))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 97)));
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 5)).willReturn(Optional.empty());
+            given(inventoryRepository.reserve(TEST_PRODUCT_ID, TEST_HUB_ID, 1))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 98)));
+            given(inventoryRepository.findSnapshots(anyCollection()))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 98)));
+
+            // when
+            List<ReservationInfo> results = inventoryService.reserveCombined(commands);
+
+            // then
+            assertThat(results).extracting(ReservationInfo::isAllSuccess).containsExactly(true, false, true);
+            ReservationInfo.ReservedItemInfo failed = results.get(1).getReservedItems().get(0);
+            assertThat(failed.getShortfallQuantity()).isEqualTo(3);
+            assertThat(results.get(1).getReservationId()).isNull();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<StockReservation>> ledger = ArgumentCaptor.forClass(List.class);
+            verify(stockReservationRepository).saveAll(ledger.capture());
+            assertThat(ledger.getValue()).extracting(StockReservation::getOrderId)
+                    .containsExactly("ORDER-511", "ORDER-513");
         }
     }
 
@@ -385,6 +1014,23 @@ class InventoryServiceTest {
                     .isInstanceOf(InventoryException.class)
                     .hasFieldOrPropertyWithValue("errorCode", InventoryErrorCode.CANNOT_RELEASE_MORE_THAN_RESERVED);
         }
+
+        @Test
+        @DisplayName("주문의 원장 라인으로 해제됐으면 카운터를 직접 변경하지 않음")
+        void releaseReservation_SettledByLedger() {
+            // given
+            given(reservationSettlementService.releaseLedgerLines(TEST_PRODUCT_ID, TEST_HUB_ID, 30, "ORDER-001"))
+                    .willReturn(true);
+            given(inventoryRepository.findByProductIdAndHubId(TEST_PRODUCT_ID, TEST_HUB_ID))
+                    .willReturn(Optional.of(testInventory));
+
+            // when
+            inventoryService.releaseReservation(TEST_PRODUCT_ID, TEST_HUB_ID, 30, "ORDER-001");
+
+            // then
+            verify(inventoryRepository, never()).save(any(Inventory.class));
+            verify(eventPublisher, never()).publishStockRestored(any(StockRestoredEventData.class));
+        }
     }
 
     @Nested
@@ -436,6 +1082,23 @@ class InventoryServiceTest {
             // then
             verify(eventPublisher).publishInventoryLowStock(any(Inventory.class));
         }
+
+        @Test
+        @DisplayName("주문의 원장 라인으로 확정됐으면 카운터를 직접 변경하지 않음")
+        void confirmShipment_SettledByLedger() {
+            // given
+            given(reservationSettlementService.confirmLedgerLines(TEST_PRODUCT_ID, TEST_HUB_ID, 30, "ORDER-001"))
+                    .willReturn(true);
+            given(inventoryRepository.findByProductIdAndHubId(TEST_PRODUCT_ID, TEST_HUB_ID))
+                    .willReturn(Optional.of(testInventory));
+
+            // when
+            inventoryService.confirmShipment(TEST_PRODUCT_ID, TEST_HUB_ID, 30, "ORDER-001");
+
+            // then
+            verify(inventoryRepository, never()).save(any(Inventory.class));
+            verify(eventPublisher, never()).publishStockDecreased(any(StockDecreasedEventData.class));
+        }
     }
 
     @Nested
@@ -446,8 +1109,8 @@ class InventoryServiceTest {
         @DisplayName("재고 가용성 확인 성공")
         void checkAvailability_Success() {
             // given
-            given(inventoryRepository.findByProductIdAndHubId(TEST_PRODUCT_ID, TEST_HUB_ID))
-                    .willReturn(Optional.of(testInventory));
+            given(inventoryRepository.findSnapshots(List.of(InventoryKey.of(TEST_PRODUCT_ID, TEST_HUB_ID))))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0)));
 
             // when
             AvailabilityInfo result = inventoryService.checkAvailability(TEST_PRODUCT_ID, TEST_HUB_ID);
@@ -465,8 +1128,8 @@ class InventoryServiceTest {
         @DisplayName("재고 없는 경우 가용성 false")
         void checkAvailability_NotAvailable() {
             // given
-            given(inventoryRepository.findByProductIdAndHubId(TEST_PRODUCT_ID, TEST_HUB_ID))
-                    .willReturn(Optional.empty());
+            given(inventoryRepository.findSnapshots(List.of(InventoryKey.of(TEST_PRODUCT_ID, TEST_HUB_ID))))
+                    .willReturn(List.of());
 
             // when
             AvailabilityInfo result = inventoryService.checkAvailability(TEST_PRODUCT_ID, TEST_HUB_ID);
@@ -477,19 +1140,53 @@ class InventoryServiceTest {
             assertThat(result.getError()).isNotNull();
         }
 
+        @Test
+        @DisplayName("두 번째 조회는 캐시에서 응답")
+        void checkAvailability_CacheHit() {
+            // given
+            given(inventoryRepository.findSnapshots(List.of(InventoryKey.of(TEST_PRODUCT_ID, TEST_HUB_ID))))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0)));
+
+            // when
+            inventoryService.checkAvailability(TEST_PRODUCT_ID, TEST_HUB_ID);
+            AvailabilityInfo result = inventoryService.checkAvailability(TEST_PRODUCT_ID, TEST_HUB_ID);
+
+            // then
+            assertThat(result.getAvailableQuantity()).isEqualTo(100);
+            verify(inventoryRepository, times(1)).findSnapshots(anyCollection());
+        }
+
+        @Test
+        @DisplayName("재입고 후에는 캐시가 무효화되어 다시 조회")
+        void checkAvailability_EvictedAfterRestock() {
+            // given
+            given(inventoryRepository.findSnapshots(List.of(InventoryKey.of(TEST_PRODUCT_ID, TEST_HUB_ID))))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0)))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 150, 0)));
+            given(inventoryRepository.findByProductIdAndHubId(TEST_PRODUCT_ID, TEST_HUB_ID))
+                    .willReturn(Optional.of(testInventory));
+            given(inventoryRepository.save(any(Inventory.class)))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+
+            inventoryService.checkAvailability(TEST_PRODUCT_ID, TEST_HUB_ID);
+
+            // when
+            inventoryService.restock(RestockCommand.builder()
+                    .productId(TEST_PRODUCT_ID)
+                    .hubId(TEST_HUB_ID)
+                    .quantity(50)
+                    .build());
+            AvailabilityInfo result = inventoryService.checkAvailability(TEST_PRODUCT_ID, TEST_HUB_ID);
+
+            // then
+            assertThat(result.getAvailableQuantity()).isEqualTo(150);
+            verify(inventoryRepository, times(2)).findSnapshots(anyCollection());
+        }
+
         @Test
         @DisplayName("대량 재고 확인 - 모두 가용")
         void checkBulkAvailability_AllAvailable() {
             // given
-            Inventory inventory2 = Inventory.create(
-                    "INV-002",
-                    "PROD-002",
-                    TEST_HUB_ID,
-                    100,
-                    10,
-                    "A-2-1"
-            );
-
             BulkCheckCommand command = BulkCheckCommand.builder()
                     .hubId(TEST_HUB_ID)
                     .items(List.of(
@@ -504,10 +1201,10 @@ class InventoryServiceTest {
                     ))
                     .build();
 
-            given(inventoryRepository.findByProductIdAndHubId(TEST_PRODUCT_ID, TEST_HUB_ID))
-                    .willReturn(Optional.of(testInventory));
-            given(inventoryRepository.findByProductIdAndHubId("PROD-002", TEST_HUB_ID))
-                    .willReturn(Optional.of(inventory2));
+            given(inventoryRepository.findSnapshotsByHub(TEST_HUB_ID, List.of(TEST_PRODUCT_ID, "PROD-002")))
+                    .willReturn(List.of(
+                            snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0),
+                            snapshot("INV-002", "PROD-002", 100, 0)));
 
             // when
             BulkAvailabilityInfo result = inventoryService.checkBulkAvailability(command);
@@ -537,10 +1234,8 @@ class InventoryServiceTest {
                     ))
                     .build();
 
-            given(inventoryRepository.findByProductIdAndHubId(TEST_PRODUCT_ID, TEST_HUB_ID))
-                    .willReturn(Optional.of(testInventory));
-            given(inventoryRepository.findByProductIdAndHubId("PROD-NOT-EXIST", TEST_HUB_ID))
-                    .willReturn(Optional.empty());
+            given(inventoryRepository.findSnapshotsByHub(TEST_HUB_ID, List.of(TEST_PRODUCT_ID, "PROD-NOT-EXIST")))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0)));
 
             // when
             BulkAvailabilityInfo result = inventoryService.checkBulkAvailability(command);
@@ -551,6 +1246,39 @@ class InventoryServiceTest {
             assertThat(result.getResults().get(0).isAvailable()).isTrue();
             assertThat(result.getResults().get(1).isAvailable()).isFalse();
         }
+
+        @Test
+        @DisplayName("대량 재고 확인 - 캐시에 있는 상품은 조회 대상에서 제외")
+        void checkBulkAvailability_QueriesOnlyCacheMisses() {
+            // given
+            availabilityCache.put(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0));
+
+            BulkCheckCommand command = BulkCheckCommand.builder()
+                    .hubId(TEST_HUB_ID)
+                    .items(List.of(
+                            BulkCheckCommand.CheckItem.builder()
+                                    .productId(TEST_PRODUCT_ID)
+                                    .quantity(30)
+                                    .build(),
+                            BulkCheckCommand.CheckItem.builder()
+                                    .productId("PROD-002")
+                                    .quantity(50)
+                                    .build()
+                    ))
+                    .build();
+
+            given(inventoryRepository.findSnapshotsByHub(TEST_HUB_ID, List.of("PROD-002")))
+                    .willReturn(List.of(snapshot("INV-002", "PROD-002", 40, 0)));
+
+            // when
+            BulkAvailabilityInfo result = inventoryService.checkBulkAvailability(command);
+
+            // then
+            assertThat(result.isAllAvailable()).isFalse();
+            assertThat(result.getResults().get(0).isAvailable()).isTrue();
+            assertThat(result.getResults().get(1).getAvailableQuantity()).isEqualTo(40);
+            verify(inventoryRepository, never()).findSnapshots(anyCollection());
+        }
     }
 
     @Nested
@@ -573,6 +1301,25 @@ class InventoryServiceTest {
             assertThat(result.getProductId()).isEqualTo(TEST_PRODUCT_ID);
         }
 
+        @Test
+        @DisplayName("샤드·플래시 배정분이 있는 재고는 유효 예약 수량으로 조회")
+        void getInventory_ReturnsEffectiveReserved() {
+            // given - 부모 예약 100 중 고객 예약 20 (나머지는 미예약 배정분)
+            testInventory.reserve(100);
+            given(inventoryRepository.findById(TEST_INVENTORY_ID))
+                    .willReturn(Optional.of(testInventory));
+            given(inventoryRepository.findSnapshots(List.of(InventoryKey.of(TEST_PRODUCT_ID, TEST_HUB_ID))))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 20)));
+
+            // when
+            Inventory result = inventoryService.getInventory(TEST_INVENTORY_ID);
+
+            // then
+            assertThat(result.getReservedQuantityValue()).isEqualTo(20);
+            assertThat(result.getAvailableQuantityValue()).isEqualTo(80);
+            assertThat(result.isOutOfStock()).isFalse();
+        }
+
         @Test
         @DisplayName("상품-허브 조합으로 재고 조회 성공")
         void getInventoryByProductAndHub_Success() {
@@ -624,6 +1371,8 @@ class InventoryServiceTest {
 
             given(inventoryRepository.findById(TEST_INVENTORY_ID))
                     .willReturn(Optional.of(testInventory));
+            given(inventoryRepository.findSnapshots(List.of(InventoryKey.of(TEST_PRODUCT_ID, TEST_HUB_ID))))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0)));
             given(inventoryRepository.save(any(Inventory.class)))
                     .willAnswer(invocation -> invocation.getArgument(0));
 
@@ -632,6 +1381,90 @@ class InventoryServiceTest {
 
             // then
             assertThat(result.getQuantityInHub().getValue()).isEqualTo(150); // 100 + 50
+            verify(inventoryShardRepository, never()).rebalance(anyString());
+        }
+
+        @Test
+        @DisplayName("샤드 배정분 아래로 조정 - 유효 예약 수량 기준으로 허용하고 샤드 재분배")
+        void adjustInventory_BelowShardAllotment_Rebalances() {
+            // given - 100 전부 샤드에 배정 (부모 예약 100, 고객 예약 0)
+            testInventory.reserve(100);
+            AdjustCommand command = AdjustCommand.builder()
+                    .adjustmentQuantity(-30)
+                    .reason("실사 후 조정")
+                    .build();
+
+            given(inventoryRepository.findById(TEST_INVENTORY_ID))
+                    .willReturn(Optional.of(testInventory));
+            given(inventoryRepository.findSnapshots(List.of(InventoryKey.of(TEST_PRODUCT_ID, TEST_HUB_ID))))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0)));
+            given(inventoryRepository.save(any(Inventory.class)))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(inventoryShardRepository.rebalance(TEST_INVENTORY_ID))
+                    .willReturn(Optional.of(InventoryShardLayout.builder()
+                            .inventoryId(TEST_INVENTORY_ID)
+                            .productId(TEST_PRODUCT_ID)
+                            .hubId(TEST_HUB_ID)
+                            .shardCount(2)
+                            .parentAvailable(0)
+                            .shards(List.of())
+                            .build()));
+
+            // when
+            Inventory result = inventoryService.adjustInventory(TEST_INVENTORY_ID, command);
+
+            // then
+            assertThat(result.getQuantityInHubValue()).isEqualTo(70);
+            verify(inventoryShardRepository).rebalance(TEST_INVENTORY_ID);
+        }
+
+        @Test
+        @DisplayName("고객 예약 수량 아래로 조정 시 예외 발생")
+        void adjustInventory_BelowCommittedReserved_ThrowsException() {
+            // given - 부모 예약 100 중 고객 예약 40
+            testInventory.reserve(100);
+            AdjustCommand command = AdjustCommand.builder()
+                    .adjustmentQuantity(-70)
+                    .reason("실사 후 조정")
+                    .build();
+
+            given(inventoryRepository.findById(TEST_INVENTORY_ID))
+                    .willReturn(Optional.of(testInventory));
+            given(inventoryRepository.findSnapshots(List.of(InventoryKey.of(TEST_PRODUCT_ID, TEST_HUB_ID))))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 40)));
+
+            // when & then
+            assertThatThrownBy(() -> inventoryService.adjustInventory(TEST_INVENTORY_ID, command))
+                    .isInstanceOf(InventoryException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", InventoryErrorCode.NEGATIVE_STOCK_NOT_ALLOWED);
+            verify(inventoryRepository, never()).save(any(Inventory.class));
+        }
+
+        @Test
+        @DisplayName("플래시 세일 배정분 아래로 조정 시 예외 발생")
+        void adjustInventory_BelowFlashAllotment_ThrowsException() {
+            // given - 100 전부 플래시 카운터에 배정
+            testInventory.reserve(100);
+            AdjustCommand command = AdjustCommand.builder()
+                    .adjustmentQuantity(-30)
+                    .reason("실사 후 조정")
+                    .build();
+
+            given(inventoryRepository.findById(TEST_INVENTORY_ID))
+                    .willReturn(Optional.of(testInventory));
+            given(inventoryRepository.findSnapshots(List.of(InventoryKey.of(TEST_PRODUCT_ID, TEST_HUB_ID))))
+                    .willReturn(List.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0)));
+            given(flashSaleRepository.findByInventoryId(TEST_INVENTORY_ID))
+                    .willReturn(Optional.of(FlashSaleState.builder()
+                            .inventoryId(TEST_INVENTORY_ID)
+                            .allottedQuantity(100)
+                            .build()));
+
+            // when & then
+            assertThatThrownBy(() -> inventoryService.adjustInventory(TEST_INVENTORY_ID, command))
+                    .isInstanceOf(InventoryException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", InventoryErrorCode.FLASH_SALE_CONFLICT);
+            verify(inventoryRepository, never()).save(any(Inventory.class));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,396 @@
+package com.early_express.inventory_service.domain.inventory.application.service;
+
+import com.early_express.inventory_service.domain.inventory.application.cache.AvailabilityCache;
+import com.early_express.inventory_service.domain.inventory.application.dto.result.ReservationSettlementInfo;
+import com.early_express.inventory_service.domain.inventory.application.reservation.ReservationExpiryTracker;
+import com.early_express.inventory_service.domain.inventory.application.shard.ShardedInventoryRegistry;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryErrorCode;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryException;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.InventoryEventPublisher;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.StockDecreasedEventData;
+import com.early_express.inventory_service.domain.inventory.domain.messaging.dto.StockRestoredEventData;
+import com.early_express.inventory_service.domain.inventory.domain.model.StockReservation;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.ReservationStatus;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryShardRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.StockReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ReservationSettlementService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationSettlementService 테스트")
+class ReservationSettlementServiceTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private InventoryShardRepository inventoryShardRepository;
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private ShardedInventoryRegistry shardedInventoryRegistry;
+
+    @Mock
+    private ReservationExpiryTracker reservationExpiryTracker;
+
+    @Mock
+    private InventoryEventPublisher eventPublisher;
+
+    @Spy
+    private AvailabilityCache availabilityCache =
+            new AvailabilityCache(new SimpleMeterRegistry(), Optional.empty(), 1_000, 60_000);
+
+    @InjectMocks
+    private ReservationSettlementService reservationSettlementService;
+
+    private static final String TEST_INVENTORY_ID = "INV-001";
+    private static final String TEST_PRODUCT_ID = "PROD-001";
+    private static final String TEST_HUB_ID = "HUB-SEOUL";
+    private static final String RESERVATION_ID = "RSV-001";
+    private static final String ORDER_ID = "ORDER-201";
+
+    private StockSnapshot snapshot(String inventoryId, String productId, int total, int reserved) {
+        return StockSnapshot.builder()
+                .inventoryId(inventoryId)
+                .productId(productId)
+                .hubId(TEST_HUB_ID)
+                .quantityInHub(total)
+                .reservedQuantity(reserved)
+                .safetyStock(10)
+                .version(1L)
+                .build();
+    }
+
+    private StockReservation line(String lineId, String productId, Integer shardNo, int quantity, ReservationStatus status) {
+        return StockReservation.reconstruct(
+                lineId, RESERVATION_ID, ORDER_ID, productId.equals(TEST_PRODUCT_ID) ? TEST_INVENTORY_ID : "INV-" + productId,
+                productId, TEST_HUB_ID, shardNo, quantity, status, LocalDateTime.now().plusMinutes(30), LocalDateTime.now());
+    }
+
+    private StockReservation line(String lineId, String productId, int quantity, ReservationStatus status) {
+        return line(lineId, productId, null, quantity, status);
+    }
+
+    @Nested
+    @DisplayName("예약 원장 기반 해제/확정 테스트")
+    class ReservationLedgerTest {
+
+        @Test
+        @DisplayName("예약 ID로 해제 - 모든 라인의 예약 수량 복원 후 상태 일괄 변경")
+        void releaseReservationById_Success() {
+            // given
+            List<StockReservation> lines = List.of(
+                    line("L-1", TEST_PRODUCT_ID, 30, ReservationStatus.RESERVED),
+                    line("L-2", "PROD-002", 20, ReservationStatus.RESERVED));
+            given(stockReservationRepository.findActiveByReservationIdForUpdate(RESERVATION_ID)).willReturn(lines);
+            given(inventoryRepository.release(TEST_PRODUCT_ID, TEST_HUB_ID, 30))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0)));
+            given(inventoryRepository.release("PROD-002", TEST_HUB_ID, 20))
+                    .willReturn(Optional.of(snapshot("INV-002", "PROD-002", 100, 0)));
+
+            // when
+            ReservationSettlementInfo result = reservationSettlementService.releaseReservationById(RESERVATION_ID);
+
+            // then
+            assertThat(result.isAlreadySettled()).isFalse();
+            assertThat(result.getOrderId()).isEqualTo(ORDER_ID);
+            assertThat(result.getLines()).extracting(ReservationSettlementInfo.SettledLine::getStatus)
+                    .containsOnly(ReservationStatus.RELEASED);
+            verify(stockReservationRepository).updateStatus(List.of("L-1", "L-2"), ReservationStatus.RELEASED);
+            verify(eventPublisher, times(2)).publishStockRestored(any(StockRestoredEventData.class));
+            verify(inventoryRepository, never()).findByProductIdAndHubId(anyString(), anyString());
+            verify(reservationExpiryTracker).untrack(Set.of(RESERVATION_ID));
+        }
+
+        @Test
+        @DisplayName("이미 해제된 예약을 다시 해제하면 변경 없이 현재 상태 반환 (멱등)")
+        void releaseReservationById_AlreadyReleased() {
+            // given
+            given(stockReservationRepository.findActiveByReservationIdForUpdate(RESERVATION_ID)).willReturn(List.of());
+            given(stockReservationRepository.findByReservationId(RESERVATION_ID))
+                    .willReturn(List.of(line("L-1", TEST_PRODUCT_ID, 30, ReservationStatus.RELEASED)));
+
+            // when
+            ReservationSettlementInfo result = reservationSettlementService.releaseReservationById(RESERVATION_ID);
+
+            // then
+            assertThat(result.isAlreadySettled()).isTrue();
+            assertThat(result.getLines()).singleElement()
+                    .extracting(ReservationSettlementInfo.SettledLine::getStatus)
+                    .isEqualTo(ReservationStatus.RELEASED);
+            verify(inventoryRepository, never()).release(anyString(), anyString(), anyInt());
+            verify(stockReservationRepository, never()).updateStatus(anyCollection(), any());
+            verify(eventPublisher, never()).publishStockRestored(any(StockRestoredEventData.class));
+        }
+
+        @Test
+        @DisplayName("원장에 없는 예약 ID면 예외 발생")
+        void releaseReservationById_NotFound() {
+            // given
+            given(stockReservationRepository.findActiveByReservationIdForUpdate("UNKNOWN")).willReturn(List.of());
+            given(stockReservationRepository.findByReservationId("UNKNOWN")).willReturn(List.of());
+
+            // when & then
+            assertThatThrownBy(() -> reservationSettlementService.releaseReservationById("UNKNOWN"))
+                    .isInstanceOf(InventoryException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", InventoryErrorCode.RESERVATION_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("주문 ID로 출고 확정 - 라인별 조건부 UPDATE 후 StockDecreased 이벤트 발행")
+        void confirmReservationsByOrder_Success() {
+            // given
+            given(stockReservationRepository.findActiveByOrderIdForUpdate(ORDER_ID))
+                    .willReturn(List.of(line("L-1", TEST_PRODUCT_ID, 30, ReservationStatus.RESERVED)));
+            given(inventoryRepository.confirm(TEST_PRODUCT_ID, TEST_HUB_ID, 30))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 70, 0)));
+
+            // when
+            ReservationSettlementInfo result = reservationSettlementService.confirmReservationsByOrder(ORDER_ID);
+
+            // then
+            assertThat(result.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+            assertThat(result.getLines()).hasSize(1);
+            verify(stockReservationRepository).updateStatus(List.of("L-1"), ReservationStatus.CONFIRMED);
+            verify(eventPublisher).publishStockDecreased(any(StockDecreasedEventData.class));
+        }
+
+        @Test
+        @DisplayName("카운터의 예약 수량이 원장보다 적으면 확정 실패")
+        void confirmReservationById_CounterMismatch() {
+            // given
+            given(stockReservationRepository.findActiveByReservationIdForUpdate(RESERVATION_ID))
+                    .willReturn(List.of(line("L-1", TEST_PRODUCT_ID, 30, ReservationStatus.RESERVED)));
+            given(inventoryRepository.confirm(TEST_PRODUCT_ID, TEST_HUB_ID, 30)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> reservationSettlementService.confirmReservationById(RESERVATION_ID))
+                    .isInstanceOf(InventoryException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", InventoryErrorCode.CANNOT_RELEASE_MORE_THAN_RESERVED);
+            verify(stockReservationRepository, never()).updateStatus(anyCollection(), any());
+        }
+
+        @Test
+        @DisplayName("샤드 라인 해제 - 원장의 샤드 번호로 샤드 행 예약 수량 복원")
+        void releaseReservation_OnShard() {
+            // given
+            given(stockReservationRepository.findActiveByReservationIdForUpdate(RESERVATION_ID))
+                    .willReturn(List.of(line("L-1", TEST_PRODUCT_ID, 2, 5, ReservationStatus.RESERVED)));
+            given(inventoryShardRepository.release(TEST_INVENTORY_ID, 2, 5))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0).toBuilder()
+                            .shardNo(2)
+                            .build()));
+
+            // when
+            reservationSettlementService.releaseReservationById(RESERVATION_ID);
+
+            // then
+            verify(inventoryRepository, never()).release(anyString(), anyString(), anyInt());
+            verify(stockReservationRepository).updateStatus(List.of("L-1"), ReservationStatus.RELEASED);
+        }
+
+        @Test
+        @DisplayName("재분배로 샤드가 사라졌으면 부모 행에서 출고 확정")
+        void confirmReservation_ShardRemovedFallsBackToParent() {
+            // given
+            given(stockReservationRepository.findActiveByReservationIdForUpdate(RESERVATION_ID))
+                    .willReturn(List.of(line("L-1", TEST_PRODUCT_ID, 7, 5, ReservationStatus.RESERVED)));
+            given(inventoryShardRepository.confirm(TEST_INVENTORY_ID, 7, 5)).willReturn(Optional.empty());
+            given(inventoryRepository.confirm(TEST_PRODUCT_ID, TEST_HUB_ID, 5))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 95, 0)));
+
+            // when
+            ReservationSettlementInfo result = reservationSettlementService.confirmReservationById(RESERVATION_ID);
+
+            // then
+            assertThat(result.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+            verify(eventPublisher).publishStockDecreased(any(StockDecreasedEventData.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("예약 만료 테스트")
+    class ExpireReservationsTest {
+
+        @Test
+        @DisplayName("만료 처리 - 만료된 라인의 예약 수량을 복원하고 EXPIRED로 변경")
+        void expireReservations_Success() {
+            // given
+            given(stockReservationRepository.findExpiredForUpdate(eq(List.of(RESERVATION_ID)), any(LocalDateTime.class)))
+                    .willReturn(List.of(line("L-1", TEST_PRODUCT_ID, 30, ReservationStatus.RESERVED)));
+            given(inventoryRepository.release(TEST_PRODUCT_ID, TEST_HUB_ID, 30))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0)));
+
+            // when
+            int expired = reservationSettlementService.expireReservations(List.of(RESERVATION_ID));
+
+            // then
+            assertThat(expired).isEqualTo(1);
+            verify(stockReservationRepository).updateStatus(List.of("L-1"), ReservationStatus.EXPIRED);
+            verify(eventPublisher).publishStockRestored(any(StockRestoredEventData.class));
+        }
+
+        @Test
+        @DisplayName("만료 처리 - 카운터 예약 수량이 부족한 라인은 카운터 변경 없이 원장만 정리")
+        void expireReservations_CounterMismatchIsSkipped() {
+            // given
+            given(stockReservationRepository.findExpiredForUpdate(anyCollection(), any(LocalDateTime.class)))
+                    .willReturn(List.of(
+                            line("L-1", TEST_PRODUCT_ID, 30, ReservationStatus.RESERVED),
+                            line("L-2", "PROD-002", 20, ReservationStatus.RESERVED)));
+            given(inventoryRepository.release(TEST_PRODUCT_ID, TEST_HUB_ID, 30)).willReturn(Optional.empty());
+            given(inventoryRepository.release("PROD-002", TEST_HUB_ID, 20))
+                    .willReturn(Optional.of(snapshot("INV-002", "PROD-002", 100, 0)));
+
+            // when
+            reservationSettlementService.expireReservations(List.of(RESERVATION_ID));
+
+            // then
+            verify(stockReservationRepository).updateStatus(List.of("L-1", "L-2"), ReservationStatus.EXPIRED);
+            verify(eventPublisher, times(1)).publishStockRestored(any(StockRestoredEventData.class));
+        }
+
+        @Test
+        @DisplayName("만료 처리 - 이미 처리된 예약이면 아무것도 하지 않는다")
+        void expireReservations_NothingToExpire() {
+            // given
+            given(stockReservationRepository.findExpiredForUpdate(anyCollection(), any(LocalDateTime.class)))
+                    .willReturn(List.of());
+
+            // when
+            int expired = reservationSettlementService.expireReservations(List.of(RESERVATION_ID));
+
+            // then
+            assertThat(expired).isZero();
+            verify(inventoryRepository, never()).release(anyString(), anyString(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("라인 단위 API 원장 경로 테스트")
+    class LedgerLinesTest {
+
+        @Test
+        @DisplayName("주문의 원장 라인이 있으면 원장 경로로 해제 (샤드 라인은 샤드 행 복원)")
+        void releaseLedgerLines_SettlesLedgerLines() {
+            // given
+            given(stockReservationRepository.findActiveByOrderIdForUpdate(ORDER_ID))
+                    .willReturn(List.of(line("L-1", TEST_PRODUCT_ID, 2, 30, ReservationStatus.RESERVED)));
+            given(inventoryShardRepository.release(TEST_INVENTORY_ID, 2, 30))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 100, 0)));
+
+            // when
+            boolean settled = reservationSettlementService.releaseLedgerLines(TEST_PRODUCT_ID, TEST_HUB_ID, 30, ORDER_ID);
+
+            // then
+            assertThat(settled).isTrue();
+            verify(stockReservationRepository).updateStatus(List.of("L-1"), ReservationStatus.RELEASED);
+            verify(reservationExpiryTracker).untrack(Set.of(RESERVATION_ID));
+            verify(eventPublisher).publishStockRestored(any(StockRestoredEventData.class));
+            verify(inventoryRepository, never()).release(anyString(), anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("요청 수량이 원장 라인 합계와 다르면 예외 (부분 해제 불가)")
+        void releaseLedgerLines_QuantityMismatch() {
+            // given
+            given(stockReservationRepository.findActiveByOrderIdForUpdate(ORDER_ID))
+                    .willReturn(List.of(line("L-1", TEST_PRODUCT_ID, 30, ReservationStatus.RESERVED)));
+
+            // when & then
+            assertThatThrownBy(() -> reservationSettlementService.releaseLedgerLines(TEST_PRODUCT_ID, TEST_HUB_ID, 10, ORDER_ID))
+                    .isInstanceOf(InventoryException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", InventoryErrorCode.INVALID_RESERVED_QUANTITY);
+            verify(stockReservationRepository, never()).updateStatus(anyCollection(), any());
+        }
+
+        @Test
+        @DisplayName("원장 라인이 이미 만료됐으면 카운터를 다시 변경하지 않음 (멱등)")
+        void releaseLedgerLines_AlreadySettled() {
+            // given
+            given(stockReservationRepository.findActiveByOrderIdForUpdate(ORDER_ID)).willReturn(List.of());
+            given(stockReservationRepository.findByOrderId(ORDER_ID))
+                    .willReturn(List.of(line("L-1", TEST_PRODUCT_ID, 30, ReservationStatus.EXPIRED)));
+
+            // when
+            boolean settled = reservationSettlementService.releaseLedgerLines(TEST_PRODUCT_ID, TEST_HUB_ID, 30, ORDER_ID);
+
+            // then
+            assertThat(settled).isTrue();
+            verify(inventoryRepository, never()).release(anyString(), anyString(), anyInt());
+            verify(eventPublisher, never()).publishStockRestored(any(StockRestoredEventData.class));
+        }
+
+        @Test
+        @DisplayName("원장 라인이 없으면 카운터 직접 변경 대상으로 반환")
+        void releaseLedgerLines_NoLedger() {
+            // given
+            given(stockReservationRepository.findActiveByOrderIdForUpdate(ORDER_ID)).willReturn(List.of());
+            given(stockReservationRepository.findByOrderId(ORDER_ID)).willReturn(List.of());
+
+            // when
+            boolean settled = reservationSettlementService.releaseLedgerLines(TEST_PRODUCT_ID, TEST_HUB_ID, 30, ORDER_ID);
+
+            // then
+            assertThat(settled).isFalse();
+            verify(stockReservationRepository, never()).updateStatus(anyCollection(), any());
+        }
+
+        @Test
+        @DisplayName("주문의 원장 라인이 있으면 원장 경로로 확정")
+        void confirmLedgerLines_SettlesLedgerLines() {
+            // given
+            given(stockReservationRepository.findActiveByOrderIdForUpdate(ORDER_ID))
+                    .willReturn(List.of(line("L-1", TEST_PRODUCT_ID, 30, ReservationStatus.RESERVED)));
+            given(inventoryRepository.confirm(TEST_PRODUCT_ID, TEST_HUB_ID, 30))
+                    .willReturn(Optional.of(snapshot(TEST_INVENTORY_ID, TEST_PRODUCT_ID, 70, 0)));
+
+            // when
+            boolean settled = reservationSettlementService.confirmLedgerLines(TEST_PRODUCT_ID, TEST_HUB_ID, 30, ORDER_ID);
+
+            // then
+            assertThat(settled).isTrue();
+            verify(stockReservationRepository).updateStatus(List.of("L-1"), ReservationStatus.CONFIRMED);
+            verify(reservationExpiryTracker).untrack(Set.of(RESERVATION_ID));
+            verify(eventPublisher).publishStockDecreased(any(StockDecreasedEventData.class));
+        }
+
+        @Test
+        @DisplayName("샤드 모드 재고는 원장 라인 없이 확정할 수 없음 (부모 예약 수량 직접 차감 방지)")
+        void confirmLedgerLines_ShardedWithoutLedgerRejected() {
+            // given
+            given(shardedInventoryRegistry.isSharded(InventoryKey.of(TEST_PRODUCT_ID, TEST_HUB_ID))).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> reservationSettlementService.confirmLedgerLines(TEST_PRODUCT_ID, TEST_HUB_ID, 30, ORDER_ID))
+                    .isInstanceOf(InventoryException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", InventoryErrorCode.RESERVATION_NOT_FOUND);
+            verify(inventoryRepository, never()).confirm(anyString(), anyString(), anyInt());
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.early_express.inventory_service.domain.inventory.application.service;
+
+import com.early_express.inventory_service.domain.inventory.application.dto.command.AdjustCommand;
+import com.early_express.inventory_service.domain.inventory.application.dto.command.ReservationCommand;
+import com.early_express.inventory_service.domain.inventory.application.dto.result.ReservationInfo;
+import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryShardLayout;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryRepository;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryShardRepository;
+import com.early_express.inventory_service.global.common.utils.UuidUtils;
+import com.early_express.inventory_service.global.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 샤드 재고 예약 PostgreSQL 통합 테스트
+ * - 샤드 불변식: 부모 예약 수량 = 고객 예약 수량(부모 + 샤드) + 샤드 미예약 배정 수량
+ * - 샤드 → 부모 행 폴백, 샤드 경유 출고 확정, 배정분 아래로의 재고 조정 검증
+ * - 샤드 레지스트리는 컨텍스트 공유 싱글턴이므로 테스트마다 다른 상품 ID 사용
+ */
+@Transactional
+@DisplayName("샤드 재고 예약 PostgreSQL 통합 테스트")
+class ShardedReservationPostgresTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private ReservationSettlementService reservationSettlementService;
+
+    @Autowired
+    private InventoryShardService inventoryShardService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryShardRepository inventoryShardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("샤드 수 변경 - 부모 예약 수량은 고객 예약 수량 + 샤드 미예약 배정 수량을 유지")
+    void reshard_keepsParentReservedInvariant() {
+        // given - 전체 100, 부모 행 예약 10
+        Inventory inventory = createInventory("PROD-SHARD-001", 100);
+        inventoryRepository.reserve("PROD-SHARD-001", "HUB-SEOUL", 10);
+
+        // when - 4개 샤드로 분할
+        InventoryShardLayout four = inventoryShardService.updateShardCount(inventory.getInventoryId(), 4);
+
+        // then - 가용 90을 균등 배정, 부모 예약 수량 = 10 + 90
+        assertThat(four.getShards())
+                .extracting(InventoryShardLayout.Shard::getAllottedQuantity)
+                .containsExactly(23, 23, 22, 22);
+        assertThat(parentReserved(inventory)).isEqualTo(100);
+        assertInvariant(inventory, 10);
+
+        // when - 샤드 예약 5 후 2개 샤드로 축소
+        assertThat(inventoryShardRepository.reserve("PROD-SHARD-001", "HUB-SEOUL", 5)).isPresent();
+        InventoryShardLayout two = inventoryShardService.updateShardCount(inventory.getInventoryId(), 2);
+
+        // then
+        assertThat(two.getShards()).hasSize(2);
+        assertInvariant(inventory, 15);
+        assertThat(snapshot("PROD-SHARD-001")).satisfies(snapshot -> {
+            assertThat(snapshot.getReservedQuantity()).isEqualTo(15);
+            assertThat(snapshot.getAvailableQuantity()).isEqualTo(85);
+        });
+
+        // when - 일반 재고로 복귀
+        InventoryShardLayout one = inventoryShardService.updateShardCount(inventory.getInventoryId(), 1);
+
+        // then - 샤드 행이 사라지고 고객 예약 수량만 부모 행에 남음
+        assertThat(one.isSharded()).isFalse();
+        assertThat(one.getShards()).isEmpty();
+        assertThat(parentReserved(inventory)).isEqualTo(15);
+        assertThat(snapshot("PROD-SHARD-001").getAvailableQuantity()).isEqualTo(85);
+    }
+
+    @Test
+    @DisplayName("샤드 예약 폴백 - 샤드가 부족하면 부모 행 잔여분으로 예약, 둘 다 부족하면 실패")
+    void reserveStock_fallsBackToParent() {
+        // given - 전체 10을 샤드 5/5로 배정한 뒤 부모 행에 10 입고 (재분배 전)
+        Inventory inventory = createInventory("PROD-SHARD-002", 10);
+        inventoryShardService.updateShardCount(inventory.getInventoryId(), 2);
+        jdbcTemplate.update("UPDATE p_inventories SET quantity_in_hub = 20 WHERE product_id = ?", "PROD-SHARD-002");
+
+        // when
+        ReservationInfo fallback = inventoryService.reserveStock(command("ORDER-SHARD-002-1", "PROD-SHARD-002", 6));
+        ReservationInfo tooMany = inventoryService.reserveStock(command("ORDER-SHARD-002-2", "PROD-SHARD-002", 7));
+
+        // then - 부모 잔여 10에서 6 예약, 남은 부모 4 / 샤드 5로는 7 불가
+        assertThat(fallback.getReservedItems().get(0).isSuccess()).isTrue();
+        assertThat(tooMany.getReservedItems().get(0).isSuccess()).isFalse();
+        assertThat(inventoryShardRepository.findLayout(inventory.getInventoryId()))
+                .hasValueSatisfying(layout -> {
+                    assertThat(layout.getParentAvailable()).isEqualTo(4);
+                    assertThat(layout.getShards())
+                            .allSatisfy(shard -> assertThat(shard.getReservedQuantity()).isZero());
+                });
+        assertInvariant(inventory, 6);
+    }
+
+    @Test
+    @DisplayName("샤드 경유 출고 확정 - 샤드 배정 수량과 부모 행 재고/예약 수량이 함께 감소")
+    void confirmReservation_throughShard() {
+        // given - 전체 100을 샤드 50/50으로 배정 후 30 예약
+        Inventory inventory = createInventory("PROD-SHARD-003", 100);
+        inventoryShardService.updateShardCount(inventory.getInventoryId(), 2);
+        ReservationInfo reservation = inventoryService.reserveStock(command("ORDER-SHARD-003", "PROD-SHARD-003", 30));
+        assertThat(reservation.getReservedItems().get(0).isSuccess()).isTrue();
+
+        // when
+        reservationSettlementService.confirmReservationById(reservation.getReservationId());
+
+        // then
+        InventoryShardLayout layout = inventoryShardRepository.findLayout(inventory.getInventoryId()).orElseThrow();
+        assertThat(layout.getShards().stream().mapToInt(InventoryShardLayout.Shard::getAllottedQuantity).sum())
+                .isEqualTo(70);
+        assertThat(layout.getShards())
+                .allSatisfy(shard -> assertThat(shard.getReservedQuantity()).isZero());
+        assertThat(parentReserved(inventory)).isEqualTo(70);
+        assertThat(snapshot("PROD-SHARD-003")).satisfies(snapshot -> {
+            assertThat(snapshot.getQuantityInHub()).isEqualTo(70);
+            assertThat(snapshot.getReservedQuantity()).isZero();
+            assertThat(snapshot.getAvailableQuantity()).isEqualTo(70);
+        });
+        assertInvariant(inventory, 0);
+    }
+
+    @Test
+    @DisplayName("샤드 배정분 아래로 재고 조정 - 줄어든 재고로 재분배되어 배정 합계가 재고를 넘지 않음")
+    void adjustInventory_belowShardAllotment() {
+        // given - 전체 100을 샤드 50/50으로 배정 후 고객 예약 20
+        Inventory inventory = createInventory("PROD-SHARD-004", 100);
+        inventoryShardService.updateShardCount(inventory.getInventoryId(), 2);
+        inventoryShardRepository.reserve("PROD-SHARD-004", "HUB-SEOUL", 20);
+
+        // when - 실사 결과 40 감소 (부모 예약 100보다 적지만 고객 예약 20보다 많음)
+        inventoryService.adjustInventory(inventory.getInventoryId(), AdjustCommand.builder()
+                .adjustmentQuantity(-40)
+                .reason("실사 후 조정")
+                .build());
+
+        // then
+        InventoryShardLayout layout = inventoryShardRepository.findLayout(inventory.getInventoryId()).orElseThrow();
+        assertThat(layout.getParentAvailable()).isZero();
+        assertThat(layout.getTotalAvailable()).isEqualTo(40);
+        assertInvariant(inventory, 20);
+        assertThat(snapshot("PROD-SHARD-004")).satisfies(snapshot -> {
+            assertThat(snapshot.getQuantityInHub()).isEqualTo(60);
+            assertThat(snapshot.getReservedQuantity()).isEqualTo(20);
+        });
+    }
+
+    /**
+     * 부모 예약 수량 = 고객 예약 수량 - 샤드 예약 수량 합 + 샤드 배정 수량 합
+     * (고객 예약 중 샤드에 잡힌 몫은 배정 수량 안에 들어 있으므로 한 번만 셈)
+     */
+    private void assertInvariant(Inventory inventory, int customerReserved) {
+        InventoryShardLayout layout = inventoryShardRepository.findLayout(inventory.getInventoryId()).orElseThrow();
+        int shardReserved = layout.getShards().stream().mapToInt(InventoryShardLayout.Shard::getReservedQuantity).sum();
+        int shardAllotted = layout.getShards().stream().mapToInt(InventoryShardLayout.Shard::getAllottedQuantity).sum();
+
+        assertThat(parentReserved(inventory)).isEqualTo(customerReserved - shardReserved + shardAllotted);
+    }
+
+    private int parentReserved(Inventory inventory) {
+        return jdbcTemplate.queryForObject(
+                "SELECT reserved_quantity FROM p_inventories WHERE product_id = ? AND hub_id = ?",
+                Integer.class, inventory.getProductId(), inventory.getHubId());
+    }
+
+    private StockSnapshot snapshot(String productId) {
+        return inventoryRepository.findSnapshots(List.of(InventoryKey.of(productId, "HUB-SEOUL"))).get(0);
+    }
+
+    private Inventory createInventory(String productId, int quantity) {
+        Inventory inventory = Inventory.create(UuidUtils.generate(), productId, "HUB-SEOUL", quantity, 0, "A-1-3");
+        return inventoryRepository.createAllIfAbsent(List.of(inventory)).get(0);
+    }
+
+    private ReservationCommand command(String orderId, String productId, int quantity) {
+        return ReservationCommand.builder()
+                .orderId(orderId)
+                .items(List.of(ReservationCommand.ReservationItem.builder()
+                        .productId(productId)
+                        .hubId("HUB-SEOUL")
+                        .quantity(quantity)
+                        .build()))
+                .build();
+    }
+}
@@ -187,6 +187,24 @@ class InventoryTest {
                 .hasMessageContaining("예약된 수량보다");
     }
 
+    @Test
+    @DisplayName("보유 수량보다 많이 출고 확정 시 예외 발생, 카운터는 변경되지 않음")
+    void confirmShipment_exceedsQuantityInHub_throwsException() {
+        // given - 예약 수량이 보유 수량보다 큰 불일치 상태 (외부 변경 등)
+        Inventory inventory = Inventory.reconstruct(
+                "INV-001", "PROD-001", "HUB-SEOUL",
+                20, 30, 10, 10, "A-1-3",
+                null, 0L, null, null, null, null, null, null, false
+        );
+
+        // when & then
+        assertThatThrownBy(() -> inventory.confirmShipment(30))
+                .isInstanceOf(InventoryException.class)
+                .hasFieldOrPropertyWithValue("errorCode", InventoryErrorCode.NEGATIVE_STOCK_NOT_ALLOWED);
+        assertThat(inventory.getQuantityInHubValue()).isEqualTo(20);
+        assertThat(inventory.getReservedQuantityValue()).isEqualTo(30);
+    }
+
     @Test
     @DisplayName("재고 조정")
     void adjust() {
@@ -213,6 +231,37 @@ class InventoryTest {
                 .hasMessageContaining("조정 후 수량은 0 이상이어야 합니다");
     }
 
+    @Test
+    @DisplayName("예약 수량보다 적게 재고 조정 시 예외 발생")
+    void adjust_belowReserved_throwsException() {
+        // given
+        Inventory inventory = createTestInventory();
+        inventory.reserve(30);
+
+        // when & then
+        assertThatThrownBy(() -> inventory.adjust(20, "실사 후 조정"))
+                .isInstanceOf(InventoryException.class)
+                .hasFieldOrPropertyWithValue("errorCode", InventoryErrorCode.NEGATIVE_STOCK_NOT_ALLOWED);
+        assertThat(inventory.getQuantityInHubValue()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("배정분이 포함된 예약 수량 아래로 조정 - 유효 예약 수량 이상이면 허용")
+    void adjust_belowAllotment_aboveCommittedReserved() {
+        // given - 예약 수량 100 중 고객 예약 10 (나머지는 샤드·플래시 미예약 배정분)
+        Inventory inventory = createTestInventory();
+        inventory.reserve(100);
+
+        // when
+        inventory.adjust(60, 10, "실사 후 조정");
+
+        // then
+        assertThat(inventory.getQuantityInHubValue()).isEqualTo(60);
+        assertThatThrownBy(() -> inventory.adjust(5, 10, "실사 후 조정"))
+                .isInstanceOf(InventoryException.class)
+                .hasFieldOrPropertyWithValue("errorCode", InventoryErrorCode.NEGATIVE_STOCK_NOT_ALLOWED);
+    }
+
     @Test
     @DisplayName("안전 재고 설정")
     void setSafetyStock() {
@@ -0,0 +1,89 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AllocationPlan 테스트
+ */
+@DisplayName("AllocationPlan 테스트")
+class AllocationPlanTest {
+
+    private static final String PRODUCT_ID = "PROD-001";
+    private static final List<String> PRIORITY = List.of("HUB-SEOUL", "HUB-BUSAN", "HUB-INCHEON", "HUB-DAEGU");
+
+    private StockSnapshot snapshot(String hubId, int available) {
+        return StockSnapshot.builder()
+                .inventoryId("INV-" + hubId)
+                .productId(PRODUCT_ID)
+                .hubId(hubId)
+                .quantityInHub(available)
+                .reservedQuantity(0)
+                .safetyStock(0)
+                .version(0L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("허브 수가 가장 적은 계획을 선택")
+    void plan_MinimizesHubCount() {
+        // 우선순위가 높은 SEOUL/BUSAN/INCHEON 조합(3개)보다 DAEGU를 포함한 2개 조합을 선택
+        Optional<AllocationPlan> plan = AllocationPlan.plan(PRODUCT_ID, List.of(
+                snapshot("HUB-SEOUL", 40),
+                snapshot("HUB-BUSAN", 30),
+                snapshot("HUB-INCHEON", 30),
+                snapshot("HUB-DAEGU", 70)
+        ), 100, PRIORITY);
+
+        assertThat(plan).isPresent();
+        assertThat(plan.get().getHubCount()).isEqualTo(2);
+        assertThat(plan.get().getAllocations()).containsExactly(
+                HubAllocation.of("HUB-SEOUL", 40),
+                HubAllocation.of("HUB-DAEGU", 60));
+    }
+
+    @Test
+    @DisplayName("허브 수가 같으면 우선순위가 높은 허브 조합을 선택")
+    void plan_PrefersHubPriorityWithinSameHubCount() {
+        Optional<AllocationPlan> plan = AllocationPlan.plan(PRODUCT_ID, List.of(
+                snapshot("HUB-DAEGU", 90),
+                snapshot("HUB-INCHEON", 90),
+                snapshot("HUB-BUSAN", 60),
+                snapshot("HUB-SEOUL", 50)
+        ), 100, PRIORITY);
+
+        assertThat(plan).isPresent();
+        assertThat(plan.get().getAllocations()).containsExactly(
+                HubAllocation.of("HUB-SEOUL", 50),
+                HubAllocation.of("HUB-BUSAN", 50));
+    }
+
+    @Test
+    @DisplayName("단일 허브로 충분하면 분할하지 않음")
+    void plan_SingleHubWhenEnough() {
+        Optional<AllocationPlan> plan = AllocationPlan.plan(PRODUCT_ID, List.of(
+                snapshot("HUB-SEOUL", 10),
+                snapshot("HUB-BUSAN", 200)
+        ), 100, PRIORITY);
+
+        assertThat(plan).isPresent();
+        assertThat(plan.get().isSplit()).isFalse();
+        assertThat(plan.get().getAllocations()).containsExactly(HubAllocation.of("HUB-BUSAN", 100));
+    }
+
+    @Test
+    @DisplayName("전체 허브 합으로도 부족하면 계획 없음")
+    void plan_InsufficientTotal() {
+        Optional<AllocationPlan> plan = AllocationPlan.plan(PRODUCT_ID, List.of(
+                snapshot("HUB-SEOUL", 10),
+                snapshot("HUB-BUSAN", 20)
+        ), 100, PRIORITY);
+
+        assertThat(plan).isEmpty();
+    }
+}
@@ -0,0 +1,71 @@
+package com.early_express.inventory_service.domain.inventory.domain.model.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InventoryShardLayout 테스트
+ */
+@DisplayName("InventoryShardLayout 테스트")
+class InventoryShardLayoutTest {
+
+    private InventoryShardLayout layout(int shardCount, int parentAvailable, int... shardAvailable) {
+        List<InventoryShardLayout.Shard> shards = new ArrayList<>();
+        for (int i = 0; i < shardAvailable.length; i++) {
+            shards.add(InventoryShardLayout.Shard.builder()
+                    .shardNo(i)
+                    .allottedQuantity(shardAvailable[i] + 5)
+                    .reservedQuantity(5)
+                    .build());
+        }
+        return InventoryShardLayout.builder()
+                .inventoryId("INV-001")
+                .productId("PROD-001")
+                .hubId("HUB-SEOUL")
+                .shardCount(shardCount)
+                .parentAvailable(parentAvailable)
+                .shards(shards)
+                .build();
+    }
+
+    @Test
+    @DisplayName("전체 가용 수량은 부모 잔여분과 샤드 미예약 수량의 합")
+    void totalAvailable() {
+        assertThat(layout(3, 4, 10, 10, 9).getTotalAvailable()).isEqualTo(33);
+    }
+
+    @Test
+    @DisplayName("균등하게 배정된 샤드는 재분배하지 않음")
+    void balanced_NoRebalance() {
+        assertThat(layout(4, 0, 25, 25, 24, 24).needsRebalance()).isFalse();
+    }
+
+    @Test
+    @DisplayName("샤드 간 편차가 평균의 절반을 넘으면 재분배")
+    void skewed_NeedsRebalance() {
+        assertThat(layout(4, 0, 40, 30, 25, 3).needsRebalance()).isTrue();
+    }
+
+    @Test
+    @DisplayName("부모 행에 가용 수량이 남아 있으면 재분배 (재입고)")
+    void parentAvailable_NeedsRebalance() {
+        assertThat(layout(2, 50, 10, 10).needsRebalance()).isTrue();
+    }
+
+    @Test
+    @DisplayName("샤드 행 수가 샤드 수와 다르면 재분배")
+    void missingShard_NeedsRebalance() {
+        assertThat(layout(4, 0, 10, 10).needsRebalance()).isTrue();
+    }
+
+    @Test
+    @DisplayName("일반 재고는 재분배 대상이 아님")
+    void notSharded_NoRebalance() {
+        assertThat(layout(1, 50).needsRebalance()).isFalse();
+    }
+}
@@ -175,4 +175,25 @@ class StockQuantityTest {
         assertThat(quantity1).isEqualTo(quantity2);
         assertThat(quantity1.hashCode()).isEqualTo(quantity2.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("작은 수량은 캐시된 인스턴스 재사용, 큰 수량은 새 인스턴스")
+    void of_cachedInstances() {
+        assertThat(StockQuantity.of(100)).isSameAs(StockQuantity.of(100));
+        assertThat(StockQuantity.zero()).isSameAs(StockQuantity.of(0));
+        assertThat(StockQuantity.of(1_000_000)).isEqualTo(StockQuantity.of(1_000_000));
+    }
+
+    @Test
+    @DisplayName("int 비교 - 임시 StockQuantity 없이 비교")
+    void compareWithInt() {
+        // given
+        StockQuantity quantity = StockQuantity.of(100);
+
+        // when & then
+        assertThat(quantity.isLessThan(150)).isTrue();
+        assertThat(quantity.isLessThanOrEqual(100)).isTrue();
+        assertThat(quantity.isGreaterThan(100)).isFalse();
+        assertThat(quantity.isGreaterThanOrEqual(100)).isTrue();
+    }
+}
@@ -0,0 +1,95 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.idempotency;
+
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jdbc.ProcessedEventJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ProcessedEventStore 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessedEventStore 테스트")
+class ProcessedEventStoreTest {
+
+    @Mock
+    private ProcessedEventJdbcRepository processedEventJdbcRepository;
+
+    private ProcessedEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ProcessedEventStore(processedEventJdbcRepository, new SimpleMeterRegistry(), 2);
+        ReflectionTestUtils.setField(store, "retentionHours", 24L);
+        ReflectionTestUtils.setField(store, "pruneBatchSize", 100);
+    }
+
+    @Test
+    @DisplayName("기록한 eventId는 테이블 조회 없이 LRU에서 중복으로 판별된다")
+    void findProcessed_HitsRecentCache() {
+        // given
+        store.markProcessed(List.of("evt-1"), "product-created");
+
+        // when
+        Set<String> processed = store.findProcessed(List.of("evt-1"));
+
+        // then
+        assertThat(processed).containsExactly("evt-1");
+        verify(processedEventJdbcRepository).insertAllIfAbsent(List.of("evt-1"), "product-created");
+        verify(processedEventJdbcRepository, never()).findProcessed(anyCollection());
+    }
+
+    @Test
+    @DisplayName("LRU에 없는 eventId만 테이블에서 한 번에 조회한다")
+    void findProcessed_FallsBackToTable() {
+        // given
+        store.markProcessed(List.of("evt-1"), "product-created");
+        given(processedEventJdbcRepository.findProcessed(List.of("evt-2", "evt-3"))).willReturn(Set.of("evt-3"));
+
+        // when
+        Set<String> processed = store.findProcessed(List.of("evt-1", "evt-2", "evt-3"));
+
+        // then
+        assertThat(processed).containsExactlyInAnyOrder("evt-1", "evt-3");
+        assertThat(store.isProcessed("evt-3")).isTrue();
+        verify(processedEventJdbcRepository, times(1)).findProcessed(anyCollection());
+    }
+
+    @Test
+    @DisplayName("LRU 크기를 넘으면 오래된 eventId는 테이블로 판별한다")
+    void findProcessed_EvictsEldest() {
+        // given
+        store.markProcessed(List.of("evt-1", "evt-2", "evt-3"), "product-created");
+        given(processedEventJdbcRepository.findProcessed(List.of("evt-1"))).willReturn(Set.of("evt-1"));
+
+        // when & then
+        assertThat(store.isProcessed("evt-1")).isTrue();
+        verify(processedEventJdbcRepository).findProcessed(List.of("evt-1"));
+    }
+
+    @Test
+    @DisplayName("만료 기록은 청크가 가득 차지 않을 때까지 반복 삭제한다")
+    void prune_DeletesInChunks() {
+        // given
+        given(processedEventJdbcRepository.deleteProcessedBefore(any(LocalDateTime.class), eq(100)))
+                .willReturn(100, 100, 30);
+
+        // when
+        store.prune();
+
+        // then
+        verify(processedEventJdbcRepository, times(3)).deleteProcessedBefore(any(LocalDateTime.class), eq(100));
+    }
+}
@@ -0,0 +1,224 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.inventory.producer;
+
+import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.inventory.event.InventoryRestockedEvent;
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity.InventoryOutboxEntity;
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.entity.OutboxStatus;
+import com.early_express.inventory_service.domain.inventory.infrastructure.persistence.jpa.InventoryOutboxJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * InventoryOutboxRelay 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryOutboxRelay 테스트")
+class InventoryOutboxRelayTest {
+
+    @Mock
+    private InventoryOutboxJpaRepository outboxJpaRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SendResult<String, Object> sendResult;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private InventoryOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new InventoryOutboxRelay(outboxJpaRepository, kafkaTemplate, objectMapper, transactionManager);
+        ReflectionTestUtils.setField(relay, "batchSize", 500);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 3);
+    }
+
+    private InventoryOutboxEntity outbox(long id, String key) throws Exception {
+        InventoryRestockedEvent event = InventoryRestockedEvent.builder()
+                .productId(key)
+                .hubId("HUB-001")
+                .restockedQuantity(10)
+                .build();
+
+        InventoryOutboxEntity entity = InventoryOutboxEntity.of(
+                "inventory-restocked",
+                key,
+                "INVENTORY_RESTOCKED",
+                InventoryRestockedEvent.class.getName(),
+                objectMapper.writeValueAsString(event)
+        );
+        ReflectionTestUtils.setField(entity, "outboxId", id);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("전송에 성공한 행만 삭제")
+    void relayBatch_DeletesOnlySentRows() throws Exception {
+        // given
+        given(outboxJpaRepository.findRelayBatch(eq(OutboxStatus.PENDING), any(Pageable.class)))
+                .willReturn(List.of(outbox(1L, "PROD-001"), outbox(2L, "PROD-002")));
+        given(kafkaTemplate.send(eq("inventory-restocked"), eq("PROD-001"), any(InventoryRestockedEvent.class)))
+                .willReturn(CompletableFuture.completedFuture(sendResult));
+        given(kafkaTemplate.send(eq("inventory-restocked"), eq("PROD-002"), any(InventoryRestockedEvent.class)))
+                .willReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+        // when
+        int settled = relay.relayBatch();
+
+        // then
+        assertThat(settled).isEqualTo(1);
+        verify(outboxJpaRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("BaseEvent 하위 타입이 아닌 페이로드는 전송하지 않음")
+    void relayBatch_RejectsUnknownPayloadType() throws Exception {
+        // given
+        InventoryOutboxEntity invalid = outbox(1L, "PROD-001");
+        ReflectionTestUtils.setField(invalid, "payloadType", String.class.getName());
+        given(outboxJpaRepository.findRelayBatch(eq(OutboxStatus.PENDING), any(Pageable.class))).willReturn(List.of(invalid));
+
+        // when
+        relay.relayBatch();
+
+        // then
+        verify(kafkaTemplate, never()).send(any(), any(), any());
+        verify(outboxJpaRepository, never()).deleteAllByIdInBatch(any());
+        assertThat(invalid.getAttempts()).isEqualTo(1);
+        assertThat(invalid.getStatus()).isEqualTo(OutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("전송할 수 없는 행은 최대 시도 횟수에 도달하면 데드레터 전환, 같은 키의 뒤 행은 보내지 않음")
+    void relayBatch_DeadLettersPoisonRowAndHoldsSameKey() throws Exception {
+        // given
+        InventoryOutboxEntity poison = outbox(1L, "PROD-001");
+        ReflectionTestUtils.setField(poison, "payloadType", "com.early_express.UnknownEvent");
+        ReflectionTestUtils.setField(poison, "attempts", 2);
+        InventoryOutboxEntity sameKey = outbox(2L, "PROD-001");
+        InventoryOutboxEntity otherKey = outbox(3L, "PROD-002");
+        given(outboxJpaRepository.findRelayBatch(eq(OutboxStatus.PENDING), any(Pageable.class)))
+                .willReturn(List.of(poison, sameKey, otherKey));
+        given(kafkaTemplate.send(eq("inventory-restocked"), eq("PROD-002"), any(InventoryRestockedEvent.class)))
+                .willReturn(CompletableFuture.completedFuture(sendResult));
+
+        // when
+        int settled = relay.relayBatch();
+
+        // then
+        assertThat(settled).isEqualTo(2);
+        assertThat(poison.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(poison.getAttempts()).isEqualTo(3);
+        assertThat(poison.getLastError()).contains("UnknownEvent");
+        verify(kafkaTemplate, never()).send(eq("inventory-restocked"), eq("PROD-001"), any());
+        verify(outboxJpaRepository).deleteAllByIdInBatch(List.of(3L));
+        assertThat(sameKey.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 키의 앞 행이 비동기로 실패하면 뒤 행은 보내지 않음")
+    void relayBatch_AsyncFailureHoldsSameKey() throws Exception {
+        // given - 전송 시점에는 완료되지 않고 브로커 응답에서 실패하는 전송
+        InventoryOutboxEntity first = outbox(1L, "PROD-001");
+        InventoryOutboxEntity second = outbox(2L, "PROD-001");
+        InventoryOutboxEntity otherKey = outbox(3L, "PROD-002");
+        given(outboxJpaRepository.findRelayBatch(eq(OutboxStatus.PENDING), any(Pageable.class)))
+                .willReturn(List.of(first, second, otherKey));
+        given(kafkaTemplate.send(eq("inventory-restocked"), eq("PROD-001"), any(InventoryRestockedEvent.class)))
+                .willReturn(CompletableFuture.supplyAsync(() -> {
+                    throw new IllegalStateException("record too large");
+                }, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)));
+        given(kafkaTemplate.send(eq("inventory-restocked"), eq("PROD-002"), any(InventoryRestockedEvent.class)))
+                .willReturn(CompletableFuture.completedFuture(sendResult));
+
+        // when
+        int settled = relay.relayBatch();
+
+        // then
+        assertThat(settled).isEqualTo(1);
+        verify(kafkaTemplate, times(1)).send(eq("inventory-restocked"), eq("PROD-001"), any());
+        verify(outboxJpaRepository).deleteAllByIdInBatch(List.of(3L));
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(second.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 키의 행은 앞 행의 전송이 확인된 뒤 순서대로 전송")
+    void relayBatch_SendsSameKeyInOrder() throws Exception {
+        // given
+        InventoryOutboxEntity first = outbox(1L, "PROD-001");
+        InventoryOutboxEntity second = outbox(2L, "PROD-001");
+        CompletableFuture<SendResult<String, Object>> firstAck = new CompletableFuture<>();
+        List<Boolean> firstAckedAtSend = new ArrayList<>();
+        given(outboxJpaRepository.findRelayBatch(eq(OutboxStatus.PENDING), any(Pageable.class)))
+                .willReturn(List.of(first, second));
+        given(kafkaTemplate.send(eq("inventory-restocked"), eq("PROD-001"), any(InventoryRestockedEvent.class)))
+                .willAnswer(invocation -> {
+                    firstAckedAtSend.add(firstAck.isDone());
+                    if (firstAckedAtSend.size() == 1) {
+                        CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS)
+                                .execute(() -> firstAck.complete(sendResult));
+                        return firstAck;
+                    }
+                    return CompletableFuture.completedFuture(sendResult);
+                });
+
+        // when
+        int settled = relay.relayBatch();
+
+        // then - 두 번째 행은 첫 행의 전송 확인 후에 전송
+        assertThat(settled).isEqualTo(2);
+        assertThat(firstAckedAtSend).containsExactly(false, true);
+        verify(outboxJpaRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("브로커 타임아웃 같은 일시적 실패는 시도 횟수를 넘어도 데드레터로 보내지 않음")
+    void relayBatch_TransientFailureStaysPending() throws Exception {
+        // given
+        InventoryOutboxEntity outbox = outbox(1L, "PROD-001");
+        ReflectionTestUtils.setField(outbox, "attempts", 5);
+        given(outboxJpaRepository.findRelayBatch(eq(OutboxStatus.PENDING), any(Pageable.class)))
+                .willReturn(List.of(outbox));
+        given(kafkaTemplate.send(eq("inventory-restocked"), eq("PROD-001"), any(InventoryRestockedEvent.class)))
+                .willReturn(CompletableFuture.failedFuture(
+                        new org.apache.kafka.common.errors.TimeoutException("metadata not available")));
+
+        // when
+        int settled = relay.relayBatch();
+
+        // then
+        assertThat(settled).isZero();
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getAttempts()).isEqualTo(6);
+    }
+}
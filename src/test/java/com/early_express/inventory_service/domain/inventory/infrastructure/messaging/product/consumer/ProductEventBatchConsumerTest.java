@@ -0,0 +1,134 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.product.consumer;
+
+import com.early_express.inventory_service.domain.inventory.application.service.InventoryService;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.infrastructure.messaging.idempotency.ProcessedEventStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ProductEventBatchConsumer 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductEventBatchConsumer 테스트")
+class ProductEventBatchConsumerTest {
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private ProductEventBatchConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        ProductEventApplier applier = new ProductEventApplier(
+                inventoryService, new ObjectMapper().findAndRegisterModules(), processedEventStore, transactionManager);
+        ReflectionTestUtils.setField(applier, "productCreatedTopic", "product-created");
+        ReflectionTestUtils.setField(applier, "productDeletedTopic", "product-deleted");
+
+        consumer = new ProductEventBatchConsumer(inventoryService, processedEventStore, applier, transactionManager);
+        ReflectionTestUtils.setField(consumer, "productCreatedTopic", "product-created");
+        ReflectionTestUtils.setField(consumer, "productDeletedTopic", "product-deleted");
+    }
+
+    @Test
+    @DisplayName("배치를 종류별로 묶어 일괄 생성 1회, 일괄 삭제 1회 후 커밋한다")
+    void handleProductEvents_GroupsByType() {
+        // given
+        List<ConsumerRecord<String, String>> records = List.of(
+                created(0, "PROD-001", "HUB-SEOUL"),
+                deleted(1, "PROD-009"),
+                created(2, "PROD-002", "HUB-BUSAN"),
+                deleted(3, "PROD-009"));
+
+        // when
+        consumer.handleProductEvents(records, acknowledgment);
+
+        // then
+        verify(inventoryService).createInitialInventoriesAt(List.of(
+                InventoryKey.of("PROD-001", "HUB-SEOUL"),
+                InventoryKey.of("PROD-002", "HUB-BUSAN")));
+        verify(inventoryService).deleteInventoriesByProducts(argThat((Collection<String> ids) ->
+                ids.size() == 1 && ids.contains("PROD-009")));
+        verify(processedEventStore).markProcessed(List.of("evt-0", "evt-2"), "product-created");
+        verify(processedEventStore).markProcessed(List.of("evt-1", "evt-3"), "product-deleted");
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("이미 처리된 eventId의 레코드는 건너뛴다")
+    void handleProductEvents_SkipsProcessedEvents() {
+        // given
+        List<ConsumerRecord<String, String>> records = List.of(
+                created(0, "PROD-001", "HUB-SEOUL"),
+                created(1, "PROD-002", "HUB-BUSAN"));
+        given(processedEventStore.findProcessed(anyCollection())).willReturn(Set.of("evt-0"));
+
+        // when
+        consumer.handleProductEvents(records, acknowledgment);
+
+        // then
+        verify(inventoryService).createInitialInventoriesAt(List.of(InventoryKey.of("PROD-002", "HUB-BUSAN")));
+        verify(processedEventStore).markProcessed(List.of("evt-1"), "product-created");
+        verify(inventoryService, never()).deleteInventoriesByProducts(anyCollection());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("일괄 처리 실패 시 레코드 단위로 재처리하고 실패 레코드 인덱스로 예외를 던진다")
+    void handleProductEvents_IsolatesFailedRecord() {
+        // given
+        List<ConsumerRecord<String, String>> records = List.of(
+                created(0, "PROD-001", "HUB-SEOUL"),
+                new ConsumerRecord<>("product-created", 0, 1, "PROD-BAD", "{not-json"),
+                created(2, "PROD-002", "HUB-BUSAN"));
+
+        // when & then
+        assertThatThrownBy(() -> consumer.handleProductEvents(records, acknowledgment))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .hasFieldOrPropertyWithValue("index", 1);
+
+        verify(inventoryService).createInitialInventoriesAt(List.of(InventoryKey.of("PROD-001", "HUB-SEOUL")));
+        verify(inventoryService, never()).createInitialInventoriesAt(List.of(InventoryKey.of("PROD-002", "HUB-BUSAN")));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private ConsumerRecord<String, String> created(long offset, String productId, String hubId) {
+        String json = String.format(
+                "{\"eventId\":\"evt-%d\",\"eventType\":\"PRODUCT_CREATED\",\"productId\":\"%s\",\"hubId\":\"%s\"}",
+                offset, productId, hubId);
+        return new ConsumerRecord<>("product-created", 0, offset, productId, json);
+    }
+
+    private ConsumerRecord<String, String> deleted(long offset, String productId) {
+        String json = String.format(
+                "{\"eventId\":\"evt-%d\",\"eventType\":\"PRODUCT_DELETED\",\"productId\":\"%s\"}",
+                offset, productId);
+        return new ConsumerRecord<>("product-deleted", 0, offset, productId, json);
+    }
+}
@@ -0,0 +1,89 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.messaging.product.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ProductEventParallelConsumer 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductEventParallelConsumer 테스트")
+class ProductEventParallelConsumerTest {
+
+    @Mock
+    private ProductEventApplier productEventApplier;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private ProductEventParallelConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new ProductEventParallelConsumer(productEventApplier, 4);
+        lenient().when(productEventApplier.isCreated(any()))
+                .thenAnswer(invocation -> invocation.<ConsumerRecord<String, String>>getArgument(0)
+                        .topic().equals("product-created"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 키의 레코드는 생성 후 삭제 순으로 적용하고 배치를 커밋한다")
+    void handleProductEvents_PreservesKeyOrder() throws Exception {
+        // given
+        ConsumerRecord<String, String> deleted = record("product-deleted", 0, "PROD-001");
+        ConsumerRecord<String, String> created = record("product-created", 1, "PROD-001");
+        ConsumerRecord<String, String> other = record("product-created", 2, "PROD-002");
+
+        // when
+        consumer.handleProductEvents(List.of(deleted, created, other), acknowledgment);
+
+        // then
+        InOrder inOrder = inOrder(productEventApplier);
+        inOrder.verify(productEventApplier).apply(created);
+        inOrder.verify(productEventApplier).apply(deleted);
+        verify(productEventApplier).apply(other);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("실패한 키의 이후 레코드는 적용하지 않고 가장 앞선 미완료 인덱스로 예외를 던진다")
+    void handleProductEvents_ReportsLowestPendingIndex() throws Exception {
+        // given
+        ConsumerRecord<String, String> ok = record("product-created", 0, "PROD-001");
+        ConsumerRecord<String, String> deleted = record("product-deleted", 1, "PROD-002");
+        ConsumerRecord<String, String> failing = record("product-created", 2, "PROD-002");
+        willThrow(new IllegalStateException("DB 오류")).given(productEventApplier).apply(failing);
+
+        // when & then
+        assertThatThrownBy(() -> consumer.handleProductEvents(List.of(ok, deleted, failing), acknowledgment))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .hasFieldOrPropertyWithValue("index", 1);
+
+        verify(productEventApplier).apply(ok);
+        verify(productEventApplier, never()).apply(deleted);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private ConsumerRecord<String, String> record(String topic, long offset, String productId) {
+        return new ConsumerRecord<>(topic, 0, offset, productId, "{}");
+    }
+}
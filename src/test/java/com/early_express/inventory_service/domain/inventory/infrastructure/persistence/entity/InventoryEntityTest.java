@@ -12,6 +12,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("InventoryEntity 변환 테스트")
 class InventoryEntityTest {
 
+    private static final String TEST_INVENTORY_ID = "0192d1f4-5b6a-7c3e-9a41-2f8e6d7c5b4a";
+
     @Test
     @DisplayName("Domain → Entity 변환")
     void fromDomain() {
@@ -191,7 +193,7 @@ class InventoryEntityTest {
 
     private Inventory createTestInventory() {
         return Inventory.create(
-                "INV-001",
+                TEST_INVENTORY_ID,
                 "PROD-001",
                 "HUB-SEOUL",
                 100,
@@ -202,7 +204,7 @@ class InventoryEntityTest {
 
     private InventoryEntity createTestEntity() {
         return InventoryEntity.builder()
-                .inventoryId("INV-001")
+                .inventoryId(TEST_INVENTORY_ID)
                 .productId("PROD-001")
                 .hubId("HUB-SEOUL")
                 .quantityInHub(100)
@@ -1,14 +1,16 @@
 package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.repository;
 
 import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventorySummary;
 import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,12 @@ class InventoryRepositoryImplTest {
     @Autowired
     private InventoryRepository inventoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("재고 저장 - 신규")
     void save_newInventory() {
@@ -135,65 +143,6 @@ class InventoryRepositoryImplTest {
         assertThat(found.get().getHubId()).isEqualTo("HUB-SEOUL");
     }
 
-    @Test
-    @DisplayName("안전 재고 이하 재고 조회")
-    void findLowStock() {
-        // given
-        Inventory inventory1 = createTestInventory(null, "PROD-001", "HUB-SEOUL");
-        inventory1.adjust(5, "테스트"); // 안전재고(10) 이하
-        inventoryRepository.save(inventory1);
-
-        Inventory inventory2 = createTestInventory(null, "PROD-002", "HUB-SEOUL");
-        inventoryRepository.save(inventory2); // 100개 (안전재고 이상)
-
-        // when
-        List<Inventory> lowStockInventories = inventoryRepository.findLowStock();
-
-        // then
-        assertThat(lowStockInventories).hasSize(1);
-        assertThat(lowStockInventories.get(0).getProductId()).isEqualTo("PROD-001");
-    }
-
-    @Test
-    @DisplayName("페이징 조회")
-    void findAllWithPaging() {
-        // given
-        for (int i = 0; i < 15; i++) {
-            inventoryRepository.save(createTestInventory(null, "PROD-00" + i, "HUB-SEOUL"));
-        }
-
-        // when
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<Inventory> page = inventoryRepository.findAllWithPaging(pageable);
-
-        // then
-        assertThat(page.getContent()).hasSize(10);
-        assertThat(page.getTotalElements()).isEqualTo(15);
-        assertThat(page.getTotalPages()).isEqualTo(2);
-        assertThat(page.getNumber()).isEqualTo(0);
-    }
-
-    @Test
-    @DisplayName("허브별 페이징 조회")
-    void findByHubIdWithPaging() {
-        // given
-        for (int i = 0; i < 15; i++) {
-            inventoryRepository.save(createTestInventory(null, "PROD-00" + i, "HUB-SEOUL"));
-        }
-        for (int i = 0; i < 5; i++) {
-            inventoryRepository.save(createTestInventory(null, "PROD-10" + i, "HUB-BUSAN"));
-        }
-
-        // when
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<Inventory> page = inventoryRepository.findByHubIdWithPaging("HUB-SEOUL", pageable);
-
-        // then
-        assertThat(page.getContent()).hasSize(10);
-        assertThat(page.getTotalElements()).isEqualTo(15);
-        assertThat(page.getContent()).allMatch(inv -> inv.getHubId().equals("HUB-SEOUL"));
-    }
-
     @Test
     @DisplayName("소프트 삭제")
     void delete() {
@@ -275,6 +224,82 @@ class InventoryRepositoryImplTest {
         assertThat(exists).isFalse();
     }
 
+    @Test
+    @DisplayName("재고 목록 요약 페이징 조회 - 프로젝션")
+    void findSummaries() {
+        // given
+        for (int i = 0; i < 15; i++) {
+            inventoryRepository.save(createTestInventory(null, "PROD-00" + i, "HUB-SEOUL"));
+        }
+        for (int i = 0; i < 5; i++) {
+            inventoryRepository.save(createTestInventory(null, "PROD-10" + i, "HUB-BUSAN"));
+        }
+        entityManager.flush(); // JDBC 프로젝션은 영속성 컨텍스트를 거치지 않음
+
+        // when
+        Page<InventorySummary> all = inventoryRepository.findSummaries(PageRequest.of(0, 10));
+        Page<InventorySummary> seoul = inventoryRepository.findSummariesByHubId("HUB-SEOUL", PageRequest.of(1, 10));
+
+        // then
+        assertThat(all.getContent()).hasSize(10);
+        assertThat(all.getTotalElements()).isEqualTo(20);
+        assertThat(seoul.getContent()).hasSize(5);
+        assertThat(seoul.getTotalElements()).isEqualTo(15);
+        assertThat(seoul.getContent()).allMatch(summary -> summary.getHubId().equals("HUB-SEOUL"));
+        assertThat(all.getContent().get(0).getInventoryId()).hasSize(36);
+        assertThat(all.getContent().get(0).getAvailableQuantity()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("품절·안전 재고 이하 목록 요약 조회 - DB 조건 평가")
+    void findOutOfStockAndLowStockSummaries() {
+        // given
+        Inventory soldOut = createTestInventory(null, "PROD-001", "HUB-SEOUL");
+        soldOut.reserve(100);
+        inventoryRepository.save(soldOut);
+
+        Inventory low = createTestInventory(null, "PROD-002", "HUB-SEOUL");
+        low.adjust(5, "테스트");
+        inventoryRepository.save(low);
+
+        inventoryRepository.save(createTestInventory(null, "PROD-003", "HUB-SEOUL"));
+        entityManager.flush();
+
+        // when
+        List<InventorySummary> outOfStock = inventoryRepository.findOutOfStockSummaries();
+        List<InventorySummary> lowStock = inventoryRepository.findLowStockSummaries();
+
+        // then
+        assertThat(outOfStock).extracting(InventorySummary::getProductId).containsExactly("PROD-001");
+        assertThat(outOfStock.get(0).isOutOfStock()).isTrue();
+        assertThat(lowStock).extracting(InventorySummary::getProductId)
+                .containsExactlyInAnyOrder("PROD-001", "PROD-002"); // 가용 재고 기준 (품절 포함)
+    }
+
+    @Test
+    @DisplayName("목록 요약은 플래시 세일 배정분을 뺀 유효 예약 수량으로 평가")
+    void findSummaries_effectiveReserved() {
+        // given - 전체 예약 수량 100 중 60은 아직 예약되지 않은 플래시 카운터 배정분
+        Inventory allotted = createTestInventory(null, "PROD-001", "HUB-SEOUL");
+        allotted.reserve(100);
+        inventoryRepository.save(allotted);
+        entityManager.flush();
+        jdbcTemplate.update(
+                "UPDATE p_inventories SET flash_allotted_quantity = 60, flash_reserved_quantity = 0 WHERE product_id = ?",
+                "PROD-001");
+
+        // when
+        List<InventorySummary> outOfStock = inventoryRepository.findOutOfStockSummaries();
+        List<InventorySummary> lowStock = inventoryRepository.findLowStockSummaries();
+        InventorySummary summary = inventoryRepository.findSummaries(PageRequest.of(0, 10)).getContent().get(0);
+
+        // then
+        assertThat(outOfStock).isEmpty();
+        assertThat(lowStock).isEmpty();
+        assertThat(summary.getReservedQuantity()).isEqualTo(40);
+        assertThat(summary.getAvailableQuantity()).isEqualTo(60);
+    }
+
     private Inventory createTestInventory(String inventoryId, String productId, String hubId) {
         return Inventory.create(
                 inventoryId,
@@ -0,0 +1,212 @@
+package com.early_express.inventory_service.domain.inventory.infrastructure.persistence.repository;
+
+import com.early_express.inventory_service.domain.inventory.domain.model.Inventory;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.HubSelectionPolicy;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockLine;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.StockSnapshot;
+import com.early_express.inventory_service.domain.inventory.domain.repository.InventoryRepository;
+import com.early_express.inventory_service.global.common.utils.UuidUtils;
+import com.early_express.inventory_service.global.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * InventoryRepository PostgreSQL 통합 테스트
+ * - H2에서 실행할 수 없는 네이티브 문장(INSERT ... ON CONFLICT, UPDATE ... RETURNING) 검증
+ * - 조건부 UPDATE의 초과 예약 방지(예약/해제/확정, 허브 자동 선택, 배치 예약)와 동시 예약 검증
+ */
+@Transactional
+@DisplayName("InventoryRepository PostgreSQL 통합 테스트")
+class InventoryRepositoryPostgresTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("상품 목록 일괄 소프트 삭제 - 삭제된 재고만 반환")
+    void softDeleteByProductIds() {
+        // given
+        inventoryRepository.createAllIfAbsent(List.of(
+                createTestInventory("PROD-DEL-001", "HUB-SEOUL"),
+                createTestInventory("PROD-DEL-001", "HUB-BUSAN"),
+                createTestInventory("PROD-DEL-002", "HUB-SEOUL"),
+                createTestInventory("PROD-KEEP-001", "HUB-SEOUL")));
+
+        // when
+        List<StockSnapshot> deleted = inventoryRepository.softDeleteByProductIds(List.of("PROD-DEL-001", "PROD-DEL-002"));
+        List<StockSnapshot> deletedAgain = inventoryRepository.softDeleteByProductIds(List.of("PROD-DEL-001"));
+
+        // then
+        assertThat(deleted).hasSize(3);
+        assertThat(deletedAgain).isEmpty();
+        assertThat(inventoryRepository.findByProductId("PROD-DEL-001")).isEmpty();
+        assertThat(inventoryRepository.findByProductId("PROD-KEEP-001")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("초기 재고 일괄 생성 - 이미 있거나 삭제된 재고가 점유한 조합은 건너뜀")
+    void createAllIfAbsent_skipsExistingAndDeleted() {
+        // given
+        inventoryRepository.createAllIfAbsent(List.of(
+                createTestInventory("PROD-001", "HUB-SEOUL"),
+                createTestInventory("PROD-002", "HUB-SEOUL")));
+        inventoryRepository.softDeleteByProductIds(List.of("PROD-002"));
+
+        // when
+        List<Inventory> created = inventoryRepository.createAllIfAbsent(List.of(
+                createTestInventory("PROD-001", "HUB-SEOUL"),
+                createTestInventory("PROD-001", "HUB-BUSAN"),
+                createTestInventory("PROD-002", "HUB-SEOUL")));
+
+        // then
+        assertThat(created).extracting(Inventory::getHubId).containsExactly("HUB-BUSAN");
+        assertThat(inventoryRepository.findByProductId("PROD-001")).hasSize(2);
+        assertThat(inventoryRepository.findByProductId("PROD-002")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건부 예약/해제/확정 - 가용·예약 수량을 넘는 요청은 행을 바꾸지 않음")
+    void reserveReleaseConfirm_guarded() {
+        // given - 전체 100
+        inventoryRepository.createAllIfAbsent(List.of(createTestInventory("PROD-001", "HUB-SEOUL")));
+
+        // when & then
+        assertThat(inventoryRepository.reserve("PROD-001", "HUB-SEOUL", 60))
+                .hasValueSatisfying(snapshot -> assertThat(snapshot.getReservedQuantity()).isEqualTo(60));
+        assertThat(inventoryRepository.reserve("PROD-001", "HUB-SEOUL", 41)).isEmpty();
+
+        assertThat(inventoryRepository.release("PROD-001", "HUB-SEOUL", 61)).isEmpty();
+        assertThat(inventoryRepository.release("PROD-001", "HUB-SEOUL", 10))
+                .hasValueSatisfying(snapshot -> assertThat(snapshot.getReservedQuantity()).isEqualTo(50));
+
+        assertThat(inventoryRepository.confirm("PROD-001", "HUB-SEOUL", 51)).isEmpty();
+        assertThat(inventoryRepository.confirm("PROD-001", "HUB-SEOUL", 50))
+                .hasValueSatisfying(snapshot -> {
+                    assertThat(snapshot.getQuantityInHub()).isEqualTo(50);
+                    assertThat(snapshot.getReservedQuantity()).isZero();
+                });
+        assertThat(inventoryRepository.reserve("PROD-001", "HUB-SEOUL", 51)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 재고는 예약하지 않음")
+    void reserve_skipsDeleted() {
+        // given
+        inventoryRepository.createAllIfAbsent(List.of(createTestInventory("PROD-001", "HUB-SEOUL")));
+        inventoryRepository.softDeleteByProductIds(List.of("PROD-001"));
+
+        // when & then
+        assertThat(inventoryRepository.reserve("PROD-001", "HUB-SEOUL", 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("허브 자동 선택 예약 - 정책 순서상 가용 재고가 충분한 첫 허브에 예약")
+    void reserveOnSelectedHub_guarded() {
+        // given - 서울 가용 100, 부산 가용 20
+        inventoryRepository.createAllIfAbsent(List.of(
+                createTestInventory("PROD-001", "HUB-SEOUL"),
+                createTestInventory("PROD-001", "HUB-BUSAN")));
+        inventoryRepository.reserve("PROD-001", "HUB-BUSAN", 80);
+
+        // when
+        Optional<StockSnapshot> mostAvailable =
+                inventoryRepository.reserveOnSelectedHub("PROD-001", 30, HubSelectionPolicy.mostAvailable());
+        Optional<StockSnapshot> preferredBusan = inventoryRepository.reserveOnSelectedHub(
+                "PROD-001", 30, HubSelectionPolicy.preferredHubs(List.of("HUB-BUSAN", "HUB-SEOUL")));
+        Optional<StockSnapshot> tooMany =
+                inventoryRepository.reserveOnSelectedHub("PROD-001", 101, HubSelectionPolicy.mostAvailable());
+
+        // then - 부산은 30이 부족하므로 선호 순서와 무관하게 서울
+        assertThat(mostAvailable).hasValueSatisfying(snapshot -> assertThat(snapshot.getHubId()).isEqualTo("HUB-SEOUL"));
+        assertThat(preferredBusan).hasValueSatisfying(snapshot -> {
+            assertThat(snapshot.getHubId()).isEqualTo("HUB-SEOUL");
+            assertThat(snapshot.getReservedQuantity()).isEqualTo(60);
+        });
+        assertThat(tooMany).isEmpty();
+        assertThat(inventoryRepository.findByProductIdAndHubId("PROD-001", "HUB-BUSAN"))
+                .hasValueSatisfying(inventory -> assertThat(inventory.getReservedQuantity().getValue()).isEqualTo(80));
+    }
+
+    @Test
+    @DisplayName("배치 예약 - 입력 순서대로 라인별 성공 여부, 부족한 라인은 행을 바꾸지 않음")
+    void reserveAll_guardedPerLine() {
+        // given
+        inventoryRepository.createAllIfAbsent(List.of(
+                createTestInventory("PROD-001", "HUB-SEOUL"),
+                createTestInventory("PROD-002", "HUB-SEOUL")));
+
+        // when
+        boolean[] results = inventoryRepository.reserveAll(List.of(
+                StockLine.of("PROD-002", "HUB-SEOUL", 101),
+                StockLine.of("PROD-001", "HUB-SEOUL", 40),
+                StockLine.of("PROD-003", "HUB-SEOUL", 1)));
+
+        // then
+        assertThat(results).containsExactly(false, true, false);
+        assertThat(inventoryRepository.findSnapshots(List.of(
+                InventoryKey.of("PROD-001", "HUB-SEOUL"), InventoryKey.of("PROD-002", "HUB-SEOUL"))))
+                .extracting(StockSnapshot::getProductId, StockSnapshot::getReservedQuantity)
+                .containsExactlyInAnyOrder(tuple("PROD-001", 40), tuple("PROD-002", 0));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("동시 예약 - 요청 합계가 재고를 넘어도 가용 수량만큼만 성공")
+    void reserve_concurrentRequestsNeverOversell() throws Exception {
+        // given - 전체 100, 1개씩 200건 동시 요청
+        inventoryRepository.createAllIfAbsent(List.of(createTestInventory("PROD-RACE-001", "HUB-SEOUL")));
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        try {
+            // when
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(() ->
+                        inventoryRepository.reserve("PROD-RACE-001", "HUB-SEOUL", 1).isPresent()));
+            }
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                succeeded += result.get(30, TimeUnit.SECONDS) ? 1 : 0;
+            }
+
+            // then
+            assertThat(succeeded).isEqualTo(100);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT reserved_quantity FROM p_inventories WHERE product_id = ?", Integer.class, "PROD-RACE-001"))
+                    .isEqualTo(100);
+        } finally {
+            executor.shutdownNow();
+            jdbcTemplate.update("DELETE FROM p_inventories WHERE product_id = ?", "PROD-RACE-001");
+        }
+    }
+
+    private Inventory createTestInventory(String productId, String hubId) {
+        return Inventory.create(
+                UuidUtils.generate(),
+                productId,
+                hubId,
+                100,
+                10,
+                "A-1-3"
+        );
+    }
+}
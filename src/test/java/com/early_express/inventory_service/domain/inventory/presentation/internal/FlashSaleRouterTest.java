@@ -0,0 +1,79 @@
+package com.early_express.inventory_service.domain.inventory.presentation.internal;
+
+import com.early_express.inventory_service.domain.inventory.application.flashsale.FlashSaleRegistry;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryErrorCode;
+import com.early_express.inventory_service.domain.inventory.domain.exception.InventoryException;
+import com.early_express.inventory_service.domain.inventory.domain.model.vo.InventoryKey;
+import com.early_express.inventory_service.domain.inventory.presentation.internal.dto.request.ReserveStockRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * FlashSaleRouter 테스트
+ * - 소유 노드 호출 실패 유형에 따라 일반 경로 폴백 여부가 달라지는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FlashSaleRouter 테스트")
+class FlashSaleRouterTest {
+
+    private static final String OWNER_URL = "http://inventory-owner:19300";
+
+    @Mock
+    private FlashSaleRegistry flashSaleRegistry;
+
+    private ReserveStockRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = ReserveStockRequest.builder()
+                .orderId("ORDER-001")
+                .items(List.of(ReserveStockRequest.ReservationItem.builder()
+                        .productId("PROD-001").hubId("HUB-SEOUL").quantity(1).build()))
+                .build();
+        given(flashSaleRegistry.remoteOwnerUrl(InventoryKey.of("PROD-001", "HUB-SEOUL")))
+                .willReturn(Optional.of(OWNER_URL));
+    }
+
+    private FlashSaleRouter router(ExchangeFunction exchangeFunction) {
+        return new FlashSaleRouter(flashSaleRegistry, WebClient.builder().exchangeFunction(exchangeFunction).build(), 50);
+    }
+
+    @Test
+    @DisplayName("요청을 보낸 뒤 응답 타임아웃이면 일반 경로로 넘기지 않고 503 예외")
+    void forward_TimeoutDoesNotFallBack() {
+        FlashSaleRouter router = router(clientRequest -> Mono.never());
+
+        assertThatThrownBy(() -> router.forward(request, null, false))
+                .isInstanceOf(InventoryException.class)
+                .hasFieldOrPropertyWithValue("errorCode", InventoryErrorCode.FLASH_SALE_OWNER_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("연결 거부로 요청이 전송되지 않았으면 일반 경로로 처리")
+    void forward_ConnectionRefusedFallsBack() {
+        FlashSaleRouter router = router(clientRequest -> Mono.error(new WebClientRequestException(
+                new ConnectException("Connection refused"), HttpMethod.POST,
+                URI.create(OWNER_URL), new HttpHeaders())));
+
+        assertThat(router.forward(request, null, false)).isEmpty();
+    }
+}
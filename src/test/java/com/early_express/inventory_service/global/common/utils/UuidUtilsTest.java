@@ -0,0 +1,55 @@
+package com.early_express.inventory_service.global.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UuidUtils 테스트")
+class UuidUtilsTest {
+
+    @Test
+    @DisplayName("UUIDv7 형식 (버전 7, RFC 4122 variant)")
+    void generateUuid_version7() {
+        UUID uuid = UuidUtils.generateUuid();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상위 48비트는 생성 시각의 밀리초 타임스탬프")
+    void generateUuid_timestampPrefix() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidUtils.generateUuid();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+
+        assertThat(timestamp).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도 생성 순서대로 정렬 (문자열 비교 포함)")
+    void generate_monotonic() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidUtils.generate());
+        }
+
+        assertThat(ids).isSorted();
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(ids).allSatisfy(id -> assertThat(id).hasSize(36));
+    }
+
+    @Test
+    @DisplayName("UUID 형식이 아니면 parse는 empty")
+    void parse_invalid() {
+        assertThat(UuidUtils.parse("NOT-EXIST")).isEmpty();
+        assertThat(UuidUtils.parse(null)).isEmpty();
+        assertThat(UuidUtils.isValid(UuidUtils.generate())).isTrue();
+    }
+}
@@ -0,0 +1,26 @@
+package com.early_express.inventory_service.global.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgreSQL 컨테이너 통합 테스트 기반
+ * - RETURNING, ON CONFLICT, FOR UPDATE SKIP LOCKED 같은 네이티브 문장은 H2(MODE=PostgreSQL)로 검증할 수 없으므로 실제 PostgreSQL에서 실행
+ * - 컨테이너는 JVM당 한 번 띄워 하위 테스트 클래스와 캐시된 컨텍스트가 함께 사용 (클래스마다 재시작하면 캐시된 컨텍스트의 접속 정보가 어긋남)
+ * - Docker가 없는 환경에서는 건너뜀 (클래스 초기화 전에 판단하므로 컨테이너를 띄우지 않음)
+ */
+@SpringBootTest
+@ActiveProfiles("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+}